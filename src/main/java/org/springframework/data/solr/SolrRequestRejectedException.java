@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr;
+
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Request was rejected without being sent to Solr, either because the concurrency limit of the collection was reached
+ * or because its circuit breaker is open. Retrying after a short delay might succeed.
+ *
+ * @since 5.0
+ */
+public class SolrRequestRejectedException extends TransientDataAccessResourceException {
+
+	private static final long serialVersionUID = 2476493127364563215L;
+
+	private final @Nullable String collection;
+	private final Reason reason;
+
+	public SolrRequestRejectedException(String msg, @Nullable String collection, Reason reason) {
+
+		super(msg);
+		this.collection = collection;
+		this.reason = reason;
+	}
+
+	/**
+	 * @return {@literal null} if the request did not target a specific collection.
+	 */
+	@Nullable
+	public String getCollection() {
+		return collection;
+	}
+
+	public Reason getReason() {
+		return reason;
+	}
+
+	/**
+	 * @since 5.0
+	 */
+	public enum Reason {
+
+		/** Maximum number of concurrent requests reached. */
+		CONCURRENCY_LIMIT_EXCEEDED,
+
+		/** Circuit breaker open due to high error rate or latency. */
+		CIRCUIT_OPEN
+	}
+
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import java.util.function.LongSupplier;
+
+import org.apache.solr.common.SolrException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.solr.SolrRequestRejectedException;
+import org.springframework.data.solr.SolrRequestRejectedException.Reason;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Concurrency limiter and circuit breaker for the requests against a single collection applying a
+ * {@link ResiliencePolicy}. Each {@link #acquire() acquired} {@link Permit} is bound to the state of the circuit it was
+ * issued in, so that only the trial request decides about a half open circuit and requests issued before the circuit
+ * changed its state do not affect the new one.
+ *
+ * @since 5.0
+ */
+final class CollectionRequestGuard {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CollectionRequestGuard.class);
+	private static final double BACKOFF_RATIO = 0.9D;
+
+	private static final byte SUCCESS = 0;
+	private static final byte SLOW = 1;
+	private static final byte FAILURE = 2;
+
+	private final @Nullable String collection;
+	private final ResiliencePolicy policy;
+	private final LongSupplier nanoClock;
+
+	private final Object monitor = new Object();
+	private final byte[] outcomes;
+	private int outcomeCount;
+	private int outcomePosition;
+	private int failures;
+	private int slowCalls;
+
+	private double limit;
+	private int inFlight;
+	private State state = State.CLOSED;
+	private long openedAt;
+	private long generation;
+	private boolean trialInFlight;
+
+	CollectionRequestGuard(@Nullable String collection, ResiliencePolicy policy) {
+		this(collection, policy, System::nanoTime);
+	}
+
+	CollectionRequestGuard(@Nullable String collection, ResiliencePolicy policy, LongSupplier nanoClock) {
+
+		Assert.notNull(policy, "ResiliencePolicy must not be 'null'");
+		Assert.notNull(nanoClock, "Clock must not be 'null'");
+
+		this.collection = collection;
+		this.policy = policy;
+		this.nanoClock = nanoClock;
+		this.outcomes = new byte[policy.getWindowSize()];
+		this.limit = policy.getMaxConcurrentRequests();
+	}
+
+	/**
+	 * Acquire a permit for a single request. Each successful call has to be followed by a call to
+	 * {@link #release(Permit, long, boolean)}.
+	 *
+	 * @return the {@link Permit} to release once the request completed.
+	 * @throws SolrRequestRejectedException if the circuit is open or the concurrency limit is reached.
+	 */
+	Permit acquire() {
+
+		synchronized (monitor) {
+
+			boolean trial = false;
+
+			if (state == State.OPEN) {
+
+				if (nanoClock.getAsLong() - openedAt < policy.getOpenStateDuration().toNanos()) {
+					throw reject(Reason.CIRCUIT_OPEN, "Circuit breaker for collection '%s' is open");
+				}
+				state = State.HALF_OPEN;
+			}
+
+			if (state == State.HALF_OPEN) {
+
+				if (trialInFlight) {
+					throw reject(Reason.CIRCUIT_OPEN, "Circuit breaker for collection '%s' awaits trial request");
+				}
+				trialInFlight = true;
+				trial = true;
+			} else if (inFlight >= (int) limit) {
+				throw reject(Reason.CONCURRENCY_LIMIT_EXCEEDED, "Concurrency limit for collection '%s' reached");
+			}
+
+			inFlight++;
+			return new Permit(trial, generation);
+		}
+	}
+
+	/**
+	 * Release a permit previously obtained via {@link #acquire()}. Releasing the same permit again has no effect.
+	 *
+	 * @param permit must not be {@literal null}.
+	 * @param latencyNanos time the request took.
+	 * @param failed {@literal true} if the request failed due to the server being unavailable or erroneous.
+	 */
+	void release(Permit permit, long latencyNanos, boolean failed) {
+
+		Assert.notNull(permit, "Permit must not be 'null'");
+
+		boolean slow = latencyNanos > policy.getSlowCallThreshold().toNanos();
+
+		synchronized (monitor) {
+
+			if (permit.released) {
+				return;
+			}
+
+			permit.released = true;
+			inFlight--;
+
+			if (policy.isAdaptive()) {
+				limit = failed || slow ? Math.max(policy.getMinConcurrentRequests(), limit * BACKOFF_RATIO)
+						: Math.min(policy.getMaxConcurrentRequests(), limit + 1D / limit);
+			}
+
+			if (permit.trial) {
+
+				trialInFlight = false;
+				if (failed || slow) {
+					open();
+				} else {
+					close();
+				}
+				return;
+			}
+
+			if (state != State.CLOSED || permit.generation != generation) {
+				return;
+			}
+
+			recordOutcome(failed ? FAILURE : slow ? SLOW : SUCCESS);
+
+			if (outcomeCount == outcomes.length && ((double) failures / outcomeCount >= policy.getFailureRateThreshold()
+					|| (double) slowCalls / outcomeCount >= policy.getSlowCallRateThreshold())) {
+				open();
+			}
+		}
+	}
+
+	/**
+	 * @param error the failure raised by the request.
+	 * @return {@literal false} for client errors, like an invalid query, that do not indicate an unhealthy server.
+	 */
+	static boolean isServerFailure(Throwable error) {
+
+		Throwable current = error;
+		while (current != null) {
+
+			if (current instanceof SolrException) {
+
+				int code = ((SolrException) current).code();
+				return code < 400 || code >= 500;
+			}
+			current = current.getCause() != current ? current.getCause() : null;
+		}
+		return true;
+	}
+
+	int getLimit() {
+
+		synchronized (monitor) {
+			return (int) limit;
+		}
+	}
+
+	boolean isOpen() {
+
+		synchronized (monitor) {
+			return state != State.CLOSED;
+		}
+	}
+
+	private void recordOutcome(byte outcome) {
+
+		if (outcomeCount == outcomes.length) {
+			forget(outcomes[outcomePosition]);
+		} else {
+			outcomeCount++;
+		}
+
+		outcomes[outcomePosition] = outcome;
+		outcomePosition = (outcomePosition + 1) % outcomes.length;
+
+		if (outcome == FAILURE) {
+			failures++;
+		} else if (outcome == SLOW) {
+			slowCalls++;
+		}
+	}
+
+	private void forget(byte outcome) {
+
+		if (outcome == FAILURE) {
+			failures--;
+		} else if (outcome == SLOW) {
+			slowCalls--;
+		}
+	}
+
+	private void open() {
+
+		LOGGER.warn("Opening circuit breaker for collection '{}' for {}.", collection, policy.getOpenStateDuration());
+
+		state = State.OPEN;
+		openedAt = nanoClock.getAsLong();
+		generation++;
+		resetOutcomes();
+	}
+
+	private void close() {
+
+		LOGGER.info("Closing circuit breaker for collection '{}'.", collection);
+
+		state = State.CLOSED;
+		generation++;
+		resetOutcomes();
+	}
+
+	private void resetOutcomes() {
+
+		outcomeCount = 0;
+		outcomePosition = 0;
+		failures = 0;
+		slowCalls = 0;
+	}
+
+	private SolrRequestRejectedException reject(Reason reason, String message) {
+		return new SolrRequestRejectedException(String.format(message, collection), collection, reason);
+	}
+
+	private enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	/**
+	 * Permit for a single request obtained via {@link CollectionRequestGuard#acquire()}.
+	 *
+	 * @since 5.0
+	 */
+	static final class Permit {
+
+		private final boolean trial;
+		private final long generation;
+		private boolean released;
+
+		private Permit(boolean trial, long generation) {
+
+			this.trial = trial;
+			this.generation = generation;
+		}
+
+		/**
+		 * @return {@literal true} if the permit was issued for the trial request of a half open circuit.
+		 */
+		boolean isTrial() {
+			return trial;
+		}
+	}
+
+}
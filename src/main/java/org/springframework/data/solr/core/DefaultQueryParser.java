@@ -28,6 +28,7 @@ import org.apache.solr.common.params.FacetParams;
 import org.apache.solr.common.params.GroupParams;
 import org.apache.solr.common.params.HighlightParams;
 import org.apache.solr.common.params.ModifiableSolrParams;
+import org.apache.solr.common.params.ShardParams;
 import org.apache.solr.common.params.SpellingParams;
 import org.apache.solr.common.params.StatsParams;
 import org.slf4j.Logger;
@@ -45,6 +46,7 @@ import org.springframework.data.solr.core.query.FacetOptions.FieldWithRangeParam
 import org.springframework.data.solr.core.query.Function.Context.Target;
 import org.springframework.data.solr.core.query.HighlightOptions.FieldWithHighlightParameters;
 import org.springframework.data.solr.core.query.HighlightOptions.HighlightParameter;
+import org.springframework.data.solr.core.query.Query.Operator;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
@@ -70,6 +72,8 @@ public class DefaultQueryParser extends QueryParserBase<SolrDataQuery> {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(DefaultQueryParser.class);
 
+	private boolean extractFilterQueries = false;
+
 	/**
 	 * Create a new {@link DefaultQueryParser} using the provided {@link MappingContext} to map {@link Field fields} to
 	 * domain domain type {@link org.springframework.data.mapping.PersistentProperty properties}.
@@ -95,12 +99,27 @@ public class DefaultQueryParser extends QueryParserBase<SolrDataQuery> {
 		Assert.notNull(query.getCriteria(), "Query has to have a criteria");
 
 		SolrQuery solrQuery = new SolrQuery();
-		solrQuery.setParam(CommonParams.Q, getQueryString(query, domainType));
+		List<String> extractedFilterQueries = new ArrayList<>(0);
+		if (extractFilterQueries && query instanceof Query) {
+			solrQuery.setParam(CommonParams.Q,
+					getQueryStringExtractingFilterQueries(query, domainType, extractedFilterQueries));
+		} else {
+			solrQuery.setParam(CommonParams.Q, getQueryString(query, domainType));
+		}
 
 		if (query instanceof Query) {
 			processQueryOptions(solrQuery, (Query) query, domainType);
 		}
 
+		for (String filterQuery : extractedFilterQueries) {
+			solrQuery.addFilterQuery(filterQuery);
+		}
+
+		String route = getRoute(query, domainType);
+		if (route != null) {
+			solrQuery.set(ShardParams._ROUTE_, route);
+		}
+
 		if (query instanceof FacetQuery) {
 			processFacetOptions(solrQuery, (FacetQuery) query, domainType);
 		}
@@ -112,11 +131,32 @@ public class DefaultQueryParser extends QueryParserBase<SolrDataQuery> {
 		return solrQuery;
 	}
 
+	/**
+	 * Enable/disable moving top level conjunctive clauses on fields marked with
+	 * {@link org.springframework.data.solr.core.mapping.Indexed#filter()} from {@code q} into separate {@code fq}
+	 * parameters. Those clauses no longer contribute to the score nor to highlighting, but are cached in the
+	 * {@code filterCache} independently from the remaining query.
+	 *
+	 * @param extractFilterQueries
+	 * @since 5.0
+	 */
+	public void setExtractFilterQueries(boolean extractFilterQueries) {
+		this.extractFilterQueries = extractFilterQueries;
+	}
+
+	/**
+	 * @return {@literal true} if clauses on filter fields are moved into separate filter queries.
+	 * @since 5.0
+	 */
+	public boolean isExtractFilterQueries() {
+		return extractFilterQueries;
+	}
+
 	private void processQueryOptions(SolrQuery solrQuery, Query query, @Nullable Class<?> domainType) {
 
 		appendPagination(solrQuery, query.getOffset(), query.getRows());
 		appendProjectionOnFields(solrQuery, query.getProjectionOnFields(), domainType);
-		appendFilterQuery(solrQuery, query.getFilterQueries(), domainType);
+		appendFilterQuery(solrQuery, query.getFilterQueries(), domainType, query.getDefaultOperator());
 		appendSort(solrQuery, query.getSort(), domainType);
 		appendDefaultOperator(solrQuery, query.getDefaultOperator());
 		appendTimeAllowed(solrQuery, query.getTimeAllowed());
@@ -221,7 +261,7 @@ public class DefaultQueryParser extends QueryParserBase<SolrDataQuery> {
 
 		if (!CollectionUtils.isEmpty(groupOptions.getGroupByQueries())) {
 			for (Query groupQuery : groupOptions.getGroupByQueries()) {
-				String queryFragment = getQueryString(groupQuery, domainType);
+				String queryFragment = getQueryString(groupQuery, domainType, query.getDefaultOperator());
 				setObjectNameOnGroupQuery(query, groupQuery, queryFragment);
 				solrQuery.add(GroupParams.GROUP_QUERY, queryFragment);
 			}
@@ -315,7 +355,8 @@ public class DefaultQueryParser extends QueryParserBase<SolrDataQuery> {
 			}
 
 			if (highlightOptions.hasQuery()) {
-				solrQuery.add(HighlightParams.Q, getQueryString(highlightOptions.getQuery(), domainType));
+				solrQuery.add(HighlightParams.Q,
+						getQueryString(highlightOptions.getQuery(), domainType, query.getDefaultOperator()));
 			}
 		}
 	}
@@ -465,7 +506,7 @@ public class DefaultQueryParser extends QueryParserBase<SolrDataQuery> {
 
 		FacetOptions facetOptions = query.getFacetOptions();
 		for (SolrDataQuery fq : facetOptions.getFacetQueries()) {
-			String facetQueryString = getQueryString(fq, domainType);
+			String facetQueryString = getQueryString(fq, domainType, query.getDefaultOperator());
 			if (StringUtils.isNotBlank(facetQueryString)) {
 				solrQuery.addFacetQuery(facetQueryString);
 			}
@@ -488,12 +529,26 @@ public class DefaultQueryParser extends QueryParserBase<SolrDataQuery> {
 	 */
 	protected void appendFilterQuery(SolrQuery solrQuery, List<FilterQuery> filterQueries,
 			@Nullable Class<?> domainType) {
+		appendFilterQuery(solrQuery, filterQueries, domainType, null);
+	}
+
+	/**
+	 * Set filter filter queries for {@link SolrQuery} considering the default operator of the enclosing query.
+	 *
+	 * @param solrQuery
+	 * @param filterQueries
+	 * @param domainType used for mapping fields to properties. Can be {@literal null}.
+	 * @param defaultOperator the default operator of the enclosing query. Can be {@literal null}.
+	 * @since 5.0
+	 */
+	protected void appendFilterQuery(SolrQuery solrQuery, List<FilterQuery> filterQueries,
+			@Nullable Class<?> domainType, @Nullable Operator defaultOperator) {
 
 		if (CollectionUtils.isEmpty(filterQueries)) {
 			return;
 		}
 
-		List<String> filterQueryStrings = getFilterQueryStrings(filterQueries, domainType);
+		List<String> filterQueryStrings = getFilterQueryStrings(filterQueries, domainType, defaultOperator);
 
 		if (!filterQueryStrings.isEmpty()) {
 			solrQuery.setFilterQueries(convertStringListToArray(filterQueryStrings));
@@ -555,15 +610,72 @@ public class DefaultQueryParser extends QueryParserBase<SolrDataQuery> {
 		return strResult;
 	}
 
-	private List<String> getFilterQueryStrings(List<FilterQuery> filterQueries, @Nullable Class<?> domainType) {
+	private List<String> getFilterQueryStrings(List<FilterQuery> filterQueries, @Nullable Class<?> domainType,
+			@Nullable Operator defaultOperator) {
 		List<String> filterQueryStrings = new ArrayList<>(filterQueries.size());
 
 		for (FilterQuery filterQuery : filterQueries) {
-			String filterQueryString = getQueryString(filterQuery, domainType);
+			String filterQueryString = getQueryString(filterQuery, domainType, defaultOperator);
 			if (StringUtils.isNotBlank(filterQueryString)) {
-				filterQueryStrings.add(filterQueryString);
+				filterQueryStrings.add(applyFilterQueryLocalParams(filterQueryString, filterQuery));
 			}
 		}
 		return filterQueryStrings;
 	}
+
+	/**
+	 * Render {@link FilterQuery#isCache()} and {@link FilterQuery#getCost()} as local params. In case the filter query
+	 * string already starts with local params, eg. {@code {!join ...}}, the options are appended to those as solr only
+	 * evaluates the leading local params block.
+	 *
+	 * @param filterQueryString
+	 * @param filterQuery
+	 * @return
+	 */
+	private static String applyFilterQueryLocalParams(String filterQueryString, FilterQuery filterQuery) {
+
+		Integer cost = filterQuery.getCost();
+		if (filterQuery.isCache() && cost == null) {
+			return filterQueryString;
+		}
+
+		StringBuilder params = new StringBuilder();
+		if (!filterQuery.isCache()) {
+			params.append(" cache=false");
+		}
+		if (cost != null) {
+			params.append(" cost=").append(cost);
+		}
+
+		int localParamsEnd = filterQueryString.startsWith("{!") ? indexOfLocalParamsEnd(filterQueryString) : -1;
+		if (localParamsEnd == -1) {
+			return "{!" + params.substring(1) + "}" + filterQueryString;
+		}
+		return filterQueryString.substring(0, localParamsEnd) + params + filterQueryString.substring(localParamsEnd);
+	}
+
+	/**
+	 * @param localParams string starting with {@code {!}.
+	 * @return the index of the closing curly bracket skipping quoted values or {@literal -1} if not closed.
+	 */
+	private static int indexOfLocalParamsEnd(String localParams) {
+
+		char quote = 0;
+		for (int i = 2; i < localParams.length(); i++) {
+
+			char c = localParams.charAt(i);
+			if (quote != 0) {
+				if (c == '\\') {
+					i++;
+				} else if (c == quote) {
+					quote = 0;
+				}
+			} else if (c == '\'' || c == '"') {
+				quote = c;
+			} else if (c == '}') {
+				return i;
+			}
+		}
+		return -1;
+	}
 }
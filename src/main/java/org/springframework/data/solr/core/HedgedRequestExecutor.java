@@ -0,0 +1,339 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Executes requests according to a {@link HedgingPolicy}. The request and its duplicate both run on a pool while the
+ * calling thread waits for the first successful response, so that it is not held up by a request blocked in a socket
+ * read, which does not react to {@link Thread#interrupt()}. The losing request is abandoned: its thread is interrupted,
+ * but it may keep running until the response arrives. <br />
+ * At most {@link HedgingPolicy#getMaxConcurrentRequests()} requests, including abandoned ones, use the pool at the same
+ * time. Further requests run on the calling thread without being hedged. <br />
+ * Keeps a sliding window of observed latencies, from which the hedging delay is recomputed every
+ * {@link #UPDATE_INTERVAL} requests, and a token bucket, refilled by {@link HedgingPolicy#getBudget()} per request,
+ * limiting the number of duplicate requests. Call {@link #shutdown()} to release the pool.
+ *
+ * @since 5.0
+ */
+final class HedgedRequestExecutor {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(HedgedRequestExecutor.class);
+
+	static final int SAMPLE_SIZE = 512;
+	static final int MIN_SAMPLES = 32;
+	static final int UPDATE_INTERVAL = 32;
+	private static final double MAX_TOKENS = 10D;
+
+	private final HedgingPolicy policy;
+	private final ThreadPoolExecutor executor;
+	private final Semaphore permits;
+
+	private final Object monitor = new Object();
+	private final long[] samples = new long[SAMPLE_SIZE];
+	private int sampleCount;
+	private int samplePosition;
+	private int samplesSinceUpdate;
+	private double tokens;
+	private volatile long delayNanos;
+
+	HedgedRequestExecutor(HedgingPolicy policy) {
+
+		Assert.notNull(policy, "HedgingPolicy must not be 'null'");
+
+		this.policy = policy;
+		this.delayNanos = policy.getInitialDelay().toNanos();
+		this.permits = new Semaphore(policy.getMaxConcurrentRequests());
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("solr-hedged-request-");
+		threadFactory.setDaemon(true);
+
+		this.executor = new ThreadPoolExecutor(0, 2 * policy.getMaxConcurrentRequests(), 60, TimeUnit.SECONDS,
+				new SynchronousQueue<>(), threadFactory);
+	}
+
+	/**
+	 * Execute the given idempotent request, sending a duplicate if it does not complete in time.
+	 *
+	 * @param request must not be {@literal null}.
+	 * @return the first successful result.
+	 * @throws Exception the failure of the request if it and its duplicate failed.
+	 */
+	<T> T execute(Callable<T> request) throws Exception {
+
+		refillTokens();
+
+		if (!permits.tryAcquire()) {
+			return request.call();
+		}
+
+		long start = System.nanoTime();
+		HedgedCall<T> call = new HedgedCall<>(request);
+		Attempt<T> primary = call.start();
+		if (primary == null) {
+			return request.call();
+		}
+
+		Attempt<T> hedge = null;
+		try {
+
+			T result;
+			try {
+				result = primary.result.get(getDelayNanos(), TimeUnit.NANOSECONDS);
+			} catch (TimeoutException e) {
+
+				hedge = tryAcquireToken() ? call.start() : null;
+				if (hedge != null) {
+					LOGGER.debug("No response within {}ms. Sending hedged request.",
+							TimeUnit.NANOSECONDS.toMillis(getDelayNanos()));
+				}
+				result = firstSuccessful(primary, hedge).get();
+			}
+
+			recordLatency(System.nanoTime() - start);
+			return result;
+		} catch (ExecutionException e) {
+			throw unwrap(e);
+		} finally {
+
+			primary.abandon();
+			if (hedge != null) {
+				hedge.abandon();
+			}
+		}
+	}
+
+	/**
+	 * Stop the pool running duplicate requests. Requests executed afterwards are no longer hedged.
+	 */
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * @return the delay after which a request is hedged.
+	 */
+	long getDelayNanos() {
+		return Math.max(delayNanos, policy.getMinDelay().toNanos());
+	}
+
+	private static <T> CompletableFuture<T> firstSuccessful(Attempt<T> primary, @Nullable Attempt<T> hedge) {
+
+		if (hedge == null) {
+			return primary.result;
+		}
+
+		CompletableFuture<T> first = new CompletableFuture<>();
+		primary.result.whenComplete((value, error) -> {
+			if (error == null) {
+				first.complete(value);
+			} else {
+				hedge.result.whenComplete((hedgeValue, hedgeError) -> {
+					if (hedgeError == null) {
+						first.complete(hedgeValue);
+					} else {
+						error.addSuppressed(hedgeError);
+						first.completeExceptionally(error);
+					}
+				});
+			}
+		});
+		hedge.result.thenAccept(first::complete);
+		return first;
+	}
+
+	private static Exception unwrap(ExecutionException e) {
+
+		Throwable cause = e.getCause();
+		if (cause instanceof Error) {
+			throw (Error) cause;
+		}
+		return cause instanceof Exception ? (Exception) cause : e;
+	}
+
+	private void recordLatency(long nanos) {
+
+		long[] snapshot = null;
+		synchronized (monitor) {
+
+			samples[samplePosition] = nanos;
+			samplePosition = (samplePosition + 1) % SAMPLE_SIZE;
+			sampleCount = Math.min(sampleCount + 1, SAMPLE_SIZE);
+			samplesSinceUpdate++;
+
+			if (sampleCount >= MIN_SAMPLES && samplesSinceUpdate >= UPDATE_INTERVAL) {
+
+				samplesSinceUpdate = 0;
+				snapshot = Arrays.copyOf(samples, sampleCount);
+			}
+		}
+
+		if (snapshot != null) {
+
+			Arrays.sort(snapshot);
+			delayNanos = snapshot[Math.min(snapshot.length - 1,
+					(int) Math.ceil(policy.getPercentile() * snapshot.length) - 1)];
+		}
+	}
+
+	private void refillTokens() {
+
+		synchronized (monitor) {
+			tokens = Math.min(MAX_TOKENS, tokens + policy.getBudget());
+		}
+	}
+
+	private boolean tryAcquireToken() {
+
+		synchronized (monitor) {
+
+			if (tokens < 1D) {
+				return false;
+			}
+			tokens -= 1D;
+			return true;
+		}
+	}
+
+	/**
+	 * Attempts of a single request. The permit taken for the request is released once its last attempt finished, even
+	 * if the attempt has been abandoned already.
+	 *
+	 * @since 5.0
+	 */
+	private class HedgedCall<T> {
+
+		private final Callable<T> request;
+		private int running;
+
+		HedgedCall(Callable<T> request) {
+			this.request = request;
+		}
+
+		/**
+		 * Start a new attempt on the pool.
+		 *
+		 * @return {@literal null} if the pool does not accept further attempts.
+		 */
+		@Nullable
+		Attempt<T> start() {
+
+			Attempt<T> attempt = new Attempt<>(request, this::finished);
+			synchronized (this) {
+				running++;
+			}
+
+			try {
+				executor.execute(attempt);
+				return attempt;
+			} catch (RejectedExecutionException e) {
+
+				finished();
+				return null;
+			}
+		}
+
+		private void finished() {
+
+			synchronized (this) {
+				if (--running > 0) {
+					return;
+				}
+			}
+			permits.release();
+		}
+	}
+
+	/**
+	 * Single execution of a request on the pool.
+	 *
+	 * @since 5.0
+	 */
+	private static class Attempt<T> implements Runnable {
+
+		private final Callable<T> request;
+		private final Runnable onFinish;
+		private final CompletableFuture<T> result = new CompletableFuture<>();
+		private @Nullable Thread runner;
+		private boolean abandoned;
+
+		Attempt(Callable<T> request, Runnable onFinish) {
+
+			this.request = request;
+			this.onFinish = onFinish;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Runnable#run()
+		 */
+		@Override
+		public void run() {
+
+			try {
+
+				synchronized (this) {
+
+					if (abandoned) {
+						return;
+					}
+					runner = Thread.currentThread();
+				}
+
+				try {
+					result.complete(request.call());
+				} catch (Throwable e) {
+					result.completeExceptionally(e);
+				}
+			} finally {
+
+				synchronized (this) {
+					runner = null;
+				}
+				Thread.interrupted();
+				onFinish.run();
+			}
+		}
+
+		/**
+		 * Stop waiting for the result, interrupting the attempt if it is still running.
+		 */
+		synchronized void abandon() {
+
+			abandoned = true;
+			if (runner != null && !result.isDone()) {
+				runner.interrupt();
+			}
+		}
+	}
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Policy for hedging read requests issued via {@link SolrTemplate}. If no response arrives within the delay derived
+ * from the given percentile of recently observed latencies, a duplicate request is sent and the first successful
+ * response is used. Load balancing clients like {@link org.apache.solr.client.solrj.impl.LBHttpSolrClient} or
+ * {@link org.apache.solr.client.solrj.impl.CloudSolrClient} dispatch the duplicate to another endpoint, so a single slow
+ * node no longer determines tail latency. <br />
+ * Hedged requests and their duplicates run on a pool so that the caller can return as soon as either one succeeds,
+ * even if the other one is blocked in a socket read that cannot be interrupted. The number of requests using the pool
+ * is bounded by {@link #getMaxConcurrentRequests()}. The {@link #getBudget() budget} limits the additional load to a
+ * fraction of all read requests. Updates are never hedged.
+ *
+ * @since 5.0
+ */
+public class HedgingPolicy {
+
+	private static final HedgingPolicy DEFAULT = new HedgingPolicy(0.95D, Duration.ofMillis(100), Duration.ofMillis(10),
+			0.05D, 64);
+
+	private final double percentile;
+	private final Duration initialDelay;
+	private final Duration minDelay;
+	private final double budget;
+	private final int maxConcurrentRequests;
+
+	private HedgingPolicy(double percentile, Duration initialDelay, Duration minDelay, double budget,
+			int maxConcurrentRequests) {
+
+		this.percentile = percentile;
+		this.initialDelay = initialDelay;
+		this.minDelay = minDelay;
+		this.budget = budget;
+		this.maxConcurrentRequests = maxConcurrentRequests;
+	}
+
+	/**
+	 * @return {@link HedgingPolicy} hedging requests slower than the 95th percentile with a budget of 5% additional
+	 *         requests and at most 64 hedged requests in flight.
+	 */
+	public static HedgingPolicy defaults() {
+		return DEFAULT;
+	}
+
+	/**
+	 * @param percentile latency percentile after which to hedge, eg. {@literal 0.95}. Must be between {@literal 0} and
+	 *          {@literal 1} (exclusive).
+	 * @return new instance of {@link HedgingPolicy}.
+	 */
+	public static HedgingPolicy percentile(double percentile) {
+		return DEFAULT.withPercentile(percentile);
+	}
+
+	/**
+	 * @param percentile must be between {@literal 0} and {@literal 1} (exclusive).
+	 * @return new instance of {@link HedgingPolicy}.
+	 */
+	public HedgingPolicy withPercentile(double percentile) {
+
+		Assert.isTrue(percentile > 0 && percentile < 1, "Percentile must be between 0 and 1");
+		return new HedgingPolicy(percentile, initialDelay, minDelay, budget, maxConcurrentRequests);
+	}
+
+	/**
+	 * @param initialDelay delay used until enough latencies have been observed. Must not be {@literal null} nor negative.
+	 * @return new instance of {@link HedgingPolicy}.
+	 */
+	public HedgingPolicy withInitialDelay(Duration initialDelay) {
+
+		Assert.notNull(initialDelay, "InitialDelay must not be 'null'");
+		Assert.isTrue(!initialDelay.isNegative(), "InitialDelay must not be negative");
+		return new HedgingPolicy(percentile, initialDelay, minDelay, budget, maxConcurrentRequests);
+	}
+
+	/**
+	 * @param minDelay lower bound of the delay preventing hedging of already fast requests. Must not be {@literal null}
+	 *          nor negative.
+	 * @return new instance of {@link HedgingPolicy}.
+	 */
+	public HedgingPolicy withMinDelay(Duration minDelay) {
+
+		Assert.notNull(minDelay, "MinDelay must not be 'null'");
+		Assert.isTrue(!minDelay.isNegative(), "MinDelay must not be negative");
+		return new HedgingPolicy(percentile, initialDelay, minDelay, budget, maxConcurrentRequests);
+	}
+
+	/**
+	 * @param budget maximum ratio of hedged to total read requests, eg. {@literal 0.05} for at most 5% additional load.
+	 *          Must be between {@literal 0} and {@literal 1}.
+	 * @return new instance of {@link HedgingPolicy}.
+	 */
+	public HedgingPolicy withBudget(double budget) {
+
+		Assert.isTrue(budget >= 0 && budget <= 1, "Budget must be between 0 and 1");
+		return new HedgingPolicy(percentile, initialDelay, minDelay, budget, maxConcurrentRequests);
+	}
+
+	/**
+	 * @param maxConcurrentRequests maximum number of requests, including abandoned ones still awaiting their response,
+	 *          that may be hedged at the same time. Each of them uses up to two pool threads. Requests exceeding the limit
+	 *          run on the calling thread without being hedged. Must be greater than zero.
+	 * @return new instance of {@link HedgingPolicy}.
+	 */
+	public HedgingPolicy withMaxConcurrentRequests(int maxConcurrentRequests) {
+
+		Assert.isTrue(maxConcurrentRequests > 0, "MaxConcurrentRequests must be greater than zero");
+		return new HedgingPolicy(percentile, initialDelay, minDelay, budget, maxConcurrentRequests);
+	}
+
+	public double getPercentile() {
+		return percentile;
+	}
+
+	public Duration getInitialDelay() {
+		return initialDelay;
+	}
+
+	public Duration getMinDelay() {
+		return minDelay;
+	}
+
+	public double getBudget() {
+		return budget;
+	}
+
+	public int getMaxConcurrentRequests() {
+		return maxConcurrentRequests;
+	}
+
+}
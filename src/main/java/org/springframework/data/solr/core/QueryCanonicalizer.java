@@ -0,0 +1,367 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.solr.client.solrj.SolrQuery;
+import org.apache.solr.common.params.CommonParams;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Rewrites a constructed {@link SolrQuery} into a canonical form so that semantically identical queries result in the
+ * same request parameters and therefore hit the same entries of the server side {@code queryResultCache} and
+ * {@code filterCache} as well as any client side cache. <br />
+ * Depending on the options the canonicalizer
+ * <ul>
+ * <li>sorts and de-duplicates {@code fq} parameters, which are commutative,</li>
+ * <li>collapses whitespace outside of quoted phrases in {@code q}, {@code fq} and {@code sort}. The value following
+ * leading local params, eg. the terms of {@code {!terms f=id}a b,c}, is passed on as is as its syntax depends on the
+ * query parser,</li>
+ * <li>rounds {@code NOW} based and absolute date range bounds in {@code q} and {@code fq} to a given
+ * {@link DateRounding granularity}, eg. {@code [NOW-1DAY TO NOW]} becomes
+ * {@code [NOW/MINUTE-1DAY TO NOW/MINUTE+1MINUTE]}. Lower bounds are rounded down and upper bounds up so that the range
+ * only grows. Bounds already using date math rounding and ranges within quoted phrases are left untouched.</li>
+ * </ul>
+ * Date rounding changes the documents matched at the boundaries of a range and is therefore disabled by default.
+ *
+ * @since 5.0
+ */
+public class QueryCanonicalizer {
+
+	private static final Pattern RANGE_PATTERN = Pattern
+			.compile("[\\[{]\\s*([^\\s\\[\\]{}]+)\\s+TO\\s+([^\\s\\[\\]{}]+)\\s*[\\]}]");
+	private static final Pattern NOW_PATTERN = Pattern.compile("NOW(?:[+-]\\d+[A-Z]+)*");
+	private static final Pattern DATE_PATTERN = Pattern
+			.compile("(\\d{4}\\\\?-\\d{2}\\\\?-\\d{2}T)(\\d{2})(\\\\?:)(\\d{2})(\\\\?:)(\\d{2})(?:\\.\\d+)?Z");
+
+	private static final QueryCanonicalizer DEFAULT = new QueryCanonicalizer(true, true, null);
+
+	private final boolean sortFilterQueries;
+	private final boolean normalizeWhitespace;
+	private final @Nullable DateRounding dateRounding;
+
+	private QueryCanonicalizer(boolean sortFilterQueries, boolean normalizeWhitespace,
+			@Nullable DateRounding dateRounding) {
+
+		this.sortFilterQueries = sortFilterQueries;
+		this.normalizeWhitespace = normalizeWhitespace;
+		this.dateRounding = dateRounding;
+	}
+
+	/**
+	 * @return {@link QueryCanonicalizer} sorting filter queries and normalizing whitespace without rounding dates.
+	 */
+	public static QueryCanonicalizer defaults() {
+		return DEFAULT;
+	}
+
+	/**
+	 * @param sortFilterQueries
+	 * @return new instance of {@link QueryCanonicalizer}.
+	 */
+	public QueryCanonicalizer withSortedFilterQueries(boolean sortFilterQueries) {
+		return new QueryCanonicalizer(sortFilterQueries, normalizeWhitespace, dateRounding);
+	}
+
+	/**
+	 * @param normalizeWhitespace
+	 * @return new instance of {@link QueryCanonicalizer}.
+	 */
+	public QueryCanonicalizer withNormalizedWhitespace(boolean normalizeWhitespace) {
+		return new QueryCanonicalizer(sortFilterQueries, normalizeWhitespace, dateRounding);
+	}
+
+	/**
+	 * @param dateRounding can be {@literal null} to disable rounding of date range bounds.
+	 * @return new instance of {@link QueryCanonicalizer}.
+	 */
+	public QueryCanonicalizer withDateRounding(@Nullable DateRounding dateRounding) {
+		return new QueryCanonicalizer(sortFilterQueries, normalizeWhitespace, dateRounding);
+	}
+
+	/**
+	 * @return {@literal true} if {@code fq} parameters are sorted and de-duplicated.
+	 */
+	public boolean isSortFilterQueries() {
+		return sortFilterQueries;
+	}
+
+	/**
+	 * @return {@literal true} if whitespace is collapsed.
+	 */
+	public boolean isNormalizeWhitespace() {
+		return normalizeWhitespace;
+	}
+
+	/**
+	 * @return null if date range bounds are not rounded.
+	 */
+	@Nullable
+	public DateRounding getDateRounding() {
+		return dateRounding;
+	}
+
+	/**
+	 * Canonicalize the given {@link SolrQuery} in place.
+	 *
+	 * @param solrQuery must not be {@literal null}.
+	 * @return the given {@link SolrQuery}.
+	 */
+	public SolrQuery canonicalize(SolrQuery solrQuery) {
+
+		Assert.notNull(solrQuery, "SolrQuery must not be 'null'");
+
+		String query = solrQuery.getQuery();
+		if (query != null) {
+			solrQuery.setQuery(canonicalizeQueryString(query));
+		}
+
+		String[] filterQueries = solrQuery.getFilterQueries();
+		if (filterQueries != null) {
+
+			String[] canonical = new String[filterQueries.length];
+			for (int i = 0; i < filterQueries.length; i++) {
+				canonical[i] = canonicalizeQueryString(filterQueries[i]);
+			}
+			if (sortFilterQueries) {
+				canonical = Arrays.stream(canonical).distinct().sorted().toArray(String[]::new);
+			}
+			solrQuery.setFilterQueries(canonical);
+		}
+
+		String sort = solrQuery.get(CommonParams.SORT);
+		if (normalizeWhitespace && sort != null) {
+			solrQuery.set(CommonParams.SORT, normalizeWhitespace(sort).replace(", ", ","));
+		}
+
+		return solrQuery;
+	}
+
+	/**
+	 * Canonicalize a single {@code q} or {@code fq} value.
+	 *
+	 * @param queryString must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	public String canonicalizeQueryString(String queryString) {
+
+		String result = normalizeWhitespace ? normalizeWhitespace(queryString) : queryString;
+		return dateRounding != null ? roundDateRanges(result, dateRounding) : result;
+	}
+
+	/**
+	 * Collapse consecutive whitespace into a single blank and trim the result. Escaped characters, quoted phrases,
+	 * quoted local params values and the query value following leading local params are left untouched.
+	 */
+	private static String normalizeWhitespace(String source) {
+
+		StringBuilder target = new StringBuilder(source.length());
+		boolean pendingWhitespace = false;
+		boolean inLocalParams = false;
+		boolean leadingLocalParams = source.startsWith("{!");
+		char quote = 0;
+
+		for (int i = 0; i < source.length(); i++) {
+
+			char c = source.charAt(i);
+
+			if (quote == 0 && Character.isWhitespace(c)) {
+				pendingWhitespace = true;
+				continue;
+			}
+
+			if (pendingWhitespace && target.length() > 0) {
+				target.append(' ');
+			}
+			pendingWhitespace = false;
+			target.append(c);
+
+			if (c == '\\' && i + 1 < source.length()) {
+				target.append(source.charAt(++i));
+			} else if (quote != 0) {
+				if (c == quote) {
+					quote = 0;
+				}
+			} else if (c == '"' || (c == '\'' && inLocalParams)) {
+				quote = c;
+			} else if (c == '{' && i + 1 < source.length() && source.charAt(i + 1) == '!') {
+				inLocalParams = true;
+			} else if (c == '}' && inLocalParams) {
+
+				if (leadingLocalParams) {
+					return target.append(source, i + 1, source.length()).toString();
+				}
+				inLocalParams = false;
+			}
+		}
+		return target.toString();
+	}
+
+	/**
+	 * Round the bounds of date ranges outside of quoted phrases. Lower bounds are rounded down, upper bounds up, so that
+	 * the rounded range never excludes documents matched by the original one.
+	 */
+	private static String roundDateRanges(String source, DateRounding dateRounding) {
+
+		Matcher matcher = RANGE_PATTERN.matcher(source);
+		if (!matcher.find()) {
+			return source;
+		}
+
+		boolean[] quoted = getQuotedCharacters(source);
+		StringBuilder target = new StringBuilder(source.length() + 16);
+		int position = 0;
+		do {
+
+			if (quoted[matcher.start()]) {
+				continue;
+			}
+
+			for (int group = 1; group <= 2; group++) {
+
+				target.append(source, position, matcher.start(group));
+				target.append(roundDate(matcher.group(group), dateRounding, group == 2));
+				position = matcher.end(group);
+			}
+		} while (matcher.find());
+
+		return target.append(source, position, source.length()).toString();
+	}
+
+	/**
+	 * @return flags marking the characters within double quoted phrases, including the quotes themselves.
+	 */
+	private static boolean[] getQuotedCharacters(String source) {
+
+		boolean[] quoted = new boolean[source.length()];
+		boolean inQuotes = false;
+
+		for (int i = 0; i < source.length(); i++) {
+
+			char c = source.charAt(i);
+			if (c == '\\' && i + 1 < source.length()) {
+				quoted[i] = quoted[i + 1] = inQuotes;
+				i++;
+				continue;
+			}
+			if (c == '"') {
+				quoted[i] = true;
+				inQuotes = !inQuotes;
+				continue;
+			}
+			quoted[i] = inQuotes;
+		}
+		return quoted;
+	}
+
+	private static String roundDate(String bound, DateRounding dateRounding, boolean roundUp) {
+
+		String unescaped = bound.replace("\\", "");
+		if (NOW_PATTERN.matcher(unescaped).matches()) {
+
+			String unit = dateRounding.name();
+			return "NOW/" + unit + (roundUp ? "+1" + unit : "") + bound.substring(3);
+		}
+
+		Matcher matcher = DATE_PATTERN.matcher(bound);
+		if (!matcher.lookingAt() || bound.indexOf('/', matcher.end()) != -1) {
+			return bound;
+		}
+
+		String hours = dateRounding.compareTo(DateRounding.DAY) < 0 ? matcher.group(2) : "00";
+		String minutes = dateRounding.compareTo(DateRounding.HOUR) < 0 ? matcher.group(4) : "00";
+		String seconds = dateRounding.compareTo(DateRounding.MINUTE) < 0 ? matcher.group(6) : "00";
+
+		String rounded = matcher.group(1) + hours + matcher.group(3) + minutes + matcher.group(5) + seconds + "Z";
+
+		if (roundUp) {
+
+			Instant original = Instant.parse(unescaped.substring(0, unescaped.indexOf('Z') + 1));
+			Instant roundedDown = Instant.parse(rounded.replace("\\", ""));
+			if (roundedDown.isBefore(original)) {
+				rounded = formatDate(roundedDown.plus(1, dateRounding.getUnit()), matcher);
+			}
+		}
+
+		return rounded + bound.substring(matcher.end());
+	}
+
+	/**
+	 * Format the given {@link Instant} using the same escaping as the date matched by the given {@link Matcher}.
+	 */
+	private static String formatDate(Instant instant, Matcher matcher) {
+
+		LocalDateTime dateTime = LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+		String dash = matcher.group(1).indexOf('\\') != -1 ? "\\-" : "-";
+
+		return String.format("%04d%s%02d%s%02dT%02d%s%02d%s%02dZ", dateTime.getYear(), dash, dateTime.getMonthValue(),
+				dash, dateTime.getDayOfMonth(), dateTime.getHour(), matcher.group(3), dateTime.getMinute(), matcher.group(5),
+				dateTime.getSecond());
+	}
+
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof QueryCanonicalizer)) {
+			return false;
+		}
+
+		QueryCanonicalizer that = (QueryCanonicalizer) o;
+		return sortFilterQueries == that.sortFilterQueries && normalizeWhitespace == that.normalizeWhitespace
+				&& ObjectUtils.nullSafeEquals(dateRounding, that.dateRounding);
+	}
+
+	@Override
+	public int hashCode() {
+
+		int result = Boolean.hashCode(sortFilterQueries);
+		result = 31 * result + Boolean.hashCode(normalizeWhitespace);
+		result = 31 * result + ObjectUtils.nullSafeHashCode(dateRounding);
+		return result;
+	}
+
+	/**
+	 * Granularity date range bounds are rounded to. Names match the units used by solr date math.
+	 *
+	 * @since 5.0
+	 */
+	public enum DateRounding {
+
+		SECOND(ChronoUnit.SECONDS), MINUTE(ChronoUnit.MINUTES), HOUR(ChronoUnit.HOURS), DAY(ChronoUnit.DAYS);
+
+		private final ChronoUnit unit;
+
+		DateRounding(ChronoUnit unit) {
+			this.unit = unit;
+		}
+
+		ChronoUnit getUnit() {
+			return unit;
+		}
+	}
+}
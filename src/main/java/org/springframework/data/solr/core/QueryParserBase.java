@@ -15,8 +15,10 @@
  */
 package org.springframework.data.solr.core;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -25,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.solr.client.solrj.SolrClient;
@@ -52,6 +55,7 @@ import org.springframework.data.solr.core.query.Query.Operator;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * Base Implementation of {@link QueryParser} providing common functions for creating
@@ -70,16 +74,34 @@ public abstract class QueryParserBase<QUERYTPYE extends SolrDataQuery> implement
 	protected static final String NOT = "-";
 	protected static final String BOOST = "^";
 
+	private static final char[] TERMS_QUERY_SEPARATORS = { ',', '|', ';', '#', '~' };
+
 	protected final GenericConversionService conversionService = new GenericConversionService();
 	private final List<PredicateProcessor> critieraEntryProcessors = new ArrayList<>();
 	private final PredicateProcessor defaultProcessor = new DefaultProcessor();
+	private TermsQueryOptions termsQueryOptions = TermsQueryOptions.disabled();
+	private boolean optimizeCriteria = false;
+	private @Nullable QueryCanonicalizer queryCanonicalizer;
 
 	private final @Nullable MappingContext<? extends SolrPersistentEntity<?>, SolrPersistentProperty> mappingContext;
 
+	private final boolean rootNodeHookOverridden = isOverridden(getClass(), "createQueryStringFromNode", Node.class,
+			Class.class);
+	private final boolean nodeHookOverridden = isOverridden(getClass(), "createQueryStringFromNode", Node.class,
+			int.class, Class.class);
+	private final boolean criteriaHookOverridden = isOverridden(getClass(), "createQueryFragmentForCriteria",
+			Criteria.class, Class.class);
+
 	{
 		if (!conversionService.canConvert(java.util.Date.class, String.class)) {
 			conversionService.addConverter(DateTimeConverters.JavaDateConverter.INSTANCE);
 		}
+		if (!conversionService.canConvert(java.time.Instant.class, String.class)) {
+			conversionService.addConverter(DateTimeConverters.JavaInstantConverter.INSTANCE);
+		}
+		if (!conversionService.canConvert(java.time.LocalDateTime.class, String.class)) {
+			conversionService.addConverter(DateTimeConverters.JavaLocalDateTimeConverter.INSTANCE);
+		}
 		if (!conversionService.canConvert(Number.class, String.class)) {
 			conversionService.addConverter(NumberConverters.NumberConverter.INSTANCE);
 		}
@@ -119,14 +141,324 @@ public abstract class QueryParserBase<QUERYTPYE extends SolrDataQuery> implement
 
 	@Override
 	public String getQueryString(SolrDataQuery query, @Nullable Class<?> domainType) {
+		return getQueryString(query, domainType, getDefaultOperator(query));
+	}
+
+	/**
+	 * Create the query string for a query sent along with an enclosing one, eg. as filter or facet query. Solr applies
+	 * the {@code q.op} of the request to all of its queries, so the given default operator is considered when
+	 * {@link #setOptimizeCriteria(boolean) optimizing} the criteria.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param domainType can be {@literal null}.
+	 * @param defaultOperator the default operator of the enclosing query. Can be {@literal null}.
+	 * @return
+	 * @since 5.0
+	 */
+	@Nullable
+	protected String getQueryString(SolrDataQuery query, @Nullable Class<?> domainType,
+			@Nullable Operator defaultOperator) {
 
 		if (query.getCriteria() == null) {
 			return null;
 		}
 
-		String queryString = createQueryStringFromNode(query.getCriteria(), domainType);
-		queryString = prependJoin(queryString, query, domainType);
-		return queryString;
+		Criteria criteria = prepareCriteria(query, defaultOperator);
+		if (rootNodeHookOverridden) {
+			return prependJoin(createQueryStringFromNode(criteria, domainType), query, domainType);
+		}
+
+		StringBuilder queryString = new StringBuilder();
+		appendNode(queryString, criteria, 0, domainType, getTermsQueryOptions(query));
+		return prependJoin(queryString.toString(), query, domainType);
+	}
+
+	/**
+	 * Create the query string for the given query moving top level conjunctive clauses targeting
+	 * {@link SolrPersistentProperty#isFilterProperty() filter properties} of the domain type into separate filter
+	 * queries. Those clauses do not contribute to the score and get cached independently from the remaining query.
+	 * Queries using a {@link Join} are not split as the join changes the documents clauses apply to.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param domainType can be {@literal null}.
+	 * @param filterQueries collection to add the extracted filter query strings to. Must not be {@literal null}.
+	 * @return {@code *:*} in case all clauses have been extracted.
+	 * @since 5.0
+	 */
+	@Nullable
+	protected String getQueryStringExtractingFilterQueries(SolrDataQuery query, @Nullable Class<?> domainType,
+			Collection<String> filterQueries) {
+
+		if (query.getCriteria() == null || query.getJoin() != null || domainType == null || mappingContext == null) {
+			return getQueryString(query, domainType);
+		}
+
+		SolrPersistentEntity<?> entity = mappingContext.getPersistentEntity(domainType);
+		if (entity == null) {
+			return getQueryString(query, domainType);
+		}
+
+		Criteria criteria = prepareCriteria(query, getDefaultOperator(query));
+		List<Criteria> clauses = getConjunctiveClauses(criteria);
+		if (clauses.stream().noneMatch(clause -> isFilterClause(clause, entity))) {
+			return getQueryString(query, domainType);
+		}
+
+		TermsQueryOptions termsQueryOptions = getTermsQueryOptions(query);
+		StringBuilder queryString = new StringBuilder();
+		int position = 0;
+		for (Criteria clause : clauses) {
+
+			if (isFilterClause(clause, entity)) {
+
+				StringBuilder filterQuery = new StringBuilder();
+				appendNode(filterQuery, clause, 0, domainType, termsQueryOptions);
+				filterQueries.add(filterQuery.toString());
+			} else {
+				appendNode(queryString, clause, position++, domainType, termsQueryOptions);
+			}
+		}
+
+		return queryString.length() > 0 ? queryString.toString() : "*:*";
+	}
+
+	private Criteria prepareCriteria(SolrDataQuery query, @Nullable Operator defaultOperator) {
+
+		Criteria criteria = query.getCriteria();
+		if (optimizeCriteria && usesStandardQueryParser(query)) {
+			return CriteriaOptimizer.optimize(criteria, Operator.OR.equals(defaultOperator));
+		}
+		return criteria;
+	}
+
+	/**
+	 * @return the clauses all required to match, or an empty list if the criteria is not a plain conjunction.
+	 */
+	private static List<Criteria> getConjunctiveClauses(Criteria criteria) {
+
+		if (!(criteria instanceof Crotch) || !criteria.hasSiblings()) {
+			return Collections.singletonList(criteria);
+		}
+
+		if (criteria.isNegating()) {
+			return Collections.emptyList();
+		}
+
+		List<Criteria> clauses = new ArrayList<>(criteria.getSiblings());
+		for (int i = 1; i < clauses.size(); i++) {
+			if (clauses.get(i).isOr()) {
+				return Collections.emptyList();
+			}
+		}
+		return clauses;
+	}
+
+	private boolean isFilterClause(Criteria clause, SolrPersistentEntity<?> entity) {
+
+		if (clause instanceof QueryStringHolder || !Float.isNaN(clause.getBoost())) {
+			return false;
+		}
+
+		if (clause instanceof Crotch && clause.hasSiblings()) {
+
+			for (Criteria sibling : clause.getSiblings()) {
+				if (!isFilterClause(sibling, entity)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		if (clause.getField() == null || clause.getField().getName() == null
+				|| containsFunctionCriteria(clause.getPredicates())) {
+			return false;
+		}
+
+		SolrPersistentProperty property = getPersistentProperty(entity, clause.getField().getName());
+		return property != null && property.isFilterProperty();
+	}
+
+	/**
+	 * Resolve the {@link SolrPersistentProperty} for a {@link Criteria} field that may either use the property name or
+	 * the mapped Solr field name.
+	 */
+	@Nullable
+	private static SolrPersistentProperty getPersistentProperty(SolrPersistentEntity<?> entity, String fieldName) {
+
+		SolrPersistentProperty property = entity.getPersistentProperty(fieldName);
+		if (property != null) {
+			return property;
+		}
+
+		for (SolrPersistentProperty candidate : entity) {
+			if (fieldName.equals(candidate.getFieldName())) {
+				return candidate;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Resolve the {@code _route_} parameter restricting the given query to the shards holding documents with a
+	 * {@link org.springframework.data.solr.core.mapping.RoutingKey} matching the values bound in a top level conjunctive
+	 * {@link Criteria} of the query or one of its filter queries. Queries using a {@link Join} are not considered.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param domainType can be {@literal null}.
+	 * @return {@literal null} if the routing key is not bound or the domain type does not define one.
+	 * @since 5.0
+	 */
+	@Nullable
+	protected String getRoute(SolrDataQuery query, @Nullable Class<?> domainType) {
+
+		if (domainType == null || mappingContext == null) {
+			return null;
+		}
+
+		SolrPersistentEntity<?> entity = mappingContext.getPersistentEntity(domainType);
+		SolrPersistentProperty routingProperty = entity != null ? entity.getRoutingProperty() : null;
+		if (routingProperty == null) {
+			return null;
+		}
+
+		List<SolrDataQuery> candidates = new ArrayList<>();
+		if (usesStandardQueryParser(query)) {
+			candidates.add(query);
+		}
+		if (query instanceof Query) {
+			candidates.addAll(((Query) query).getFilterQueries());
+		}
+
+		for (SolrDataQuery candidate : candidates) {
+
+			if (candidate.getCriteria() == null || candidate.getJoin() != null) {
+				continue;
+			}
+
+			for (Criteria clause : getConjunctiveClauses(candidate.getCriteria())) {
+
+				List<String> routingKeys = getRoutingKeys(clause, routingProperty);
+				if (!routingKeys.isEmpty()) {
+					return StringUtils.join(routingKeys, ',');
+				}
+			}
+		}
+		return null;
+	}
+
+	private List<String> getRoutingKeys(Criteria clause, SolrPersistentProperty routingProperty) {
+
+		if (clause instanceof QueryStringHolder || clause instanceof Crotch || clause.isNegating()
+				|| clause.getField() == null || clause.getPredicates().isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		String fieldName = clause.getField().getName();
+		if (!routingProperty.getName().equals(fieldName) && !routingProperty.getFieldName().equals(fieldName)) {
+			return Collections.emptyList();
+		}
+
+		List<String> routingKeys = new ArrayList<>(clause.getPredicates().size());
+		for (Predicate predicate : clause.getPredicates()) {
+
+			Object value = predicate.getValue();
+			if (!StringUtils.equals(OperationKey.EQUALS.getKey(), predicate.getKey()) || value == null
+					|| value instanceof Node || value instanceof Collection || value.getClass().isArray()) {
+				return Collections.emptyList();
+			}
+
+			String routingKey = conversionService.canConvert(value.getClass(), String.class)
+					? conversionService.convert(value, String.class)
+					: value.toString();
+			if (StringUtils.isBlank(routingKey) || StringUtils.containsAny(routingKey, '!', ',', '*', '?')) {
+				return Collections.emptyList();
+			}
+			routingKeys.add(routingKey + "!");
+		}
+		return routingKeys;
+	}
+
+	/**
+	 * Enable/disable rewriting {@link Criteria} trees via {@link CriteriaOptimizer} before rendering them. Only applies
+	 * to queries using the standard query parser. Disjunctions on the same field are only merged for queries explicitly
+	 * using {@link Operator#OR} as default operator.
+	 *
+	 * @param optimizeCriteria
+	 * @since 5.0
+	 */
+	public void setOptimizeCriteria(boolean optimizeCriteria) {
+		this.optimizeCriteria = optimizeCriteria;
+	}
+
+	/**
+	 * @return {@literal true} if {@link Criteria} trees are optimized before rendering them.
+	 * @since 5.0
+	 */
+	public boolean isOptimizeCriteria() {
+		return optimizeCriteria;
+	}
+
+	private static boolean usesStandardQueryParser(SolrDataQuery query) {
+
+		if (!(query instanceof Query)) {
+			return true;
+		}
+
+		String defType = ((Query) query).getDefType();
+		return StringUtils.isBlank(defType) || "lucene".equals(defType);
+	}
+
+	@Nullable
+	private static Operator getDefaultOperator(SolrDataQuery query) {
+		return query instanceof Query ? ((Query) query).getDefaultOperator() : null;
+	}
+
+	/**
+	 * Set the {@link QueryCanonicalizer} applied to each {@link SolrQuery} after its construction. Canonical queries
+	 * improve cache hit rates on the server side as well as for client side caches.
+	 *
+	 * @param queryCanonicalizer can be {@literal null} to disable canonicalization.
+	 * @since 5.0
+	 */
+	public void setQueryCanonicalizer(@Nullable QueryCanonicalizer queryCanonicalizer) {
+		this.queryCanonicalizer = queryCanonicalizer;
+	}
+
+	/**
+	 * @return null if not set.
+	 * @since 5.0
+	 */
+	@Nullable
+	public QueryCanonicalizer getQueryCanonicalizer() {
+		return queryCanonicalizer;
+	}
+
+	/**
+	 * Set the {@link TermsQueryOptions} to apply to all queries not defining their own ones. Defaults to
+	 * {@link TermsQueryOptions#disabled()} as the {@code terms} query parser does not analyze the values and therefore
+	 * only matches the same documents as the boolean rendering on non tokenized fields.
+	 *
+	 * @param termsQueryOptions must not be {@literal null}.
+	 * @since 5.0
+	 */
+	public void setTermsQueryOptions(TermsQueryOptions termsQueryOptions) {
+
+		Assert.notNull(termsQueryOptions, "TermsQueryOptions must not be 'null'");
+		this.termsQueryOptions = termsQueryOptions;
+	}
+
+	/**
+	 * @return never {@literal null}.
+	 * @since 5.0
+	 */
+	public TermsQueryOptions getTermsQueryOptions() {
+		return termsQueryOptions;
+	}
+
+	private TermsQueryOptions getTermsQueryOptions(SolrDataQuery query) {
+
+		TermsQueryOptions options = query.getTermsQueryOptions();
+		return options != null ? options : termsQueryOptions;
 	}
 
 	@Override
@@ -193,30 +525,69 @@ public abstract class QueryParserBase<QUERYTPYE extends SolrDataQuery> implement
 	public String createQueryStringFromNode(Node node, int position, @Nullable Class<?> domainType) {
 
 		StringBuilder query = new StringBuilder();
+		appendQueryStringFromNode(query, node, position, domainType, termsQueryOptions);
+		return query.toString();
+	}
+
+	/**
+	 * Append the plain query string representation of the given node to the given {@link StringBuilder}. Nested nodes
+	 * and criteria are rendered into the very same buffer unless {@link #createQueryStringFromNode(Node, int, Class)} or
+	 * {@link #createQueryFragmentForCriteria(Criteria, Class)} are overridden, in which case those are used for rendering
+	 * the nested nodes, respectively criteria, applying the {@link #getTermsQueryOptions() parsers TermsQueryOptions}.
+	 *
+	 * @param target must not be {@literal null}.
+	 * @param node must not be {@literal null}.
+	 * @param position
+	 * @param domainType can be {@literal null}.
+	 * @param termsQueryOptions must not be {@literal null}.
+	 * @since 5.0
+	 */
+	protected void appendQueryStringFromNode(StringBuilder target, Node node, int position,
+			@Nullable Class<?> domainType, TermsQueryOptions termsQueryOptions) {
+
 		if (position > 0) {
-			query.append(node.isOr() ? " OR " : " AND ");
+			target.append(node.isOr() ? " OR " : " AND ");
 		}
 
 		if (node.hasSiblings()) {
+
+			boolean wrap = !node.isRoot() || node.isNegating();
 			if (node.isNegating()) {
-				query.append("-");
+				target.append('-');
 			}
-			if (!node.isRoot() || (node.isRoot() && node.isNegating())) {
-				query.append('(');
+			if (wrap) {
+				target.append('(');
 			}
 
 			int i = 0;
 			for (Node nested : node.getSiblings()) {
-				query.append(createQueryStringFromNode(nested, i++, domainType));
+				appendNode(target, nested, i++, domainType, termsQueryOptions);
 			}
 
-			if (!node.isRoot() || (node.isRoot() && node.isNegating())) {
-				query.append(')');
+			if (wrap) {
+				target.append(')');
 			}
+		} else if (criteriaHookOverridden) {
+			target.append(createQueryFragmentForCriteria((Criteria) node, domainType));
 		} else {
-			query.append(createQueryFragmentForCriteria((Criteria) node, domainType));
+			appendQueryFragmentForCriteria(target, (Criteria) node, domainType, termsQueryOptions);
+		}
+	}
+
+	private void appendNode(StringBuilder target, Node node, int position, @Nullable Class<?> domainType,
+			TermsQueryOptions termsQueryOptions) {
+
+		if (nodeHookOverridden) {
+			target.append(createQueryStringFromNode(node, position, domainType));
+		} else {
+			appendQueryStringFromNode(target, node, position, domainType, termsQueryOptions);
 		}
-		return query.toString();
+	}
+
+	private static boolean isOverridden(Class<?> type, String methodName, Class<?>... parameterTypes) {
+
+		Method method = ReflectionUtils.findMethod(type, methodName, parameterTypes);
+		return method != null && method.getDeclaringClass() != QueryParserBase.class;
 	}
 
 	/**
@@ -254,49 +625,217 @@ public abstract class QueryParserBase<QUERYTPYE extends SolrDataQuery> implement
 	 */
 	protected String createQueryFragmentForCriteria(Criteria part, @Nullable Class<?> domainType) {
 
-		Criteria criteria = part;
 		StringBuilder queryFragment = new StringBuilder();
-		boolean singeEntryCriteria = (criteria.getPredicates().size() == 1);
+		appendQueryFragmentForCriteria(queryFragment, part, domainType, termsQueryOptions);
+		return queryFragment.toString();
+	}
+
+	/**
+	 * Append the query string representation of a single criteria to the given {@link StringBuilder}. Predicate values
+	 * are written by the matching {@link PredicateProcessor} directly into the buffer. Criteria matching a plain field
+	 * against at least {@link TermsQueryOptions#getThreshold()} values are rendered using the {@code terms} query parser.
+	 *
+	 * @param target must not be {@literal null}.
+	 * @param criteria must not be {@literal null}.
+	 * @param domainType can be {@literal null}.
+	 * @param termsQueryOptions must not be {@literal null}.
+	 * @since 5.0
+	 */
+	protected void appendQueryFragmentForCriteria(StringBuilder target, Criteria criteria,
+			@Nullable Class<?> domainType, TermsQueryOptions termsQueryOptions) {
 
 		if (criteria instanceof QueryStringHolder) {
-			return ((QueryStringHolder) criteria).getQueryString();
+			target.append(((QueryStringHolder) criteria).getQueryString());
+			return;
 		}
 
+		Set<Predicate> predicates = criteria.getPredicates();
+		boolean singeEntryCriteria = (predicates.size() == 1);
+
 		String fieldName = getNullsafeFieldName(criteria.getField(), domainType);
+		if (termsQueryOptions.appliesTo(predicates.size()) && appendTermsQuery(target, criteria, fieldName,
+				termsQueryOptions)) {
+			return;
+		}
+
 		if (criteria.isNegating()) {
 			fieldName = NOT + fieldName;
 		}
-		if (!StringUtils.isEmpty(fieldName) && !containsFunctionCriteria(criteria.getPredicates())) {
-			queryFragment.append(fieldName);
-			queryFragment.append(DELIMINATOR);
+		if (!StringUtils.isEmpty(fieldName) && !containsFunctionCriteria(predicates)) {
+			target.append(fieldName);
+			target.append(DELIMINATOR);
 		}
 
 		// no criteria given is defaulted to not null
-		if (criteria.getPredicates().isEmpty()) {
-			queryFragment.append("[* TO *]");
-			return queryFragment.toString();
+		if (predicates.isEmpty()) {
+			target.append("[* TO *]");
+			return;
 		}
 
 		if (!singeEntryCriteria) {
-			queryFragment.append("(");
+			target.append('(');
 		}
 
-		CriteriaQueryStringValueProvider valueProvider = new CriteriaQueryStringValueProvider(criteria, domainType);
-		while (valueProvider.hasNext()) {
-			queryFragment.append(valueProvider.next());
-			if (valueProvider.hasNext()) {
-				queryFragment.append(CRITERIA_VALUE_SEPERATOR);
+		Iterator<Predicate> iterator = predicates.iterator();
+		while (iterator.hasNext()) {
+
+			Predicate predicate = iterator.next();
+			findMatchingProcessor(predicate).process(target, predicate, criteria.getField(), domainType);
+			if (iterator.hasNext()) {
+				target.append(CRITERIA_VALUE_SEPERATOR);
 			}
 		}
 
 		if (!singeEntryCriteria) {
-			queryFragment.append(")");
+			target.append(')');
 		}
 		if (!Float.isNaN(criteria.getBoost())) {
-			queryFragment.append(BOOST).append(criteria.getBoost());
+			target.append(BOOST).append(criteria.getBoost());
 		}
+	}
 
-		return queryFragment.toString();
+	/**
+	 * Render the given {@link Criteria} as {@code {!terms f=fieldName}value1,value2,...} in case all its predicates are
+	 * plain {@link OperationKey#EQUALS} on simple values. Non root, negated or boosted criteria are wrapped in a nested
+	 * {@code _query_:"..."} clause.
+	 *
+	 * @return {@literal false} if the criteria cannot be expressed as {@code terms} query and nothing has been written.
+	 */
+	private boolean appendTermsQuery(StringBuilder target, Criteria criteria, String fieldName,
+			TermsQueryOptions termsQueryOptions) {
+
+		if (!isPlainFieldName(fieldName)) {
+			return false;
+		}
+
+		Set<Predicate> predicates = criteria.getPredicates();
+		String[] values = new String[predicates.size()];
+		int i = 0;
+		for (Predicate predicate : predicates) {
+
+			if (!StringUtils.equals(OperationKey.EQUALS.getKey(), predicate.getKey())) {
+				return false;
+			}
+			String value = toTermsQueryValue(predicate.getValue());
+			if (value == null) {
+				return false;
+			}
+			values[i++] = value;
+		}
+
+		char separator = selectTermsQuerySeparator(values);
+		if (separator == 0) {
+			return false;
+		}
+
+		boolean nested = !criteria.isRoot() || target.length() > 0 || criteria.isNegating()
+				|| !Float.isNaN(criteria.getBoost());
+
+		if (nested) {
+			if (criteria.isNegating()) {
+				target.append(NOT);
+			}
+			target.append("_query_:\"");
+		}
+
+		target.append("{!terms f=").append(fieldName);
+		if (separator != TERMS_QUERY_SEPARATORS[0]) {
+			target.append(" separator='").append(separator).append('\'');
+		}
+		if (termsQueryOptions.getMethod() != null) {
+			target.append(" method=").append(termsQueryOptions.getMethod().getValue());
+		}
+		target.append('}');
+
+		for (int j = 0; j < values.length; j++) {
+
+			if (j > 0) {
+				target.append(separator);
+			}
+			if (nested) {
+				appendQuotedTermsQueryValue(target, values[j]);
+			} else {
+				target.append(values[j]);
+			}
+		}
+
+		if (nested) {
+			target.append('"');
+			if (!Float.isNaN(criteria.getBoost())) {
+				target.append(BOOST).append(criteria.getBoost());
+			}
+		}
+		return true;
+	}
+
+	private static boolean isPlainFieldName(String fieldName) {
+
+		if (fieldName.isEmpty()) {
+			return false;
+		}
+
+		for (int i = 0; i < fieldName.length(); i++) {
+
+			char c = fieldName.charAt(i);
+			if (!Character.isLetterOrDigit(c) && c != '_' && c != '.' && c != '-') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Nullable
+	private static String toTermsQueryValue(@Nullable Object value) {
+
+		if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean || value instanceof Enum
+				|| value instanceof UUID) {
+
+			String stringValue = value.toString();
+			return stringValue.isEmpty() ? null : stringValue;
+		}
+		return null;
+	}
+
+	/**
+	 * The {@code terms} query parser splits values on the separator without any escaping support, so pick one that does
+	 * not occur within any of the values.
+	 *
+	 * @return {@literal 0} if all candidates occur within the values.
+	 */
+	private static char selectTermsQuerySeparator(String[] values) {
+
+		candidates: for (char candidate : TERMS_QUERY_SEPARATORS) {
+			for (String value : values) {
+				if (value.indexOf(candidate) != -1) {
+					continue candidates;
+				}
+			}
+			return candidate;
+		}
+		return 0;
+	}
+
+	private static void appendQuotedTermsQueryValue(StringBuilder target, String value) {
+
+		for (int i = 0; i < value.length(); i++) {
+
+			char c = value.charAt(i);
+			if (c == '\\' || c == '"') {
+				target.append('\\');
+			}
+			target.append(c);
+		}
+	}
+
+	private PredicateProcessor findMatchingProcessor(Predicate predicate) {
+
+		for (PredicateProcessor processor : critieraEntryProcessors) {
+			if (processor.canProcess(predicate)) {
+				return processor;
+			}
+		}
+
+		return defaultProcessor;
 	}
 
 	private String getNullsafeFieldName(@Nullable Field field, Class<?> domainType) {
@@ -563,11 +1102,102 @@ public abstract class QueryParserBase<QUERYTPYE extends SolrDataQuery> implement
 	@SuppressWarnings("unchecked")
 	@Override
 	public SolrQuery constructSolrQuery(SolrDataQuery query, @Nullable Class<?> domainType) {
-		return doConstructSolrQuery((QUERYTPYE) query, domainType);
+
+		SolrQuery solrQuery = doConstructSolrQuery((QUERYTPYE) query, domainType);
+		return queryCanonicalizer != null ? queryCanonicalizer.canonicalize(solrQuery) : solrQuery;
 	}
 
 	public abstract SolrQuery doConstructSolrQuery(QUERYTPYE query, @Nullable Class<?> domainType);
 
+	/**
+	 * Escape reserved query characters ({@code " + - && || ! ( ) { } [ ] ^ ~ * ? : \\}) within the given value and wrap
+	 * it in double quotes in case it contains whitespace or equals a boolean operator. The value itself is returned if
+	 * nothing needs to be changed.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 5.0
+	 */
+	static String escapeCriteriaValue(String value) {
+
+		for (int i = 0; i < value.length(); i++) {
+
+			char c = value.charAt(i);
+			if (c == ' ' || isReservedChar(c) || ((c == '&' || c == '|') && i + 1 < value.length()
+					&& value.charAt(i + 1) == c)) {
+
+				StringBuilder target = new StringBuilder(value.length() + 16);
+				appendEscapedCriteriaValue(target, value);
+				return target.toString();
+			}
+		}
+
+		return isBooleanOperator(value) ? '"' + value + '"' : value;
+	}
+
+	/**
+	 * Append the escaped and, if required, quoted representation of the given value to the target in a single pass.
+	 *
+	 * @param target must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 * @since 5.0
+	 * @see #escapeCriteriaValue(String)
+	 */
+	static void appendEscapedCriteriaValue(StringBuilder target, String value) {
+
+		int start = target.length();
+		int length = value.length();
+		boolean whitespace = false;
+
+		for (int i = 0; i < length; i++) {
+
+			char c = value.charAt(i);
+			if (c == ' ') {
+				whitespace = true;
+			} else if (isReservedChar(c)) {
+				target.append('\\');
+			} else if ((c == '&' || c == '|') && i + 1 < length && value.charAt(i + 1) == c) {
+				target.append('\\').append(c).append('\\');
+				i++;
+			}
+			target.append(c);
+		}
+
+		if (whitespace || isBooleanOperator(value)) {
+			target.insert(start, '"');
+			target.append('"');
+		}
+	}
+
+	private static boolean isReservedChar(char c) {
+
+		switch (c) {
+			case '"':
+			case '+':
+			case '-':
+			case '!':
+			case '(':
+			case ')':
+			case '{':
+			case '}':
+			case '[':
+			case ']':
+			case '^':
+			case '~':
+			case '*':
+			case '?':
+			case ':':
+			case '\\':
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	private static boolean isBooleanOperator(String value) {
+		return "AND".equals(value) || "OR".equals(value) || "NOT".equals(value);
+	}
+
 	/**
 	 * {@link PredicateProcessor} creates a solr reable query string representation for a given {@link Predicate}
 	 *
@@ -589,56 +1219,21 @@ public abstract class QueryParserBase<QUERYTPYE extends SolrDataQuery> implement
 		 * @return
 		 */
 		Object process(@Nullable Predicate predicate, @Nullable Field field, Class<?> domainType);
-	}
-
-	/**
-	 * @author Christoph Strobl
-	 */
-	class CriteriaQueryStringValueProvider implements Iterator<String> {
-
-		private final Criteria criteria;
-		private Iterator<Predicate> delegate;
-		private @Nullable Class<?> domainType;
-
-		CriteriaQueryStringValueProvider(Criteria criteria, @Nullable Class<?> domainType) {
-			Assert.notNull(criteria, "Unable to provide values for 'null' criteria");
-
-			this.criteria = criteria;
-			this.delegate = criteria.getPredicates().iterator();
-			this.domainType = domainType;
-		}
-
-		@SuppressWarnings("unchecked")
-		@Nullable
-		private <T> T getPredicateValue(Predicate predicate) {
-			PredicateProcessor processor = findMatchingProcessor(predicate);
-			return (T) processor.process(predicate, criteria.getField(), domainType);
-		}
-
-		private PredicateProcessor findMatchingProcessor(Predicate predicate) {
-			for (PredicateProcessor processor : critieraEntryProcessors) {
-				if (processor.canProcess(predicate)) {
-					return processor;
-				}
-			}
-
-			return defaultProcessor;
-		}
-
-		@Override
-		public boolean hasNext() {
-			return this.delegate.hasNext();
-		}
 
-		@Override
-		public String next() {
-			Object o = getPredicateValue(this.delegate.next());
-			return o != null ? o.toString() : null;
-		}
-
-		@Override
-		public void remove() {
-			this.delegate.remove();
+		/**
+		 * Append the query string representation of given {@link Predicate} to the given {@link StringBuilder}.
+		 * Implementations are encouraged to write directly into the target instead of creating intermediate
+		 * {@link String strings}.
+		 *
+		 * @param target must not be {@literal null}.
+		 * @param predicate
+		 * @param field
+		 * @param domainType
+		 * @since 5.0
+		 */
+		default void process(StringBuilder target, @Nullable Predicate predicate, @Nullable Field field,
+				@Nullable Class<?> domainType) {
+			target.append(process(predicate, field, domainType));
 		}
 	}
 
@@ -654,11 +1249,27 @@ public abstract class QueryParserBase<QUERYTPYE extends SolrDataQuery> implement
 
 		protected final Set<String> BOOLEAN_OPERATORS = new HashSet<>(Arrays.asList("NOT", "AND", "OR"));
 
+		/**
+		 * @deprecated since 5.0. Values are escaped in a single pass without consulting this array as long as neither it
+		 *             nor {@link #RESERVED_CHARS_REPLACEMENT} are modified. Customized arrays are still applied, at the cost
+		 *             of replacing each entry separately.
+		 */
+		@Deprecated
 		protected final String[] RESERVED_CHARS = { DOUBLEQUOTE, "+", "-", "&&", "||", "!", "(", ")", "{", "}", "[", "]",
 				"^", "~", "*", "?", ":", "\\" };
+
+		/**
+		 * @deprecated since 5.0. Values are escaped in a single pass without consulting this array as long as neither it
+		 *             nor {@link #RESERVED_CHARS} are modified. Customized arrays are still applied, at the cost of
+		 *             replacing each entry separately.
+		 */
+		@Deprecated
 		protected String[] RESERVED_CHARS_REPLACEMENT = { "\\" + DOUBLEQUOTE, "\\+", "\\-", "\\&\\&", "\\|\\|", "\\!",
 				"\\(", "\\)", "\\{", "\\}", "\\[", "\\]", "\\^", "\\~", "\\*", "\\?", "\\:", "\\\\" };
 
+		private final String[] defaultReservedChars = RESERVED_CHARS.clone();
+		private final String[] defaultReservedCharsReplacement = RESERVED_CHARS_REPLACEMENT.clone();
+
 		@Override
 		public Object process(@Nullable Predicate predicate, @Nullable Field field, @Nullable Class<?> domainType) {
 
@@ -668,6 +1279,48 @@ public abstract class QueryParserBase<QUERYTPYE extends SolrDataQuery> implement
 			return doProcess(predicate, field, domainType);
 		}
 
+		@Override
+		public void process(StringBuilder target, @Nullable Predicate predicate, @Nullable Field field,
+				@Nullable Class<?> domainType) {
+
+			if (predicate == null || predicate.getValue() == null) {
+				target.append(process(predicate, field, domainType));
+				return;
+			}
+			doProcess(target, predicate, field, domainType);
+		}
+
+		/**
+		 * Append the query string representation of the given {@link Predicate} to the target. Defaults to appending the
+		 * result of {@link #doProcess(Predicate, Field, Class)}.
+		 *
+		 * @param target never {@literal null}.
+		 * @param predicate never {@literal null}.
+		 * @param field
+		 * @param domainType
+		 * @since 5.0
+		 */
+		protected void doProcess(StringBuilder target, Predicate predicate, @Nullable Field field,
+				@Nullable Class<?> domainType) {
+			target.append(doProcess(predicate, field, domainType));
+		}
+
+		/**
+		 * Append the filtered (converted, escaped and quoted if required) representation of the given value to the target.
+		 *
+		 * @param target never {@literal null}.
+		 * @param criteriaValue never {@literal null}.
+		 * @since 5.0
+		 */
+		protected void appendCriteriaValue(StringBuilder target, Object criteriaValue) {
+
+			if (criteriaValue instanceof String && !isCustomizedEscaping()) {
+				appendEscapedCriteriaValue(target, (String) criteriaValue);
+				return;
+			}
+			target.append(filterCriteriaValue(criteriaValue));
+		}
+
 		protected Object filterCriteriaValue(Object criteriaValue) {
 			if (!(criteriaValue instanceof String)) {
 				if (conversionService.canConvert(criteriaValue.getClass(), String.class)) {
@@ -676,19 +1329,22 @@ public abstract class QueryParserBase<QUERYTPYE extends SolrDataQuery> implement
 				return criteriaValue;
 			}
 
-			String value = escapeCriteriaValue((String) criteriaValue);
-			return processWhiteSpaces(value);
-		}
+			if (isCustomizedEscaping()) {
 
-		private String escapeCriteriaValue(String criteriaValue) {
-			return StringUtils.replaceEach(criteriaValue, RESERVED_CHARS, RESERVED_CHARS_REPLACEMENT);
+				String value = StringUtils.replaceEach((String) criteriaValue, RESERVED_CHARS, RESERVED_CHARS_REPLACEMENT);
+				return StringUtils.contains(value, CRITERIA_VALUE_SEPERATOR) || BOOLEAN_OPERATORS.contains(value)
+						? DOUBLEQUOTE + value + DOUBLEQUOTE
+						: value;
+			}
+			return escapeCriteriaValue((String) criteriaValue);
 		}
 
-		private String processWhiteSpaces(String criteriaValue) {
-			if (StringUtils.contains(criteriaValue, CRITERIA_VALUE_SEPERATOR) || BOOLEAN_OPERATORS.contains(criteriaValue)) {
-				return DOUBLEQUOTE + criteriaValue + DOUBLEQUOTE;
-			}
-			return criteriaValue;
+		/**
+		 * @return {@literal true} if {@link #RESERVED_CHARS} or {@link #RESERVED_CHARS_REPLACEMENT} have been modified.
+		 */
+		private boolean isCustomizedEscaping() {
+			return !Arrays.equals(RESERVED_CHARS_REPLACEMENT, defaultReservedCharsReplacement)
+					|| !Arrays.equals(RESERVED_CHARS, defaultReservedChars);
 		}
 
 		@Nullable
@@ -714,6 +1370,12 @@ public abstract class QueryParserBase<QUERYTPYE extends SolrDataQuery> implement
 
 			return filterCriteriaValue(predicate.getValue());
 		}
+
+		@Override
+		protected void doProcess(StringBuilder target, Predicate predicate, @Nullable Field field,
+				@Nullable Class<?> domainType) {
+			appendCriteriaValue(target, predicate.getValue());
+		}
 	}
 
 	/**
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Policy protecting callers of {@link SolrTemplate} from a slow or failing Solr by limiting the number of concurrent
+ * requests per collection and by failing fast while a collection is considered unhealthy. Rejected requests result in
+ * a {@link org.springframework.data.solr.SolrRequestRejectedException}. <br />
+ * The applied options are
+ * <ul>
+ * <li>{@link #getMaxConcurrentRequests() concurrency limit}: requests exceeding the current limit are rejected
+ * immediately instead of queueing up.</li>
+ * <li>{@link #isAdaptive() adaptive concurrency}: the limit starts at the maximum and is adjusted using additive
+ * increase for requests completing within the {@link #getSlowCallThreshold() slow call threshold} and multiplicative
+ * decrease for slow or failed ones, never dropping below {@link #getMinConcurrentRequests()}.</li>
+ * <li>circuit breaking: once the {@link #getFailureRateThreshold() failure rate} or {@link #getSlowCallRateThreshold()
+ * slow call rate} of the last {@link #getWindowSize()} requests reaches its threshold, all requests are rejected for
+ * {@link #getOpenStateDuration()}. Afterwards a single trial request decides whether to close the circuit again.</li>
+ * </ul>
+ * Client errors, eg. invalid queries, do not count as failures. Reads and updates of a collection are limited and
+ * broken independently, so slow updates do not reduce the limit for queries.
+ *
+ * @since 5.0
+ */
+public class ResiliencePolicy {
+
+	private static final ResiliencePolicy DEFAULT = new ResiliencePolicy(64, 4, true, Duration.ofSeconds(5), 0.5D, 1D,
+			20, Duration.ofSeconds(30));
+
+	private final int maxConcurrentRequests;
+	private final int minConcurrentRequests;
+	private final boolean adaptive;
+	private final Duration slowCallThreshold;
+	private final double failureRateThreshold;
+	private final double slowCallRateThreshold;
+	private final int windowSize;
+	private final Duration openStateDuration;
+
+	private ResiliencePolicy(int maxConcurrentRequests, int minConcurrentRequests, boolean adaptive,
+			Duration slowCallThreshold, double failureRateThreshold, double slowCallRateThreshold, int windowSize,
+			Duration openStateDuration) {
+
+		this.maxConcurrentRequests = maxConcurrentRequests;
+		this.minConcurrentRequests = minConcurrentRequests;
+		this.adaptive = adaptive;
+		this.slowCallThreshold = slowCallThreshold;
+		this.failureRateThreshold = failureRateThreshold;
+		this.slowCallRateThreshold = slowCallRateThreshold;
+		this.windowSize = windowSize;
+		this.openStateDuration = openStateDuration;
+	}
+
+	/**
+	 * @return {@link ResiliencePolicy} allowing up to {@literal 64} adaptively limited concurrent requests per collection
+	 *         and opening the circuit for {@literal 30} seconds once half of the last {@literal 20} requests failed.
+	 */
+	public static ResiliencePolicy defaults() {
+		return DEFAULT;
+	}
+
+	/**
+	 * @param maxConcurrentRequests must be greater than zero.
+	 * @return new instance of {@link ResiliencePolicy}.
+	 */
+	public ResiliencePolicy withMaxConcurrentRequests(int maxConcurrentRequests) {
+
+		Assert.isTrue(maxConcurrentRequests > 0, "MaxConcurrentRequests must be greater than zero");
+		return new ResiliencePolicy(maxConcurrentRequests, Math.min(minConcurrentRequests, maxConcurrentRequests),
+				adaptive, slowCallThreshold, failureRateThreshold, slowCallRateThreshold, windowSize, openStateDuration);
+	}
+
+	/**
+	 * @param minConcurrentRequests lower bound of the adaptive limit. Must be greater than zero.
+	 * @return new instance of {@link ResiliencePolicy}.
+	 */
+	public ResiliencePolicy withMinConcurrentRequests(int minConcurrentRequests) {
+
+		Assert.isTrue(minConcurrentRequests > 0, "MinConcurrentRequests must be greater than zero");
+		return new ResiliencePolicy(Math.max(maxConcurrentRequests, minConcurrentRequests), minConcurrentRequests,
+				adaptive, slowCallThreshold, failureRateThreshold, slowCallRateThreshold, windowSize, openStateDuration);
+	}
+
+	/**
+	 * @param adaptive {@literal false} to use a fixed limit of {@link #getMaxConcurrentRequests()}.
+	 * @return new instance of {@link ResiliencePolicy}.
+	 */
+	public ResiliencePolicy withAdaptiveConcurrency(boolean adaptive) {
+		return new ResiliencePolicy(maxConcurrentRequests, minConcurrentRequests, adaptive, slowCallThreshold,
+				failureRateThreshold, slowCallRateThreshold, windowSize, openStateDuration);
+	}
+
+	/**
+	 * @param slowCallThreshold latency after which a request is considered slow. Must not be {@literal null} nor
+	 *          negative.
+	 * @return new instance of {@link ResiliencePolicy}.
+	 */
+	public ResiliencePolicy withSlowCallThreshold(Duration slowCallThreshold) {
+
+		Assert.notNull(slowCallThreshold, "SlowCallThreshold must not be 'null'");
+		Assert.isTrue(!slowCallThreshold.isNegative(), "SlowCallThreshold must not be negative");
+		return new ResiliencePolicy(maxConcurrentRequests, minConcurrentRequests, adaptive, slowCallThreshold,
+				failureRateThreshold, slowCallRateThreshold, windowSize, openStateDuration);
+	}
+
+	/**
+	 * @param failureRateThreshold must be between {@literal 0} (exclusive) and {@literal 1}.
+	 * @return new instance of {@link ResiliencePolicy}.
+	 */
+	public ResiliencePolicy withFailureRateThreshold(double failureRateThreshold) {
+
+		Assert.isTrue(failureRateThreshold > 0 && failureRateThreshold <= 1,
+				"FailureRateThreshold must be between 0 and 1");
+		return new ResiliencePolicy(maxConcurrentRequests, minConcurrentRequests, adaptive, slowCallThreshold,
+				failureRateThreshold, slowCallRateThreshold, windowSize, openStateDuration);
+	}
+
+	/**
+	 * @param slowCallRateThreshold must be between {@literal 0} (exclusive) and {@literal 1}. {@literal 1} only opens
+	 *          the circuit if all requests within the window are slow.
+	 * @return new instance of {@link ResiliencePolicy}.
+	 */
+	public ResiliencePolicy withSlowCallRateThreshold(double slowCallRateThreshold) {
+
+		Assert.isTrue(slowCallRateThreshold > 0 && slowCallRateThreshold <= 1,
+				"SlowCallRateThreshold must be between 0 and 1");
+		return new ResiliencePolicy(maxConcurrentRequests, minConcurrentRequests, adaptive, slowCallThreshold,
+				failureRateThreshold, slowCallRateThreshold, windowSize, openStateDuration);
+	}
+
+	/**
+	 * @param windowSize number of most recent requests used to calculate failure and slow call rates. Must be greater
+	 *          than zero.
+	 * @return new instance of {@link ResiliencePolicy}.
+	 */
+	public ResiliencePolicy withWindowSize(int windowSize) {
+
+		Assert.isTrue(windowSize > 0, "WindowSize must be greater than zero");
+		return new ResiliencePolicy(maxConcurrentRequests, minConcurrentRequests, adaptive, slowCallThreshold,
+				failureRateThreshold, slowCallRateThreshold, windowSize, openStateDuration);
+	}
+
+	/**
+	 * @param openStateDuration time requests are rejected once the circuit opened. Must not be {@literal null} nor
+	 *          negative.
+	 * @return new instance of {@link ResiliencePolicy}.
+	 */
+	public ResiliencePolicy withOpenStateDuration(Duration openStateDuration) {
+
+		Assert.notNull(openStateDuration, "OpenStateDuration must not be 'null'");
+		Assert.isTrue(!openStateDuration.isNegative(), "OpenStateDuration must not be negative");
+		return new ResiliencePolicy(maxConcurrentRequests, minConcurrentRequests, adaptive, slowCallThreshold,
+				failureRateThreshold, slowCallRateThreshold, windowSize, openStateDuration);
+	}
+
+	public int getMaxConcurrentRequests() {
+		return maxConcurrentRequests;
+	}
+
+	public int getMinConcurrentRequests() {
+		return minConcurrentRequests;
+	}
+
+	public boolean isAdaptive() {
+		return adaptive;
+	}
+
+	public Duration getSlowCallThreshold() {
+		return slowCallThreshold;
+	}
+
+	public double getFailureRateThreshold() {
+		return failureRateThreshold;
+	}
+
+	public double getSlowCallRateThreshold() {
+		return slowCallRateThreshold;
+	}
+
+	public int getWindowSize() {
+		return windowSize;
+	}
+
+	public Duration getOpenStateDuration() {
+		return openStateDuration;
+	}
+
+}
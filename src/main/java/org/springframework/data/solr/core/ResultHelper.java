@@ -22,6 +22,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Function;
 
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.solr.client.solrj.response.FacetField;
@@ -45,7 +46,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.repository.util.ClassUtils;
+import org.springframework.data.solr.core.mapping.SolrPersistentEntity;
+import org.springframework.data.solr.core.mapping.SolrPersistentProperty;
 import org.springframework.data.solr.core.query.FacetQuery;
 import org.springframework.data.solr.core.query.Field;
 import org.springframework.data.solr.core.query.Query;
@@ -228,6 +232,19 @@ final class ResultHelper {
 
 	static <T> List<HighlightEntry<T>> convertAndAddHighlightQueryResponseToResultPage(@Nullable QueryResponse response,
 			@Nullable SolrResultPage<T> page) {
+		return convertAndAddHighlightQueryResponseToResultPage(response, page, ResultHelper::getMappedId);
+	}
+
+	/**
+	 * @param response
+	 * @param page
+	 * @param idResolver function resolving the id of a page entry used to look up its highlights.
+	 * @return
+	 * @since 5.0
+	 */
+	static <T> List<HighlightEntry<T>> convertAndAddHighlightQueryResponseToResultPage(@Nullable QueryResponse response,
+			@Nullable SolrResultPage<T> page, Function<Object, Object> idResolver) {
+
 		if (response == null || CollectionUtils.isEmpty(response.getHighlighting()) || page == null) {
 			return Collections.emptyList();
 		}
@@ -236,19 +253,60 @@ final class ResultHelper {
 		Map<String, Map<String, List<String>>> highlighting = response.getHighlighting();
 
 		for (T item : page) {
-			HighlightEntry<T> highlightEntry = processHighlightingForPageEntry(highlighting, item);
+			HighlightEntry<T> highlightEntry = processHighlightingForPageEntry(highlighting, item, idResolver);
 			mappedHighlights.add(highlightEntry);
 		}
 		page.setHighlighted(mappedHighlights);
 		return mappedHighlights;
 	}
 
+	/**
+	 * Create a {@link Function} resolving the id of page entries via the identifier accessor of the corresponding
+	 * {@link SolrPersistentEntity}. Raw {@link Map} entries are resolved via the id field name of the given domain type
+	 * (or {@literal id} if not present). Types unknown to the {@link MappingContext} fall back to a reflective lookup.
+	 *
+	 * @param mappingContext can be {@literal null}.
+	 * @param domainType can be {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 5.0
+	 */
+	static Function<Object, Object> idResolver(
+			@Nullable MappingContext<? extends SolrPersistentEntity<?>, SolrPersistentProperty> mappingContext,
+			@Nullable Class<?> domainType) {
+
+		if (mappingContext == null) {
+			return ResultHelper::getMappedId;
+		}
+
+		SolrPersistentEntity<?> domainEntity = domainType != null ? mappingContext.getPersistentEntity(domainType) : null;
+		SolrPersistentProperty domainIdProperty = domainEntity != null ? domainEntity.getIdProperty() : null;
+		String idFieldName = domainIdProperty != null ? domainIdProperty.getFieldName() : "id";
+
+		return source -> {
+
+			if (source instanceof Map) {
+				return ((Map<?, ?>) source).get(idFieldName);
+			}
+
+			if (!mappingContext.hasPersistentEntityFor(source.getClass())) {
+				return getMappedId(source);
+			}
+
+			SolrPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(source.getClass());
+			if (!entity.hasIdProperty()) {
+				return getMappedId(source);
+			}
+
+			return entity.getIdentifierAccessor(source).getIdentifier();
+		};
+	}
+
 	private static <T> HighlightEntry<T> processHighlightingForPageEntry(
-			Map<String, Map<String, List<String>>> highlighting, T pageEntry) {
+			Map<String, Map<String, List<String>>> highlighting, T pageEntry, Function<Object, Object> idResolver) {
 		HighlightEntry<T> highlightEntry = new HighlightEntry<>(pageEntry);
-		Object itemId = getMappedId(pageEntry);
+		Object itemId = idResolver.apply(pageEntry);
 
-		Map<String, List<String>> highlights = highlighting.get(itemId.toString());
+		Map<String, List<String>> highlights = itemId != null ? highlighting.get(itemId.toString()) : null;
 		if (!CollectionUtils.isEmpty(highlights)) {
 			for (Map.Entry<String, List<String>> entry : highlights.entrySet()) {
 				highlightEntry.addSnipplets(entry.getKey(), entry.getValue());
@@ -285,6 +343,37 @@ final class ResultHelper {
 
 	static <T> Map<Object, GroupResult<T>> convertGroupQueryResponseToGroupResultMap(Query query,
 			Map<String, Object> objectNames, QueryResponse response, SolrTemplate solrTemplate, Class<T> clazz) {
+		return convertGroupQueryResponseToGroupResultMap(query, objectNames, response,
+				documents -> solrTemplate.convertSolrDocumentListToBeans(documents, clazz));
+	}
+
+	/**
+	 * @param query
+	 * @param objectNames
+	 * @param response
+	 * @param solrTemplate
+	 * @param domainType
+	 * @param resultType
+	 * @return
+	 * @since 5.0
+	 */
+	static <T> Map<Object, GroupResult<T>> convertGroupQueryResponseToGroupResultMap(Query query,
+			Map<String, Object> objectNames, QueryResponse response, SolrTemplate solrTemplate, Class<?> domainType,
+			Class<T> resultType) {
+		return convertGroupQueryResponseToGroupResultMap(query, objectNames, response,
+				documents -> solrTemplate.convertSolrDocumentListToBeans(documents, domainType, resultType));
+	}
+
+	/**
+	 * @param query
+	 * @param objectNames
+	 * @param response
+	 * @param documentReader function converting the documents of each group.
+	 * @return
+	 * @since 5.0
+	 */
+	static <T> Map<Object, GroupResult<T>> convertGroupQueryResponseToGroupResultMap(Query query,
+			Map<String, Object> objectNames, QueryResponse response, Function<SolrDocumentList, List<T>> documentReader) {
 
 		GroupResponse groupResponse = response.getGroupResponse();
 
@@ -302,7 +391,7 @@ final class ResultHelper {
 			for (Group group : groupCommand.getValues()) {
 
 				SolrDocumentList documentList = group.getResult();
-				List<T> beans = solrTemplate.convertSolrDocumentListToBeans(documentList, clazz);
+				List<T> beans = documentReader.apply(documentList);
 				Page<T> page = new PageImpl<>(beans, query.getGroupOptions().getPageRequest(), documentList.getNumFound());
 				groupEntries.add(new SimpleGroupEntry<>(group.getGroupValue(), page));
 			}
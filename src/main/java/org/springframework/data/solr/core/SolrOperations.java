@@ -17,7 +17,9 @@ package org.springframework.data.solr.core;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.apache.solr.client.solrj.SolrClient;
 import org.apache.solr.client.solrj.response.SolrPingResponse;
@@ -304,6 +306,90 @@ public interface SolrOperations {
 	 */
 	<T> ScoredPage<T> queryForPage(String collection, Query query, Class<T> clazz, RequestMethod method);
 
+	/**
+	 * Execute the query against solr and return the first returned object mapped into the given {@code resultType}.
+	 * Constructor based DTOs and records are materialized directly from the returned document without creating an
+	 * instance of the {@code domainType}.
+	 *
+	 * @param collection must not be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @param domainType used for mapping field names. Must not be {@literal null}.
+	 * @param resultType must not be {@literal null}.
+	 * @return the first matching object
+	 * @since 5.0
+	 */
+	<T> Optional<T> queryForObject(String collection, Query query, Class<?> domainType, Class<T> resultType);
+
+	/**
+	 * Execute the query against solr and return result as {@link Page} of the given {@code resultType}. Constructor
+	 * based DTOs and records are materialized directly from the returned documents without creating instances of the
+	 * {@code domainType}.
+	 *
+	 * @param collection must not be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @param domainType used for mapping field names. Must not be {@literal null}.
+	 * @param resultType must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 5.0
+	 */
+	<T> ScoredPage<T> queryForPage(String collection, Query query, Class<?> domainType, Class<T> resultType);
+
+	/**
+	 * Execute the query against solr and return result as {@link Page} of the given {@code resultType}. Constructor
+	 * based DTOs and records are materialized directly from the returned documents without creating instances of the
+	 * {@code domainType}.
+	 *
+	 * @param collection must not be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @param domainType used for mapping field names. Must not be {@literal null}.
+	 * @param resultType must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 5.0
+	 */
+	<T> ScoredPage<T> queryForPage(String collection, Query query, Class<?> domainType, Class<T> resultType,
+			RequestMethod method);
+
+	/**
+	 * Execute the query against solr and return the raw documents as read-only {@link Map maps} of field name to value
+	 * without applying any entity mapping.
+	 *
+	 * @param collection must not be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @param domainType used for mapping property names used in the query to field names. Can be {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 5.0
+	 */
+	ScoredPage<Map<String, Object>> queryForMapPage(String collection, Query query, @Nullable Class<?> domainType);
+
+	/**
+	 * Execute the query against solr and return the raw documents as read-only {@link Map maps} of field name to value
+	 * without applying any entity mapping.
+	 *
+	 * @param collection must not be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @param domainType used for mapping property names used in the query to field names. Can be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 5.0
+	 */
+	ScoredPage<Map<String, Object>> queryForMapPage(String collection, Query query, @Nullable Class<?> domainType,
+			RequestMethod method);
+
+	/**
+	 * Executes the given {@link Query} using a {@link Cursor} and returns the raw documents as {@link Stream} of
+	 * read-only {@link Map maps} of field name to value without applying any entity mapping. Additional documents are
+	 * fetched lazily, so the query needs to be sorted by the unique key field. The {@link Stream} should be
+	 * {@link Stream#close() closed} after usage.
+	 *
+	 * @param collection must not be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @param domainType used for mapping property names used in the query to field names. Can be {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 5.0
+	 */
+	Stream<Map<String, Object>> queryForMapStream(String collection, Query query, @Nullable Class<?> domainType);
+
 	/**
 	 * Execute a facet query against solr facet result will be returned along with query result within the FacetPage
 	 *
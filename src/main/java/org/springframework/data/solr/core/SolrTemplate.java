@@ -15,6 +15,8 @@
  */
 package org.springframework.data.solr.core;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -26,7 +28,13 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.solr.client.solrj.SolrClient;
 import org.apache.solr.client.solrj.SolrQuery;
@@ -38,8 +46,12 @@ import org.apache.solr.client.solrj.response.UpdateResponse;
 import org.apache.solr.common.SolrDocument;
 import org.apache.solr.common.SolrDocumentList;
 import org.apache.solr.common.SolrInputDocument;
+import org.apache.solr.common.params.ModifiableSolrParams;
+import org.apache.solr.common.params.ShardParams;
+import org.apache.solr.common.params.SolrParams;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
@@ -76,9 +88,11 @@ import org.springframework.data.solr.core.schema.SolrPersistentEntitySchemaCreat
 import org.springframework.data.solr.core.schema.SolrPersistentEntitySchemaCreator.Feature;
 import org.springframework.data.solr.server.SolrClientFactory;
 import org.springframework.data.solr.server.support.HttpSolrClientFactory;
+import org.springframework.data.solr.server.support.ReadWriteSolrClientFactory;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
 
 /**
  * Implementation of {@link SolrOperations}
@@ -92,15 +106,30 @@ import org.springframework.util.CollectionUtils;
  * @author Mark Paluch
  * @author Juan Manuel de Blas
  */
-public class SolrTemplate implements SolrOperations, InitializingBean, ApplicationContextAware {
+public class SolrTemplate implements SolrOperations, InitializingBean, DisposableBean, ApplicationContextAware {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(SolrTemplate.class);
 	private static final PersistenceExceptionTranslator EXCEPTION_TRANSLATOR = new SolrExceptionTranslator();
+
+	/**
+	 * Default maximum length of the encoded query parameters sent via {@link RequestMethod#GET}, well below the default
+	 * request header size of common servlet containers.
+	 *
+	 * @since 5.0
+	 */
+	public static final int DEFAULT_MAX_GET_REQUEST_LENGTH = 4096;
 	private @Nullable QueryParsers queryParsers;
 	private @Nullable MappingContext<? extends SolrPersistentEntity<?>, SolrPersistentProperty> mappingContext;
 
 	private @Nullable ApplicationContext applicationContext;
 	private final RequestMethod defaultRequestMethod;
+	private int maxGetRequestLength = DEFAULT_MAX_GET_REQUEST_LENGTH;
+	private @Nullable String readShardsPreference;
+	private @Nullable HedgingPolicy hedgingPolicy;
+	private @Nullable HedgedRequestExecutor hedgedRequestExecutor;
+	private @Nullable ResiliencePolicy resiliencePolicy;
+	private final Map<String, CollectionRequestGuard> readRequestGuards = new ConcurrentHashMap<>();
+	private final Map<String, CollectionRequestGuard> writeRequestGuards = new ConcurrentHashMap<>();
 
 	private @Nullable SolrClientFactory solrClientFactory;
 
@@ -129,6 +158,19 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 		this(solrClientFactory, (SolrConverter) null);
 	}
 
+	/**
+	 * Create a new {@link SolrTemplate} sending updates, commits and schema changes via the {@code writeClientFactory}
+	 * while queries, real time get and cursors use the {@code readClientFactory}.
+	 *
+	 * @param writeClientFactory must not be {@literal null}.
+	 * @param readClientFactory must not be {@literal null}.
+	 * @since 5.0
+	 * @see ReadWriteSolrClientFactory
+	 */
+	public SolrTemplate(SolrClientFactory writeClientFactory, SolrClientFactory readClientFactory) {
+		this(new ReadWriteSolrClientFactory(writeClientFactory, readClientFactory));
+	}
+
 	public SolrTemplate(SolrClientFactory solrClientFactory, RequestMethod requestMethod) {
 		this(solrClientFactory, null, requestMethod);
 	}
@@ -160,11 +202,44 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 	 */
 	@Override
 	public <T> T execute(SolrCallback<T> action) {
+		return doExecute(null, action, false);
+	}
+
+	private <T> T execute(@Nullable String collection, SolrCallback<T> action) {
+		return doExecute(collection, action, false);
+	}
+
+	/**
+	 * Execute the given read only {@link SolrCallback} using {@link SolrClientFactory#getReadSolrClient()}, hedging the
+	 * request if a {@link HedgingPolicy} is set.
+	 */
+	private <T> T executeRead(@Nullable String collection, SolrCallback<T> action) {
+		return doExecute(collection, action, true);
+	}
+
+	private <T> T doExecute(@Nullable String collection, SolrCallback<T> action, boolean readOnly) {
+
 		Assert.notNull(action, "SolrCallback must not be null");
 
 		try {
-			SolrClient solrClient = this.getSolrClient();
-			return action.doInSolr(solrClient);
+			SolrClient solrClient = readOnly ? this.getReadSolrClient() : this.getSolrClient();
+
+			CollectionRequestGuard guard = getRequestGuard(collection, readOnly);
+			if (guard == null) {
+				return doExecuteWithClient(solrClient, action, readOnly);
+			}
+
+			CollectionRequestGuard.Permit permit = guard.acquire();
+			long start = System.nanoTime();
+			boolean failed = false;
+			try {
+				return doExecuteWithClient(solrClient, action, readOnly);
+			} catch (Exception | Error e) {
+				failed = CollectionRequestGuard.isServerFailure(e);
+				throw e;
+			} finally {
+				guard.release(permit, System.nanoTime() - start, failed);
+			}
 		} catch (Exception e) {
 			DataAccessException resolved = getExceptionTranslator().translateExceptionIfPossible(
 					e instanceof RuntimeException ? (RuntimeException) e : new RuntimeException(e.getMessage(), e));
@@ -172,6 +247,29 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 		}
 	}
 
+	private <T> T doExecuteWithClient(SolrClient solrClient, SolrCallback<T> action, boolean readOnly) throws Exception {
+
+		HedgedRequestExecutor hedgedRequestExecutor = this.hedgedRequestExecutor;
+		if (readOnly && hedgedRequestExecutor != null) {
+			return hedgedRequestExecutor.execute(() -> action.doInSolr(solrClient));
+		}
+		return action.doInSolr(solrClient);
+	}
+
+	/**
+	 * Reads and updates are guarded separately, so that slow or failing updates do not limit queries and vice versa.
+	 */
+	@Nullable
+	private CollectionRequestGuard getRequestGuard(@Nullable String collection, boolean readOnly) {
+
+		ResiliencePolicy resiliencePolicy = this.resiliencePolicy;
+		if (resiliencePolicy == null) {
+			return null;
+		}
+		return (readOnly ? readRequestGuards : writeRequestGuards).computeIfAbsent(collection != null ? collection : "",
+				key -> new CollectionRequestGuard(collection, resiliencePolicy));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.solr.core.SolrOperations#ping()
@@ -187,7 +285,7 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 	 */
 	@Override
 	public SolrPingResponse ping(String collection) {
-		return execute(client -> new SolrPing().process(client, collection));
+		return execute(collection, client -> new SolrPing().process(client, collection));
 	}
 
 	@Override
@@ -202,15 +300,12 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 		Assert.notNull(query, "Query must not be 'null'");
 		Assert.notNull(method, "Method must not be 'null'");
 
-		return execute(solrClient -> {
-
-			SolrQuery solrQuery = constructQuery(query, domainType);
-			solrQuery.clearSorts();
-			solrQuery.setStart(0);
-			solrQuery.setRows(0);
+		SolrQuery solrQuery = constructQuery(query, domainType);
+		solrQuery.clearSorts();
+		solrQuery.setStart(0);
+		solrQuery.setRows(0);
 
-			return solrClient.query(collection, solrQuery, getSolrRequestMethod(method)).getResults().getNumFound();
-		});
+		return executeSolrQuery(collection, solrQuery, getSolrRequestMethod(method)).getResults().getNumFound();
 	}
 
 	@Override
@@ -218,25 +313,27 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 
 		assertNoCollection(obj);
 
-		return execute(solrClient -> solrClient.add(collection, convertBeanToSolrInputDocument(obj),
+		return execute(collection, solrClient -> solrClient.add(collection, convertBeanToSolrInputDocument(obj),
 				getCommitWithinTimeout(commitWithin)));
 	}
 
 	@Override
 	public UpdateResponse saveBeans(String collection, Collection<?> beans, Duration commitWithin) {
-		return execute(solrClient -> solrClient.add(collection, convertBeansToSolrInputDocuments(beans),
+		return execute(collection, solrClient -> solrClient.add(collection, convertBeansToSolrInputDocuments(beans),
 				getCommitWithinTimeout(commitWithin)));
 	}
 
 	@Override
 	public UpdateResponse saveDocument(String collection, SolrInputDocument document, Duration commitWithin) {
-		return execute(solrClient -> solrClient.add(collection, document, getCommitWithinTimeout(commitWithin)));
+		return execute(collection,
+				solrClient -> solrClient.add(collection, document, getCommitWithinTimeout(commitWithin)));
 	}
 
 	@Override
 	public UpdateResponse saveDocuments(String collection, Collection<SolrInputDocument> documents,
 			Duration commitWithin) {
-		return execute(solrClient -> solrClient.add(collection, documents, getCommitWithinTimeout(commitWithin)));
+		return execute(collection,
+				solrClient -> solrClient.add(collection, documents, getCommitWithinTimeout(commitWithin)));
 	}
 
 	@Override
@@ -246,7 +343,7 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 
 		final String queryString = this.queryParsers.getForClass(query.getClass()).getQueryString(query, domainType);
 
-		return execute(solrClient -> solrClient.deleteByQuery(collection, queryString));
+		return execute(collection, solrClient -> solrClient.deleteByQuery(collection, queryString));
 	}
 
 	@Override
@@ -254,7 +351,7 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 
 		Assert.notNull(id, "Cannot delete 'null' id");
 
-		return execute(solrClient -> solrClient.deleteById(collection, id));
+		return execute(collection, solrClient -> solrClient.deleteById(collection, id));
 	}
 
 	@Override
@@ -262,7 +359,8 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 
 		Assert.notNull(ids, "Cannot delete 'null' collection");
 
-		return execute(solrClient -> solrClient.deleteById(collection, ids.stream().collect(Collectors.toList())));
+		return execute(collection,
+				solrClient -> solrClient.deleteById(collection, ids.stream().collect(Collectors.toList())));
 	}
 
 	@Override
@@ -293,6 +391,26 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 		return Optional.empty();
 	}
 
+	@Override
+	public <T> Optional<T> queryForObject(String collection, Query query, Class<?> domainType, Class<T> resultType) {
+
+		Assert.notNull(collection, "Collection must not be null");
+		Assert.notNull(query, "Query must not be 'null'");
+		Assert.notNull(domainType, "Domain type must not be 'null'");
+		Assert.notNull(resultType, "Result type must not be 'null'");
+
+		query.setPageRequest(PageRequest.of(0, 1));
+		QueryResponse response = querySolr(collection, query, domainType, getDefaultRequestMethod());
+
+		if (response.getResults().size() > 0) {
+			if (response.getResults().size() > 1) {
+				LOGGER.warn("More than 1 result found for singe result query ('{}'), returning first entry in list", query);
+			}
+			return Optional.ofNullable(convertSolrDocumentListToBeans(response.getResults(), domainType, resultType).get(0));
+		}
+		return Optional.empty();
+	}
+
 	private <T> SolrResultPage<T> doQueryForPage(String collection, Query query, Class<T> clazz,
 			@Nullable RequestMethod requestMethod) {
 
@@ -341,6 +459,27 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 		return doQueryForPage(collection, query, clazz, method);
 	}
 
+	@Override
+	public <T> ScoredPage<T> queryForPage(String collection, Query query, Class<?> domainType, Class<T> resultType) {
+		return queryForPage(collection, query, domainType, resultType, getDefaultRequestMethod());
+	}
+
+	@Override
+	public <T> ScoredPage<T> queryForPage(String collection, Query query, Class<?> domainType, Class<T> resultType,
+			RequestMethod method) {
+
+		Assert.notNull(collection, "Collection must not be null");
+		Assert.notNull(query, "Query must not be 'null'");
+		Assert.notNull(domainType, "Domain type must not be 'null'");
+		Assert.notNull(resultType, "Result type must not be 'null'");
+		Assert.notNull(method, "Method class must not be 'null'");
+
+		NamedObjectsQuery namedObjectsQuery = new NamedObjectsQuery(query);
+		QueryResponse response = querySolr(collection, namedObjectsQuery, domainType, method);
+
+		return createSolrResultPage(query, domainType, resultType, response, namedObjectsQuery.getNamesAssociation());
+	}
+
 	@Override
 	public <T> GroupPage<T> queryForGroupPage(String collection, Query query, Class<T> clazz) {
 		return queryForGroupPage(collection, query, clazz, getDefaultRequestMethod());
@@ -434,7 +573,21 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 	private <T> SolrResultPage<T> createSolrResultPage(Query query, Class<T> clazz, QueryResponse response,
 			Map<String, Object> objectsName) {
 
-		List<T> beans = convertQueryResponseToBeans(response, clazz);
+		return createSolrResultPage(query, clazz, response, convertQueryResponseToBeans(response, clazz),
+				ResultHelper.convertGroupQueryResponseToGroupResultMap(query, objectsName, response, this, clazz));
+	}
+
+	private <T> SolrResultPage<T> createSolrResultPage(Query query, Class<?> domainType, Class<T> resultType,
+			QueryResponse response, Map<String, Object> objectsName) {
+
+		return createSolrResultPage(query, domainType, response,
+				convertSolrDocumentListToBeans(response.getResults(), domainType, resultType), ResultHelper
+						.convertGroupQueryResponseToGroupResultMap(query, objectsName, response, this, domainType, resultType));
+	}
+
+	private <T> SolrResultPage<T> createSolrResultPage(Query query, @Nullable Class<?> domainType,
+			QueryResponse response, List<T> beans, Map<Object, GroupResult<T>> groupResults) {
+
 		SolrDocumentList results = response.getResults();
 		long numFound = results == null ? 0 : results.getNumFound();
 		Float maxScore = results == null ? null : results.getMaxScore();
@@ -444,11 +597,11 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 		SolrResultPage<T> page = new SolrResultPage<>(beans, pageRequest, numFound, maxScore);
 
 		page.setFieldStatsResults(ResultHelper.convertFieldStatsInfoToFieldStatsResultMap(response.getFieldStatsInfo()));
-		page.setGroupResults(
-				ResultHelper.convertGroupQueryResponseToGroupResultMap(query, objectsName, response, this, clazz));
+		page.setGroupResults(groupResults);
 
 		if (query instanceof HighlightQuery) {
-			ResultHelper.convertAndAddHighlightQueryResponseToResultPage(response, page);
+			ResultHelper.convertAndAddHighlightQueryResponseToResultPage(response, page,
+					ResultHelper.idResolver(mappingContext, domainType));
 		}
 
 		if (query instanceof FacetQuery) {
@@ -516,7 +669,56 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 
 	final QueryResponse executeSolrQuery(String collection, final SolrQuery solrQuery, final SolrRequest.METHOD method) {
 
-		return execute(solrServer -> solrServer.query(collection, solrQuery, method));
+		if (readShardsPreference != null && solrQuery.get(ShardParams.SHARDS_PREFERENCE) == null) {
+			solrQuery.set(ShardParams.SHARDS_PREFERENCE, readShardsPreference);
+		}
+
+		SolrRequest.METHOD methodToUse = resolveRequestMethod(solrQuery, method);
+		return executeRead(collection, solrServer -> solrServer.query(collection, solrQuery, methodToUse));
+	}
+
+	/**
+	 * Switch from {@link SolrRequest.METHOD#GET} to {@link SolrRequest.METHOD#POST} in case the encoded parameters
+	 * exceed {@link #getMaxGetRequestLength()}.
+	 */
+	private SolrRequest.METHOD resolveRequestMethod(SolrParams params, SolrRequest.METHOD method) {
+
+		if (method != SolrRequest.METHOD.GET || maxGetRequestLength <= 0) {
+			return method;
+		}
+
+		if (exceedsMaxGetRequestLength(params)) {
+
+			LOGGER.debug("Query parameters exceed {} characters. Using POST instead of GET.", maxGetRequestLength);
+			return SolrRequest.METHOD.POST;
+		}
+		return method;
+	}
+
+	private boolean exceedsMaxGetRequestLength(SolrParams params) {
+
+		int length = 0;
+		Iterator<String> names = params.getParameterNamesIterator();
+		while (names.hasNext()) {
+
+			String name = names.next();
+			String[] values = params.getParams(name);
+			if (values == null) {
+				continue;
+			}
+			for (String value : values) {
+				length += name.length() + (value != null ? value.length() : 0) + 2;
+			}
+		}
+
+		// url encoding expands a single character to at most 9 (utf-8 multi byte), so only encode when in doubt
+		if (length > maxGetRequestLength) {
+			return true;
+		}
+		if (length * 9 <= maxGetRequestLength) {
+			return false;
+		}
+		return params.toQueryString().length() > maxGetRequestLength;
 	}
 
 	/**
@@ -541,18 +743,18 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 
 	@Override
 	public void commit(String collection) {
-		execute(solrClient -> solrClient.commit(collection));
+		execute(collection, solrClient -> solrClient.commit(collection));
 	}
 
 	@Override
 	public void softCommit(String collection) {
 
-		execute(solrClient -> solrClient.commit(collection, true, true, true));
+		execute(collection, solrClient -> solrClient.commit(collection, true, true, true));
 	}
 
 	@Override
 	public void rollback(String collection) {
-		execute(solrClient -> solrClient.rollback(collection));
+		execute(collection, solrClient -> solrClient.rollback(collection));
 	}
 
 	/*
@@ -580,8 +782,54 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 	}
 
 	public <T> Cursor<T> queryForCursor(String collection, Query query, final Class<T> clazz) {
+		return openCursor(collection, constructQuery(query, clazz), response -> convertQueryResponseToBeans(response, clazz));
+	}
+
+	@Override
+	public ScoredPage<Map<String, Object>> queryForMapPage(String collection, Query query,
+			@Nullable Class<?> domainType) {
+		return queryForMapPage(collection, query, domainType, getDefaultRequestMethod());
+	}
+
+	@Override
+	public ScoredPage<Map<String, Object>> queryForMapPage(String collection, Query query, @Nullable Class<?> domainType,
+			RequestMethod method) {
+
+		Assert.notNull(collection, "Collection must not be null");
+		Assert.notNull(query, "Query must not be 'null'");
+		Assert.notNull(method, "Method must not be 'null'");
+
+		NamedObjectsQuery namedObjectsQuery = new NamedObjectsQuery(query);
+		QueryResponse response = querySolr(collection, namedObjectsQuery, domainType, method);
 
-		return new DelegatingCursor<T>(constructQuery(query, clazz)) {
+		return createSolrResultPage(query, domainType, response, asReadOnlyMaps(response.getResults()),
+				ResultHelper.convertGroupQueryResponseToGroupResultMap(query, namedObjectsQuery.getNamesAssociation(),
+						response, SolrTemplate::asReadOnlyMaps));
+	}
+
+	@Override
+	public Stream<Map<String, Object>> queryForMapStream(String collection, Query query, @Nullable Class<?> domainType) {
+
+		Assert.notNull(collection, "Collection must not be null");
+		Assert.notNull(query, "Query must not be 'null'");
+
+		Cursor<Map<String, Object>> cursor = openCursor(collection, constructQuery(query, domainType),
+				response -> asReadOnlyMaps(response.getResults()));
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED), false)
+				.onClose(() -> {
+					try {
+						cursor.close();
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+	}
+
+	private <T> Cursor<T> openCursor(String collection, SolrQuery solrQuery,
+			Function<QueryResponse, List<T>> resultReader) {
+
+		return new DelegatingCursor<T>(solrQuery) {
 
 			@Override
 			protected org.springframework.data.solr.core.query.result.DelegatingCursor.PartialResult<T> doLoad(
@@ -593,12 +841,31 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 					return new PartialResult<>("", Collections.<T> emptyList());
 				}
 
-				return new PartialResult<>(response.getNextCursorMark(), convertQueryResponseToBeans(response, clazz));
+				return new PartialResult<>(response.getNextCursorMark(), resultReader.apply(response));
 			}
 
 		}.open();
 	}
 
+	/**
+	 * Expose the given documents as read-only {@link Map maps} of field name to value without copying them.
+	 *
+	 * @param documents can be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	private static List<Map<String, Object>> asReadOnlyMaps(@Nullable SolrDocumentList documents) {
+
+		if (documents == null) {
+			return Collections.emptyList();
+		}
+
+		List<Map<String, Object>> result = new ArrayList<>(documents.size());
+		for (SolrDocument document : documents) {
+			result.add(Collections.unmodifiableMap(document));
+		}
+		return result;
+	}
+
 	@Override
 	public <T> Collection<T> getByIds(String collection, final Collection<?> ids, final Class<T> clazz) {
 
@@ -606,8 +873,16 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 			return Collections.emptyList();
 		}
 
-		return execute(solrClient -> convertSolrDocumentListToBeans(
-				solrClient.getById(collection, ids.stream().map(Object::toString).collect(Collectors.toList())), clazz));
+		List<String> idList = ids.stream().map(Object::toString).collect(Collectors.toList());
+		if (readShardsPreference == null) {
+			return executeRead(collection,
+					solrClient -> convertSolrDocumentListToBeans(solrClient.getById(collection, idList), clazz));
+		}
+
+		ModifiableSolrParams params = new ModifiableSolrParams();
+		params.set(ShardParams.SHARDS_PREFERENCE, readShardsPreference);
+		return executeRead(collection,
+				solrClient -> convertSolrDocumentListToBeans(solrClient.getById(collection, idList, params), clazz));
 	}
 
 	public <T> Optional<T> getById(String collection, Object id, Class<T> clazz) {
@@ -655,6 +930,30 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 		return getConverter().read(documents, targetClass);
 	}
 
+	/**
+	 * Convert given {@link SolrDocumentList} into instances of {@code resultType} using the {@code domainType} for field
+	 * name mapping.
+	 *
+	 * @param documents can be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @param resultType must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 5.0
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> List<T> convertSolrDocumentListToBeans(@Nullable SolrDocumentList documents, Class<?> domainType,
+			Class<T> resultType) {
+
+		if (resultType.isAssignableFrom(domainType)) {
+			return (List<T>) (List<?>) convertSolrDocumentListToBeans(documents, domainType);
+		}
+
+		if (documents == null) {
+			return Collections.<T> emptyList();
+		}
+		return getConverter().read(documents, domainType, resultType);
+	}
+
 	public <T> T convertSolrDocumentToBean(SolrDocument document, Class<T> targetClass) {
 		return getConverter().read(targetClass, document);
 	}
@@ -680,6 +979,15 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 		return solrClientFactory.getSolrClient();
 	}
 
+	/**
+	 * @return the {@link SolrClient} used for queries, real time get and cursors.
+	 * @since 5.0
+	 * @see SolrClientFactory#getReadSolrClient()
+	 */
+	public final SolrClient getReadSolrClient() {
+		return solrClientFactory.getReadSolrClient();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.solr.core.SolrOperations#getConverter()
@@ -730,6 +1038,19 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 		registerPersistenceExceptionTranslator();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+
+		HedgedRequestExecutor hedgedRequestExecutor = this.hedgedRequestExecutor;
+		if (hedgedRequestExecutor != null) {
+			hedgedRequestExecutor.shutdown();
+		}
+	}
+
 	private void registerPersistenceExceptionTranslator() {
 		if (this.applicationContext != null
 				&& this.applicationContext.getBeansOfType(PersistenceExceptionTranslator.class).isEmpty()) {
@@ -805,4 +1126,94 @@ public class SolrTemplate implements SolrOperations, InitializingBean, Applicati
 	public RequestMethod getDefaultRequestMethod() {
 		return defaultRequestMethod;
 	}
+
+	/**
+	 * Set the maximum length of the encoded query parameters sent via {@link RequestMethod#GET}. Queries exceeding the
+	 * limit are sent via {@link RequestMethod#POST}. A value less or equal to zero disables the fallback.
+	 *
+	 * @param maxGetRequestLength
+	 * @since 5.0
+	 */
+	public void setMaxGetRequestLength(int maxGetRequestLength) {
+		this.maxGetRequestLength = maxGetRequestLength;
+	}
+
+	/**
+	 * @return the maximum length of the encoded query parameters sent via {@link RequestMethod#GET}.
+	 * @since 5.0
+	 */
+	public int getMaxGetRequestLength() {
+		return maxGetRequestLength;
+	}
+
+	/**
+	 * Set the {@code shards.preference} applied to queries, real time get and cursors that do not define one
+	 * themselves, eg. {@literal replica.type:PULL,replica.type:TLOG} to keep reads away from {@literal NRT} leaders
+	 * when using SolrCloud. Updates are not affected.
+	 *
+	 * @param readShardsPreference can be {@literal null} to not set a preference.
+	 * @since 5.0
+	 */
+	public void setReadShardsPreference(@Nullable String readShardsPreference) {
+		this.readShardsPreference = StringUtils.hasText(readShardsPreference) ? readShardsPreference : null;
+	}
+
+	/**
+	 * @return {@literal null} if not set.
+	 * @since 5.0
+	 */
+	@Nullable
+	public String getReadShardsPreference() {
+		return readShardsPreference;
+	}
+
+	/**
+	 * Set the {@link ResiliencePolicy} limiting concurrent requests and breaking the circuit per collection.
+	 *
+	 * @param resiliencePolicy can be {@literal null} to not guard requests.
+	 * @since 5.0
+	 */
+	public void setResiliencePolicy(@Nullable ResiliencePolicy resiliencePolicy) {
+
+		this.resiliencePolicy = resiliencePolicy;
+		this.readRequestGuards.clear();
+		this.writeRequestGuards.clear();
+	}
+
+	/**
+	 * @return {@literal null} if requests are not guarded.
+	 * @since 5.0
+	 */
+	@Nullable
+	public ResiliencePolicy getResiliencePolicy() {
+		return resiliencePolicy;
+	}
+
+	/**
+	 * Set the {@link HedgingPolicy} applied to queries, real time get and cursors. Updates are never hedged. Threads
+	 * running duplicate requests of a previously set policy are released.
+	 *
+	 * @param hedgingPolicy can be {@literal null} to disable hedging.
+	 * @since 5.0
+	 */
+	public void setHedgingPolicy(@Nullable HedgingPolicy hedgingPolicy) {
+
+		HedgedRequestExecutor previous = this.hedgedRequestExecutor;
+
+		this.hedgingPolicy = hedgingPolicy;
+		this.hedgedRequestExecutor = hedgingPolicy != null ? new HedgedRequestExecutor(hedgingPolicy) : null;
+
+		if (previous != null) {
+			previous.shutdown();
+		}
+	}
+
+	/**
+	 * @return {@literal null} if read requests are not hedged.
+	 * @since 5.0
+	 */
+	@Nullable
+	public HedgingPolicy getHedgingPolicy() {
+		return hedgingPolicy;
+	}
 }
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.solr.core.convert;
 
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.Date;
 
 import org.apache.solr.client.solrj.util.ClientUtils;
@@ -27,6 +29,7 @@ import org.joda.time.format.ISODateTimeFormat;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.convert.ReadingConverter;
 import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.solr.VersionUtil;
 import org.springframework.util.Assert;
 
 /**
@@ -41,12 +44,24 @@ import org.springframework.util.Assert;
  * 2012-08-23T06:10:00.000Z
  * </pre>
  *
+ * Formatting and parsing of UTC timestamps is done without intermediate objects for years {@literal 0000} to
+ * {@literal 9999}. Values outside that range are handed over to the Joda / {@literal java.time} formatters.
+ *
  * @author Christoph Strobl
  */
 public final class DateTimeConverters {
 
-	private static final DateTimeFormatter FORMATTER = ISODateTimeFormat.dateTime().withZoneUTC();
-	private static final DateTimeFormatter FORMATTER_WITHOUT_MILLIS = ISODateTimeFormat.dateTimeNoMillis().withZoneUTC();
+	private static final long MILLIS_PER_DAY = 86_400_000L;
+	private static final int DAYS_0000_TO_1970 = 719_468;
+	private static final int DAYS_PER_CYCLE = 146_097;
+
+	/** Length of {@literal yyyy\-MM\-ddTHH\:mm\:ss.SSSZ} */
+	private static final int ESCAPED_LENGTH = 28;
+
+	private static final java.time.format.DateTimeFormatter JAVA_TIME_FORMATTER = java.time.format.DateTimeFormatter
+			.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSS'Z'").withZone(ZoneOffset.UTC);
+
+	private DateTimeConverters() {}
 
 	/**
 	 * Converter used to parse {@link DateTime} to {@link String} used for setting
@@ -63,7 +78,7 @@ public final class DateTimeConverters {
 
 			Assert.notNull(source, "Source must not be null");
 
-			return (ClientUtils.escapeQueryChars(FORMATTER.print(source.getMillis())));
+			return formatEscaped(source.getMillis());
 		}
 
 	}
@@ -77,7 +92,12 @@ public final class DateTimeConverters {
 
 			Assert.notNull(source, "Source must not be null");
 
-			return DateTime.parse(source, FORMATTER_WITHOUT_MILLIS);
+			long millis = parseUtcMillis(source);
+			if (millis != Long.MIN_VALUE) {
+				return new DateTime(millis, DateTimeZone.UTC);
+			}
+
+			return DateTime.parse(source, JodaFormatters.FORMATTER_WITHOUT_MILLIS);
 		}
 	}
 
@@ -134,7 +154,7 @@ public final class DateTimeConverters {
 
 			Assert.notNull(source, "Source must not be null");
 
-			return ClientUtils.escapeQueryChars(FORMATTER.print(source.toDateTime(DateTimeZone.UTC).getMillis()));
+			return formatEscaped(source.toDateTime(DateTimeZone.UTC).getMillis());
 		}
 
 	}
@@ -194,9 +214,213 @@ public final class DateTimeConverters {
 
 			Assert.notNull(source, "Source must not be null");
 
-			return ClientUtils.escapeQueryChars(FORMATTER.print(source.getTime()));
+			return formatEscaped(source.getTime());
+		}
+
+	}
+
+	/**
+	 * Converter used to parse {@link Instant} to {@link String} used for setting
+	 * {@link org.apache.solr.client.solrj.SolrQuery} query string values
+	 *
+	 * @since 5.0
+	 */
+	@WritingConverter
+	public enum JavaInstantConverter implements Converter<Instant, String> {
+		INSTANCE;
+
+		@Override
+		public String convert(Instant source) {
+
+			Assert.notNull(source, "Source must not be null");
+
+			return formatEscaped(source.toEpochMilli());
+		}
+
+	}
+
+	/**
+	 * Converter used to parse {@link java.time.LocalDateTime} (interpreted as UTC) to {@link String} used for setting
+	 * {@link org.apache.solr.client.solrj.SolrQuery} query string values
+	 *
+	 * @since 5.0
+	 */
+	@WritingConverter
+	public enum JavaLocalDateTimeConverter implements Converter<java.time.LocalDateTime, String> {
+		INSTANCE;
+
+		@Override
+		public String convert(java.time.LocalDateTime source) {
+
+			Assert.notNull(source, "Source must not be null");
+
+			return formatEscaped(source.toInstant(ZoneOffset.UTC).toEpochMilli());
+		}
+
+	}
+
+	/**
+	 * Format the given epoch milliseconds as UTC timestamp with query characters already escaped, so that the result
+	 * equals {@code ClientUtils.escapeQueryChars("2012-08-23T06:10:00.000Z")}.
+	 *
+	 * @param epochMillis
+	 * @return never {@literal null}.
+	 * @since 5.0
+	 */
+	static String formatEscaped(long epochMillis) {
+
+		long epochDay = Math.floorDiv(epochMillis, MILLIS_PER_DAY);
+		int millisOfDay = (int) Math.floorMod(epochMillis, MILLIS_PER_DAY);
+
+		// civil from days, see http://howardhinnant.github.io/date_algorithms.html
+		long z = epochDay + DAYS_0000_TO_1970;
+		long era = Math.floorDiv(z, DAYS_PER_CYCLE);
+		int dayOfEra = (int) (z - era * DAYS_PER_CYCLE);
+		int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+		int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		int mp = (5 * dayOfYear + 2) / 153;
+		int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+		int month = mp < 10 ? mp + 3 : mp - 9;
+		long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+		if (year < 0 || year > 9999) {
+			return formatEscapedFallback(epochMillis);
+		}
+
+		char[] buffer = new char[ESCAPED_LENGTH];
+
+		writeDigits(buffer, 0, (int) year, 4);
+		buffer[4] = '\\';
+		buffer[5] = '-';
+		writeDigits(buffer, 6, month, 2);
+		buffer[8] = '\\';
+		buffer[9] = '-';
+		writeDigits(buffer, 10, day, 2);
+		buffer[12] = 'T';
+		writeDigits(buffer, 13, millisOfDay / 3_600_000, 2);
+		buffer[15] = '\\';
+		buffer[16] = ':';
+		writeDigits(buffer, 17, (millisOfDay / 60_000) % 60, 2);
+		buffer[19] = '\\';
+		buffer[20] = ':';
+		writeDigits(buffer, 21, (millisOfDay / 1000) % 60, 2);
+		buffer[23] = '.';
+		writeDigits(buffer, 24, millisOfDay % 1000, 3);
+		buffer[27] = 'Z';
+
+		return new String(buffer);
+	}
+
+	/**
+	 * Parse ISO-8601 UTC timestamps in the form of {@literal yyyy-MM-ddTHH:mm:ss[.fraction]Z}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return the epoch milliseconds or {@link Long#MIN_VALUE} if the source does not match the expected format.
+	 * @since 5.0
+	 */
+	static long parseUtcMillis(String source) {
+
+		int length = source.length();
+		if (length < 20 || source.charAt(length - 1) != 'Z' || source.charAt(4) != '-' || source.charAt(7) != '-'
+				|| source.charAt(10) != 'T' || source.charAt(13) != ':' || source.charAt(16) != ':') {
+			return Long.MIN_VALUE;
+		}
+
+		int year = readDigits(source, 0, 4);
+		int month = readDigits(source, 5, 2);
+		int day = readDigits(source, 8, 2);
+		int hour = readDigits(source, 11, 2);
+		int minute = readDigits(source, 14, 2);
+		int second = readDigits(source, 17, 2);
+
+		if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month) || hour < 0 || hour > 23
+				|| minute < 0 || minute > 59 || second < 0 || second > 59) {
+			return Long.MIN_VALUE;
+		}
+
+		int millis = 0;
+		if (length > 20) {
+
+			if (source.charAt(19) != '.' || length == 21) {
+				return Long.MIN_VALUE;
+			}
+
+			int scale = 100;
+			for (int i = 20; i < length - 1; i++) {
+
+				int digit = source.charAt(i) - '0';
+				if (digit < 0 || digit > 9) {
+					return Long.MIN_VALUE;
+				}
+				millis += digit * scale;
+				scale /= 10;
+			}
+		}
+
+		// days from civil, see http://howardhinnant.github.io/date_algorithms.html
+		int y = month <= 2 ? year - 1 : year;
+		int era = Math.floorDiv(y, 400);
+		int yearOfEra = y - era * 400;
+		int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+		int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+		long epochDay = (long) era * DAYS_PER_CYCLE + dayOfEra - DAYS_0000_TO_1970;
+
+		return epochDay * MILLIS_PER_DAY + hour * 3_600_000L + minute * 60_000L + second * 1000L + millis;
+	}
+
+	private static String formatEscapedFallback(long epochMillis) {
+
+		if (VersionUtil.isJodaTimeAvailable()) {
+			return ClientUtils.escapeQueryChars(JodaFormatters.FORMATTER.print(epochMillis));
+		}
+		return ClientUtils.escapeQueryChars(JAVA_TIME_FORMATTER.format(Instant.ofEpochMilli(epochMillis)));
+	}
+
+	private static void writeDigits(char[] buffer, int offset, int value, int digits) {
+
+		for (int i = offset + digits - 1; i >= offset; i--) {
+			buffer[i] = (char) ('0' + value % 10);
+			value /= 10;
+		}
+	}
+
+	private static int readDigits(String source, int offset, int digits) {
+
+		int value = 0;
+		for (int i = offset; i < offset + digits; i++) {
+
+			int digit = source.charAt(i) - '0';
+			if (digit < 0 || digit > 9) {
+				return -1;
+			}
+			value = value * 10 + digit;
+		}
+		return value;
+	}
+
+	private static int lengthOfMonth(int year, int month) {
+
+		switch (month) {
+			case 2:
+				return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+			case 4:
+			case 6:
+			case 9:
+			case 11:
+				return 30;
+			default:
+				return 31;
 		}
+	}
+
+	/**
+	 * Holder for Joda formatters so they are only initialized when Joda is actually used.
+	 */
+	private static class JodaFormatters {
 
+		private static final DateTimeFormatter FORMATTER = ISODateTimeFormat.dateTime().withZoneUTC();
+		private static final DateTimeFormatter FORMATTER_WITHOUT_MILLIS = ISODateTimeFormat.dateTimeNoMillis()
+				.withZoneUTC();
 	}
 
 }
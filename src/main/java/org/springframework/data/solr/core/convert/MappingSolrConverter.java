@@ -15,6 +15,7 @@
  */
 package org.springframework.data.solr.core.convert;
 
+import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -22,6 +23,7 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.solr.common.SolrDocument;
@@ -29,6 +31,7 @@ import org.apache.solr.common.SolrDocumentBase;
 import org.apache.solr.common.SolrDocumentList;
 import org.apache.solr.common.SolrInputDocument;
 import org.apache.solr.common.SolrInputField;
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.ApplicationContext;
@@ -37,12 +40,15 @@ import org.springframework.core.CollectionFactory;
 import org.springframework.data.mapping.model.EntityInstantiator;
 import org.springframework.data.mapping.model.EntityInstantiators;
 import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.Parameter;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PreferredConstructor;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
 import org.springframework.data.mapping.model.ParameterValueProvider;
 import org.springframework.data.mapping.model.PersistentEntityParameterValueProvider;
+import org.springframework.data.mapping.model.PreferredConstructorDiscoverer;
 import org.springframework.data.mapping.model.PropertyValueProvider;
 import org.springframework.data.solr.core.mapping.SolrPersistentEntity;
 import org.springframework.data.solr.core.mapping.SolrPersistentProperty;
@@ -65,6 +71,8 @@ import org.springframework.util.CollectionUtils;
 public class MappingSolrConverter extends SolrConverterBase
 		implements SolrConverter, ApplicationContextAware, InitializingBean {
 
+	private static final char COMPOSITE_ID_SEPARATOR = '!';
+
 	private enum WildcardPosition {
 
 		LEADING {
@@ -126,6 +134,7 @@ public class MappingSolrConverter extends SolrConverterBase
 
 	private final MappingContext<? extends SolrPersistentEntity<?>, SolrPersistentProperty> mappingContext;
 	private final EntityInstantiators instantiators = new EntityInstantiators();
+	private final Map<Class<?>, Map<Class<?>, DtoInstantiator<?>>> dtoInstantiators = new ConcurrentHashMap<>();
 
 	@SuppressWarnings("unused") //
 	private @Nullable ApplicationContext applicationContext;
@@ -162,6 +171,55 @@ public class MappingSolrConverter extends SolrConverterBase
 		return read(ClassTypeInformation.from(type), source);
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public <R> List<R> read(@Nullable SolrDocumentList source, Class<?> domainType, Class<R> resultType) {
+
+		if (source == null) {
+			return Collections.emptyList();
+		}
+
+		if (resultType.isAssignableFrom(domainType)) {
+			return (List<R>) (List<?>) read(source, domainType);
+		}
+
+		DtoInstantiator<R> instantiator = getDtoInstantiator(domainType, resultType);
+
+		List<R> resultList = new ArrayList<>(source.size());
+		for (SolrDocumentBase item : source) {
+			resultList.add(instantiator.createInstance(item));
+		}
+
+		return resultList;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <R> R read(Class<?> domainType, Class<R> resultType, SolrDocumentBase source) {
+
+		if (resultType.isAssignableFrom(domainType)) {
+			return (R) read(domainType, source);
+		}
+
+		return getDtoInstantiator(domainType, resultType).createInstance(source);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <R> DtoInstantiator<R> getDtoInstantiator(Class<?> domainType, Class<R> resultType) {
+
+		Map<Class<?>, DtoInstantiator<?>> instantiatorsForDomainType = dtoInstantiators.computeIfAbsent(domainType,
+				key -> new ConcurrentHashMap<>());
+
+		DtoInstantiator<?> instantiator = instantiatorsForDomainType.get(resultType);
+		if (instantiator == null) {
+
+			instantiator = new DtoInstantiator<>(mappingContext.getRequiredPersistentEntity(domainType), resultType);
+			instantiatorsForDomainType.put(resultType, instantiator);
+		}
+
+		return (DtoInstantiator<R>) instantiator;
+	}
+
 	@SuppressWarnings("unchecked")
 	@Nullable
 	protected <S> S read(TypeInformation<S> targetTypeInformation, @Nullable SolrDocumentBase source) {
@@ -286,6 +344,7 @@ public class MappingSolrConverter extends SolrConverterBase
 
 		final PersistentPropertyAccessor accessor = new ConvertingPropertyAccessor(entity.getPropertyAccessor(source),
 				getConversionService());
+		final String routingPrefix = getRoutingPrefix(entity, accessor);
 
 		entity.doWithProperties((PropertyHandler<SolrPersistentProperty>) persistentProperty -> {
 
@@ -294,6 +353,11 @@ public class MappingSolrConverter extends SolrConverterBase
 				return;
 			}
 
+			if (routingPrefix != null && persistentProperty.isIdProperty()
+					&& value.toString().indexOf(COMPOSITE_ID_SEPARATOR) == -1) {
+				value = routingPrefix + value;
+			}
+
 			if (persistentProperty.containsWildcard() && !persistentProperty.isMap()) {
 				throw new IllegalArgumentException("Field '" + persistentProperty.getFieldName()
 						+ "' must not contain wildcards; Consider excluding Field from beeing indexed");
@@ -325,6 +389,28 @@ public class MappingSolrConverter extends SolrConverterBase
 		});
 	}
 
+	/**
+	 * @return the {@link org.springframework.data.solr.core.mapping.RoutingKey} value followed by
+	 *         {@link #COMPOSITE_ID_SEPARATOR} or {@literal null} if the entity does not define a routing property or its
+	 *         value is not set.
+	 */
+	@Nullable
+	private String getRoutingPrefix(SolrPersistentEntity<?> entity, PersistentPropertyAccessor accessor) {
+
+		SolrPersistentProperty routingProperty = entity.getRoutingProperty();
+		if (routingProperty == null) {
+			return null;
+		}
+
+		Object routingValue = accessor.getProperty(routingProperty);
+		if (routingValue == null) {
+			return null;
+		}
+
+		String routingKey = getConversionService().convert(routingValue, String.class);
+		return StringUtils.isNotBlank(routingKey) ? routingKey + COMPOSITE_ID_SEPARATOR : null;
+	}
+
 	private Collection<SolrInputField> writeWildcardMapPropertyToTarget(SolrDocumentBase target,
 			SolrPersistentProperty persistentProperty, Map<?, ?> fieldValue) {
 
@@ -459,7 +545,32 @@ public class MappingSolrConverter extends SolrConverterBase
 				return (T) readScore(value, property, parent);
 			}
 
-			return readValue(value.get(property.getFieldName()), property.getTypeInformation(), parent);
+			Object fieldValue = value.get(property.getFieldName());
+			if (property.isIdProperty()) {
+				fieldValue = removeRoutingPrefix(property, value, fieldValue);
+			}
+			return readValue(fieldValue, property.getTypeInformation(), parent);
+		}
+
+		/**
+		 * Strip the {@link org.springframework.data.solr.core.mapping.RoutingKey} prepended to the id on write, so that
+		 * the entity id read matches the one written.
+		 */
+		@Nullable
+		private Object removeRoutingPrefix(SolrPersistentProperty idProperty, Map<String, ?> source, @Nullable Object id) {
+
+			if (!(id instanceof String) || !(idProperty.getOwner() instanceof SolrPersistentEntity)) {
+				return id;
+			}
+
+			SolrPersistentProperty routingProperty = ((SolrPersistentEntity<?>) idProperty.getOwner()).getRoutingProperty();
+			Object routingValue = routingProperty != null ? source.get(routingProperty.getFieldName()) : null;
+			if (routingValue == null) {
+				return id;
+			}
+
+			String routingPrefix = getConversionService().convert(routingValue, String.class) + COMPOSITE_ID_SEPARATOR;
+			return ((String) id).startsWith(routingPrefix) ? ((String) id).substring(routingPrefix.length()) : id;
 		}
 
 		@SuppressWarnings("unchecked")
@@ -663,6 +774,139 @@ public class MappingSolrConverter extends SolrConverterBase
 
 	}
 
+	/**
+	 * Creates instances of a DTO or record type directly from a {@link SolrDocumentBase} by passing the mapped field
+	 * values to its preferred constructor. The mapping of constructor arguments to fields (resolved via the domain type)
+	 * is computed once per DTO type.
+	 *
+	 * @since 5.0
+	 */
+	private class DtoInstantiator<R> {
+
+		private final Constructor<R> constructor;
+		private final ConstructorArgument[] arguments;
+
+		DtoInstantiator(SolrPersistentEntity<?> domainEntity, Class<R> resultType) {
+
+			Assert.isTrue(!resultType.isInterface(),
+					() -> String.format("Cannot create instance of interface %s", resultType.getName()));
+
+			PreferredConstructor<R, SolrPersistentProperty> preferredConstructor = PreferredConstructorDiscoverer
+					.discover(resultType);
+
+			if (preferredConstructor == null) {
+				throw new MappingException(String.format("No usable constructor found for type %s", resultType.getName()));
+			}
+
+			List<Parameter<Object, SolrPersistentProperty>> parameters = preferredConstructor.getParameters();
+
+			this.constructor = preferredConstructor.getConstructor();
+			this.arguments = new ConstructorArgument[parameters.size()];
+
+			for (int i = 0; i < parameters.size(); i++) {
+
+				Parameter<Object, SolrPersistentProperty> parameter = parameters.get(i);
+				String name = parameter.getName();
+
+				if (name == null) {
+					throw new MappingException(String.format(
+							"Parameter names of %s are not available; Make sure to compile with the '-parameters' flag",
+							constructor));
+				}
+
+				arguments[i] = new ConstructorArgument(name, parameter.getType(), domainEntity.getPersistentProperty(name));
+			}
+		}
+
+		R createInstance(SolrDocumentBase source) {
+
+			SolrPropertyValueProvider provider = new SolrPropertyValueProvider(source, null);
+
+			Object[] values = new Object[arguments.length];
+			for (int i = 0; i < arguments.length; i++) {
+				values[i] = arguments[i].read(source, provider);
+			}
+
+			return BeanUtils.instantiateClass(constructor, values);
+		}
+	}
+
+	/**
+	 * Constructor argument of a DTO along with the resolved source field.
+	 *
+	 * @since 5.0
+	 */
+	private class ConstructorArgument {
+
+		private final String name;
+		private final String fieldName;
+		private final TypeInformation<?> type;
+		private final @Nullable SolrPersistentProperty domainProperty;
+
+		ConstructorArgument(String name, TypeInformation<?> type, @Nullable SolrPersistentProperty domainProperty) {
+
+			this.name = name;
+			this.type = type;
+			this.domainProperty = domainProperty;
+			this.fieldName = domainProperty != null ? domainProperty.getFieldName() : name;
+		}
+
+		@Nullable
+		Object read(SolrDocumentBase source, SolrPropertyValueProvider provider) {
+
+			Object value;
+
+			if (domainProperty != null && domainProperty.isChildProperty()) {
+				value = readChildDocuments(source);
+			} else if (domainProperty != null && (domainProperty.containsWildcard() || domainProperty.isScoreProperty())) {
+				value = provider.getPropertyValue(domainProperty);
+			} else {
+				value = provider.readValue(source.get(fieldName), type, null);
+			}
+
+			if (value instanceof Collection && !type.isCollectionLike() && !type.isMap()) {
+
+				Collection<?> c = (Collection<?>) value;
+
+				if (c.isEmpty()) {
+					return null;
+				}
+
+				if (c.size() > 1) {
+					throw new MappingException(String.format(
+							"Cannot set multiple values %s read from '%s' to non collection constructor argument '%s'; Please check your mapping / schema defintion",
+							c, fieldName, name));
+				}
+
+				return c.iterator().next();
+			}
+
+			return value;
+		}
+
+		@Nullable
+		private Object readChildDocuments(SolrDocumentBase source) {
+
+			if (!source.hasChildDocuments()) {
+				return null;
+			}
+
+			Class<?> childType = type.getRequiredActualType().getType();
+			List<SolrDocument> childDocuments = source.getChildDocuments();
+			List<Object> children = new ArrayList<>(childDocuments.size());
+
+			for (SolrDocument childDocument : childDocuments) {
+				children.add(MappingSolrConverter.this.read(childType, childDocument));
+			}
+
+			if (type.isCollectionLike() && type.getType().isArray()) {
+				return convertItemsToArrayOfType(type, children);
+			}
+
+			return children;
+		}
+	}
+
 	private Object convertItemsToArrayOfType(TypeInformation<?> type, Collection<Object> items) {
 
 		Object[] newArray = (Object[]) java.lang.reflect.Array.newInstance(type.getActualType().getType(), items.size());
@@ -45,6 +45,34 @@ EntityConverter<SolrPersistentEntity<?>, SolrPersistentProperty, Object, SolrDoc
 	 */
 	<S, R> List<R> read(@Nullable SolrDocumentList source, Class<R> type);
 
+	/**
+	 * Read {@link SolrDocumentList} and convert to {@link List} of given {@code resultType} without creating an
+	 * intermediate instance of the {@code domainType}. Field names are resolved against the {@code domainType} mapping.
+	 *
+	 * @param source
+	 * @param domainType must not be {@literal null}.
+	 * @param resultType must not be {@literal null}.
+	 * @return empty list if {@code source == null || source.isEmpty()}
+	 * @since 5.0
+	 */
+	default <R> List<R> read(@Nullable SolrDocumentList source, Class<?> domainType, Class<R> resultType) {
+		return read(source, resultType);
+	}
+
+	/**
+	 * Read given {@link SolrDocumentBase} into an instance of {@code resultType} without creating an intermediate
+	 * instance of the {@code domainType}. Field names are resolved against the {@code domainType} mapping.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param resultType must not be {@literal null}.
+	 * @param source must not be {@literal null}.
+	 * @return
+	 * @since 5.0
+	 */
+	default <R> R read(Class<?> domainType, Class<R> resultType, SolrDocumentBase source) {
+		return read(resultType, source);
+	}
+
 	/**
 	 * Write values to {@link List} of {@link SolrInputDocument}
 	 *
@@ -19,7 +19,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.solr.common.SolrInputDocument;
 import org.springframework.beans.factory.InitializingBean;
@@ -28,8 +30,13 @@ import org.springframework.core.convert.support.GenericConversionService;
 import org.springframework.data.convert.CustomConversions;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
 
 /**
+ * Base class for {@link SolrConverter} implementations. Resolved conversion decisions (custom read/write targets and
+ * whether a conversion is required at all) are cached per source/target type pair, so that the per value lookups
+ * performed while reading and writing documents do not have to be repeated for every document.
+ *
  * @author Christoph Strobl
  * @author Mark Paluch
  */
@@ -38,6 +45,11 @@ public abstract class SolrConverterBase implements SolrConverter, InitializingBe
 	private final GenericConversionService conversionService = new DefaultConversionService();
 	private CustomConversions customConversions = new SolrCustomConversions(Collections.emptyList());
 
+	private final Map<ConversionKey, Conversion> conversions = new ConcurrentHashMap<>();
+	private final Map<ConversionKey, Boolean> customReadTargets = new ConcurrentHashMap<>();
+	private final Map<ConversionKey, Boolean> customWriteTargetPairs = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Optional<Class<?>>> customWriteTargets = new ConcurrentHashMap<>();
+
 	@Override
 	public Collection<SolrInputDocument> write(@Nullable Iterable<?> source) {
 
@@ -80,7 +92,16 @@ public abstract class SolrConverterBase implements SolrConverter, InitializingBe
 	 * @return true if custom read target defined in {@link #customConversions}
 	 */
 	protected boolean hasCustomReadTarget(Class<?> sourceType, Class<?> targetType) {
-		return this.customConversions.hasCustomReadTarget(sourceType, targetType);
+
+		ConversionKey key = new ConversionKey(sourceType, targetType);
+		Boolean hasCustomReadTarget = customReadTargets.get(key);
+
+		if (hasCustomReadTarget == null) {
+			hasCustomReadTarget = this.customConversions.hasCustomReadTarget(sourceType, targetType);
+			customReadTargets.put(key, hasCustomReadTarget);
+		}
+
+		return hasCustomReadTarget;
 	}
 
 	/**
@@ -88,7 +109,7 @@ public abstract class SolrConverterBase implements SolrConverter, InitializingBe
 	 * @return true if custom write target defined in {@link #customConversions}
 	 */
 	protected boolean hasCustomWriteTarget(Class<?> sourceType) {
-		return this.customConversions.hasCustomWriteTarget(sourceType);
+		return getCustomWriteTargetType(sourceType).isPresent();
 	}
 
 	/**
@@ -97,7 +118,16 @@ public abstract class SolrConverterBase implements SolrConverter, InitializingBe
 	 * @return true if custom write target defined in {@link #customConversions}
 	 */
 	protected boolean hasCustomWriteTarget(Class<?> sourceType, Class<?> targetType) {
-		return this.customConversions.hasCustomWriteTarget(sourceType, targetType);
+
+		ConversionKey key = new ConversionKey(sourceType, targetType);
+		Boolean hasCustomWriteTarget = customWriteTargetPairs.get(key);
+
+		if (hasCustomWriteTarget == null) {
+			hasCustomWriteTarget = this.customConversions.hasCustomWriteTarget(sourceType, targetType);
+			customWriteTargetPairs.put(key, hasCustomWriteTarget);
+		}
+
+		return hasCustomWriteTarget;
 	}
 
 	/**
@@ -115,7 +145,15 @@ public abstract class SolrConverterBase implements SolrConverter, InitializingBe
 	 * @return
 	 */
 	protected Optional<Class<?>> getCustomWriteTargetType(Class<?> type) {
-		return customConversions.getCustomWriteTarget(type);
+
+		Optional<Class<?>> target = customWriteTargets.get(type);
+
+		if (target == null) {
+			target = customConversions.getCustomWriteTarget(type);
+			customWriteTargets.put(type, target);
+		}
+
+		return target;
 	}
 
 	/**
@@ -134,6 +172,7 @@ public abstract class SolrConverterBase implements SolrConverter, InitializingBe
 	 */
 	public void setCustomConversions(@Nullable CustomConversions customConversions) {
 		this.customConversions = customConversions != null ? customConversions : new SolrCustomConversions(Collections.emptyList());
+		clearConversionCache();
 	}
 
 	@Override
@@ -147,24 +186,125 @@ public abstract class SolrConverterBase implements SolrConverter, InitializingBe
 	 * @return true if sourceType can be converted into targetType
 	 */
 	protected boolean canConvert(Class<?> sourceType, Class<?> targetType) {
-		return this.conversionService.canConvert(sourceType, targetType);
+		return getConversion(sourceType, targetType) != Conversion.NONE;
 	}
 
 	/**
-	 * Convert given object into target type
+	 * Convert given object into target type. Values already being of the exact target type are returned as is, unless a
+	 * custom conversion has been registered for the type.
 	 *
 	 * @param source
 	 * @param targetType
 	 * @return
 	 */
 	@Nullable
+	@SuppressWarnings("unchecked")
 	protected <T> T convert(Object source, Class<T> targetType) {
+
+		if (source != null && getConversion(source.getClass(), targetType) == Conversion.IDENTITY) {
+			return (T) source;
+		}
+
 		return this.conversionService.convert(source, targetType);
 	}
 
+	/**
+	 * Drop all cached conversion decisions. Needs to be called when converters are registered with the
+	 * {@link #getConversionService() ConversionService} after the converter has been initialized.
+	 *
+	 * @since 5.0
+	 */
+	protected void clearConversionCache() {
+
+		conversions.clear();
+		customReadTargets.clear();
+		customWriteTargetPairs.clear();
+		customWriteTargets.clear();
+	}
+
+	private Conversion getConversion(Class<?> sourceType, Class<?> targetType) {
+
+		ConversionKey key = new ConversionKey(sourceType, targetType);
+		Conversion conversion = conversions.get(key);
+
+		if (conversion == null) {
+			conversion = resolveConversion(sourceType, targetType);
+			conversions.put(key, conversion);
+		}
+
+		return conversion;
+	}
+
+	private Conversion resolveConversion(Class<?> sourceType, Class<?> targetType) {
+
+		if (!this.conversionService.canConvert(sourceType, targetType)) {
+			return Conversion.NONE;
+		}
+
+		if (sourceType == targetType && !hasCustomReadTarget(sourceType, targetType)
+				&& !hasCustomWriteTarget(sourceType, targetType)) {
+			return Conversion.IDENTITY;
+		}
+
+		return Conversion.CONVERT;
+	}
+
 	@Override
 	public void afterPropertiesSet() {
+
 		registerCustomConverters(this.conversionService);
+		clearConversionCache();
+	}
+
+	/**
+	 * Resolved outcome of a conversion lookup for a given source/target type pair.
+	 */
+	private enum Conversion {
+
+		/** Value can be used as is. */
+		IDENTITY,
+
+		/** Value has to pass the {@link GenericConversionService}. */
+		CONVERT,
+
+		/** There is no converter available. */
+		NONE
+	}
+
+	/**
+	 * Cache key for source/target type pairs.
+	 */
+	private static final class ConversionKey {
+
+		private final Class<?> sourceType;
+		private final Class<?> targetType;
+		private final int hashCode;
+
+		ConversionKey(Class<?> sourceType, Class<?> targetType) {
+
+			this.sourceType = sourceType;
+			this.targetType = targetType;
+			this.hashCode = 31 * ObjectUtils.nullSafeHashCode(sourceType) + ObjectUtils.nullSafeHashCode(targetType);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof ConversionKey)) {
+				return false;
+			}
+
+			ConversionKey that = (ConversionKey) o;
+			return sourceType == that.sourceType && targetType == that.targetType;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
 	}
 
 }
@@ -74,6 +74,16 @@ public @interface Indexed {
 	 */
 	boolean required() default false;
 
+	/**
+	 * Mark the field as used for filtering only. Conjunctive clauses on such fields do not contribute to the score and
+	 * can be moved into separate filter queries.
+	 *
+	 * @return
+	 * @since 5.0
+	 * @see org.springframework.data.solr.core.DefaultQueryParser#setExtractFilterQueries(boolean)
+	 */
+	boolean filter() default false;
+
 	/**
 	 * If not set the fields name or the one defined via {@link Field} will be used.
 	 *
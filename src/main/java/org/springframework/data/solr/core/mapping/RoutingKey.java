@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Defines the annotated field to hold the routing key of a document using the {@literal compositeId} router. The value
+ * is prepended to the id on write, eg. {@literal tenant!docId}, so that all documents sharing a routing key are placed
+ * on the same shard. Queries binding the routing key within their criteria are restricted to that shard via
+ * {@code _route_}. <br />
+ * The composite id is only used for the stored document. Saving does not modify the entity and the routing key is
+ * removed from the id again on read. Operations taking plain ids, like {@code findById} or {@code deleteById}, require
+ * the composite id of the document, whereas operations taking entities, like {@code delete}, compose it on their own.
+ * Ids already containing the {@literal !} separator are written as is.
+ *
+ * @since 5.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface RoutingKey {
+
+}
@@ -133,6 +133,25 @@ public class SimpleSolrPersistentEntity<T> extends BasicPersistentEntity<T, Solr
 		return getPersistentProperty(org.springframework.data.solr.repository.Score.class);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.mapping.SolrPersistentEntity#hasRoutingProperty()
+	 */
+	@Override
+	public boolean hasRoutingProperty() {
+		return getRoutingProperty() != null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.mapping.SolrPersistentEntity#getRoutingProperty()
+	 */
+	@Nullable
+	@Override
+	public SolrPersistentProperty getRoutingProperty() {
+		return getPersistentProperty(RoutingKey.class);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mapping.model.BasicPersistentEntity#verify()
@@ -143,6 +162,7 @@ public class SimpleSolrPersistentEntity<T> extends BasicPersistentEntity<T, Solr
 		super.verify();
 		verifyScoreFieldUniqueness();
 		verifyDynamicPropertyMapping();
+		verifyRoutingPropertyMapping();
 	}
 
 	private void verifyScoreFieldUniqueness() {
@@ -153,6 +173,19 @@ public class SimpleSolrPersistentEntity<T> extends BasicPersistentEntity<T, Solr
 		doWithProperties(DynamicFieldMappingHandler.INSTANCE);
 	}
 
+	private void verifyRoutingPropertyMapping() {
+
+		RoutingPropertyHandler handler = new RoutingPropertyHandler();
+		doWithProperties(handler);
+
+		SolrPersistentProperty idProperty = getIdProperty();
+		if (handler.routingProperty != null && idProperty != null
+				&& !CharSequence.class.isAssignableFrom(idProperty.getType())) {
+			throw new MappingException(String.format(RoutingPropertyHandler.ID_NOT_A_STRING, idProperty.getName(),
+					handler.routingProperty.getName()));
+		}
+	}
+
 	/**
 	 * Handler to inspect {@link SolrPersistentProperty} instances and check that max one can be mapped as {@link Score}
 	 * property.
@@ -187,6 +220,43 @@ public class SimpleSolrPersistentEntity<T> extends BasicPersistentEntity<T, Solr
 		}
 	}
 
+	/**
+	 * Handler to inspect {@link SolrPersistentProperty} instances and check that max one single valued property is
+	 * annotated with {@link RoutingKey}.
+	 *
+	 * @since 5.0
+	 */
+	private static class RoutingPropertyHandler implements PropertyHandler<SolrPersistentProperty> {
+
+		private static final String AMBIGUOUS_ROUTING_MAPPING = "Ambiguous routing key mapping detected; Both %s and %s are annotated with @RoutingKey";
+		private static final String ROUTING_PROPERTY_COLLECTION_LIKE = "Invalid mapping information for property '%s'; @RoutingKey can only be applied on single valued properties";
+		private static final String ID_NOT_A_STRING = "Invalid mapping information for id property '%s'; Composing ids using @RoutingKey property '%s' requires a String id";
+
+		private @Nullable SolrPersistentProperty routingProperty;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mapping.PropertyHandler#doWithPersistentProperty(org.springframework.data.mapping.PersistentProperty)
+		 */
+		public void doWithPersistentProperty(SolrPersistentProperty property) {
+
+			if (!property.isRoutingProperty()) {
+				return;
+			}
+
+			if (property.isCollectionLike() || property.isMap()) {
+				throw new MappingException(String.format(ROUTING_PROPERTY_COLLECTION_LIKE, property.getName()));
+			}
+
+			if (routingProperty != null) {
+				throw new MappingException(
+						String.format(AMBIGUOUS_ROUTING_MAPPING, property.getFieldName(), routingProperty.getFieldName()));
+			}
+
+			routingProperty = property;
+		}
+	}
+
 	/**
 	 * Handler to inspect {@link SolrPersistentProperty} instances and check usage of {@link Dynamic}.
 	 *
@@ -287,4 +287,24 @@ public class SimpleSolrPersistentProperty extends AnnotationBasedPersistentPrope
 
 		return findAnnotation(ChildDocument.class) != null;
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.mapping.SolrPersistentProperty#isFilterProperty()
+	 */
+	@Override
+	public boolean isFilterProperty() {
+
+		Indexed indexedAnnotation = getIndexAnnotation();
+		return indexedAnnotation != null && indexedAnnotation.filter();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.mapping.SolrPersistentProperty#isRoutingProperty()
+	 */
+	@Override
+	public boolean isRoutingProperty() {
+		return findAnnotation(RoutingKey.class) != null;
+	}
 }
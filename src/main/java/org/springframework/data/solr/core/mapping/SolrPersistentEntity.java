@@ -52,6 +52,23 @@ public interface SolrPersistentEntity<T> extends PersistentEntity<T, SolrPersist
 	@Nullable
 	SolrPersistentProperty getScoreProperty();
 
+	/**
+	 * Returns whether the {@link SolrPersistentEntity} has a property annotated with {@link RoutingKey}.
+	 *
+	 * @return false when {@link SolrPersistentEntity} does not define a routing property.
+	 * @since 5.0
+	 */
+	boolean hasRoutingProperty();
+
+	/**
+	 * Returns the {@link RoutingKey} property of the {@link SolrPersistentEntity}.
+	 *
+	 * @return {@literal null} if not defined.
+	 * @since 5.0
+	 */
+	@Nullable
+	SolrPersistentProperty getRoutingProperty();
+
 	@Nullable
 	@Override
 	SolrPersistentProperty getPersistentProperty(String name);
@@ -124,6 +124,18 @@ public interface SolrPersistentProperty extends PersistentProperty<SolrPersisten
 	 */
 	boolean isChildProperty();
 
+	/**
+	 * @return {@literal true} if property is annotated with {@link Indexed#filter()} set to {@literal true}.
+	 * @since 5.0
+	 */
+	boolean isFilterProperty();
+
+	/**
+	 * @return {@literal true} if property is annotated with {@link RoutingKey}.
+	 * @since 5.0
+	 */
+	boolean isRoutingProperty();
+
 	enum PropertyToFieldNameConverter implements Converter<SolrPersistentProperty, String> {
 
 		INSTANCE;
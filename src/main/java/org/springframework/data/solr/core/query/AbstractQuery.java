@@ -29,6 +29,7 @@ class AbstractQuery {
 	private @Nullable Criteria criteria;
 	private @Nullable Join join;
 	private @Nullable String requestHandler;
+	private @Nullable TermsQueryOptions termsQueryOptions;
 
 	AbstractQuery() {}
 
@@ -94,4 +95,23 @@ class AbstractQuery {
 		this.requestHandler = requestHandler;
 	}
 
+	/**
+	 * Set {@link TermsQueryOptions} used for rendering criteria with a large number of values.
+	 *
+	 * @param termsQueryOptions can be {@literal null}.
+	 * @since 5.0
+	 */
+	public void setTermsQueryOptions(@Nullable TermsQueryOptions termsQueryOptions) {
+		this.termsQueryOptions = termsQueryOptions;
+	}
+
+	/**
+	 * @return null if not set
+	 * @since 5.0
+	 */
+	@Nullable
+	public TermsQueryOptions getTermsQueryOptions() {
+		return termsQueryOptions;
+	}
+
 }
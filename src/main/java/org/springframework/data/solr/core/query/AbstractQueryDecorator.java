@@ -220,6 +220,25 @@ public abstract class AbstractQueryDecorator implements Query {
 		return query.getSpellcheckOptions();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.query.SolrDataQuery#setTermsQueryOptions(org.springframework.data.solr.core.query.TermsQueryOptions)
+	 */
+	@Override
+	public void setTermsQueryOptions(@Nullable TermsQueryOptions termsQueryOptions) {
+		query.setTermsQueryOptions(termsQueryOptions);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.query.SolrDataQuery#getTermsQueryOptions()
+	 */
+	@Nullable
+	@Override
+	public TermsQueryOptions getTermsQueryOptions() {
+		return query.getTermsQueryOptions();
+	}
+
 	/**
 	 * Get the {@link Class} of the originally decorated query.
 	 *
@@ -584,6 +584,16 @@ public class Criteria extends Node {
 		return this;
 	}
 
+	/**
+	 * Add the given {@link Predicate} as is.
+	 *
+	 * @param predicate must not be null
+	 * @since 5.0
+	 */
+	void addPredicate(Predicate predicate) {
+		predicates.add(predicate);
+	}
+
 	/**
 	 * Target field
 	 *
@@ -0,0 +1,525 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.solr.core.query.Criteria.OperationKey;
+import org.springframework.data.solr.core.query.Criteria.Predicate;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Rewrites a {@link Criteria} tree into a smaller one matching the very same documents when rendered with the standard
+ * query parser. The given tree is left untouched. The optimizer
+ * <ul>
+ * <li>unwraps groups holding a single clause,</li>
+ * <li>flattens nested groups using the same conjunction as their parent,</li>
+ * <li>removes duplicate clauses within a group,</li>
+ * <li>removes {@code *:*} from conjunctions holding at least one other positive clause,</li>
+ * <li>optionally merges disjunctions on the very same field into one {@code field:(value1 value2 ...)} clause. The
+ * values of the merged clause are combined using the default operator ({@code q.op}) of the query, so merging is only
+ * correct for queries explicitly using {@literal OR}.</li>
+ * </ul>
+ * Groups mixing {@literal and} and {@literal or}, as well as groups containing native query strings or expressions, are
+ * not rewritten. Trees containing {@link Criteria#within(org.springframework.data.geo.Point,
+ * org.springframework.data.geo.Distance) within} predicates or unknown {@link Criteria} types are returned as is.
+ * <br />
+ * <strong>NOTE:</strong> Removing duplicate clauses does not change the matching documents, but may change their
+ * score.
+ *
+ * @since 5.0
+ */
+public final class CriteriaOptimizer {
+
+	private static final Set<String> FIELD_SCOPED_KEYS = new HashSet<>(Arrays.asList(OperationKey.EQUALS.getKey(),
+			OperationKey.CONTAINS.getKey(), OperationKey.STARTS_WITH.getKey(), OperationKey.ENDS_WITH.getKey(),
+			OperationKey.FUZZY.getKey(), OperationKey.SLOPPY.getKey(), OperationKey.BETWEEN.getKey()));
+
+	private final boolean mergeFieldDisjunctions;
+
+	private CriteriaOptimizer(boolean mergeFieldDisjunctions) {
+		this.mergeFieldDisjunctions = mergeFieldDisjunctions;
+	}
+
+	/**
+	 * Optimize the given {@link Criteria} tree without merging disjunctions on the same field.
+	 *
+	 * @param criteria must not be {@literal null}.
+	 * @return the optimized tree or the given one if it cannot be optimized.
+	 */
+	public static Criteria optimize(Criteria criteria) {
+		return optimize(criteria, false);
+	}
+
+	/**
+	 * Optimize the given {@link Criteria} tree.
+	 *
+	 * @param criteria must not be {@literal null}.
+	 * @param mergeFieldDisjunctions whether to merge disjunctions on the same field into one {@code field:(a b)} clause.
+	 *          Must only be {@literal true} if the query default operator ({@code q.op}) is {@literal OR}.
+	 * @return the optimized tree or the given one if it cannot be optimized.
+	 */
+	public static Criteria optimize(Criteria criteria, boolean mergeFieldDisjunctions) {
+
+		Assert.notNull(criteria, "Criteria must not be null");
+
+		if (!isSupported(criteria)) {
+			return criteria;
+		}
+
+		return new CriteriaOptimizer(mergeFieldDisjunctions).optimizeNode(criteria);
+	}
+
+	private Criteria optimizeNode(Criteria node) {
+
+		if (!(node instanceof Crotch) || !node.hasSiblings()) {
+			return copy(node);
+		}
+
+		List<Criteria> children = new ArrayList<>(node.getSiblings().size());
+		for (Criteria sibling : node.getSiblings()) {
+			children.add(optimizeNode(sibling));
+		}
+
+		Boolean or = getConjunction(children);
+		if (or != null) {
+
+			children = flatten(children, or);
+			children = removeDuplicates(children);
+
+			if (or) {
+				if (mergeFieldDisjunctions) {
+					children = mergeFieldDisjunctions(children);
+				}
+			} else {
+				children = removeMatchAll(children);
+			}
+		}
+
+		if (children.size() == 1 && !node.isNegating() && isUnwrappable(children.get(0))) {
+
+			Criteria single = children.get(0);
+			single.setPartIsOr(node.isOr());
+			return single;
+		}
+
+		Crotch group = new Crotch();
+		for (int i = 0; i < children.size(); i++) {
+
+			Criteria child = children.get(i);
+			if (or != null && i > 0) {
+				child.setPartIsOr(or);
+			}
+			group.add(child);
+		}
+		group.setNegating(node.isNegating());
+		group.setPartIsOr(node.isOr());
+		return group;
+	}
+
+	/**
+	 * @return {@literal true} for {@literal or}, {@literal false} for {@literal and} and {@literal null} if the group
+	 *         mixes both, holds less than two clauses or contains clauses that must not be moved.
+	 */
+	@Nullable
+	private static Boolean getConjunction(List<Criteria> children) {
+
+		if (children.size() < 2) {
+			return null;
+		}
+
+		for (Criteria child : children) {
+			if (isOpaque(child)) {
+				return null;
+			}
+		}
+
+		boolean or = children.get(1).isOr();
+		for (int i = 2; i < children.size(); i++) {
+			if (children.get(i).isOr() != or) {
+				return null;
+			}
+		}
+		return or;
+	}
+
+	@Nullable
+	private static Boolean getConjunction(Criteria group) {
+		return getConjunction(new ArrayList<>(group.getSiblings()));
+	}
+
+	/**
+	 * Inline nested groups using the same conjunction. Nested negations would apply to the whole parent, so
+	 * disjunctions are only inlined if they do not contain negated clauses, and conjunctions only if they contain at
+	 * least one positive clause.
+	 */
+	private static List<Criteria> flatten(List<Criteria> children, boolean or) {
+
+		List<Criteria> result = new ArrayList<>(children.size());
+		for (Criteria child : children) {
+
+			if (child instanceof Crotch && child.hasSiblings() && !child.isNegating()
+					&& Boolean.valueOf(or).equals(getConjunction(child))
+					&& (or ? !hasNegatedClause(child) : hasPositiveClause(child))) {
+				result.addAll(child.getSiblings());
+			} else {
+				result.add(child);
+			}
+		}
+		return result;
+	}
+
+	private static List<Criteria> removeDuplicates(List<Criteria> children) {
+
+		Set<StructuralKey> seen = new HashSet<>(children.size());
+		List<Criteria> result = new ArrayList<>(children.size());
+		for (Criteria child : children) {
+			if (seen.add(new StructuralKey(child))) {
+				result.add(child);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Remove {@code *:*} from a conjunction. Requires another positive clause, as pure negative groups do not match
+	 * anything.
+	 */
+	private static List<Criteria> removeMatchAll(List<Criteria> children) {
+
+		boolean hasOtherPositiveClause = false;
+		for (Criteria child : children) {
+			if (!child.isNegating() && !(child instanceof AnyCriteria)) {
+				hasOtherPositiveClause = true;
+				break;
+			}
+		}
+
+		if (!hasOtherPositiveClause) {
+			return children;
+		}
+
+		List<Criteria> result = new ArrayList<>(children.size());
+		for (Criteria child : children) {
+			if (!(child instanceof AnyCriteria)) {
+				result.add(child);
+			}
+		}
+		return result;
+	}
+
+	private static List<Criteria> mergeFieldDisjunctions(List<Criteria> children) {
+
+		Map<String, Criteria> targets = new HashMap<>();
+		Map<String, Set<PredicateKey>> targetPredicates = new HashMap<>();
+
+		List<Criteria> result = new ArrayList<>(children.size());
+		for (Criteria child : children) {
+
+			if (!isMergeable(child)) {
+				result.add(child);
+				continue;
+			}
+
+			String fieldName = child.getField().getName();
+			Criteria target = targets.get(fieldName);
+			Set<PredicateKey> predicates = targetPredicates.computeIfAbsent(fieldName, key -> new HashSet<>());
+
+			if (target == null) {
+
+				targets.put(fieldName, child);
+				for (Predicate predicate : child.getPredicates()) {
+					predicates.add(new PredicateKey(predicate));
+				}
+				result.add(child);
+				continue;
+			}
+
+			for (Predicate predicate : child.getPredicates()) {
+				if (predicates.add(new PredicateKey(predicate))) {
+					target.addPredicate(predicate);
+				}
+			}
+		}
+		return result;
+	}
+
+	private static boolean isSupported(Criteria criteria) {
+
+		if (criteria.getClass() == Crotch.class) {
+
+			for (Criteria sibling : criteria.getSiblings()) {
+				if (!isSupported(sibling)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		if (criteria.getClass() == Criteria.class) {
+
+			for (Predicate predicate : criteria.getPredicates()) {
+				if (OperationKey.WITHIN.getKey().equals(predicate.getKey())) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		return criteria.getClass() == AnyCriteria.class || criteria.getClass() == SimpleStringCriteria.class;
+	}
+
+	/**
+	 * @return {@literal true} for clauses rendered in a way that does not allow moving them to another group.
+	 */
+	private static boolean isOpaque(Criteria criteria) {
+
+		if (criteria instanceof AnyCriteria) {
+			return criteria.isNegating();
+		}
+		if (criteria instanceof QueryStringHolder) {
+			return true;
+		}
+		if (criteria instanceof Crotch) {
+			return !criteria.hasSiblings();
+		}
+
+		for (Predicate predicate : criteria.getPredicates()) {
+			if (OperationKey.EXPRESSION.getKey().equals(predicate.getKey()) || predicate.getValue() instanceof Node
+					|| predicate.getValue() instanceof SolrDataQuery) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isUnwrappable(Criteria criteria) {
+
+		if (criteria.isNegating() || isOpaque(criteria)) {
+			return false;
+		}
+		return !(criteria instanceof Crotch) || hasPositiveClause(criteria);
+	}
+
+	private static boolean isMergeable(Criteria criteria) {
+
+		if (criteria.getClass() != Criteria.class || criteria.isNegating() || !Float.isNaN(criteria.getBoost())
+				|| criteria.getField() == null || criteria.getField().getClass() != SimpleField.class
+				|| criteria.getPredicates().isEmpty() || isOpaque(criteria)) {
+			return false;
+		}
+
+		for (Predicate predicate : criteria.getPredicates()) {
+			if (!FIELD_SCOPED_KEYS.contains(predicate.getKey())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean hasPositiveClause(Criteria group) {
+
+		for (Criteria sibling : group.getSiblings()) {
+			if (!sibling.isNegating()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean hasNegatedClause(Criteria group) {
+
+		for (Criteria sibling : group.getSiblings()) {
+			if (sibling.isNegating()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Criteria copy(Criteria source) {
+
+		Criteria target;
+		if (source instanceof AnyCriteria) {
+			target = AnyCriteria.any();
+		} else if (source instanceof SimpleStringCriteria) {
+			target = new SimpleStringCriteria(((SimpleStringCriteria) source).getQueryString());
+		} else if (source instanceof Crotch) {
+			target = new Crotch();
+		} else {
+
+			target = source.getField() != null ? new Criteria(source.getField()) : new Criteria();
+			for (Predicate predicate : source.getPredicates()) {
+				target.addPredicate(predicate);
+			}
+			if (!Float.isNaN(source.getBoost())) {
+				target.boost(source.getBoost());
+			}
+		}
+
+		target.setNegating(source.isNegating());
+		target.setPartIsOr(source.isOr());
+		return target;
+	}
+
+	private static boolean isEquivalent(Criteria left, Criteria right) {
+
+		if (left == right) {
+			return true;
+		}
+
+		if (left.getClass() != right.getClass() || left.isNegating() != right.isNegating()
+				|| Float.compare(left.getBoost(), right.getBoost()) != 0) {
+			return false;
+		}
+
+		if (left instanceof QueryStringHolder) {
+			return ObjectUtils.nullSafeEquals(((QueryStringHolder) left).getQueryString(),
+					((QueryStringHolder) right).getQueryString());
+		}
+
+		if (left instanceof Crotch) {
+
+			if (left.getSiblings().size() != right.getSiblings().size()) {
+				return false;
+			}
+
+			Iterator<Criteria> leftSiblings = left.getSiblings().iterator();
+			Iterator<Criteria> rightSiblings = right.getSiblings().iterator();
+			boolean first = true;
+			while (leftSiblings.hasNext()) {
+
+				Criteria leftSibling = leftSiblings.next();
+				Criteria rightSibling = rightSiblings.next();
+				if ((!first && leftSibling.isOr() != rightSibling.isOr()) || !isEquivalent(leftSibling, rightSibling)) {
+					return false;
+				}
+				first = false;
+			}
+			return true;
+		}
+
+		if (!isSameField(left.getField(), right.getField())
+				|| left.getPredicates().size() != right.getPredicates().size()) {
+			return false;
+		}
+
+		Iterator<Predicate> rightPredicates = right.getPredicates().iterator();
+		for (Predicate leftPredicate : left.getPredicates()) {
+			if (!isEquivalent(leftPredicate, rightPredicates.next())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isSameField(@Nullable Field left, @Nullable Field right) {
+
+		if (left == right) {
+			return true;
+		}
+		return left != null && right != null && left.getClass() == SimpleField.class
+				&& right.getClass() == SimpleField.class && left.equals(right);
+	}
+
+	private static boolean isEquivalent(Predicate left, Predicate right) {
+		return ObjectUtils.nullSafeEquals(left.getKey(), right.getKey())
+				&& ObjectUtils.nullSafeEquals(left.getValue(), right.getValue());
+	}
+
+	private static int structuralHashCode(Criteria criteria) {
+
+		int result = criteria.getClass().hashCode();
+		result = 31 * result + (criteria.isNegating() ? 1 : 0);
+		result = 31 * result + Float.hashCode(criteria.getBoost());
+
+		if (criteria instanceof QueryStringHolder) {
+			return 31 * result + ObjectUtils.nullSafeHashCode(((QueryStringHolder) criteria).getQueryString());
+		}
+
+		if (criteria instanceof Crotch) {
+
+			for (Criteria sibling : criteria.getSiblings()) {
+				result = 31 * result + structuralHashCode(sibling);
+			}
+			return result;
+		}
+
+		result = 31 * result + (criteria.getField() != null ? ObjectUtils.nullSafeHashCode(criteria.getField().getName()) : 0);
+		for (Predicate predicate : criteria.getPredicates()) {
+			result = 31 * result + ObjectUtils.nullSafeHashCode(predicate.getKey());
+			result = 31 * result + ObjectUtils.nullSafeHashCode(predicate.getValue());
+		}
+		return result;
+	}
+
+	/**
+	 * Wrapper comparing {@link Criteria} by structure instead of identity.
+	 */
+	private static final class StructuralKey {
+
+		private final Criteria criteria;
+		private final int hashCode;
+
+		StructuralKey(Criteria criteria) {
+
+			this.criteria = criteria;
+			this.hashCode = structuralHashCode(criteria);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof StructuralKey && hashCode == ((StructuralKey) o).hashCode
+					&& isEquivalent(criteria, ((StructuralKey) o).criteria);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	/**
+	 * Wrapper comparing {@link Predicate} by key and value instead of identity.
+	 */
+	private static final class PredicateKey {
+
+		private final Predicate predicate;
+
+		PredicateKey(Predicate predicate) {
+			this.predicate = predicate;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof PredicateKey && isEquivalent(predicate, ((PredicateKey) o).predicate);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * ObjectUtils.nullSafeHashCode(predicate.getKey()) + ObjectUtils.nullSafeHashCode(predicate.getValue());
+		}
+	}
+}
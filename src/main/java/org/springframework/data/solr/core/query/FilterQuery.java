@@ -16,6 +16,7 @@
 package org.springframework.data.solr.core.query;
 
 import org.springframework.data.geo.Point;
+import org.springframework.lang.Nullable;
 
 /**
  * Filter Queries are simple solr Queries applied after executing the original query. This corresponds to the {@code fq}
@@ -25,6 +26,13 @@ import org.springframework.data.geo.Point;
  */
 public interface FilterQuery extends SolrDataQuery {
 
+	/**
+	 * Minimum {@link #getCost() cost} required by solr to execute a non cached filter as post filter.
+	 *
+	 * @since 5.0
+	 */
+	int POST_FILTER_COST = 100;
+
 	/**
 	 * Create a new {@link FilterQuery} with the given {@link Criteria}.
 	 *
@@ -48,4 +56,87 @@ public interface FilterQuery extends SolrDataQuery {
 		return filter(Criteria.where(GeoDistanceFunction.distanceFrom(from).to(to)));
 	}
 
+	/**
+	 * Create a new {@link FilterQuery} with the given {@link Criteria} executed as post filter.
+	 *
+	 * @param criteria must not be {@literal null}.
+	 * @return new instance of {@link FilterQuery}.
+	 * @since 5.0
+	 * @see #asPostFilter()
+	 */
+	static FilterQuery postFilter(Criteria criteria) {
+		return filter(criteria).asPostFilter();
+	}
+
+	/**
+	 * Set whether results of the filter should be stored in the {@code filterCache}. Disabling the cache is rendered as
+	 * {@code {!cache=false}} and avoids churning the cache with filters that are unlikely to be reused.
+	 *
+	 * Optional operation, ignored by implementations that do not support cache options.
+	 *
+	 * @param cache
+	 * @return this.
+	 * @since 5.0
+	 */
+	@SuppressWarnings("unchecked")
+	default <T extends FilterQuery> T setCache(boolean cache) {
+		return (T) this;
+	}
+
+	/**
+	 * @return {@literal false} if the filter must not be cached. Defaults to {@literal true}.
+	 * @since 5.0
+	 */
+	default boolean isCache() {
+		return true;
+	}
+
+	/**
+	 * Set the evaluation cost of the filter rendered as {@code {!cost=...}}. Non cached filters are evaluated in order of
+	 * their cost, those with a cost of at least {@link #POST_FILTER_COST} are executed as post filter when supported by
+	 * the query parser. Optional operation, ignored by implementations that do not support cost options.
+	 *
+	 * @param cost can be {@literal null}.
+	 * @return this.
+	 * @since 5.0
+	 */
+	@SuppressWarnings("unchecked")
+	default <T extends FilterQuery> T setCost(@Nullable Integer cost) {
+		return (T) this;
+	}
+
+	/**
+	 * @return null if not set.
+	 * @since 5.0
+	 */
+	@Nullable
+	default Integer getCost() {
+		return null;
+	}
+
+	/**
+	 * Disable caching and raise the {@link #getCost() cost} to at least {@link #POST_FILTER_COST} so that solr executes
+	 * the filter as post filter, only looking at documents matching the main query and all other filters.
+	 *
+	 * @return this.
+	 * @since 5.0
+	 */
+	default <T extends FilterQuery> T asPostFilter() {
+
+		Integer cost = getCost();
+		setCache(false);
+		return setCost(cost != null && cost > POST_FILTER_COST ? cost : POST_FILTER_COST);
+	}
+
+	/**
+	 * @return {@literal true} if the filter is not cached and has a {@link #getCost() cost} of at least
+	 *         {@link #POST_FILTER_COST}.
+	 * @since 5.0
+	 */
+	default boolean isPostFilter() {
+
+		Integer cost = getCost();
+		return !isCache() && cost != null && cost >= POST_FILTER_COST;
+	}
+
 }
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.solr.core.query;
 
+import org.springframework.lang.Nullable;
+
 /**
  * Trivial implementation of {@link FilterQuery}
  * 
@@ -22,10 +24,56 @@ package org.springframework.data.solr.core.query;
  */
 public class SimpleFilterQuery extends AbstractQuery implements FilterQuery {
 
+	private boolean cache = true;
+	private @Nullable Integer cost;
+
 	public SimpleFilterQuery() {}
 
 	public SimpleFilterQuery(Criteria criteria) {
 		super(criteria);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.query.FilterQuery#setCache(boolean)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T extends FilterQuery> T setCache(boolean cache) {
+
+		this.cache = cache;
+		return (T) this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.query.FilterQuery#isCache()
+	 */
+	@Override
+	public boolean isCache() {
+		return this.cache;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.query.FilterQuery#setCost(java.lang.Integer)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T extends FilterQuery> T setCost(@Nullable Integer cost) {
+
+		this.cost = cost;
+		return (T) this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.query.FilterQuery#getCost()
+	 */
+	@Nullable
+	@Override
+	public Integer getCost() {
+		return this.cost;
+	}
+
 }
@@ -51,6 +51,9 @@ public class SimpleQuery extends AbstractQuery implements Query, FilterQuery {
 	private @Nullable StatsOptions statsOptions;
 	private @Nullable SpellcheckOptions spellcheckOptions;
 
+	private boolean cache = true;
+	private @Nullable Integer cost;
+
 	public SimpleQuery() {}
 
 	/**
@@ -140,6 +143,15 @@ public class SimpleQuery extends AbstractQuery implements Query, FilterQuery {
 			destination.setRequestHandler(source.getRequestHandler());
 		}
 
+		if (source.getTermsQueryOptions() != null) {
+			destination.setTermsQueryOptions(source.getTermsQueryOptions());
+		}
+
+		if (source instanceof FilterQuery) {
+			destination.setCache(((FilterQuery) source).isCache());
+			destination.setCost(((FilterQuery) source).getCost());
+		}
+
 		return destination;
 	}
 
@@ -394,4 +406,47 @@ public class SimpleQuery extends AbstractQuery implements Query, FilterQuery {
 	public SpellcheckOptions getSpellcheckOptions() {
 		return this.spellcheckOptions;
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.query.FilterQuery#setCache(boolean)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T extends FilterQuery> T setCache(boolean cache) {
+
+		this.cache = cache;
+		return (T) this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.query.FilterQuery#isCache()
+	 */
+	@Override
+	public boolean isCache() {
+		return this.cache;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.query.FilterQuery#setCost(java.lang.Integer)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T extends FilterQuery> T setCost(@Nullable Integer cost) {
+
+		this.cost = cost;
+		return (T) this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.core.query.FilterQuery#getCost()
+	 */
+	@Nullable
+	@Override
+	public Integer getCost() {
+		return this.cost;
+	}
 }
@@ -49,4 +49,24 @@ public interface SolrDataQuery {
 	@Nullable
 	Join getJoin();
 
+	/**
+	 * Set the {@link TermsQueryOptions} overriding the ones of the {@link org.springframework.data.solr.core.QueryParser}
+	 * when rendering criteria with a large number of values. Optional operation, ignored by implementations that do not
+	 * support per query options.
+	 *
+	 * @param termsQueryOptions can be {@literal null}.
+	 * @since 5.0
+	 */
+	default void setTermsQueryOptions(@Nullable TermsQueryOptions termsQueryOptions) {}
+
+	/**
+	 * @return {@literal null} if not set, meaning the options of the {@link org.springframework.data.solr.core.QueryParser}
+	 *         apply.
+	 * @since 5.0
+	 */
+	@Nullable
+	default TermsQueryOptions getTermsQueryOptions() {
+		return null;
+	}
+
 }
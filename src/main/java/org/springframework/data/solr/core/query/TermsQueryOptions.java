@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core.query;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Options controlling when a {@link Criteria} matching a field against a list of values (eg.
+ * {@link Criteria#in(Object...)}) is rendered using the {@code terms} query parser
+ * {@code {!terms f=field}value1,value2,...} instead of a boolean disjunction {@code field:(value1 value2 ...)}. <br />
+ * Large disjunctions are expensive to parse and are limited by {@code maxBooleanClauses} on the server side. <br />
+ * The {@code terms} query parser matches the given values against the indexed terms without analyzing them. It should
+ * therefore only be enabled for queries on non tokenized fields, eg. {@code string} or numeric ones, as results would
+ * differ from the boolean rendering for text fields. The rewrite is disabled unless enabled explicitly via
+ * {@link SolrDataQuery#setTermsQueryOptions(TermsQueryOptions)} or the {@link org.springframework.data.solr.core.QueryParser}.
+ *
+ * @since 5.0
+ */
+public class TermsQueryOptions {
+
+	/**
+	 * Default number of values, matching the default {@code maxBooleanClauses} of Solr, at which the {@code terms} query
+	 * parser is used.
+	 */
+	public static final int DEFAULT_THRESHOLD = 1024;
+
+	private static final TermsQueryOptions DEFAULT = new TermsQueryOptions(DEFAULT_THRESHOLD, null);
+	private static final TermsQueryOptions DISABLED = new TermsQueryOptions(Integer.MAX_VALUE, null);
+
+	private final int threshold;
+	private final @Nullable Method method;
+
+	private TermsQueryOptions(int threshold, @Nullable Method method) {
+
+		this.threshold = threshold;
+		this.method = method;
+	}
+
+	/**
+	 * @return {@link TermsQueryOptions} using the {@link #DEFAULT_THRESHOLD} and the servers default
+	 *         {@link Method method}.
+	 */
+	public static TermsQueryOptions defaults() {
+		return DEFAULT;
+	}
+
+	/**
+	 * @return {@link TermsQueryOptions} never using the {@code terms} query parser.
+	 */
+	public static TermsQueryOptions disabled() {
+		return DISABLED;
+	}
+
+	/**
+	 * Create new {@link TermsQueryOptions} using the {@code terms} query parser as soon as the number of values reaches
+	 * the given threshold.
+	 *
+	 * @param threshold must be greater than zero.
+	 * @return new instance of {@link TermsQueryOptions}.
+	 */
+	public static TermsQueryOptions threshold(int threshold) {
+		return DEFAULT.withThreshold(threshold);
+	}
+
+	/**
+	 * @param threshold must be greater than zero.
+	 * @return new instance of {@link TermsQueryOptions}.
+	 */
+	public TermsQueryOptions withThreshold(int threshold) {
+
+		Assert.isTrue(threshold > 0, "Threshold must be greater than zero");
+		return new TermsQueryOptions(threshold, method);
+	}
+
+	/**
+	 * @param method can be {@literal null} to use the servers default.
+	 * @return new instance of {@link TermsQueryOptions}.
+	 */
+	public TermsQueryOptions withMethod(@Nullable Method method) {
+		return new TermsQueryOptions(threshold, method);
+	}
+
+	/**
+	 * @return the minimum number of values for using the {@code terms} query parser.
+	 */
+	public int getThreshold() {
+		return threshold;
+	}
+
+	/**
+	 * @return can be {@literal null}.
+	 */
+	@Nullable
+	public Method getMethod() {
+		return method;
+	}
+
+	/**
+	 * @param numberOfValues
+	 * @return {@literal true} if the {@code terms} query parser should be used for the given number of values.
+	 */
+	public boolean appliesTo(int numberOfValues) {
+		return numberOfValues >= threshold;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof TermsQueryOptions)) {
+			return false;
+		}
+
+		TermsQueryOptions that = (TermsQueryOptions) o;
+		return threshold == that.threshold && method == that.method;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * threshold + ObjectUtils.nullSafeHashCode(method);
+	}
+
+	/**
+	 * Methods supported by the {@code terms} query parser.
+	 *
+	 * @since 5.0
+	 */
+	public enum Method {
+
+		TERMS_FILTER("termsFilter"), //
+		BOOLEAN_QUERY("booleanQuery"), //
+		AUTOMATON("automaton"), //
+		DOC_VALUES_TERMS_FILTER("docValuesTermsFilter");
+
+		private final String value;
+
+		Method(String value) {
+			this.value = value;
+		}
+
+		/**
+		 * @return the {@code method} local parameter value.
+		 */
+		public String getValue() {
+			return value;
+		}
+	}
+}
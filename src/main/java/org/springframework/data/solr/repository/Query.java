@@ -58,6 +58,32 @@ public @interface Query {
 	 */
 	String[] filters() default {};
 
+	/**
+	 * Set to {@code false} to keep results of {@link #filters()} out of the {@code filterCache}. Corresponds to
+	 * {@code {!cache=false}}.
+	 *
+	 * @return
+	 * @since 5.0
+	 */
+	boolean cacheFilters() default true;
+
+	/**
+	 * Evaluation cost of {@link #filters()} corresponds to {@code {!cost=...}}. Negative values are ignored.
+	 *
+	 * @return
+	 * @since 5.0
+	 */
+	int filterCost() default -1;
+
+	/**
+	 * If set to {@code true} {@link #filters()} are not cached and executed as post filter using a {@link #filterCost()}
+	 * of at least {@code 100}.
+	 *
+	 * @return
+	 * @since 5.0
+	 */
+	boolean postFilter() default false;
+
 	/**
 	 * Specifies the default operator {@code q.op}
 	 *
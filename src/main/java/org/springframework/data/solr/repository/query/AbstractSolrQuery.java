@@ -15,11 +15,13 @@
  */
 package org.springframework.data.solr.repository.query;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.solr.common.params.HighlightParams;
 import org.springframework.core.convert.support.GenericConversionService;
@@ -32,12 +34,15 @@ import org.springframework.data.geo.Distance;
 import org.springframework.data.geo.Point;
 import org.springframework.data.repository.core.EntityMetadata;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.solr.VersionUtil;
 import org.springframework.data.solr.core.SolrOperations;
 import org.springframework.data.solr.core.SolrTransactionSynchronizationAdapterBuilder;
 import org.springframework.data.solr.core.convert.DateTimeConverters;
 import org.springframework.data.solr.core.convert.NumberConverters;
 import org.springframework.data.solr.core.geo.GeoConverters;
+import org.springframework.data.solr.core.mapping.SolrPersistentEntity;
+import org.springframework.data.solr.core.mapping.SolrPersistentProperty;
 import org.springframework.data.solr.core.query.*;
 import org.springframework.data.solr.core.query.HighlightOptions.HighlightParameter;
 import org.springframework.data.solr.core.query.StatsOptions.FieldStatsOptions;
@@ -61,8 +66,6 @@ import org.springframework.util.StringUtils;
  */
 public abstract class AbstractSolrQuery implements RepositoryQuery {
 
-	private static final Pattern PARAMETER_PLACEHOLDER = Pattern.compile("\\?(\\d+)");
-
 	private final SolrOperations solrOperations;
 	private final SolrQueryMethod solrQueryMethod;
 	private final String collection;
@@ -70,11 +73,18 @@ public abstract class AbstractSolrQuery implements RepositoryQuery {
 	public final int UNLIMITED = 1;
 
 	private final GenericConversionService conversionService = new GenericConversionService();
+	private final Map<String, StringQueryTemplate> queryTemplates = new ConcurrentHashMap<>();
 
 	{
 		if (!conversionService.canConvert(java.util.Date.class, String.class)) {
 			conversionService.addConverter(DateTimeConverters.JavaDateConverter.INSTANCE);
 		}
+		if (!conversionService.canConvert(java.time.Instant.class, String.class)) {
+			conversionService.addConverter(DateTimeConverters.JavaInstantConverter.INSTANCE);
+		}
+		if (!conversionService.canConvert(java.time.LocalDateTime.class, String.class)) {
+			conversionService.addConverter(DateTimeConverters.JavaLocalDateTimeConverter.INSTANCE);
+		}
 		if (!conversionService.canConvert(Number.class, String.class)) {
 			conversionService.addConverter(NumberConverters.NumberConverter.INSTANCE);
 		}
@@ -105,6 +115,11 @@ public abstract class AbstractSolrQuery implements RepositoryQuery {
 		this.solrOperations = solrOperations;
 		this.solrQueryMethod = solrQueryMethod;
 		this.collection = collection;
+
+		solrQueryMethod.getFilterQueries().forEach(this::registerQueryTemplate);
+		solrQueryMethod.getFacetQueries().forEach(this::registerQueryTemplate);
+		registerQueryTemplate(solrQueryMethod.getFacetPrefix());
+		registerQueryTemplate(solrQueryMethod.getHighlightQuery());
 	}
 
 	@Override
@@ -120,7 +135,7 @@ public abstract class AbstractSolrQuery implements RepositoryQuery {
 		setSpellecheckOptionsWhenDefined(query);
 
 		if (solrQueryMethod.hasStatsDefinition()) {
-			query.setStatsOptions(extractStatsOptions(solrQueryMethod, accessor));
+			query.setStatsOptions(extractStatsOptions(solrQueryMethod));
 		}
 
 		if (isCountQuery() && isDeleteQuery()) {
@@ -152,12 +167,63 @@ public abstract class AbstractSolrQuery implements RepositoryQuery {
 				highlightQuery.setHighlightOptions(extractHighlightOptions(solrQueryMethod, accessor));
 				return new HighlightPageExecution(accessor.getPageable()).execute(highlightQuery);
 			}
-			return new PagedExecution(accessor.getPageable()).execute(query);
+			return new PagedExecution(accessor.getPageable(), potentiallyApplyDtoProjection(query, accessor))
+					.execute(query);
 		} else if (solrQueryMethod.isCollectionQuery()) {
-			return new CollectionExecution(accessor.getPageable()).execute(query);
+			return new CollectionExecution(accessor.getPageable(), potentiallyApplyDtoProjection(query, accessor))
+					.execute(query);
 		}
 
-		return new SingleEntityExecution().execute(query);
+		return new SingleEntityExecution(potentiallyApplyDtoProjection(query, accessor)).execute(query);
+	}
+
+	/**
+	 * Resolve the type to materialize query results into. For constructor based DTOs and records the result is read
+	 * directly from the returned documents, restricting the returned fields to the ones required by the DTO, unless the
+	 * query already defines a projection.
+	 *
+	 * @param query
+	 * @param accessor
+	 * @return the domain type when not projecting into a DTO.
+	 */
+	private Class<?> potentiallyApplyDtoProjection(Query query, SolrParameterAccessor accessor) {
+
+		Class<?> domainType = solrQueryMethod.getEntityInformation().getJavaType();
+		ReturnedType returnedType = solrQueryMethod.getResultProcessor().withDynamicProjection(accessor)
+				.getReturnedType();
+		Class<?> resultType = returnedType.getReturnedType();
+
+		if (!returnedType.isProjecting() || resultType.isInterface() || resultType.isAssignableFrom(domainType)
+				|| !returnedType.needsCustomConstruction()) {
+			return domainType;
+		}
+
+		if (!query.getProjectionOnFields().isEmpty()) {
+			return resultType;
+		}
+
+		SolrPersistentEntity<?> entity = solrOperations.getConverter().getMappingContext()
+				.getRequiredPersistentEntity(domainType);
+		List<Field> fields = new ArrayList<>();
+
+		for (String property : returnedType.getInputProperties()) {
+
+			SolrPersistentProperty persistentProperty = entity.getPersistentProperty(property);
+			if (persistentProperty == null || persistentProperty.containsWildcard()
+					|| persistentProperty.isChildProperty()) {
+				return resultType;
+			}
+
+			if (!persistentProperty.isScoreProperty()) {
+				fields.add(new SimpleField(persistentProperty.getFieldName()));
+			}
+		}
+
+		for (Field field : fields) {
+			query.addProjectionOnField(field);
+		}
+
+		return resultType;
 	}
 
 	@Override
@@ -203,7 +269,14 @@ public abstract class AbstractSolrQuery implements RepositoryQuery {
 	private void decorateWithFilterQuery(Query query, SolrParameterAccessor parameterAccessor) {
 		if (solrQueryMethod.hasFilterQuery()) {
 			for (String filterQuery : solrQueryMethod.getFilterQueries()) {
-				query.addFilterQuery(createQueryFromString(filterQuery, parameterAccessor));
+
+				SimpleQuery filter = createQueryFromString(filterQuery, parameterAccessor);
+				filter.setCache(solrQueryMethod.isCacheFilterQueries());
+				filter.setCost(solrQueryMethod.getFilterQueryCost());
+				if (solrQueryMethod.isPostFilterQueries()) {
+					filter.asPostFilter();
+				}
+				query.addFilterQuery(filter);
 			}
 		}
 	}
@@ -226,15 +299,35 @@ public abstract class AbstractSolrQuery implements RepositoryQuery {
 			return input;
 		}
 
-		Matcher matcher = PARAMETER_PLACEHOLDER.matcher(input);
-		String result = input;
+		return getQueryTemplate(input).bind(index -> getParameterWithIndex(accessor, index));
+	}
 
-		while (matcher.find()) {
-			String group = matcher.group();
-			int index = Integer.parseInt(matcher.group(1));
-			result = result.replace(group, getParameterWithIndex(accessor, index));
+	/**
+	 * Parse the given query string once so that executions of the query method can reuse the template. Only query
+	 * strings known when creating the query should be registered.
+	 *
+	 * @param queryString can be {@literal null}.
+	 * @since 5.0
+	 */
+	void registerQueryTemplate(@Nullable String queryString) {
+
+		if (StringUtils.hasText(queryString)) {
+			queryTemplates.computeIfAbsent(queryString, StringQueryTemplate::parse);
 		}
-		return result;
+	}
+
+	/**
+	 * Get the parsed {@link StringQueryTemplate} for the given query string. Query strings not registered via
+	 * {@link #registerQueryTemplate(String)}, eg. ones created dynamically by subclasses, are parsed on every call.
+	 *
+	 * @param queryString must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 5.0
+	 */
+	StringQueryTemplate getQueryTemplate(String queryString) {
+
+		StringQueryTemplate template = queryTemplates.get(queryString);
+		return template != null ? template : StringQueryTemplate.parse(queryString);
 	}
 
 	@SuppressWarnings("rawtypes")
@@ -265,8 +358,12 @@ public abstract class AbstractSolrQuery implements RepositoryQuery {
 		return parameter.toString();
 	}
 
+	/**
+	 * {@link StatsOptions} do not depend on any method parameters but are mutable and therefore created from the
+	 * resolved {@link SolrQueryMethod} metadata for each execution.
+	 */
 	@Nullable
-	private StatsOptions extractStatsOptions(SolrQueryMethod queryMethod, SolrParameterAccessor accessor) {
+	private static StatsOptions extractStatsOptions(SolrQueryMethod queryMethod) {
 
 		if (!queryMethod.hasStatsDefinition()) {
 			return null;
@@ -433,9 +530,21 @@ public abstract class AbstractSolrQuery implements RepositoryQuery {
 	 */
 	abstract class AbstractQueryExecution implements QueryExecution {
 
+		private final @Nullable Class<?> resultType;
+
+		AbstractQueryExecution(@Nullable Class<?> resultType) {
+			this.resultType = resultType;
+		}
+
 		protected Page<?> executeFind(Query query) {
+
 			EntityMetadata<?> metadata = solrQueryMethod.getEntityInformation();
-			return solrOperations.queryForPage(collection, query, metadata.getJavaType());
+
+			if (resultType == null || resultType.equals(metadata.getJavaType())) {
+				return solrOperations.queryForPage(collection, query, metadata.getJavaType());
+			}
+
+			return solrOperations.queryForPage(collection, query, metadata.getJavaType(), resultType);
 		}
 	}
 
@@ -451,6 +560,12 @@ public abstract class AbstractSolrQuery implements RepositoryQuery {
 		private final Pageable pageable;
 
 		public CollectionExecution(Pageable pageable) {
+			this(pageable, null);
+		}
+
+		CollectionExecution(Pageable pageable, @Nullable Class<?> resultType) {
+
+			super(resultType);
 			this.pageable = pageable;
 		}
 
@@ -494,6 +609,12 @@ public abstract class AbstractSolrQuery implements RepositoryQuery {
 		private final Pageable pageable;
 
 		public PagedExecution(Pageable pageable) {
+			this(pageable, null);
+		}
+
+		PagedExecution(Pageable pageable, @Nullable Class<?> resultType) {
+
+			super(resultType);
 			Assert.notNull(pageable, "Pageable must not be null");
 			this.pageable = pageable;
 		}
@@ -600,12 +721,24 @@ public abstract class AbstractSolrQuery implements RepositoryQuery {
 	 */
 	class SingleEntityExecution implements QueryExecution {
 
+		private final @Nullable Class<?> resultType;
+
+		public SingleEntityExecution() {
+			this(null);
+		}
+
+		SingleEntityExecution(@Nullable Class<?> resultType) {
+			this.resultType = resultType;
+		}
+
 		@Override
 		public Object execute(Query query) {
 
 			EntityMetadata<?> metadata = solrQueryMethod.getEntityInformation();
 
-			Optional<?> result = solrOperations.queryForObject(collection, query, metadata.getJavaType());
+			Optional<?> result = resultType == null || resultType.equals(metadata.getJavaType())
+					? solrOperations.queryForObject(collection, query, metadata.getJavaType())
+					: solrOperations.queryForObject(collection, query, metadata.getJavaType(), resultType);
 			return solrQueryMethod.returnsOptional() ? result : result.orElse(null);
 		}
 	}
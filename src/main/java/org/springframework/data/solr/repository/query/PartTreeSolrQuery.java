@@ -23,7 +23,8 @@ import org.springframework.data.solr.core.query.Query;
 import org.springframework.lang.Nullable;
 
 /**
- * Solr specific implementation of a query derived from method name
+ * Solr specific implementation of a query derived from method name. The {@link PartTree} is parsed and compiled into a
+ * {@link SolrQueryCreator.QueryTemplate} once, so that creating a query only binds the actual parameter values.
  *
  * @author Christoph Strobl
  */
@@ -31,6 +32,7 @@ public class PartTreeSolrQuery extends AbstractSolrQuery {
 
 	private final PartTree tree;
 	private final MappingContext<?, SolrPersistentProperty> mappingContext;
+	private final SolrQueryCreator.QueryTemplate template;
 
 	public PartTreeSolrQuery(SolrQueryMethod method, SolrOperations solrOperations) {
 		this(null, method, solrOperations);
@@ -40,6 +42,7 @@ public class PartTreeSolrQuery extends AbstractSolrQuery {
 		super(collection, solrOperations, method);
 		this.tree = new PartTree(method.getName(), method.getEntityInformation().getJavaType());
 		this.mappingContext = solrOperations.getConverter().getMappingContext();
+		this.template = SolrQueryCreator.QueryTemplate.compile(tree, mappingContext);
 	}
 
 	public PartTree getTree() {
@@ -48,7 +51,7 @@ public class PartTreeSolrQuery extends AbstractSolrQuery {
 
 	@Override
 	protected Query createQuery(SolrParameterAccessor parameterAccessor) {
-		Query query = new SolrQueryCreator(tree, parameterAccessor, mappingContext).createQuery();
+		Query query = new SolrQueryCreator(tree, parameterAccessor, mappingContext, template).createQuery();
 		appendProjection(query);
 		return query;
 	}
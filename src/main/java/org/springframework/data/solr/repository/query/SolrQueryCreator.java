@@ -15,8 +15,10 @@
  */
 package org.springframework.data.solr.repository.query;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Sort;
@@ -29,12 +31,14 @@ import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.Part.Type;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.query.parser.PartTree.OrPart;
 import org.springframework.data.solr.core.mapping.SolrPersistentProperty;
 import org.springframework.data.solr.core.query.AnyCriteria;
 import org.springframework.data.solr.core.query.Criteria;
 import org.springframework.data.solr.core.query.Query;
 import org.springframework.data.solr.core.query.SimpleQuery;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Solr specific implmentation of an {@link AbstractQueryCreator} that constructs {@link Query}
@@ -45,18 +49,49 @@ import org.springframework.lang.Nullable;
 class SolrQueryCreator extends AbstractQueryCreator<Query, Query> {
 
 	private final MappingContext<?, SolrPersistentProperty> context;
+	private final @Nullable QueryTemplate template;
+	private final SolrParameterAccessor parameters;
 
 	public SolrQueryCreator(PartTree tree, SolrParameterAccessor parameters,
 			MappingContext<?, SolrPersistentProperty> context) {
+		this(tree, parameters, context, null);
+	}
+
+	/**
+	 * @param tree must not be {@literal null}.
+	 * @param parameters must not be {@literal null}.
+	 * @param context must not be {@literal null}.
+	 * @param template the {@link QueryTemplate} compiled for the given {@link PartTree}. Can be {@literal null} to walk
+	 *          the tree on each invocation of {@link #createQuery()}.
+	 * @since 5.0
+	 */
+	SolrQueryCreator(PartTree tree, SolrParameterAccessor parameters, MappingContext<?, SolrPersistentProperty> context,
+			@Nullable QueryTemplate template) {
+
 		super(tree, parameters);
 		this.context = context;
+		this.template = template;
+		this.parameters = parameters;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.query.parser.AbstractQueryCreator#createQuery(org.springframework.data.domain.Sort)
+	 */
+	@Override
+	public Query createQuery(Sort dynamicSort) {
+
+		if (template == null) {
+			return super.createQuery(dynamicSort);
+		}
+
+		Assert.notNull(dynamicSort, "DynamicSort must not be null");
+		return complete(template.bind(this, parameters.iterator()), template.sort.and(dynamicSort));
 	}
 
 	@Override
 	protected Query create(Part part, Iterator<Object> iterator) {
-		PersistentPropertyPath<SolrPersistentProperty> path = context.getPersistentPropertyPath(part.getProperty());
-		return new SimpleQuery(from(part.getType(),
-				new Criteria(path.toDotPath(SolrPersistentProperty.PropertyToFieldNameConverter.INSTANCE)), iterator));
+		return new SimpleQuery(from(part.getType(), new Criteria(getFieldName(part, context)), iterator));
 	}
 
 	@Override
@@ -64,9 +99,13 @@ class SolrQueryCreator extends AbstractQueryCreator<Query, Query> {
 		if (base == null) {
 			return create(part, iterator);
 		}
+		return base.addCriteria(from(part.getType(), new Criteria(getFieldName(part, context)), iterator));
+	}
+
+	private static String getFieldName(Part part, MappingContext<?, SolrPersistentProperty> context) {
+
 		PersistentPropertyPath<SolrPersistentProperty> path = context.getPersistentPropertyPath(part.getProperty());
-		return base.addCriteria(from(part.getType(),
-				new Criteria(path.toDotPath(SolrPersistentProperty.PropertyToFieldNameConverter.INSTANCE)), iterator));
+		return path.toDotPath(SolrPersistentProperty.PropertyToFieldNameConverter.INSTANCE);
 	}
 
 	@Override
@@ -214,4 +253,74 @@ class SolrQueryCreator extends AbstractQueryCreator<Query, Query> {
 		return new String[] { o.toString() };
 	}
 
+	/**
+	 * The structure of a {@link PartTree} with its property paths already resolved to Solr field names. Binding the
+	 * template to the actual parameter values creates the very same {@link Query} as walking the {@link PartTree} does,
+	 * while rendering the values is left to the {@link org.springframework.data.solr.core.QueryParser} in use.
+	 *
+	 * @since 5.0
+	 */
+	static class QueryTemplate {
+
+		private final List<List<Slot>> orParts;
+		private final Sort sort;
+
+		private QueryTemplate(List<List<Slot>> orParts, Sort sort) {
+
+			this.orParts = orParts;
+			this.sort = sort;
+		}
+
+		/**
+		 * @param tree must not be {@literal null}.
+		 * @param context must not be {@literal null}.
+		 * @return new instance of {@link QueryTemplate}.
+		 */
+		static QueryTemplate compile(PartTree tree, MappingContext<?, SolrPersistentProperty> context) {
+
+			List<List<Slot>> orParts = new ArrayList<>();
+			for (OrPart orPart : tree) {
+
+				List<Slot> slots = new ArrayList<>();
+				for (Part part : orPart) {
+					slots.add(new Slot(getFieldName(part, context), part.getType()));
+				}
+				if (slots.isEmpty()) {
+					throw new IllegalStateException(String.format("No part found in PartTree %s", tree));
+				}
+				orParts.add(slots);
+			}
+			return new QueryTemplate(orParts, tree.getSort());
+		}
+
+		@Nullable
+		private Query bind(SolrQueryCreator creator, Iterator<Object> parameters) {
+
+			Query base = null;
+			for (List<Slot> slots : orParts) {
+
+				Query query = null;
+				for (Slot slot : slots) {
+
+					Criteria criteria = creator.from(slot.type, new Criteria(slot.fieldName), parameters);
+					query = query == null ? new SimpleQuery(criteria) : query.addCriteria(criteria);
+				}
+				base = base == null ? query : creator.or(base, query);
+			}
+			return base;
+		}
+
+		private static class Slot {
+
+			private final String fieldName;
+			private final Type type;
+
+			private Slot(String fieldName, Type type) {
+
+				this.fieldName = fieldName;
+				this.type = type;
+			}
+		}
+	}
+
 }
@@ -44,12 +44,12 @@ import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
-import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
 /**
- * Solr specific implementation of {@link QueryMethod} taking care of {@link Query}
+ * Solr specific implementation of {@link QueryMethod} taking care of {@link Query}. Annotation metadata is resolved
+ * once on creation and exposed via immutable values afterwards.
  *
  * @author Christoph Strobl
  * @author Luke Corpe
@@ -61,10 +61,81 @@ public class SolrQueryMethod extends QueryMethod {
 
 	private final Method method;
 
+	private final @Nullable Query queryAnnotation;
+	private final @Nullable String annotatedQuery;
+	private final @Nullable String annotatedNamedQueryName;
+	private final List<String> projectionFields;
+	private final List<String> filterQueries;
+	private final boolean cacheFilterQueries;
+	private final @Nullable Integer filterQueryCost;
+	private final boolean postFilterQueries;
+	private final @Nullable Integer timeAllowed;
+	private final boolean deleteQuery;
+
+	private final @Nullable Facet facetAnnotation;
+	private final List<String> facetFields;
+	private final List<String> facetQueries;
+	private final List<String[]> pivotFields;
+	private final @Nullable String facetPrefix;
+
+	private final @Nullable Stats statsAnnotation;
+	private final List<String> fieldStats;
+	private final List<String> statsFacets;
+	private final Map<String, String[]> statsSelectiveFacets;
+	private final Collection<String> statsSelectiveCountDistinctFields;
+
+	private final @Nullable Highlight highlightAnnotation;
+	private final List<String> highlightFieldNames;
+	private final @Nullable String highlightQuery;
+	private final @Nullable Integer highlightSnipplets;
+	private final @Nullable Integer highlightFragsize;
+	private final @Nullable String highlightFormatter;
+	private final @Nullable String highlightPrefix;
+	private final @Nullable String highlightPostfix;
+
+	private final @Nullable Spellcheck spellcheckAnnotation;
+	private final @Nullable SpellcheckOptions spellcheckOptions;
+
 	public SolrQueryMethod(Method method, RepositoryMetadata metadata, ProjectionFactory factory,
 			SolrEntityInformationCreator solrInformationCreator) {
 		super(method, metadata, factory);
 		this.method = method;
+
+		this.queryAnnotation = method.getAnnotation(Query.class);
+		this.annotatedQuery = getAnnotationValueAsStringOrNullIfBlank(queryAnnotation, "value");
+		this.annotatedNamedQueryName = getAnnotationValueAsStringOrNullIfBlank(queryAnnotation, "name");
+		this.projectionFields = getAnnotationValuesAsStringList(queryAnnotation, "fields");
+		this.filterQueries = getAnnotationValuesAsStringList(queryAnnotation, "filters");
+		this.cacheFilterQueries = queryAnnotation == null || queryAnnotation.cacheFilters();
+		this.filterQueryCost = queryAnnotation != null && queryAnnotation.filterCost() >= 0 ? queryAnnotation.filterCost()
+				: null;
+		this.postFilterQueries = queryAnnotation != null && queryAnnotation.postFilter();
+		this.timeAllowed = getAnnotationValueAsIntOrNullIfNegative(queryAnnotation, "timeAllowed");
+		this.deleteQuery = queryAnnotation != null && queryAnnotation.delete();
+
+		this.facetAnnotation = method.getAnnotation(Facet.class);
+		this.facetFields = getAnnotationValuesAsStringList(facetAnnotation, "fields");
+		this.facetQueries = getAnnotationValuesAsStringList(facetAnnotation, "queries");
+		this.pivotFields = resolvePivotFields(facetAnnotation);
+		this.facetPrefix = getAnnotationValueAsStringOrNullIfBlank(facetAnnotation, "prefix");
+
+		this.statsAnnotation = method.getAnnotation(Stats.class);
+		this.fieldStats = getAnnotationValuesAsStringList(statsAnnotation, "value");
+		this.statsFacets = getAnnotationValuesAsStringList(statsAnnotation, "facets");
+		this.statsSelectiveFacets = resolveStatsSelectiveFacets(statsAnnotation);
+		this.statsSelectiveCountDistinctFields = resolveStatsSelectiveCountDistinctFields(statsAnnotation);
+
+		this.highlightAnnotation = method.getAnnotation(Highlight.class);
+		this.highlightFieldNames = getAnnotationValuesAsStringList(highlightAnnotation, "fields");
+		this.highlightQuery = getAnnotationValueAsStringOrNullIfBlank(highlightAnnotation, "query");
+		this.highlightSnipplets = getAnnotationValueAsIntOrNullIfNegative(highlightAnnotation, "snipplets");
+		this.highlightFragsize = getAnnotationValueAsIntOrNullIfNegative(highlightAnnotation, "fragsize");
+		this.highlightFormatter = getAnnotationValueAsStringOrNullIfBlank(highlightAnnotation, "formatter");
+		this.highlightPrefix = getAnnotationValueAsStringOrNullIfBlank(highlightAnnotation, "prefix");
+		this.highlightPostfix = getAnnotationValueAsStringOrNullIfBlank(highlightAnnotation, "postfix");
+
+		this.spellcheckAnnotation = AnnotatedElementUtils.findMergedAnnotation(method, Spellcheck.class);
+		this.spellcheckOptions = createSpellcheckOptions(spellcheckAnnotation);
 	}
 
 	/**
@@ -78,12 +149,12 @@ public class SolrQueryMethod extends QueryMethod {
 	 * @return true if {@link Query} is not blank
 	 */
 	public boolean hasQueryAnnotation() {
-		return this.method.getAnnotation(Query.class) != null;
+		return this.queryAnnotation != null;
 	}
 
 	@Nullable
 	String getAnnotatedQuery() {
-		return getAnnotationValueAsStringOrNullIfBlank(getQueryAnnotation(), "value");
+		return this.annotatedQuery;
 	}
 
 	/**
@@ -95,11 +166,7 @@ public class SolrQueryMethod extends QueryMethod {
 
 	@Nullable
 	String getAnnotatedNamedQueryName() {
-		return getAnnotationValueAsStringOrNullIfBlank(getQueryAnnotation(), "name");
-	}
-
-	private Query getQueryAnnotation() {
-		return this.method.getAnnotation(Query.class);
+		return this.annotatedNamedQueryName;
 	}
 
 	TypeInformation<?> getReturnType() {
@@ -110,14 +177,14 @@ public class SolrQueryMethod extends QueryMethod {
 	 * @return true if {@link Query#fields()} is not empty
 	 */
 	public boolean hasProjectionFields() {
-		return hasQueryAnnotation() && !CollectionUtils.isEmpty(getProjectionFields());
+		return !this.projectionFields.isEmpty();
 	}
 
 	/**
 	 * @return empty collection if {@link Query#fields()} is empty
 	 */
 	public List<String> getProjectionFields() {
-		return getAnnotationValuesAsStringList(getQueryAnnotation(), "fields");
+		return this.projectionFields;
 	}
 
 	/**
@@ -125,10 +192,7 @@ public class SolrQueryMethod extends QueryMethod {
 	 */
 	@Nullable
 	public Integer getTimeAllowed() {
-		if (hasQueryAnnotation()) {
-			return getAnnotationValueAsIntOrNullIfNegative(getQueryAnnotation(), "timeAllowed");
-		}
-		return null;
+		return this.timeAllowed;
 	}
 
 	/**
@@ -142,55 +206,39 @@ public class SolrQueryMethod extends QueryMethod {
 	 * @return true if {@link Facet#fields()} is not empty
 	 */
 	public boolean hasFacetFields() {
-		return hasFacetAnnotation() && !CollectionUtils.isEmpty(getFacetFields());
+		return !this.facetFields.isEmpty();
 	}
 
 	/**
 	 * @return true if is not empty
 	 */
 	public boolean hasPivotFields() {
-		return hasFacetAnnotation() && !CollectionUtils.isEmpty(getPivotFields());
-	}
-
-	private boolean hasFacetAnnotation() {
-		return getFacetAnnotation() != null;
+		return !this.pivotFields.isEmpty();
 	}
 
 	/**
 	 * @return empty collection if {@link Facet#fields()} is empty
 	 */
 	public List<String> getFacetFields() {
-		return getAnnotationValuesAsStringList(getFacetAnnotation(), "fields");
+		return this.facetFields;
 	}
 
 	/**
 	 * @return empty collection if {@link Facet#queries()} is empty
 	 */
 	public List<String> getFacetQueries() {
-		return getAnnotationValuesAsStringList(getFacetAnnotation(), "queries");
+		return this.facetQueries;
 	}
 
 	public List<String[]> getPivotFields() {
-		List<Pivot> pivotFields = getAnnotationValuesList(getFacetAnnotation(), "pivots", Pivot.class);
-		ArrayList<String[]> result = new ArrayList<>();
-
-		for (Pivot pivot : pivotFields) {
-			result.add(pivot.value());
-		}
-
-		return result;
+		return this.pivotFields;
 	}
 
 	/**
 	 * @return true if {@link Facet#queries()} is not empty
 	 */
 	public boolean hasFacetQueries() {
-		return hasFacetAnnotation() && !CollectionUtils.isEmpty(getFacetQueries());
-	}
-
-	@Nullable
-	private Facet getFacetAnnotation() {
-		return this.method.getAnnotation(Facet.class);
+		return !this.facetQueries.isEmpty();
 	}
 
 	/**
@@ -198,14 +246,7 @@ public class SolrQueryMethod extends QueryMethod {
 	 */
 	@Nullable
 	public Integer getFacetLimit() {
-
-		Facet facetAnnotation = getFacetAnnotation();
-
-		if (facetAnnotation != null) {
-			return (Integer) AnnotationUtils.getValue(getFacetAnnotation(), "limit");
-		}
-
-		return null;
+		return this.facetAnnotation != null ? this.facetAnnotation.limit() : null;
 	}
 
 	/**
@@ -213,14 +254,7 @@ public class SolrQueryMethod extends QueryMethod {
 	 */
 	@Nullable
 	public Integer getFacetMinCount() {
-
-		Facet facetAnnotation = getFacetAnnotation();
-
-		if (facetAnnotation != null) {
-			return (Integer) AnnotationUtils.getValue(getFacetAnnotation(), "minCount");
-		}
-
-		return null;
+		return this.facetAnnotation != null ? this.facetAnnotation.minCount() : null;
 	}
 
 	/**
@@ -228,15 +262,7 @@ public class SolrQueryMethod extends QueryMethod {
 	 */
 	@Nullable
 	public String getFacetPrefix() {
-		return getAnnotationValueAsStringOrNullIfBlank(getFacetAnnotation(), "prefix");
-	}
-
-	/**
-	 * @return the {@link Stats} annotation, null if there is none
-	 */
-	@Nullable
-	private Stats getStatsAnnotation() {
-		return this.method.getAnnotation(Stats.class);
+		return this.facetPrefix;
 	}
 
 	/**
@@ -244,13 +270,8 @@ public class SolrQueryMethod extends QueryMethod {
 	 * @since 1.4
 	 */
 	public boolean hasStatsDefinition() {
-		return (//
-		!(getStatsAnnotation() == null) && (//
-		!getFieldStats().isEmpty() || //
-				!getStatsFacets().isEmpty() || //
-				!getStatsSelectiveFacets().isEmpty() || //
-				!getStatsSelectiveCountDistinctFields().isEmpty())//
-		);
+		return this.statsAnnotation != null && (!this.fieldStats.isEmpty() || !this.statsFacets.isEmpty()
+				|| !this.statsSelectiveFacets.isEmpty() || !this.statsSelectiveCountDistinctFields.isEmpty());
 	}
 
 	/**
@@ -258,9 +279,7 @@ public class SolrQueryMethod extends QueryMethod {
 	 * @since 1.4
 	 */
 	public boolean isFieldStatsCountDistinctEnable() {
-
-		Stats stats = getStatsAnnotation();
-		return stats != null && stats.distinct();
+		return this.statsAnnotation != null && this.statsAnnotation.distinct();
 	}
 
 	/**
@@ -268,7 +287,7 @@ public class SolrQueryMethod extends QueryMethod {
 	 * @since 1.4
 	 */
 	public List<String> getFieldStats() {
-		return getAnnotationValuesAsStringList(getStatsAnnotation(), "value");
+		return this.fieldStats;
 	}
 
 	/**
@@ -276,7 +295,7 @@ public class SolrQueryMethod extends QueryMethod {
 	 * @since 1.4
 	 */
 	public List<String> getStatsFacets() {
-		return getAnnotationValuesAsStringList(getStatsAnnotation(), "facets");
+		return this.statsFacets;
 	}
 
 	/**
@@ -284,15 +303,7 @@ public class SolrQueryMethod extends QueryMethod {
 	 * @since 1.4
 	 */
 	public Map<String, String[]> getStatsSelectiveFacets() {
-
-		List<SelectiveStats> selective = getAnnotationValuesList(getStatsAnnotation(), "selective", SelectiveStats.class);
-
-		Map<String, String[]> result = new LinkedHashMap<>();
-		for (SelectiveStats selectiveFacet : selective) {
-			result.put(selectiveFacet.field(), selectiveFacet.facets());
-		}
-
-		return result;
+		return this.statsSelectiveFacets;
 	}
 
 	/**
@@ -300,24 +311,14 @@ public class SolrQueryMethod extends QueryMethod {
 	 * @since 1.4
 	 */
 	public Collection<String> getStatsSelectiveCountDistinctFields() {
-
-		List<SelectiveStats> selective = getAnnotationValuesList(getStatsAnnotation(), "selective", SelectiveStats.class);
-
-		Collection<String> result = new LinkedHashSet<>();
-		for (SelectiveStats selectiveFacet : selective) {
-			if (selectiveFacet.distinct()) {
-				result.add(selectiveFacet.field());
-			}
-		}
-
-		return result;
+		return this.statsSelectiveCountDistinctFields;
 	}
 
 	/**
 	 * @return true if {@link Query#filters()} is not empty
 	 */
 	public boolean hasFilterQuery() {
-		return hasQueryAnnotation() && !CollectionUtils.isEmpty(getFilterQueries());
+		return !this.filterQueries.isEmpty();
 	}
 
 	/**
@@ -325,33 +326,21 @@ public class SolrQueryMethod extends QueryMethod {
 	 * @since 1.2
 	 */
 	public boolean isDeleteQuery() {
-		return hasQueryAnnotation() && (Boolean) AnnotationUtils.getValue(getQueryAnnotation(), "delete");
-	}
-
-	@Nullable
-	private Annotation getHighlightAnnotation() {
-		return this.method.getAnnotation(Highlight.class);
-	}
-
-	private boolean hasHighlightAnnotation() {
-		return this.getHighlightAnnotation() != null;
+		return this.deleteQuery;
 	}
 
 	/**
 	 * @return if {@link Highlight} is present
 	 */
 	public boolean isHighlightQuery() {
-		return this.hasHighlightAnnotation();
+		return this.highlightAnnotation != null;
 	}
 
 	/**
 	 * @return empty collection if {@link Highlight#fields()} is empty
 	 */
 	public List<String> getHighlightFieldNames() {
-		if (hasHighlightAnnotation()) {
-			return this.getAnnotationValuesAsStringList(getHighlightAnnotation(), "fields");
-		}
-		return Collections.emptyList();
+		return this.highlightFieldNames;
 	}
 
 	/**
@@ -359,10 +348,7 @@ public class SolrQueryMethod extends QueryMethod {
 	 */
 	@Nullable
 	public String getHighlightQuery() {
-		if (hasHighlightAnnotation()) {
-			return getAnnotationValueAsStringOrNullIfBlank(getHighlightAnnotation(), "query");
-		}
-		return null;
+		return this.highlightQuery;
 	}
 
 	/**
@@ -370,10 +356,7 @@ public class SolrQueryMethod extends QueryMethod {
 	 */
 	@Nullable
 	public Integer getHighlighSnipplets() {
-		if (hasHighlightAnnotation()) {
-			return getAnnotationValueAsIntOrNullIfNegative(getHighlightAnnotation(), "snipplets");
-		}
-		return null;
+		return this.highlightSnipplets;
 	}
 
 	/**
@@ -381,10 +364,7 @@ public class SolrQueryMethod extends QueryMethod {
 	 */
 	@Nullable
 	public Integer getHighlightFragsize() {
-		if (hasHighlightAnnotation()) {
-			return getAnnotationValueAsIntOrNullIfNegative(getHighlightAnnotation(), "fragsize");
-		}
-		return null;
+		return this.highlightFragsize;
 	}
 
 	/**
@@ -392,10 +372,7 @@ public class SolrQueryMethod extends QueryMethod {
 	 */
 	@Nullable
 	public String getHighlightFormatter() {
-		if (hasHighlightAnnotation()) {
-			return getAnnotationValueAsStringOrNullIfBlank(getHighlightAnnotation(), "formatter");
-		}
-		return null;
+		return this.highlightFormatter;
 	}
 
 	/**
@@ -403,10 +380,7 @@ public class SolrQueryMethod extends QueryMethod {
 	 */
 	@Nullable
 	public String getHighlightPrefix() {
-		if (hasHighlightAnnotation()) {
-			return getAnnotationValueAsStringOrNullIfBlank(getHighlightAnnotation(), "prefix");
-		}
-		return null;
+		return this.highlightPrefix;
 	}
 
 	/**
@@ -414,21 +388,43 @@ public class SolrQueryMethod extends QueryMethod {
 	 */
 	@Nullable
 	public String getHighlightPostfix() {
-		if (hasHighlightAnnotation()) {
-			return getAnnotationValueAsStringOrNullIfBlank(getHighlightAnnotation(), "postfix");
-		}
-		return null;
+		return this.highlightPostfix;
 	}
 
 	/**
 	 * @return true if {@link Highlight#fields()} is not empty
 	 */
 	public boolean hasHighlightFields() {
-		return !getHighlightFieldNames().isEmpty();
+		return !this.highlightFieldNames.isEmpty();
 	}
 
 	List<String> getFilterQueries() {
-		return getAnnotationValuesAsStringList(getQueryAnnotation(), "filters");
+		return this.filterQueries;
+	}
+
+	/**
+	 * @return value of {@link Query#cacheFilters()}
+	 * @since 5.0
+	 */
+	public boolean isCacheFilterQueries() {
+		return this.cacheFilterQueries;
+	}
+
+	/**
+	 * @return value of {@link Query#filterCost()} or null if negative
+	 * @since 5.0
+	 */
+	@Nullable
+	public Integer getFilterQueryCost() {
+		return this.filterQueryCost;
+	}
+
+	/**
+	 * @return value of {@link Query#postFilter()}
+	 * @since 5.0
+	 */
+	public boolean isPostFilterQueries() {
+		return this.postFilterQueries;
 	}
 
 	/**
@@ -436,11 +432,8 @@ public class SolrQueryMethod extends QueryMethod {
 	 *         {@link org.springframework.data.solr.core.query.Query.Operator#NONE} if not set
 	 */
 	public org.springframework.data.solr.core.query.Query.Operator getDefaultOperator() {
-
-		if (hasQueryAnnotation()) {
-			return getQueryAnnotation().defaultOperator();
-		}
-		return org.springframework.data.solr.core.query.Query.Operator.NONE;
+		return this.queryAnnotation != null ? this.queryAnnotation.defaultOperator()
+				: org.springframework.data.solr.core.query.Query.Operator.NONE;
 	}
 
 	/**
@@ -448,10 +441,7 @@ public class SolrQueryMethod extends QueryMethod {
 	 */
 	@Nullable
 	public String getDefType() {
-		if (hasQueryAnnotation()) {
-			return getQueryAnnotation().defType();
-		}
-		return null;
+		return this.queryAnnotation != null ? this.queryAnnotation.defType() : null;
 	}
 
 	/**
@@ -459,10 +449,7 @@ public class SolrQueryMethod extends QueryMethod {
 	 */
 	@Nullable
 	public String getRequestHandler() {
-		if (hasQueryAnnotation()) {
-			return getQueryAnnotation().requestHandler();
-		}
-		return null;
+		return this.queryAnnotation != null ? this.queryAnnotation.requestHandler() : null;
 	}
 
 	/**
@@ -471,7 +458,7 @@ public class SolrQueryMethod extends QueryMethod {
 	 */
 	@Nullable
 	public Spellcheck getSpellcheckAnnotation() {
-		return AnnotatedElementUtils.findMergedAnnotation(this.method, Spellcheck.class);
+		return this.spellcheckAnnotation;
 	}
 
 	/**
@@ -479,7 +466,7 @@ public class SolrQueryMethod extends QueryMethod {
 	 * @since 2.1
 	 */
 	public boolean hasSpellcheck() {
-		return getSpellcheckAnnotation() != null;
+		return this.spellcheckAnnotation != null;
 	}
 
 	/**
@@ -488,8 +475,12 @@ public class SolrQueryMethod extends QueryMethod {
 	 */
 	@Nullable
 	public SpellcheckOptions getSpellcheckOptions() {
+		return this.spellcheckOptions;
+	}
+
+	@Nullable
+	private static SpellcheckOptions createSpellcheckOptions(@Nullable Spellcheck spellcheck) {
 
-		Spellcheck spellcheck = getSpellcheckAnnotation();
 		if (spellcheck == null) {
 			return null;
 		}
@@ -540,7 +531,50 @@ public class SolrQueryMethod extends QueryMethod {
 		return sc;
 	}
 
-	private String getAnnotationValueAsStringOrNullIfBlank(@Nullable Annotation annotation, String attributeName) {
+	private static List<String[]> resolvePivotFields(@Nullable Facet facet) {
+
+		List<Pivot> pivots = getAnnotationValuesList(facet, "pivots", Pivot.class);
+		if (pivots.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<String[]> result = new ArrayList<>(pivots.size());
+		for (Pivot pivot : pivots) {
+			result.add(pivot.value());
+		}
+
+		return Collections.unmodifiableList(result);
+	}
+
+	private static Map<String, String[]> resolveStatsSelectiveFacets(@Nullable Stats stats) {
+
+		List<SelectiveStats> selective = getAnnotationValuesList(stats, "selective", SelectiveStats.class);
+
+		Map<String, String[]> result = new LinkedHashMap<>();
+		for (SelectiveStats selectiveFacet : selective) {
+			result.put(selectiveFacet.field(), selectiveFacet.facets());
+		}
+
+		return Collections.unmodifiableMap(result);
+	}
+
+	private static Collection<String> resolveStatsSelectiveCountDistinctFields(@Nullable Stats stats) {
+
+		List<SelectiveStats> selective = getAnnotationValuesList(stats, "selective", SelectiveStats.class);
+
+		Collection<String> result = new LinkedHashSet<>();
+		for (SelectiveStats selectiveFacet : selective) {
+			if (selectiveFacet.distinct()) {
+				result.add(selectiveFacet.field());
+			}
+		}
+
+		return Collections.unmodifiableCollection(result);
+	}
+
+	@Nullable
+	private static String getAnnotationValueAsStringOrNullIfBlank(@Nullable Annotation annotation,
+			String attributeName) {
 
 		if (annotation == null) {
 			return null;
@@ -552,7 +586,8 @@ public class SolrQueryMethod extends QueryMethod {
 	}
 
 	@Nullable
-	private Integer getAnnotationValueAsIntOrNullIfNegative(@Nullable Annotation annotation, String attributeName) {
+	private static Integer getAnnotationValueAsIntOrNullIfNegative(@Nullable Annotation annotation,
+			String attributeName) {
 
 		if (annotation == null) {
 			return null;
@@ -567,8 +602,7 @@ public class SolrQueryMethod extends QueryMethod {
 		return null;
 	}
 
-	@SuppressWarnings("unchecked")
-	private List<String> getAnnotationValuesAsStringList(@Nullable Annotation annotation, String attribute) {
+	private static List<String> getAnnotationValuesAsStringList(@Nullable Annotation annotation, String attribute) {
 
 		if (annotation == null) {
 			return Collections.emptyList();
@@ -576,13 +610,14 @@ public class SolrQueryMethod extends QueryMethod {
 
 		String[] values = (String[]) AnnotationUtils.getValue(annotation, attribute);
 		if (values.length > 1 || (values.length == 1 && StringUtils.hasText(values[0]))) {
-			return Arrays.asList(values);
+			return Collections.unmodifiableList(Arrays.asList(values));
 		}
 		return Collections.emptyList();
 	}
 
-	@SuppressWarnings("unchecked")
-	private <T> List<T> getAnnotationValuesList(@Nullable Annotation annotation, String attribute, Class<T> clazz) {
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static <T> List<T> getAnnotationValuesList(@Nullable Annotation annotation, String attribute,
+			Class<T> clazz) {
 
 		if (annotation == null) {
 			return Collections.emptyList();
@@ -22,8 +22,9 @@ import org.springframework.data.solr.core.query.SimpleQuery;
 import org.springframework.lang.Nullable;
 
 /**
- * Solr specific implementation of {@link RepositoryQuery} that can handle string based queries
- * 
+ * Solr specific implementation of {@link RepositoryQuery} that can handle string based queries. The query string is
+ * parsed for {@code ?0} parameter placeholders once on creation.
+ *
  * @author Christoph Strobl
  */
 public class StringBasedSolrQuery extends AbstractSolrQuery {
@@ -41,6 +42,8 @@ public class StringBasedSolrQuery extends AbstractSolrQuery {
 	public StringBasedSolrQuery(String collection, String query, SolrQueryMethod queryMethod, SolrOperations solrOperations) {
 		super(collection, solrOperations, queryMethod);
 		this.rawQueryString = query;
+
+		registerQueryTemplate(query);
 	}
 
 	@Override
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.repository.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.util.Assert;
+
+/**
+ * Query string containing {@code ?0}, {@code ?1}, ... parameter placeholders, parsed once into literal segments and
+ * parameter indexes, so that binding the actual values is a single pass over the segments.
+ *
+ * @since 5.0
+ */
+final class StringQueryTemplate {
+
+	private static final Pattern PARAMETER_PLACEHOLDER = Pattern.compile("\\?(\\d+)");
+
+	private final String source;
+	private final String[] segments;
+	private final int[] parameterIndexes;
+	private final int literalLength;
+
+	private StringQueryTemplate(String source, String[] segments, int[] parameterIndexes) {
+
+		this.source = source;
+		this.segments = segments;
+		this.parameterIndexes = parameterIndexes;
+
+		int length = 0;
+		for (String segment : segments) {
+			length += segment.length();
+		}
+		this.literalLength = length;
+	}
+
+	/**
+	 * Parse the given query string.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return new instance of {@link StringQueryTemplate}.
+	 */
+	static StringQueryTemplate parse(String source) {
+
+		Assert.notNull(source, "Source must not be null");
+
+		List<String> segments = new ArrayList<>();
+		List<Integer> parameterIndexes = new ArrayList<>();
+
+		Matcher matcher = PARAMETER_PLACEHOLDER.matcher(source);
+		int position = 0;
+		while (matcher.find()) {
+
+			segments.add(source.substring(position, matcher.start()));
+			parameterIndexes.add(Integer.parseInt(matcher.group(1)));
+			position = matcher.end();
+		}
+		segments.add(source.substring(position));
+
+		return new StringQueryTemplate(source, segments.toArray(new String[0]),
+				parameterIndexes.stream().mapToInt(Integer::intValue).toArray());
+	}
+
+	/**
+	 * @return {@literal true} if the query string contains at least one placeholder.
+	 */
+	boolean hasPlaceholders() {
+		return parameterIndexes.length > 0;
+	}
+
+	/**
+	 * Replace all placeholders with the values rendered for the corresponding parameter index. Rendered values are not
+	 * inspected for further placeholders.
+	 *
+	 * @param parameterRenderer function rendering the value of the parameter with the given index. Must not be
+	 *          {@literal null}.
+	 * @return the bound query string.
+	 */
+	String bind(IntFunction<String> parameterRenderer) {
+
+		if (!hasPlaceholders()) {
+			return source;
+		}
+
+		StringBuilder target = new StringBuilder(literalLength + parameterIndexes.length * 16);
+		for (int i = 0; i < parameterIndexes.length; i++) {
+			target.append(segments[i]);
+			target.append(parameterRenderer.apply(parameterIndexes[i]));
+		}
+		target.append(segments[segments.length - 1]);
+
+		return target.toString();
+	}
+
+	@Override
+	public String toString() {
+		return source;
+	}
+}
@@ -31,6 +31,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.solr.core.SolrOperations;
 import org.springframework.data.solr.core.SolrTransactionSynchronizationAdapterBuilder;
 import org.springframework.data.solr.core.mapping.SimpleSolrMappingContext;
+import org.springframework.data.solr.core.mapping.SolrPersistentEntity;
 import org.springframework.data.solr.core.query.Criteria;
 import org.springframework.data.solr.core.query.SimpleFilterQuery;
 import org.springframework.data.solr.core.query.SimpleQuery;
@@ -198,7 +199,7 @@ public class SimpleSolrRepository<T, ID extends Serializable> implements SolrCru
 
 		ArrayList<String> idsToDelete = new ArrayList<>();
 		for (T entity : entities) {
-			idsToDelete.add(extractIdFromBean(entity).toString());
+			idsToDelete.add(extractDocumentIdFromBean(entity));
 		}
 
 		registerTransactionSynchronisationIfSynchronisationActive();
@@ -244,6 +245,20 @@ public class SimpleSolrRepository<T, ID extends Serializable> implements SolrCru
 		return extractIdFromSolrInputDocument(solrInputDocument);
 	}
 
+	/**
+	 * @return the id of the stored document, which is the composite id for entities defining a
+	 *         {@link org.springframework.data.solr.core.mapping.RoutingKey}.
+	 */
+	private String extractDocumentIdFromBean(T entity) {
+
+		SolrPersistentEntity<?> persistentEntity = solrOperations.getConverter().getMappingContext()
+				.getPersistentEntity(entity.getClass());
+		if (persistentEntity != null && persistentEntity.hasRoutingProperty()) {
+			return extractIdFromSolrInputDocument(solrOperations.convertBeanToSolrInputDocument(entity));
+		}
+		return extractIdFromBean(entity).toString();
+	}
+
 	private String extractIdFromSolrInputDocument(SolrInputDocument solrInputDocument) {
 		Assert.notNull(solrInputDocument.getField(idFieldName),
 				"Unable to find field '" + idFieldName + "' in SolrDocument");
@@ -34,4 +34,15 @@ public interface SolrClientFactory {
 	 */
 	SolrClient getSolrClient();
 
+	/**
+	 * Get the {@link SolrClient} used for read only operations like queries, real time get and cursors. Defaults to
+	 * {@link #getSolrClient()}. Override to direct reads to a different set of replicas than updates.
+	 *
+	 * @return a reusable SolrClient instance
+	 * @since 5.0
+	 */
+	default SolrClient getReadSolrClient() {
+		return getSolrClient();
+	}
+
 }
@@ -19,12 +19,15 @@ import org.springframework.beans.factory.support.AbstractBeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.xml.AbstractBeanDefinitionParser;
 import org.springframework.beans.factory.xml.ParserContext;
+import org.springframework.data.solr.server.support.Http2SolrClientFactoryBean;
 import org.springframework.data.solr.server.support.HttpSolrClientFactoryBean;
 import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
 import org.w3c.dom.Element;
 
 /**
- * {@link HttpSolrClientBeanDefinitionParser} replaces HttpSolrServerBeanDefinitionParser from version 1.x.
+ * {@link HttpSolrClientBeanDefinitionParser} replaces HttpSolrServerBeanDefinitionParser from version 1.x. Setting
+ * {@code http2="true"} registers an {@link Http2SolrClientFactoryBean} instead.
  *
  * @author Christoph Strobl
  * @since 2.0
@@ -34,6 +37,14 @@ public class HttpSolrClientBeanDefinitionParser extends AbstractBeanDefinitionPa
 	@Nullable
 	@Override
 	protected AbstractBeanDefinition parseInternal(Element element, ParserContext parserContext) {
+
+		if (Boolean.parseBoolean(element.getAttribute("http2"))) {
+
+			BeanDefinitionBuilder builder = BeanDefinitionBuilder.rootBeanDefinition(Http2SolrClientFactoryBean.class);
+			setHttp2Properties(element, builder);
+			return getSourcedBeanDefinition(builder, element, parserContext);
+		}
+
 		BeanDefinitionBuilder builder = BeanDefinitionBuilder.rootBeanDefinition(HttpSolrClientFactoryBean.class);
 		setSolrHome(element, builder);
 		return getSourcedBeanDefinition(builder, element, parserContext);
@@ -43,6 +54,36 @@ public class HttpSolrClientBeanDefinitionParser extends AbstractBeanDefinitionPa
 		builder.addPropertyValue("url", element.getAttribute("url"));
 		builder.addPropertyValue("timeout", element.getAttribute("timeout"));
 		builder.addPropertyValue("maxConnections", element.getAttribute("maxConnections"));
+		addPropertyValueIfPresent(element, "maxConnectionsPerHost", builder, "maxConnectionsPerHost");
+		addPropertyValueIfPresent(element, "socketTimeout", builder, "socketTimeout");
+		addPropertyValueIfPresent(element, "keepAlive", builder, "keepAlive");
+		addPropertyValueIfPresent(element, "connectionTtl", builder, "connectionTtl");
+		setWireFormats(element, builder);
+	}
+
+	private void setHttp2Properties(Element element, BeanDefinitionBuilder builder) {
+
+		builder.addPropertyValue("url", element.getAttribute("url"));
+		addPropertyValueIfPresent(element, "timeout", builder, "connectionTimeout");
+		addPropertyValueIfPresent(element, "maxConnections", builder, "maxConnectionsPerHost");
+		addPropertyValueIfPresent(element, "idleTimeout", builder, "idleTimeout");
+		addPropertyValueIfPresent(element, "requestTimeout", builder, "requestTimeout");
+		setWireFormats(element, builder);
+	}
+
+	private static void setWireFormats(Element element, BeanDefinitionBuilder builder) {
+
+		addPropertyValueIfPresent(element, "updateFormat", builder, "updateFormat");
+		addPropertyValueIfPresent(element, "responseFormat", builder, "responseFormat");
+	}
+
+	private static void addPropertyValueIfPresent(Element element, String attribute, BeanDefinitionBuilder builder,
+			String property) {
+
+		String value = element.getAttribute(attribute);
+		if (StringUtils.hasText(value)) {
+			builder.addPropertyValue(property, value);
+		}
 	}
 
 	private AbstractBeanDefinition getSourcedBeanDefinition(BeanDefinitionBuilder builder, Element source,
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.server.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.impl.CloudHttp2SolrClient;
+import org.apache.solr.client.solrj.impl.CloudSolrClient;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link org.springframework.data.solr.server.SolrClientFactory} providing a {@link CloudSolrClient} that is aware of
+ * the SolrCloud cluster state. Updates are routed directly to the leader of the shard owning the document and
+ * dispatched to multiple shards in parallel instead of taking an extra hop through an arbitrary node. <br />
+ * The cluster state is either read from ZooKeeper, which requires {@code solr-solrj-zookeeper} on the classpath, or
+ * fetched from the given Solr urls. The client is created lazily on first access.
+ *
+ * @since 5.0
+ */
+public class CloudSolrClientFactory extends SolrClientFactoryBase {
+
+	private final List<String> hosts;
+	private final boolean zkHosts;
+	private final @Nullable String zkChroot;
+
+	private boolean updatesToLeadersOnly = true;
+	private boolean parallelUpdates = true;
+	private @Nullable Duration collectionCacheTtl;
+	private @Nullable Integer parallelCacheRefreshes;
+
+	private final Object monitor = new Object();
+	private volatile @Nullable SolrClient solrClient;
+
+	protected CloudSolrClientFactory(List<String> hosts, boolean zkHosts, @Nullable String zkChroot) {
+
+		Assert.notEmpty(hosts, "Hosts must not be null nor empty");
+
+		this.hosts = new ArrayList<>(hosts);
+		this.zkHosts = zkHosts;
+		this.zkChroot = zkChroot;
+	}
+
+	/**
+	 * Create a new {@link CloudSolrClientFactory} reading the cluster state from ZooKeeper.
+	 *
+	 * @param zkHosts ZooKeeper {@literal host:port} addresses. Must not be {@literal null} nor empty.
+	 * @param zkChroot can be {@literal null}.
+	 * @return new instance of {@link CloudSolrClientFactory}.
+	 */
+	public static CloudSolrClientFactory fromZkHosts(List<String> zkHosts, @Nullable String zkChroot) {
+		return new CloudSolrClientFactory(zkHosts, true, zkChroot);
+	}
+
+	/**
+	 * Create a new {@link CloudSolrClientFactory} fetching the cluster state from the given Solr nodes.
+	 *
+	 * @param solrUrls base urls of Solr nodes, eg. {@literal http://localhost:8983/solr}. Must not be {@literal null}
+	 *          nor empty.
+	 * @return new instance of {@link CloudSolrClientFactory}.
+	 */
+	public static CloudSolrClientFactory fromSolrUrls(List<String> solrUrls) {
+		return new CloudSolrClientFactory(solrUrls, false, null);
+	}
+
+	@Override
+	public SolrClient getSolrClient() {
+
+		SolrClient client = this.solrClient;
+		if (client == null) {
+			synchronized (monitor) {
+
+				client = this.solrClient;
+				if (client == null) {
+
+					client = createSolrClient();
+					setSolrClient(client);
+					this.solrClient = client;
+				}
+			}
+		}
+		return client;
+	}
+
+	/**
+	 * Create the {@link CloudSolrClient} applying the configured options.
+	 *
+	 * @return never {@literal null}.
+	 */
+	protected CloudSolrClient createSolrClient() {
+		return createSolrClientBuilder().build();
+	}
+
+	/**
+	 * Create the {@link CloudHttp2SolrClient.Builder} applying the configured options.
+	 *
+	 * @return never {@literal null}.
+	 */
+	CloudHttp2SolrClient.Builder createSolrClientBuilder() {
+
+		CloudHttp2SolrClient.Builder builder = zkHosts
+				? new CloudHttp2SolrClient.Builder(hosts, Optional.ofNullable(zkChroot))
+				: new CloudHttp2SolrClient.Builder(hosts);
+
+		if (updatesToLeadersOnly) {
+			builder.sendUpdatesOnlyToShardLeaders();
+			builder.sendDirectUpdatesToShardLeadersOnly();
+		} else {
+			builder.sendUpdatesToAnyReplica();
+			builder.sendDirectUpdatesToAnyShardReplica();
+		}
+
+		builder.withParallelUpdates(parallelUpdates);
+
+		if (collectionCacheTtl != null) {
+			builder.withCollectionCacheTtl(toSeconds(collectionCacheTtl));
+		}
+		if (parallelCacheRefreshes != null) {
+			builder.withParallelCacheRefreshes(parallelCacheRefreshes);
+		}
+
+		return builder;
+	}
+
+	/**
+	 * Convert the given {@link Duration} into whole seconds rounding fractions up so that sub-second values do not
+	 * disable caching.
+	 */
+	private static int toSeconds(Duration duration) {
+
+		long seconds = duration.getNano() > 0 ? duration.getSeconds() + 1 : duration.getSeconds();
+		return (int) Math.min(seconds, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Send updates to shard leaders only. If disabled, updates may be sent to any replica of the shard which then
+	 * forwards them to its leader. Defaults to {@literal true}.
+	 *
+	 * @param updatesToLeadersOnly
+	 */
+	public void setUpdatesToLeadersOnly(boolean updatesToLeadersOnly) {
+		this.updatesToLeadersOnly = updatesToLeadersOnly;
+	}
+
+	public boolean isUpdatesToLeadersOnly() {
+		return updatesToLeadersOnly;
+	}
+
+	/**
+	 * Dispatch updates spanning multiple shards in parallel. Defaults to {@literal true}.
+	 *
+	 * @param parallelUpdates
+	 */
+	public void setParallelUpdates(boolean parallelUpdates) {
+		this.parallelUpdates = parallelUpdates;
+	}
+
+	public boolean isParallelUpdates() {
+		return parallelUpdates;
+	}
+
+	/**
+	 * Set the time cached collection states are considered valid before they are refreshed. The client works with
+	 * whole seconds, fractions are rounded up.
+	 *
+	 * @param collectionCacheTtl can be {@literal null} to use the client default.
+	 */
+	public void setCollectionCacheTtl(@Nullable Duration collectionCacheTtl) {
+
+		Assert.isTrue(collectionCacheTtl == null || !collectionCacheTtl.isNegative(),
+				"CollectionCacheTtl must not be negative");
+		this.collectionCacheTtl = collectionCacheTtl;
+	}
+
+	@Nullable
+	public Duration getCollectionCacheTtl() {
+		return collectionCacheTtl;
+	}
+
+	/**
+	 * Set the number of collection states that may be refreshed concurrently.
+	 *
+	 * @param parallelCacheRefreshes can be {@literal null} to use the client default.
+	 */
+	public void setParallelCacheRefreshes(@Nullable Integer parallelCacheRefreshes) {
+
+		Assert.isTrue(parallelCacheRefreshes == null || parallelCacheRefreshes > 0,
+				"ParallelCacheRefreshes must be greater than zero");
+		this.parallelCacheRefreshes = parallelCacheRefreshes;
+	}
+
+	@Nullable
+	public Integer getParallelCacheRefreshes() {
+		return parallelCacheRefreshes;
+	}
+
+	@Override
+	public void destroy() {
+
+		if (this.solrClient != null) {
+			super.destroy();
+		}
+	}
+
+}
@@ -0,0 +1,332 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.server.support;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.protocol.HTTP;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpProcessor;
+import org.apache.http.protocol.HttpRequestExecutor;
+import org.apache.http.protocol.RequestContent;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link HttpRequestExecutor} gzip compressing request bodies exceeding a given threshold. Repeatable bodies of known
+ * length are compressed before the request is sent. Streaming bodies, like the ones
+ * {@link org.apache.solr.client.solrj.impl.HttpSolrClient} writes update requests to, are compressed while being
+ * written and sent chunked. Requires the Solr server to accept {@literal Content-Encoding: gzip} request bodies.
+ *
+ * @since 5.0
+ */
+class CompressingHttpRequestExecutor extends HttpRequestExecutor {
+
+	private static final String GZIP = "gzip";
+	private static final RequestContent CONTENT_HEADERS = new RequestContent(true);
+
+	private final long threshold;
+	private final int compressionLevel;
+	private final List<RequestCompressionListener> listeners;
+
+	/**
+	 * @param threshold minimum size in bytes of request bodies to compress.
+	 * @param compressionLevel {@link Deflater} compression level between {@literal 0} and {@literal 9} or
+	 *          {@link Deflater#DEFAULT_COMPRESSION}.
+	 * @param listeners must not be {@literal null}.
+	 */
+	CompressingHttpRequestExecutor(long threshold, int compressionLevel, List<RequestCompressionListener> listeners) {
+
+		Assert.isTrue(threshold >= 0, "Threshold must not be negative");
+		Assert.isTrue(compressionLevel == Deflater.DEFAULT_COMPRESSION
+				|| (compressionLevel >= Deflater.NO_COMPRESSION && compressionLevel <= Deflater.BEST_COMPRESSION),
+				"Compression level must be between 0 and 9 or -1");
+		Assert.notNull(listeners, "Listeners must not be null");
+
+		this.threshold = threshold;
+		this.compressionLevel = compressionLevel;
+		this.listeners = listeners;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.apache.http.protocol.HttpRequestExecutor#preProcess(org.apache.http.HttpRequest, org.apache.http.protocol.HttpProcessor, org.apache.http.protocol.HttpContext)
+	 */
+	@Override
+	public void preProcess(HttpRequest request, HttpProcessor processor, HttpContext context)
+			throws HttpException, IOException {
+
+		if (request instanceof HttpEntityEnclosingRequest) {
+			compress((HttpEntityEnclosingRequest) request);
+		}
+		super.preProcess(request, processor, context);
+	}
+
+	/**
+	 * {@link org.apache.http.client.HttpClient} applies its request interceptors itself and does not call
+	 * {@link #preProcess(HttpRequest, HttpProcessor, HttpContext)}, so the body is compressed right before the request
+	 * is sent and the content headers set by the interceptors are updated accordingly.
+	 *
+	 * @see org.apache.http.protocol.HttpRequestExecutor#execute(org.apache.http.HttpRequest, org.apache.http.HttpClientConnection, org.apache.http.protocol.HttpContext)
+	 */
+	@Override
+	public HttpResponse execute(HttpRequest request, HttpClientConnection conn, HttpContext context)
+			throws IOException, HttpException {
+
+		if (request instanceof HttpEntityEnclosingRequest && compress((HttpEntityEnclosingRequest) request)) {
+			CONTENT_HEADERS.process(request, context);
+		}
+		return super.execute(request, conn, context);
+	}
+
+	/**
+	 * @return {@literal true} if the request body has been replaced by a compressed one.
+	 */
+	private boolean compress(HttpEntityEnclosingRequest request) throws IOException {
+
+		HttpEntity entity = request.getEntity();
+		if (entity == null || entity.getContentEncoding() != null || request.containsHeader(HTTP.CONTENT_ENCODING)) {
+			return false;
+		}
+
+		if (!entity.isRepeatable() || entity.getContentLength() < 0) {
+
+			request.setEntity(new StreamingGzipEntity(entity, request.getRequestLine().getUri()));
+			return true;
+		}
+
+		if (entity.getContentLength() < threshold) {
+			return false;
+		}
+
+		long uncompressedBytes = entity.getContentLength();
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream((int) Math.min(uncompressedBytes / 4, Integer.MAX_VALUE));
+		try (OutputStream gzip = new LeveledGZIPOutputStream(buffer, compressionLevel)) {
+			entity.writeTo(gzip);
+		}
+
+		ByteArrayEntity compressed = new ByteArrayEntity(buffer.toByteArray());
+		compressed.setContentType(entity.getContentType());
+		compressed.setContentEncoding(GZIP);
+		request.setEntity(compressed);
+
+		notifyListeners(request.getRequestLine().getUri(), uncompressedBytes, compressed.getContentLength());
+		return true;
+	}
+
+	private void notifyListeners(String requestUri, long uncompressedBytes, long compressedBytes) {
+
+		for (RequestCompressionListener listener : listeners) {
+			listener.requestCompressed(requestUri, uncompressedBytes, compressedBytes);
+		}
+	}
+
+	/**
+	 * Chunked {@link HttpEntity} gzip compressing the body of the wrapped entity while it is written. As the content
+	 * encoding is sent ahead of the body, bodies smaller than the threshold are written as uncompressed gzip blocks
+	 * instead of being sent as they are.
+	 */
+	private class StreamingGzipEntity extends HttpEntityWrapper {
+
+		private final String requestUri;
+
+		StreamingGzipEntity(HttpEntity entity, String requestUri) {
+
+			super(entity);
+			this.requestUri = requestUri;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.apache.http.entity.HttpEntityWrapper#getContentEncoding()
+		 */
+		@Override
+		public Header getContentEncoding() {
+			return new BasicHeader(HTTP.CONTENT_ENCODING, GZIP);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.apache.http.entity.HttpEntityWrapper#getContentLength()
+		 */
+		@Override
+		public long getContentLength() {
+			return -1;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.apache.http.entity.HttpEntityWrapper#isChunked()
+		 */
+		@Override
+		public boolean isChunked() {
+			return true;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.apache.http.entity.HttpEntityWrapper#getContent()
+		 */
+		@Override
+		public InputStream getContent() {
+			throw new UnsupportedOperationException("Compressed content is only available via writeTo(OutputStream)");
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.apache.http.entity.HttpEntityWrapper#writeTo(java.io.OutputStream)
+		 */
+		@Override
+		public void writeTo(OutputStream outstream) throws IOException {
+
+			ThresholdGzipOutputStream gzip = new ThresholdGzipOutputStream(outstream);
+			wrappedEntity.writeTo(gzip);
+			gzip.finish();
+
+			if (gzip.isCompressed()) {
+				notifyListeners(requestUri, gzip.getUncompressedBytes(), gzip.getCompressedBytes());
+			}
+		}
+	}
+
+	/**
+	 * {@link OutputStream} buffering written bytes until the threshold is reached and compressing them using the
+	 * configured compression level from then on.
+	 */
+	private class ThresholdGzipOutputStream extends OutputStream {
+
+		private final CountingOutputStream target;
+		private @Nullable ByteArrayOutputStream buffer;
+		private @Nullable GZIPOutputStream gzip;
+		private long uncompressedBytes;
+
+		ThresholdGzipOutputStream(OutputStream target) {
+
+			this.target = new CountingOutputStream(target);
+			this.buffer = new ByteArrayOutputStream((int) Math.min(threshold, 8192));
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+
+			uncompressedBytes += len;
+
+			if (gzip == null) {
+
+				if (uncompressedBytes < threshold) {
+					buffer.write(b, off, len);
+					return;
+				}
+				gzip = startGzip(compressionLevel);
+			}
+			gzip.write(b, off, len);
+		}
+
+		@Override
+		public void flush() throws IOException {
+
+			if (gzip != null) {
+				gzip.flush();
+			}
+		}
+
+		/**
+		 * Complete the gzip stream without closing the target stream.
+		 */
+		void finish() throws IOException {
+
+			if (gzip == null) {
+				gzip = startGzip(Deflater.NO_COMPRESSION);
+			}
+			gzip.finish();
+		}
+
+		boolean isCompressed() {
+			return uncompressedBytes >= threshold;
+		}
+
+		long getUncompressedBytes() {
+			return uncompressedBytes;
+		}
+
+		long getCompressedBytes() {
+			return target.count;
+		}
+
+		private GZIPOutputStream startGzip(int level) throws IOException {
+
+			GZIPOutputStream stream = new LeveledGZIPOutputStream(target, level);
+			buffer.writeTo(stream);
+			buffer = null;
+			return stream;
+		}
+	}
+
+	private static class CountingOutputStream extends FilterOutputStream {
+
+		private long count;
+
+		CountingOutputStream(OutputStream out) {
+			super(out);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+
+			out.write(b);
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+
+			out.write(b, off, len);
+			count += len;
+		}
+	}
+
+	private static class LeveledGZIPOutputStream extends GZIPOutputStream {
+
+		LeveledGZIPOutputStream(OutputStream out, int level) throws IOException {
+
+			super(out);
+			def.setLevel(level);
+		}
+	}
+
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.server.support;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.pool.PoolStats;
+import org.springframework.data.solr.server.support.InstrumentedConnectionManager.WaitTimes;
+import org.springframework.util.Assert;
+
+/**
+ * Point in time view on the connection pool of a client created by {@link HttpSolrClientFactoryBean}. Statistics are
+ * reported in total and per Solr host to help sizing the pool when requests queue up waiting for a connection.
+ *
+ * @since 5.0
+ */
+public class ConnectionPoolMetrics {
+
+	private final InstrumentedConnectionManager connectionManager;
+
+	ConnectionPoolMetrics(InstrumentedConnectionManager connectionManager) {
+
+		Assert.notNull(connectionManager, "ConnectionManager must not be null");
+		this.connectionManager = connectionManager;
+	}
+
+	/**
+	 * @return statistics across all hosts. Never {@literal null}.
+	 */
+	public PoolStatistics getTotalStatistics() {
+
+		PoolStats stats = connectionManager.getTotalStats();
+		PoolStatistics statistics = new PoolStatistics(stats.getLeased(), stats.getPending(), stats.getAvailable(),
+				stats.getMax(), 0, 0, 0);
+
+		for (WaitTimes waitTimes : connectionManager.getWaitTimes().values()) {
+			statistics = statistics.withWaitTimes(waitTimes);
+		}
+		return statistics;
+	}
+
+	/**
+	 * @return statistics per host in the form of {@literal scheme://host:port}. Never {@literal null}.
+	 */
+	public Map<String, PoolStatistics> getHostStatistics() {
+
+		Map<String, PoolStatistics> result = new TreeMap<>();
+		Set<HttpRoute> routes = connectionManager.getRoutes();
+		Map<HttpRoute, WaitTimes> waitTimes = connectionManager.getWaitTimes();
+
+		for (HttpRoute route : routes) {
+
+			PoolStats stats = connectionManager.getStats(route);
+			PoolStatistics statistics = new PoolStatistics(stats.getLeased(), stats.getPending(), stats.getAvailable(),
+					stats.getMax(), 0, 0, 0);
+			if (waitTimes.containsKey(route)) {
+				statistics = statistics.withWaitTimes(waitTimes.get(route));
+			}
+
+			result.merge(route.getTargetHost().toURI(), statistics, PoolStatistics::combine);
+		}
+
+		return Collections.unmodifiableMap(result);
+	}
+
+	/**
+	 * Immutable snapshot of pool usage.
+	 *
+	 * @since 5.0
+	 */
+	public static class PoolStatistics {
+
+		private final int leased;
+		private final int pending;
+		private final int available;
+		private final int max;
+		private final long leaseRequests;
+		private final long totalWaitNanos;
+		private final long maxWaitNanos;
+
+		PoolStatistics(int leased, int pending, int available, int max, long leaseRequests, long totalWaitNanos,
+				long maxWaitNanos) {
+
+			this.leased = leased;
+			this.pending = pending;
+			this.available = available;
+			this.max = max;
+			this.leaseRequests = leaseRequests;
+			this.totalWaitNanos = totalWaitNanos;
+			this.maxWaitNanos = maxWaitNanos;
+		}
+
+		PoolStatistics withWaitTimes(WaitTimes waitTimes) {
+			return new PoolStatistics(leased, pending, available, max, leaseRequests + waitTimes.getRequests(),
+					totalWaitNanos + waitTimes.getTotalNanos(), Math.max(maxWaitNanos, waitTimes.getMaxNanos()));
+		}
+
+		PoolStatistics combine(PoolStatistics other) {
+			return new PoolStatistics(leased + other.leased, pending + other.pending, available + other.available,
+					max + other.max, leaseRequests + other.leaseRequests, totalWaitNanos + other.totalWaitNanos,
+					Math.max(maxWaitNanos, other.maxWaitNanos));
+		}
+
+		/**
+		 * @return number of connections currently in use.
+		 */
+		public int getLeased() {
+			return leased;
+		}
+
+		/**
+		 * @return number of requests currently waiting for a connection.
+		 */
+		public int getPending() {
+			return pending;
+		}
+
+		/**
+		 * @return number of idle connections ready to be leased.
+		 */
+		public int getAvailable() {
+			return available;
+		}
+
+		/**
+		 * @return maximum number of connections allowed.
+		 */
+		public int getMax() {
+			return max;
+		}
+
+		/**
+		 * @return number of connections requested from the pool so far.
+		 */
+		public long getLeaseRequests() {
+			return leaseRequests;
+		}
+
+		/**
+		 * @return average time spent waiting for a connection. {@link Duration#ZERO} if no connection was requested yet.
+		 */
+		public Duration getAverageWaitTime() {
+			return leaseRequests > 0 ? Duration.ofNanos(totalWaitNanos / leaseRequests) : Duration.ZERO;
+		}
+
+		/**
+		 * @return longest time spent waiting for a connection.
+		 */
+		public Duration getMaxWaitTime() {
+			return Duration.ofNanos(maxWaitNanos);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return "PoolStatistics [leased=" + leased + ", pending=" + pending + ", available=" + available + ", max=" + max
+					+ ", leaseRequests=" + leaseRequests + ", averageWaitTime=" + getAverageWaitTime() + ", maxWaitTime="
+					+ getMaxWaitTime() + "]";
+		}
+	}
+
+}
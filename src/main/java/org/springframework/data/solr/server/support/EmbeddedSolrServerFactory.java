@@ -54,8 +54,10 @@ import org.xml.sax.SAXException;
 public class EmbeddedSolrServerFactory implements SolrClientFactory, DisposableBean {
 
 	private static final String SOLR_HOME_SYSTEM_PROPERTY = "solr.solr.home";
+	private static final String DEFAULT_CORE_NAME = "collection1";
 
 	private @Nullable String solrHome;
+	private String defaultCoreName = DEFAULT_CORE_NAME;
 	private AtomicReference<CoreContainer> coreContainer = new AtomicReference<>(null);
 	private ConcurrentHashMap<String, EmbeddedSolrServer> servers = new ConcurrentHashMap<>();
 
@@ -75,9 +77,41 @@ public class EmbeddedSolrServerFactory implements SolrClientFactory, DisposableB
 		this.solrHome = solrHome;
 	}
 
+	/**
+	 * Get the {@link EmbeddedSolrServer} for the {@link #setDefaultCoreName(String) default core}. Requests specifying a
+	 * collection explicitly are routed to the core with that name.
+	 *
+	 * @return the cached {@link EmbeddedSolrServer} for the default core.
+	 */
 	@Override
 	public EmbeddedSolrServer getSolrClient() {
-		return new EmbeddedSolrServer(getCoreContainer(), "collection1");
+		return getSolrClient(defaultCoreName);
+	}
+
+	/**
+	 * Get the {@link EmbeddedSolrServer} using the core with the given name as default. Instances are created once per
+	 * core and reused for subsequent calls.
+	 *
+	 * @param coreName must not be {@literal null} nor empty.
+	 * @return the cached {@link EmbeddedSolrServer} for the given core.
+	 * @throws IllegalArgumentException if the {@link CoreContainer} does not know a core with the given name.
+	 * @since 5.0
+	 */
+	public EmbeddedSolrServer getSolrClient(String coreName) {
+
+		Assert.hasText(coreName, "CoreName must not be null nor empty");
+
+		EmbeddedSolrServer server = servers.get(coreName);
+		if (server != null) {
+			return server;
+		}
+
+		CoreContainer container = getCoreContainer();
+		if (!container.getAllCoreNames().contains(coreName)) {
+			throw new IllegalArgumentException(String.format("Core '%s' does not exist. Available cores are %s.", coreName,
+					container.getAllCoreNames()));
+		}
+		return servers.computeIfAbsent(coreName, name -> new EmbeddedSolrServer(container, name));
 	}
 
 	protected void initCoreContainer() {
@@ -97,7 +131,7 @@ public class EmbeddedSolrServerFactory implements SolrClientFactory, DisposableB
 	 */
 	public final EmbeddedSolrServer createPathConfiguredSolrServer(String path)
 			throws ParserConfigurationException, IOException, SAXException {
-		return new EmbeddedSolrServer(createCoreContainer(path), "collection1");
+		return new EmbeddedSolrServer(createCoreContainer(path), defaultCoreName);
 	}
 
 	private CoreContainer createCoreContainer(String path) throws FileNotFoundException, UnsupportedEncodingException {
@@ -152,6 +186,8 @@ public class EmbeddedSolrServerFactory implements SolrClientFactory, DisposableB
 	}
 
 	public void shutdownSolrServer() {
+
+		servers.clear();
 		if (coreContainer.get() != null) {
 			coreContainer.get().shutdown();
 		}
@@ -166,6 +202,26 @@ public class EmbeddedSolrServerFactory implements SolrClientFactory, DisposableB
 		this.solrHome = solrHome;
 	}
 
+	/**
+	 * Set the name of the core used by {@link #getSolrClient()}. Defaults to {@literal collection1}.
+	 *
+	 * @param defaultCoreName must not be {@literal null} nor empty.
+	 * @since 5.0
+	 */
+	public void setDefaultCoreName(String defaultCoreName) {
+
+		Assert.hasText(defaultCoreName, "DefaultCoreName must not be null nor empty");
+		this.defaultCoreName = defaultCoreName;
+	}
+
+	/**
+	 * @return the name of the core used by {@link #getSolrClient()}.
+	 * @since 5.0
+	 */
+	public String getDefaultCoreName() {
+		return defaultCoreName;
+	}
+
 	@Override
 	public void destroy() throws Exception {
 		shutdownSolrServer();
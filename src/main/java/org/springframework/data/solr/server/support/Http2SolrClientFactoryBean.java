@@ -0,0 +1,257 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.server.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrRequest;
+import org.apache.solr.client.solrj.impl.Http2SolrClient;
+import org.apache.solr.client.solrj.impl.LBHttp2SolrClient;
+import org.apache.solr.client.solrj.impl.LBSolrClient.Req;
+import org.apache.solr.client.solrj.impl.LBSolrClient.Rsp;
+import org.apache.solr.client.solrj.util.AsyncListener;
+import org.apache.solr.client.solrj.util.Cancellable;
+import org.apache.solr.common.util.NamedList;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link FactoryBean} creating an {@link Http2SolrClient} multiplexing concurrent requests over a shared HTTP/2
+ * connection instead of occupying one connection per in-flight request. Comma separated urls result in a
+ * {@link LBHttp2SolrClient} distributing requests across the given servers.
+ *
+ * @since 5.0
+ */
+public class Http2SolrClientFactoryBean extends SolrClientFactoryBase
+		implements FactoryBean<SolrClient>, InitializingBean, DisposableBean {
+
+	private static final String SERVER_URL_SEPARATOR = ",";
+
+	private @Nullable String url;
+	private @Nullable Integer connectionTimeout;
+	private @Nullable Integer idleTimeout;
+	private @Nullable Integer requestTimeout;
+	private @Nullable Integer maxConnectionsPerHost;
+	private @Nullable WireFormat updateFormat;
+	private @Nullable WireFormat responseFormat;
+
+	private @Nullable Http2SolrClient http2SolrClient;
+
+	@Override
+	public void afterPropertiesSet() throws Exception {
+
+		Assert.hasText(url, "Solr url must not be null nor empty");
+		Assert.isTrue(responseFormat == null || responseFormat.supportsResponses(),
+				() -> String.format("Response format %s is not supported", responseFormat));
+		initSolrClient();
+	}
+
+	private void initSolrClient() {
+
+		String[] urls = StringUtils.split(this.url, SERVER_URL_SEPARATOR);
+
+		if (urls.length > 1) {
+
+			this.http2SolrClient = createHttp2SolrClientBuilder(null).build();
+			this.setSolrClient(new LBHttp2SolrClient.Builder(http2SolrClient, urls).build());
+		} else {
+
+			this.http2SolrClient = createHttp2SolrClientBuilder(urls[0]).build();
+			this.setSolrClient(http2SolrClient);
+		}
+	}
+
+	private Http2SolrClient.Builder createHttp2SolrClientBuilder(@Nullable String baseSolrUrl) {
+
+		Http2SolrClient.Builder builder = baseSolrUrl != null ? new Http2SolrClient.Builder(baseSolrUrl)
+				: new Http2SolrClient.Builder();
+
+		if (connectionTimeout != null) {
+			builder.withConnectionTimeout(connectionTimeout, TimeUnit.MILLISECONDS);
+		}
+		if (idleTimeout != null) {
+			builder.withIdleTimeout(idleTimeout, TimeUnit.MILLISECONDS);
+		}
+		if (requestTimeout != null) {
+			builder.withRequestTimeout(requestTimeout, TimeUnit.MILLISECONDS);
+		}
+		if (maxConnectionsPerHost != null) {
+			builder.withMaxConnectionsPerHost(maxConnectionsPerHost);
+		}
+		if (updateFormat != null) {
+			builder.withRequestWriter(updateFormat.createRequestWriter());
+		}
+		if (responseFormat != null) {
+			builder.withResponseParser(responseFormat.createResponseParser());
+		}
+		return builder;
+	}
+
+	/**
+	 * Execute the given {@link SolrRequest} without blocking the calling thread using the native asynchronous API of
+	 * {@link Http2SolrClient}. Requests against a {@link LBHttp2SolrClient} are distributed across the configured urls.
+	 * Cancelling the returned {@link CompletableFuture} aborts the request.
+	 *
+	 * @param request must not be {@literal null}.
+	 * @param collection can be {@literal null}.
+	 * @return {@link CompletableFuture} completed with the raw response.
+	 */
+	public CompletableFuture<NamedList<Object>> requestAsync(SolrRequest<?> request, @Nullable String collection) {
+
+		Assert.notNull(request, "SolrRequest must not be null");
+
+		SolrClient solrClient = getSolrClient();
+		CompletableFuture<NamedList<Object>> future = new CompletableFuture<>();
+		Cancellable cancellable;
+
+		if (solrClient instanceof LBHttp2SolrClient) {
+
+			Req req = new Req(request, getServerUrls(collection));
+			cancellable = ((LBHttp2SolrClient) solrClient).asyncReq(req, new CompletingListener<>(future, Rsp::getResponse));
+		} else {
+
+			Assert.state(solrClient instanceof Http2SolrClient,
+					() -> String.format("Asynchronous requests are not supported by %s", solrClient.getClass().getName()));
+			cancellable = ((Http2SolrClient) solrClient).asyncRequest(request, collection,
+					new CompletingListener<>(future, response -> response));
+		}
+
+		future.whenComplete((response, throwable) -> {
+			if (future.isCancelled()) {
+				cancellable.cancel();
+			}
+		});
+		return future;
+	}
+
+	private List<String> getServerUrls(@Nullable String collection) {
+
+		List<String> serverUrls = new ArrayList<>();
+		for (String serverUrl : StringUtils.split(this.url, SERVER_URL_SEPARATOR)) {
+
+			serverUrl = StringUtils.removeEnd(serverUrl.trim(), "/");
+			serverUrls.add(StringUtils.isNotBlank(collection) ? serverUrl + "/" + collection : serverUrl);
+		}
+		return serverUrls;
+	}
+
+	@Override
+	public SolrClient getObject() throws Exception {
+		return getSolrClient();
+	}
+
+	@Override
+	public Class<?> getObjectType() {
+		return http2SolrClient != null ? getSolrClient().getClass() : Http2SolrClient.class;
+	}
+
+	@Override
+	public boolean isSingleton() {
+		return true;
+	}
+
+	@Override
+	public void destroy() {
+
+		super.destroy();
+		if (http2SolrClient != null && http2SolrClient != getSolrClient()) {
+			destroy(http2SolrClient);
+		}
+	}
+
+	public void setUrl(String url) {
+		this.url = url;
+	}
+
+	/**
+	 * @param connectionTimeout in milliseconds.
+	 */
+	public void setConnectionTimeout(Integer connectionTimeout) {
+		this.connectionTimeout = connectionTimeout;
+	}
+
+	/**
+	 * @param idleTimeout in milliseconds after which idle connections are closed.
+	 */
+	public void setIdleTimeout(Integer idleTimeout) {
+		this.idleTimeout = idleTimeout;
+	}
+
+	/**
+	 * @param requestTimeout in milliseconds limiting the total time of a single request.
+	 */
+	public void setRequestTimeout(Integer requestTimeout) {
+		this.requestTimeout = requestTimeout;
+	}
+
+	/**
+	 * @param maxConnectionsPerHost maximum number of connections per host. Each HTTP/2 connection carries up to the
+	 *          number of concurrent streams announced by the server.
+	 */
+	public void setMaxConnectionsPerHost(Integer maxConnectionsPerHost) {
+		this.maxConnectionsPerHost = maxConnectionsPerHost;
+	}
+
+	/**
+	 * @param updateFormat format used to send update requests. Defaults to the client default if {@literal null}.
+	 */
+	public void setUpdateFormat(@Nullable WireFormat updateFormat) {
+		this.updateFormat = updateFormat;
+	}
+
+	/**
+	 * @param responseFormat format requested for responses. {@link WireFormat#JSON} is not supported. Defaults to the
+	 *          client default if {@literal null}.
+	 */
+	public void setResponseFormat(@Nullable WireFormat responseFormat) {
+		this.responseFormat = responseFormat;
+	}
+
+	/**
+	 * {@link AsyncListener} completing a {@link CompletableFuture} with the converted response.
+	 */
+	private static class CompletingListener<T> implements AsyncListener<T> {
+
+		private final CompletableFuture<NamedList<Object>> future;
+		private final Function<T, NamedList<Object>> converter;
+
+		CompletingListener(CompletableFuture<NamedList<Object>> future, Function<T, NamedList<Object>> converter) {
+
+			this.future = future;
+			this.converter = converter;
+		}
+
+		@Override
+		public void onSuccess(T response) {
+			future.complete(converter.apply(response));
+		}
+
+		@Override
+		public void onFailure(Throwable throwable) {
+			future.completeExceptionally(throwable);
+		}
+	}
+
+}
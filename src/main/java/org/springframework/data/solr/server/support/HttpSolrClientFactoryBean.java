@@ -15,7 +15,15 @@
  */
 package org.springframework.data.solr.server.support;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+
 import org.apache.commons.lang3.StringUtils;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.IdleConnectionEvictor;
+import org.apache.http.protocol.HttpRequestExecutor;
 import org.apache.solr.client.solrj.SolrClient;
 import org.apache.solr.client.solrj.impl.HttpClientUtil;
 import org.apache.solr.client.solrj.impl.HttpSolrClient;
@@ -40,10 +48,27 @@ public class HttpSolrClientFactoryBean extends HttpSolrClientFactory
 	private @Nullable String url;
 	private @Nullable Integer timeout;
 	private @Nullable Integer maxConnections;
+	private @Nullable Integer maxConnectionsPerHost;
+	private @Nullable Integer socketTimeout;
+	private @Nullable Integer keepAlive;
+	private @Nullable Integer connectionTtl;
+	private @Nullable WireFormat updateFormat;
+	private @Nullable WireFormat responseFormat;
+	private @Nullable Integer requestCompressionThreshold;
+	private int compressionLevel = Deflater.DEFAULT_COMPRESSION;
+	private boolean responseCompression;
+	private @Nullable RequestCompressionListener requestCompressionListener;
+	private final RequestCompressionMetrics requestCompressionMetrics = new RequestCompressionMetrics();
+
+	private @Nullable CloseableHttpClient httpClient;
+	private @Nullable IdleConnectionEvictor idleConnectionEvictor;
+	private @Nullable ConnectionPoolMetrics connectionPoolMetrics;
 
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		Assert.hasText(url, "Solr url must not be null nor empty");
+		Assert.isTrue(responseFormat == null || responseFormat.supportsResponses(),
+				() -> String.format("Response format %s is not supported", responseFormat));
 		initSolrClient();
 	}
 
@@ -53,6 +78,30 @@ public class HttpSolrClientFactoryBean extends HttpSolrClientFactory
 		} else {
 			createHttpSolrClient();
 		}
+		applyWireFormats(getSolrClient());
+	}
+
+	private void applyWireFormats(SolrClient solrClient) {
+
+		if (solrClient instanceof HttpSolrClient) {
+
+			HttpSolrClient httpSolrClient = (HttpSolrClient) solrClient;
+			if (updateFormat != null) {
+				httpSolrClient.setRequestWriter(updateFormat.createRequestWriter());
+			}
+			if (responseFormat != null) {
+				httpSolrClient.setParser(responseFormat.createResponseParser());
+			}
+		} else if (solrClient instanceof LBHttpSolrClient) {
+
+			LBHttpSolrClient lbHttpSolrClient = (LBHttpSolrClient) solrClient;
+			if (updateFormat != null) {
+				lbHttpSolrClient.setRequestWriter(updateFormat.createRequestWriter());
+			}
+			if (responseFormat != null) {
+				lbHttpSolrClient.setParser(responseFormat.createResponseParser());
+			}
+		}
 	}
 
 	private void createHttpSolrClient() {
@@ -62,14 +111,14 @@ public class HttpSolrClientFactoryBean extends HttpSolrClientFactory
 		if (timeout != null) {
 			builder = builder.withConnectionTimeout(timeout);
 		}
+		if (socketTimeout != null) {
+			builder = builder.withSocketTimeout(socketTimeout);
+		}
 
-		if (maxConnections != null) {
-
-			ModifiableSolrParams params = new ModifiableSolrParams();
-			params.set(HttpClientUtil.PROP_MAX_CONNECTIONS, maxConnections);
+		this.httpClient = createHttpClient();
+		builder.withHttpClient(httpClient);
 
-			builder.withHttpClient(HttpClientUtil.createClient(params));
-		}
+		builder.allowCompression(responseCompression);
 
 		this.setSolrClient(builder.build());
 	}
@@ -81,9 +130,81 @@ public class HttpSolrClientFactoryBean extends HttpSolrClientFactory
 		if (timeout != null) {
 			builder.withConnectionTimeout(timeout);
 		}
+		if (socketTimeout != null) {
+			builder.withSocketTimeout(socketTimeout);
+		}
+
+		this.httpClient = createHttpClient();
+		builder.withHttpClient(httpClient);
+
 		this.setSolrClient(builder.build());
 	}
 
+	private CloseableHttpClient createHttpClient() {
+
+		ModifiableSolrParams params = new ModifiableSolrParams();
+		if (maxConnections != null) {
+			params.set(HttpClientUtil.PROP_MAX_CONNECTIONS, maxConnections);
+		}
+		if (maxConnectionsPerHost != null) {
+			params.set(HttpClientUtil.PROP_MAX_CONNECTIONS_PER_HOST, maxConnectionsPerHost);
+		}
+		if (timeout != null) {
+			params.set(HttpClientUtil.PROP_CONNECTION_TIMEOUT, timeout);
+		}
+		if (socketTimeout != null) {
+			params.set(HttpClientUtil.PROP_SO_TIMEOUT, socketTimeout);
+		}
+		if (responseCompression) {
+			params.set(HttpClientUtil.PROP_ALLOW_COMPRESSION, true);
+		}
+
+		InstrumentedConnectionManager connectionManager = new InstrumentedConnectionManager(
+				HttpClientUtil.getSocketFactoryRegistryProvider().getSocketFactoryRegistry(),
+				connectionTtl != null ? connectionTtl : -1);
+		if (maxConnections != null) {
+			connectionManager.setMaxTotal(maxConnections);
+		}
+		if (maxConnectionsPerHost != null) {
+			connectionManager.setDefaultMaxPerRoute(maxConnectionsPerHost);
+		}
+		this.connectionPoolMetrics = new ConnectionPoolMetrics(connectionManager);
+
+		if (keepAlive != null) {
+			this.idleConnectionEvictor = new IdleConnectionEvictor(connectionManager, keepAlive, TimeUnit.MILLISECONDS);
+			this.idleConnectionEvictor.start();
+		}
+
+		return HttpClientUtil.createClient(params, connectionManager, false, createRequestExecutor());
+	}
+
+	private HttpRequestExecutor createRequestExecutor() {
+
+		if (requestCompressionThreshold == null) {
+			return new HttpRequestExecutor();
+		}
+
+		List<RequestCompressionListener> listeners = new ArrayList<>(2);
+		listeners.add(requestCompressionMetrics);
+		if (requestCompressionListener != null) {
+			listeners.add(requestCompressionListener);
+		}
+
+		return new CompressingHttpRequestExecutor(requestCompressionThreshold, compressionLevel, listeners);
+	}
+
+	@Override
+	public void destroy() {
+
+		super.destroy();
+		if (idleConnectionEvictor != null) {
+			idleConnectionEvictor.shutdown();
+		}
+		if (httpClient != null) {
+			HttpClientUtil.close(httpClient);
+		}
+	}
+
 	@Override
 	public SolrClient getObject() throws Exception {
 		return getSolrClient();
@@ -114,4 +235,127 @@ public class HttpSolrClientFactoryBean extends HttpSolrClientFactory
 		this.maxConnections = maxConnections;
 	}
 
+	/**
+	 * @param maxConnectionsPerHost maximum number of pooled connections to a single Solr host. Defaults to the client
+	 *          default if {@literal null}.
+	 * @since 5.0
+	 */
+	public void setMaxConnectionsPerHost(@Nullable Integer maxConnectionsPerHost) {
+
+		Assert.isTrue(maxConnectionsPerHost == null || maxConnectionsPerHost > 0,
+				"MaxConnectionsPerHost must be greater than zero");
+		this.maxConnectionsPerHost = maxConnectionsPerHost;
+	}
+
+	/**
+	 * @param socketTimeout maximum time in milliseconds to wait for data once connected. Defaults to the client default
+	 *          if {@literal null}.
+	 * @since 5.0
+	 */
+	public void setSocketTimeout(@Nullable Integer socketTimeout) {
+
+		Assert.isTrue(socketTimeout == null || socketTimeout >= 0, "SocketTimeout must not be negative");
+		this.socketTimeout = socketTimeout;
+	}
+
+	/**
+	 * Close pooled connections idle for longer than the given time so that no connection is reused after the server or
+	 * a load balancer in between already dropped it.
+	 *
+	 * @param keepAlive maximum idle time in milliseconds. {@literal null} keeps idle connections open.
+	 * @since 5.0
+	 */
+	public void setKeepAlive(@Nullable Integer keepAlive) {
+
+		Assert.isTrue(keepAlive == null || keepAlive > 0, "KeepAlive must be greater than zero");
+		this.keepAlive = keepAlive;
+	}
+
+	/**
+	 * @param connectionTtl maximum lifetime of a pooled connection in milliseconds, regardless of its activity, eg. to
+	 *          pick up DNS changes. {@literal null} does not limit the lifetime.
+	 * @since 5.0
+	 */
+	public void setConnectionTtl(@Nullable Integer connectionTtl) {
+
+		Assert.isTrue(connectionTtl == null || connectionTtl > 0, "ConnectionTtl must be greater than zero");
+		this.connectionTtl = connectionTtl;
+	}
+
+	/**
+	 * @param updateFormat format used to send update requests. Defaults to the client default if {@literal null}.
+	 * @since 5.0
+	 */
+	public void setUpdateFormat(@Nullable WireFormat updateFormat) {
+		this.updateFormat = updateFormat;
+	}
+
+	/**
+	 * @param responseFormat format requested for responses. {@link WireFormat#JSON} is not supported. Defaults to the
+	 *          client default if {@literal null}.
+	 * @since 5.0
+	 */
+	public void setResponseFormat(@Nullable WireFormat responseFormat) {
+		this.responseFormat = responseFormat;
+	}
+
+	/**
+	 * Gzip compress request bodies, eg. large update batches, of at least the given size. Requires the Solr server to
+	 * accept {@literal Content-Encoding: gzip} requests.
+	 *
+	 * @param requestCompressionThreshold in bytes. {@literal null} disables request compression.
+	 * @since 5.0
+	 */
+	public void setRequestCompressionThreshold(@Nullable Integer requestCompressionThreshold) {
+
+		Assert.isTrue(requestCompressionThreshold == null || requestCompressionThreshold >= 0,
+				"RequestCompressionThreshold must not be negative");
+		this.requestCompressionThreshold = requestCompressionThreshold;
+	}
+
+	/**
+	 * @param compressionLevel gzip level between {@literal 0} (fastest) and {@literal 9} (smallest) or {@literal -1} for
+	 *          the default level.
+	 * @since 5.0
+	 */
+	public void setCompressionLevel(int compressionLevel) {
+
+		Assert.isTrue(compressionLevel >= Deflater.DEFAULT_COMPRESSION && compressionLevel <= Deflater.BEST_COMPRESSION,
+				"Compression level must be between 0 and 9 or -1");
+		this.compressionLevel = compressionLevel;
+	}
+
+	/**
+	 * @param responseCompression {@literal true} to accept gzip or deflate compressed responses.
+	 * @since 5.0
+	 */
+	public void setResponseCompression(boolean responseCompression) {
+		this.responseCompression = responseCompression;
+	}
+
+	/**
+	 * @param requestCompressionListener notified about each compressed request. Can be {@literal null}.
+	 * @since 5.0
+	 */
+	public void setRequestCompressionListener(@Nullable RequestCompressionListener requestCompressionListener) {
+		this.requestCompressionListener = requestCompressionListener;
+	}
+
+	/**
+	 * @return never {@literal null}.
+	 * @since 5.0
+	 */
+	public RequestCompressionMetrics getRequestCompressionMetrics() {
+		return requestCompressionMetrics;
+	}
+
+	/**
+	 * @return metrics of the connection pool or {@literal null} if the client has not been created yet.
+	 * @since 5.0
+	 */
+	@Nullable
+	public ConnectionPoolMetrics getConnectionPoolMetrics() {
+		return connectionPoolMetrics;
+	}
+
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.server.support;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.config.Registry;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+/**
+ * {@link PoolingHttpClientConnectionManager} recording the time spent waiting for a pooled connection per route.
+ *
+ * @since 5.0
+ */
+class InstrumentedConnectionManager extends PoolingHttpClientConnectionManager {
+
+	private final Map<HttpRoute, WaitTimes> waitTimes = new ConcurrentHashMap<>();
+
+	/**
+	 * @param socketFactoryRegistry must not be {@literal null}.
+	 * @param timeToLive maximum lifetime of a connection in milliseconds. Values less or equal to zero keep connections
+	 *          open indefinitely.
+	 */
+	InstrumentedConnectionManager(Registry<ConnectionSocketFactory> socketFactoryRegistry, long timeToLive) {
+		super(socketFactoryRegistry, null, null, null, timeToLive, TimeUnit.MILLISECONDS);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.apache.http.impl.conn.PoolingHttpClientConnectionManager#requestConnection(org.apache.http.conn.routing.HttpRoute, java.lang.Object)
+	 */
+	@Override
+	public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+
+		ConnectionRequest request = super.requestConnection(route, state);
+		WaitTimes routeWaitTimes = waitTimes.computeIfAbsent(route, key -> new WaitTimes());
+
+		return new ConnectionRequest() {
+
+			@Override
+			public HttpClientConnection get(long timeout, TimeUnit timeUnit)
+					throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+
+				long start = System.nanoTime();
+				try {
+					return request.get(timeout, timeUnit);
+				} finally {
+					routeWaitTimes.record(System.nanoTime() - start);
+				}
+			}
+
+			@Override
+			public boolean cancel() {
+				return request.cancel();
+			}
+		};
+	}
+
+	/**
+	 * @return recorded wait times per route.
+	 */
+	Map<HttpRoute, WaitTimes> getWaitTimes() {
+		return waitTimes;
+	}
+
+	/**
+	 * Accumulated time spent waiting for connections of a single route.
+	 */
+	static class WaitTimes {
+
+		private final LongAdder requests = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+		void record(long nanos) {
+
+			requests.increment();
+			totalNanos.add(nanos);
+			maxNanos.accumulate(nanos);
+		}
+
+		long getRequests() {
+			return requests.sum();
+		}
+
+		long getTotalNanos() {
+			return totalNanos.sum();
+		}
+
+		long getMaxNanos() {
+			return maxNanos.get();
+		}
+	}
+
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.server.support;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.solr.client.solrj.SolrRequest;
+import org.apache.solr.client.solrj.request.RequestWriter;
+import org.apache.solr.client.solrj.request.UpdateRequest;
+import org.apache.solr.common.SolrInputDocument;
+import org.apache.solr.common.SolrInputField;
+import org.apache.solr.common.params.ShardParams;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@link RequestWriter} sending {@link UpdateRequest update requests} as JSON commands to the {@literal /update}
+ * handler. Other requests are written the same way as by {@link RequestWriter}.
+ *
+ * @since 5.0
+ */
+public class JsonRequestWriter extends RequestWriter {
+
+	private static final String JSON_CONTENT_TYPE = "application/json; charset=UTF-8";
+	private static final String CHILD_DOCUMENTS = "_childDocuments_";
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.apache.solr.client.solrj.request.RequestWriter#getContentWriter(org.apache.solr.client.solrj.SolrRequest)
+	 */
+	@Override
+	public ContentWriter getContentWriter(SolrRequest<?> request) {
+
+		if (!(request instanceof UpdateRequest)) {
+			return super.getContentWriter(request);
+		}
+
+		UpdateRequest updateRequest = (UpdateRequest) request;
+		if (isEmpty(updateRequest)) {
+			return null;
+		}
+
+		return new ContentWriter() {
+
+			@Override
+			public void write(OutputStream os) throws IOException {
+				writeUpdateRequest(updateRequest, os);
+			}
+
+			@Override
+			public String getContentType() {
+				return JSON_CONTENT_TYPE;
+			}
+		};
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.apache.solr.client.solrj.request.RequestWriter#getUpdateContentType()
+	 */
+	@Override
+	public String getUpdateContentType() {
+		return JSON_CONTENT_TYPE;
+	}
+
+	private static void writeUpdateRequest(UpdateRequest request, OutputStream os) throws IOException {
+
+		try (JsonGenerator generator = MAPPER.getFactory().createGenerator(os, JsonEncoding.UTF8)) {
+
+			generator.writeStartObject();
+
+			Map<SolrInputDocument, Map<String, Object>> documents = request.getDocumentsMap();
+			if (documents != null) {
+				for (Map.Entry<SolrInputDocument, Map<String, Object>> entry : documents.entrySet()) {
+					writeAdd(entry.getKey(), entry.getValue(), request.getCommitWithin(), generator);
+				}
+			}
+
+			Iterator<SolrInputDocument> iterator = request.getDocIterator();
+			if (iterator != null) {
+				while (iterator.hasNext()) {
+					writeAdd(iterator.next(), null, request.getCommitWithin(), generator);
+				}
+			}
+
+			Map<String, Map<String, Object>> deleteById = request.getDeleteByIdMap();
+			if (deleteById != null) {
+				for (Map.Entry<String, Map<String, Object>> entry : deleteById.entrySet()) {
+					writeDeleteById(entry.getKey(), entry.getValue(), generator);
+				}
+			}
+
+			List<String> deleteQuery = request.getDeleteQuery();
+			if (deleteQuery != null) {
+				for (String query : deleteQuery) {
+
+					generator.writeObjectFieldStart("delete");
+					generator.writeStringField("query", query);
+					generator.writeEndObject();
+				}
+			}
+
+			generator.writeEndObject();
+		}
+	}
+
+	/**
+	 * Write an {@literal add} command. Options set for the single document via
+	 * {@link UpdateRequest#add(SolrInputDocument, Integer, Boolean)} take precedence over the ones of the request.
+	 */
+	private static void writeAdd(SolrInputDocument document, @Nullable Map<String, Object> options,
+			int commitWithin, JsonGenerator generator) throws IOException {
+
+		Object documentCommitWithin = options != null ? options.get(UpdateRequest.COMMIT_WITHIN) : null;
+		Object overwrite = options != null ? options.get(UpdateRequest.OVERWRITE) : null;
+
+		generator.writeObjectFieldStart("add");
+		if (documentCommitWithin != null) {
+			generator.writeObjectField("commitWithin", documentCommitWithin);
+		} else if (commitWithin > 0) {
+			generator.writeNumberField("commitWithin", commitWithin);
+		}
+		if (overwrite != null) {
+			generator.writeObjectField("overwrite", overwrite);
+		}
+		generator.writeFieldName("doc");
+		writeDocument(document, generator);
+		generator.writeEndObject();
+	}
+
+	/**
+	 * Write a {@literal delete} command for a single id including the route and optimistic locking version set via
+	 * {@link UpdateRequest#deleteById(String, String, Long)}.
+	 */
+	private static void writeDeleteById(String id, @Nullable Map<String, Object> options, JsonGenerator generator)
+			throws IOException {
+
+		Object route = options != null ? options.get(ShardParams._ROUTE_) : null;
+		Object version = options != null ? options.get(UpdateRequest.VER) : null;
+
+		generator.writeObjectFieldStart("delete");
+		generator.writeStringField("id", id);
+		if (route != null) {
+			generator.writeStringField(ShardParams._ROUTE_, route.toString());
+		}
+		if (version != null) {
+			generator.writeObjectField("_version_", version);
+		}
+		generator.writeEndObject();
+	}
+
+	private static void writeDocument(SolrInputDocument document, JsonGenerator generator) throws IOException {
+
+		generator.writeStartObject();
+
+		for (SolrInputField field : document) {
+
+			generator.writeFieldName(field.getName());
+			writeValue(field.getValue(), generator);
+		}
+
+		if (document.hasChildDocuments()) {
+
+			generator.writeArrayFieldStart(CHILD_DOCUMENTS);
+			for (SolrInputDocument child : document.getChildDocuments()) {
+				writeDocument(child, generator);
+			}
+			generator.writeEndArray();
+		}
+
+		generator.writeEndObject();
+	}
+
+	private static void writeValue(@Nullable Object value, JsonGenerator generator) throws IOException {
+
+		if (value instanceof SolrInputDocument) {
+			writeDocument((SolrInputDocument) value, generator);
+		} else if (value instanceof Collection) {
+
+			generator.writeStartArray();
+			for (Object element : (Collection<?>) value) {
+				writeValue(element, generator);
+			}
+			generator.writeEndArray();
+		} else if (value instanceof Map) {
+
+			generator.writeStartObject();
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+
+				generator.writeFieldName(String.valueOf(entry.getKey()));
+				writeValue(entry.getValue(), generator);
+			}
+			generator.writeEndObject();
+		} else if (value instanceof Date) {
+			generator.writeString(((Date) value).toInstant().toString());
+		} else if (value instanceof CharSequence || value instanceof Enum) {
+			generator.writeString(value.toString());
+		} else {
+			generator.writeObject(value);
+		}
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.server.support;
+
+import org.apache.solr.client.solrj.SolrClient;
+import org.springframework.data.solr.server.SolrClientFactory;
+import org.springframework.util.Assert;
+
+/**
+ * {@link SolrClientFactory} splitting read and write operations across two dedicated {@link SolrClientFactory
+ * factories}. Updates, commits and schema changes use the write factory while queries, real time get and cursors use
+ * the read factory, which allows keeping expensive reads away from the indexing leaders, eg. by pointing it to
+ * {@literal PULL} or {@literal TLOG} replicas.
+ *
+ * @since 5.0
+ */
+public class ReadWriteSolrClientFactory implements SolrClientFactory {
+
+	private final SolrClientFactory writeClientFactory;
+	private final SolrClientFactory readClientFactory;
+
+	/**
+	 * @param writeClientFactory must not be {@literal null}.
+	 * @param readClientFactory must not be {@literal null}.
+	 */
+	public ReadWriteSolrClientFactory(SolrClientFactory writeClientFactory, SolrClientFactory readClientFactory) {
+
+		Assert.notNull(writeClientFactory, "Write SolrClientFactory must not be 'null'");
+		Assert.notNull(readClientFactory, "Read SolrClientFactory must not be 'null'");
+
+		this.writeClientFactory = writeClientFactory;
+		this.readClientFactory = readClientFactory;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.server.SolrClientFactory#getSolrClient()
+	 */
+	@Override
+	public SolrClient getSolrClient() {
+		return writeClientFactory.getSolrClient();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.server.SolrClientFactory#getReadSolrClient()
+	 */
+	@Override
+	public SolrClient getReadSolrClient() {
+		return readClientFactory.getReadSolrClient();
+	}
+
+	public SolrClientFactory getWriteClientFactory() {
+		return writeClientFactory;
+	}
+
+	public SolrClientFactory getReadClientFactory() {
+		return readClientFactory;
+	}
+
+}
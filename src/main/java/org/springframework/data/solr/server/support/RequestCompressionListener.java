@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.server.support;
+
+/**
+ * Callback notified for each request body sent gzip compressed, eg. to feed an external metrics registry.
+ *
+ * @since 5.0
+ * @see RequestCompressionMetrics
+ */
+@FunctionalInterface
+public interface RequestCompressionListener {
+
+	/**
+	 * @param requestUri the uri of the request.
+	 * @param uncompressedBytes size of the original request body.
+	 * @param compressedBytes size of the compressed request body sent.
+	 */
+	void requestCompressed(String requestUri, long uncompressedBytes, long compressedBytes);
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.server.support;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread safe counters of the request bodies compressed by a client.
+ *
+ * @since 5.0
+ */
+public class RequestCompressionMetrics implements RequestCompressionListener {
+
+	private final LongAdder compressedRequests = new LongAdder();
+	private final LongAdder uncompressedBytes = new LongAdder();
+	private final LongAdder compressedBytes = new LongAdder();
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.solr.server.support.RequestCompressionListener#requestCompressed(java.lang.String, long, long)
+	 */
+	@Override
+	public void requestCompressed(String requestUri, long uncompressedBytes, long compressedBytes) {
+
+		this.compressedRequests.increment();
+		this.uncompressedBytes.add(uncompressedBytes);
+		this.compressedBytes.add(compressedBytes);
+	}
+
+	/**
+	 * @return number of requests sent compressed.
+	 */
+	public long getCompressedRequests() {
+		return compressedRequests.sum();
+	}
+
+	/**
+	 * @return total size of the compressed request bodies before compression.
+	 */
+	public long getUncompressedBytes() {
+		return uncompressedBytes.sum();
+	}
+
+	/**
+	 * @return total size of the compressed request bodies actually sent.
+	 */
+	public long getCompressedBytes() {
+		return compressedBytes.sum();
+	}
+
+	/**
+	 * @return ratio of compressed to uncompressed bytes or {@literal 1} if nothing was compressed yet.
+	 */
+	public double getCompressionRatio() {
+
+		long uncompressed = getUncompressedBytes();
+		return uncompressed > 0 ? (double) getCompressedBytes() / uncompressed : 1D;
+	}
+
+}
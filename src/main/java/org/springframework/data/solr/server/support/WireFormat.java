@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.server.support;
+
+import org.apache.solr.client.solrj.ResponseParser;
+import org.apache.solr.client.solrj.impl.BinaryRequestWriter;
+import org.apache.solr.client.solrj.impl.BinaryResponseParser;
+import org.apache.solr.client.solrj.impl.XMLResponseParser;
+import org.apache.solr.client.solrj.request.RequestWriter;
+
+/**
+ * Format used to transfer requests to and responses from Solr. The binary {@link #JAVABIN} format is the most compact
+ * and cheapest to (de)serialize, while {@link #XML} and {@link #JSON} are human readable, eg. when inspecting traffic.
+ * <br />
+ * Schema requests always use JSON via {@link org.springframework.data.solr.core.schema.MappingJacksonResponseParser}
+ * independent of the configured format.
+ *
+ * @since 5.0
+ */
+public enum WireFormat {
+
+	JAVABIN, XML, JSON;
+
+	/**
+	 * @return new {@link RequestWriter} sending update requests in this format.
+	 */
+	public RequestWriter createRequestWriter() {
+
+		switch (this) {
+			case JAVABIN:
+				return new BinaryRequestWriter();
+			case JSON:
+				return new JsonRequestWriter();
+			default:
+				return new RequestWriter();
+		}
+	}
+
+	/**
+	 * @return new {@link ResponseParser} reading responses in this format.
+	 * @throws IllegalStateException for {@link #JSON} as generic JSON responses cannot be mapped to
+	 *           {@link org.apache.solr.client.solrj.response.QueryResponse}.
+	 */
+	public ResponseParser createResponseParser() {
+
+		switch (this) {
+			case JAVABIN:
+				return new BinaryResponseParser();
+			case XML:
+				return new XMLResponseParser();
+			default:
+				throw new IllegalStateException(String.format("%s responses are not supported", this));
+		}
+	}
+
+	/**
+	 * @return {@literal true} if responses in this format can be read.
+	 */
+	public boolean supportsResponses() {
+		return this != JSON;
+	}
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+
+import org.apache.solr.client.solrj.embedded.EmbeddedSolrServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.solr.server.support.EmbeddedSolrServerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.ResourceUtils;
+
+public class ITestEmbeddedSolrServerFactory {
+
+	private EmbeddedSolrServerFactory factory;
+
+	@Before
+	public void setUp() throws Exception {
+		factory = new EmbeddedSolrServerFactory(ResourceUtils.getURL("classpath:static-schema").getPath());
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		factory.destroy();
+	}
+
+	@Test
+	public void shouldReuseClientPerCore() {
+
+		EmbeddedSolrServer client = factory.getSolrClient("collection1");
+
+		assertThat(factory.getSolrClient("collection1")).isSameAs(client);
+		assertThat(factory.getSolrClient()).isSameAs(client);
+		assertThat(client.getCoreContainer().getAllCoreNames()).contains("collection1");
+	}
+
+	@Test
+	public void shouldUseCoreNameAsDefaultCollection() {
+		assertThat(ReflectionTestUtils.getField(factory.getSolrClient("collection1"), "coreName")).isEqualTo("collection1");
+	}
+
+	@Test
+	public void shouldRejectUnknownCore() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> factory.getSolrClient("unknown"))
+				.withMessageContaining("unknown");
+		assertThat((Map<?, ?>) ReflectionTestUtils.getField(factory, "servers")).isEmpty();
+	}
+
+	@Test
+	public void shouldUseConfiguredDefaultCoreName() {
+
+		factory.setDefaultCoreName("unknown");
+
+		assertThat(factory.getDefaultCoreName()).isEqualTo("unknown");
+		assertThatIllegalArgumentException().isThrownBy(() -> factory.getSolrClient());
+
+		factory.setDefaultCoreName("collection1");
+
+		assertThat(factory.getSolrClient()).isSameAs(factory.getSolrClient("collection1"));
+	}
+
+	@Test
+	public void shouldRejectEmptyDefaultCoreName() {
+		assertThatIllegalArgumentException().isThrownBy(() -> factory.setDefaultCoreName(""));
+	}
+
+}
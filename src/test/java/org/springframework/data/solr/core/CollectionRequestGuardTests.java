@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.common.SolrException;
+import org.apache.solr.common.SolrException.ErrorCode;
+import org.junit.Test;
+import org.springframework.data.solr.SolrRequestRejectedException;
+import org.springframework.data.solr.SolrRequestRejectedException.Reason;
+import org.springframework.data.solr.core.CollectionRequestGuard.Permit;
+
+public class CollectionRequestGuardTests {
+
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+	private static final long SLOW = TimeUnit.SECONDS.toNanos(10);
+
+	private final AtomicLong clock = new AtomicLong();
+
+	@Test
+	public void shouldRejectRequestsExceedingConcurrencyLimit() {
+
+		CollectionRequestGuard guard = new CollectionRequestGuard("books",
+				ResiliencePolicy.defaults().withMaxConcurrentRequests(2).withAdaptiveConcurrency(false), clock::get);
+
+		Permit permit = guard.acquire();
+		guard.acquire();
+
+		assertThatThrownBy(guard::acquire).isInstanceOf(SolrRequestRejectedException.class)
+				.hasFieldOrPropertyWithValue("collection", "books")
+				.hasFieldOrPropertyWithValue("reason", Reason.CONCURRENCY_LIMIT_EXCEEDED);
+
+		guard.release(permit, FAST, false);
+		guard.acquire();
+	}
+
+	@Test
+	public void shouldDecreaseLimitOnFailureAndRecoverOnSuccess() {
+
+		CollectionRequestGuard guard = new CollectionRequestGuard("books", ResiliencePolicy.defaults()
+				.withMaxConcurrentRequests(10).withMinConcurrentRequests(2).withFailureRateThreshold(1D), clock::get);
+
+		for (int i = 0; i < 5; i++) {
+			guard.release(guard.acquire(), SLOW, false);
+		}
+
+		assertThat(guard.getLimit()).isEqualTo(5);
+
+		for (int i = 0; i < 100; i++) {
+			guard.release(guard.acquire(), FAST, false);
+		}
+
+		assertThat(guard.getLimit()).isEqualTo(10);
+	}
+
+	@Test
+	public void shouldNotDropBelowMinimumLimit() {
+
+		CollectionRequestGuard guard = new CollectionRequestGuard("books", ResiliencePolicy.defaults()
+				.withMaxConcurrentRequests(10).withMinConcurrentRequests(3).withFailureRateThreshold(1D), clock::get);
+
+		for (int i = 0; i < 15; i++) {
+			guard.release(guard.acquire(), SLOW, false);
+		}
+
+		assertThat(guard.getLimit()).isEqualTo(3);
+	}
+
+	@Test
+	public void shouldOpenCircuitWhenFailureRateReached() {
+
+		CollectionRequestGuard guard = new CollectionRequestGuard("books",
+				ResiliencePolicy.defaults().withWindowSize(4).withFailureRateThreshold(0.5D), clock::get);
+
+		guard.release(guard.acquire(), FAST, false);
+		guard.release(guard.acquire(), FAST, true);
+		guard.release(guard.acquire(), FAST, false);
+
+		assertThat(guard.isOpen()).isFalse();
+
+		guard.release(guard.acquire(), FAST, true);
+
+		assertThat(guard.isOpen()).isTrue();
+		assertThatThrownBy(guard::acquire).isInstanceOf(SolrRequestRejectedException.class)
+				.hasFieldOrPropertyWithValue("reason", Reason.CIRCUIT_OPEN);
+	}
+
+	@Test
+	public void shouldOpenCircuitWhenSlowCallRateReached() {
+
+		CollectionRequestGuard guard = new CollectionRequestGuard("books",
+				ResiliencePolicy.defaults().withWindowSize(2).withSlowCallRateThreshold(1D), clock::get);
+
+		guard.release(guard.acquire(), SLOW, false);
+		guard.release(guard.acquire(), SLOW, false);
+
+		assertThat(guard.isOpen()).isTrue();
+	}
+
+	@Test
+	public void shouldAllowSingleTrialRequestAfterOpenStateDuration() {
+
+		CollectionRequestGuard guard = new CollectionRequestGuard("books", ResiliencePolicy.defaults().withWindowSize(1)
+				.withFailureRateThreshold(1D).withOpenStateDuration(Duration.ofSeconds(30)), clock::get);
+
+		guard.release(guard.acquire(), FAST, true);
+
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+		Permit trial = guard.acquire();
+		assertThat(trial.isTrial()).isTrue();
+		assertThatExceptionOfType(SolrRequestRejectedException.class).isThrownBy(guard::acquire);
+
+		guard.release(trial, FAST, false);
+
+		assertThat(guard.isOpen()).isFalse();
+		assertThat(guard.acquire().isTrial()).isFalse();
+	}
+
+	@Test
+	public void shouldIgnoreStaleRequestsWhileTrialRequestIsInFlight() {
+
+		CollectionRequestGuard guard = new CollectionRequestGuard("books", ResiliencePolicy.defaults().withWindowSize(1)
+				.withFailureRateThreshold(1D).withOpenStateDuration(Duration.ofSeconds(30)), clock::get);
+
+		Permit stale = guard.acquire();
+		guard.release(guard.acquire(), FAST, true);
+
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+		Permit trial = guard.acquire();
+		guard.release(stale, FAST, false);
+
+		assertThat(guard.isOpen()).isTrue();
+		assertThatExceptionOfType(SolrRequestRejectedException.class).isThrownBy(guard::acquire);
+
+		guard.release(trial, FAST, true);
+
+		assertThat(guard.isOpen()).isTrue();
+		assertThatExceptionOfType(SolrRequestRejectedException.class).isThrownBy(guard::acquire);
+	}
+
+	@Test
+	public void shouldNotRecordOutcomeOfRequestsIssuedBeforeCircuitClosed() {
+
+		CollectionRequestGuard guard = new CollectionRequestGuard("books", ResiliencePolicy.defaults().withWindowSize(1)
+				.withFailureRateThreshold(1D).withOpenStateDuration(Duration.ofSeconds(30)), clock::get);
+
+		Permit stale = guard.acquire();
+		guard.release(guard.acquire(), FAST, true);
+
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+		guard.release(guard.acquire(), FAST, false);
+
+		guard.release(stale, FAST, true);
+
+		assertThat(guard.isOpen()).isFalse();
+	}
+
+	@Test
+	public void shouldReleasePermitOnlyOnce() {
+
+		CollectionRequestGuard guard = new CollectionRequestGuard("books",
+				ResiliencePolicy.defaults().withMaxConcurrentRequests(1).withAdaptiveConcurrency(false), clock::get);
+
+		Permit permit = guard.acquire();
+		guard.release(permit, FAST, false);
+		guard.release(permit, FAST, false);
+
+		guard.acquire();
+		assertThatExceptionOfType(SolrRequestRejectedException.class).isThrownBy(guard::acquire);
+	}
+
+	@Test
+	public void shouldReopenCircuitWhenTrialRequestFails() {
+
+		CollectionRequestGuard guard = new CollectionRequestGuard("books", ResiliencePolicy.defaults().withWindowSize(1)
+				.withFailureRateThreshold(1D).withOpenStateDuration(Duration.ofSeconds(30)), clock::get);
+
+		guard.release(guard.acquire(), FAST, true);
+
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+		guard.release(guard.acquire(), FAST, true);
+
+		assertThatExceptionOfType(SolrRequestRejectedException.class).isThrownBy(guard::acquire);
+	}
+
+	@Test
+	public void shouldNotConsiderClientErrorsAsServerFailures() {
+
+		assertThat(CollectionRequestGuard.isServerFailure(new SolrServerException("error",
+				new SolrException(ErrorCode.BAD_REQUEST, "bad request")))).isFalse();
+		assertThat(CollectionRequestGuard.isServerFailure(new SolrException(ErrorCode.SERVER_ERROR, "error"))).isTrue();
+		assertThat(CollectionRequestGuard.isServerFailure(new IOException("connection reset"))).isTrue();
+	}
+
+}
@@ -17,6 +17,7 @@ package org.springframework.data.solr.core;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
@@ -50,6 +51,8 @@ import org.springframework.data.geo.Distance;
 import org.springframework.data.geo.Metric;
 import org.springframework.data.geo.Metrics;
 import org.springframework.data.geo.Point;
+import org.springframework.data.solr.core.mapping.Indexed;
+import org.springframework.data.solr.core.mapping.RoutingKey;
 import org.springframework.data.solr.core.mapping.SimpleSolrMappingContext;
 import org.springframework.data.solr.core.mapping.SolrDocument;
 import org.springframework.data.solr.core.query.*;
@@ -59,6 +62,7 @@ import org.springframework.data.solr.core.query.FacetOptions.FieldWithDateRangeP
 import org.springframework.data.solr.core.query.FacetOptions.FieldWithFacetParameters;
 import org.springframework.data.solr.core.query.FacetOptions.FieldWithNumericRangeParameters;
 import org.springframework.data.solr.core.query.Query.Operator;
+import org.springframework.lang.Nullable;
 
 /**
  * @author Christoph Strobl
@@ -713,6 +717,75 @@ public class DefaultQueryParserTests {
 		assertThat(filterQueries[0]).isEqualTo("filter_field:filter_value");
 	}
 
+	@Test
+	public void shouldRenderNonCachedFilterQuery() {
+
+		Query query = new SimpleQuery(new Criteria("field_1").is("value_1"))
+				.addFilterQuery(new SimpleFilterQuery(new Criteria("filter_field").is("filter_value")).setCache(false));
+
+		assertThat(queryParser.constructSolrQuery(query, null).getFilterQueries())
+				.containsExactly("{!cache=false}filter_field:filter_value");
+	}
+
+	@Test
+	public void shouldRenderFilterQueryCost() {
+
+		Query query = new SimpleQuery(new Criteria("field_1").is("value_1"))
+				.addFilterQuery(new SimpleFilterQuery(new Criteria("filter_field").is("filter_value")).setCost(10));
+
+		assertThat(queryParser.constructSolrQuery(query, null).getFilterQueries())
+				.containsExactly("{!cost=10}filter_field:filter_value");
+	}
+
+	@Test
+	public void shouldRenderPostFilterQuery() {
+
+		FilterQuery filterQuery = FilterQuery.postFilter(new SimpleStringCriteria("{!frange l=1 u='5}'}popularity"));
+		Query query = new SimpleQuery(new Criteria("field_1").is("value_1")).addFilterQuery(filterQuery);
+
+		assertThat(filterQuery.isPostFilter()).isTrue();
+		assertThat(queryParser.constructSolrQuery(query, null).getFilterQueries())
+				.containsExactly("{!frange l=1 u='5}' cache=false cost=100}popularity");
+	}
+
+	@Test
+	public void shouldKeepHigherCostWhenConvertingToPostFilter() {
+
+		FilterQuery filterQuery = new SimpleFilterQuery(new Criteria("filter_field").is("filter_value")).setCost(200)
+				.asPostFilter();
+
+		assertThat(filterQuery.isCache()).isFalse();
+		assertThat(filterQuery.getCost()).isEqualTo(200);
+	}
+
+	@Test
+	public void shouldRenderCustomFilterQueryWithoutCacheAndCostSupport() {
+
+		FilterQuery filterQuery = new DecoratedFilterQuery(new SimpleQuery(new Criteria("filter_field").is("filter_value")));
+		Query query = new SimpleQuery(new Criteria("field_1").is("value_1")).addFilterQuery(filterQuery);
+
+		FilterQuery result = filterQuery.setCache(false).setCost(10);
+
+		assertThat(result).isSameAs(filterQuery);
+		assertThat(filterQuery.isCache()).isTrue();
+		assertThat(filterQuery.getCost()).isNull();
+		assertThat(queryParser.constructSolrQuery(query, null).getFilterQueries())
+				.containsExactly("filter_field:filter_value");
+	}
+
+	@Test
+	public void shouldAppendFilterQueryOptionsToJoin() {
+
+		SimpleFilterQuery filterQuery = new SimpleFilterQuery(new Criteria("filter_field").is("filter_value"));
+		filterQuery.setJoin(Join.from("inner_id").to("outer_id"));
+		filterQuery.setCache(false);
+
+		Query query = new SimpleQuery(new Criteria("field_1").is("value_1")).addFilterQuery(filterQuery);
+
+		assertThat(queryParser.constructSolrQuery(query, null).getFilterQueries())
+				.containsExactly("{!join from=inner_id to=outer_id cache=false}filter_field:filter_value");
+	}
+
 	@Test
 	public void testWithEmptyFilterQuery() {
 
@@ -1441,6 +1514,289 @@ public class DefaultQueryParserTests {
 		assertThat(queryParser.createQueryStringFromNode(criteria, null)).isEqualTo("-(-(x:foo OR y:bar) AND z:roo)");
 	}
 
+	@Test
+	public void shouldRenderLargeNestedPermissionFilter() {
+
+		Criteria acl = Criteria.where("acl").is("group_0");
+		StringBuilder expected = new StringBuilder("tenant:acme AND -(acl:group_0");
+		for (int i = 1; i < 200; i++) {
+			acl = acl.or("acl").is("group_" + i);
+			expected.append(" OR acl:group_").append(i);
+		}
+		expected.append(") AND (owner:user\\:1 OR shared:true)");
+
+		Criteria criteria = Criteria.where("tenant").is("acme").connect().and(acl.notOperator())
+				.and(Criteria.where("owner").is("user:1").or("shared").is(true));
+
+		assertThat(queryParser.createQueryStringFromNode(criteria, null)).isEqualTo(expected.toString());
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	public void shouldApplyCustomizedReservedCharsReplacement() {
+
+		queryParser.addPredicateProcessor(queryParser.new DefaultProcessor() {
+			{
+				RESERVED_CHARS_REPLACEMENT = RESERVED_CHARS_REPLACEMENT.clone();
+				RESERVED_CHARS_REPLACEMENT[Arrays.asList(RESERVED_CHARS).indexOf(":")] = ":";
+			}
+		});
+
+		assertThat(queryParser.createQueryStringFromNode(new Criteria("field_1").is("a:b-c"), null))
+				.isEqualTo("field_1:a:b\\-c");
+		assertThat(queryParser.createQueryStringFromNode(new Criteria("field_1").is("a:b c"), null))
+				.isEqualTo("field_1:\"a:b c\"");
+	}
+
+	@Test
+	public void shouldUseOverriddenCriteriaHookForNestedCriteria() {
+
+		DefaultQueryParser parser = new DefaultQueryParser(new SimpleSolrMappingContext()) {
+
+			@Override
+			protected String createQueryFragmentForCriteria(Criteria part, @Nullable Class<?> domainType) {
+				return "[" + super.createQueryFragmentForCriteria(part, domainType) + "]";
+			}
+		};
+
+		Criteria criteria = Criteria.where("z").is("roo").and(Criteria.where("x").is("foo").or("y").is("bar"));
+
+		assertThat(parser.getQueryString(new SimpleQuery(criteria), null))
+				.isEqualTo("[z:roo] AND ([x:foo] OR [y:bar])");
+	}
+
+	@Test
+	public void shouldUseOverriddenNodeHookForNestedNodes() {
+
+		List<Integer> positions = new ArrayList<>();
+		DefaultQueryParser parser = new DefaultQueryParser(new SimpleSolrMappingContext()) {
+
+			@Override
+			public String createQueryStringFromNode(Node node, int position, @Nullable Class<?> domainType) {
+
+				positions.add(position);
+				return super.createQueryStringFromNode(node, position, domainType);
+			}
+		};
+
+		Criteria criteria = Criteria.where("z").is("roo").and(Criteria.where("x").is("foo").or("y").is("bar"));
+
+		assertThat(parser.getQueryString(new SimpleQuery(criteria), null)).isEqualTo("z:roo AND (x:foo OR y:bar)");
+		assertThat(positions).containsExactly(0, 0, 1, 0, 1);
+	}
+
+	@Test
+	public void shouldRenderInCriteriaBelowThresholdAsBooleanQuery() {
+
+		SimpleQuery query = new SimpleQuery(new Criteria("id").in("a", "b", "c"));
+		query.setTermsQueryOptions(TermsQueryOptions.threshold(4));
+
+		assertThat(queryParser.getQueryString(query, null)).isEqualTo("id:(a b c)");
+	}
+
+	@Test
+	public void shouldRenderInCriteriaReachingThresholdAsTermsQuery() {
+
+		SimpleQuery query = new SimpleQuery(new Criteria("id").in("a", "b", "c"));
+		query.setTermsQueryOptions(TermsQueryOptions.threshold(3));
+
+		assertThat(queryParser.getQueryString(query, null)).isEqualTo("{!terms f=id}a,b,c");
+	}
+
+	@Test
+	public void shouldNotRenderTermsQueryByDefault() {
+
+		List<Integer> values = new ArrayList<>();
+		for (int i = 0; i < TermsQueryOptions.DEFAULT_THRESHOLD; i++) {
+			values.add(i);
+		}
+
+		String queryString = queryParser.getQueryString(new SimpleQuery(new Criteria("id").in(values)), null);
+
+		assertThat(queryString).startsWith("id:(0 1 2 ").endsWith(" 1023)");
+	}
+
+	@Test
+	public void shouldRenderInCriteriaReachingDefaultThresholdAsTermsQueryWhenEnabled() {
+
+		List<Integer> values = new ArrayList<>();
+		for (int i = 0; i < TermsQueryOptions.DEFAULT_THRESHOLD; i++) {
+			values.add(i);
+		}
+
+		queryParser.setTermsQueryOptions(TermsQueryOptions.defaults());
+		String queryString = queryParser.getQueryString(new SimpleQuery(new Criteria("id").in(values)), null);
+
+		assertThat(queryString).startsWith("{!terms f=id}0,1,2,").endsWith(",1023");
+	}
+
+	@Test
+	public void shouldRenderTermsQueryMethod() {
+
+		SimpleQuery query = new SimpleQuery(new Criteria("id").in("a", "b"));
+		query.setTermsQueryOptions(TermsQueryOptions.threshold(2).withMethod(TermsQueryOptions.Method.BOOLEAN_QUERY));
+
+		assertThat(queryParser.getQueryString(query, null)).isEqualTo("{!terms f=id method=booleanQuery}a,b");
+	}
+
+	@Test
+	public void shouldRenderTermsQueryValuesWithoutEscaping() {
+
+		SimpleQuery query = new SimpleQuery(new Criteria("id").in("a:b", "c d", "e*"));
+		query.setTermsQueryOptions(TermsQueryOptions.threshold(2));
+
+		assertThat(queryParser.getQueryString(query, null)).isEqualTo("{!terms f=id}a:b,c d,e*");
+	}
+
+	@Test
+	public void shouldPickTermsQuerySeparatorNotContainedInValues() {
+
+		SimpleQuery query = new SimpleQuery(new Criteria("id").in("a,b", "c|d", "e"));
+		query.setTermsQueryOptions(TermsQueryOptions.threshold(2));
+
+		assertThat(queryParser.getQueryString(query, null)).isEqualTo("{!terms f=id separator=';'}a,b;c|d;e");
+	}
+
+	@Test
+	public void shouldFallBackToBooleanQueryWhenNoTermsQuerySeparatorAvailable() {
+
+		SimpleQuery query = new SimpleQuery(new Criteria("id").in(",|;#~", "b"));
+		query.setTermsQueryOptions(TermsQueryOptions.threshold(2));
+
+		assertThat(queryParser.getQueryString(query, null)).isEqualTo("id:(,|;#\\~ b)");
+	}
+
+	@Test
+	public void shouldRenderNestedTermsQueryWhenCombinedWithOtherCriteria() {
+
+		SimpleQuery query = new SimpleQuery(
+				Criteria.where("type").is("book").and(Criteria.where("id").in("a\"b", "c\\d")));
+		query.setTermsQueryOptions(TermsQueryOptions.threshold(2));
+
+		assertThat(queryParser.getQueryString(query, null))
+				.isEqualTo("type:book AND _query_:\"{!terms f=id}a\\\"b,c\\\\d\"");
+	}
+
+	@Test
+	public void shouldRenderNegatedAndBoostedTermsQueryNested() {
+
+		SimpleQuery query = new SimpleQuery(new Criteria("id").in("a", "b").not().boost(2f));
+		query.setTermsQueryOptions(TermsQueryOptions.threshold(2));
+
+		assertThat(queryParser.getQueryString(query, null)).isEqualTo("-_query_:\"{!terms f=id}a,b\"^2.0");
+	}
+
+	@Test
+	public void shouldNotRenderTermsQueryForNonEqualsPredicates() {
+
+		SimpleQuery query = new SimpleQuery(new Criteria("id").in("a", "b").startsWith("c"));
+		query.setTermsQueryOptions(TermsQueryOptions.threshold(2));
+
+		assertThat(queryParser.getQueryString(query, null)).isEqualTo("id:(a b c*)");
+	}
+
+	@Test
+	public void shouldNotRenderTermsQueryWhenDisabled() {
+
+		SimpleQuery query = new SimpleQuery(new Criteria("id").in("a", "b"));
+		query.setTermsQueryOptions(TermsQueryOptions.disabled());
+
+		assertThat(queryParser.getQueryString(query, null)).isEqualTo("id:(a b)");
+	}
+
+	@Test
+	public void shouldApplyParserTermsQueryOptionsToFilterQueries() {
+
+		queryParser.setTermsQueryOptions(TermsQueryOptions.threshold(2));
+
+		SimpleQuery query = new SimpleQuery(AnyCriteria.any());
+		query.addFilterQuery(new SimpleFilterQuery(new Criteria("id").in("a", "b")));
+
+		SolrQuery solrQuery = queryParser.constructSolrQuery(query, null);
+
+		assertThat(solrQuery.getFilterQueries()).containsExactly("{!terms f=id}a,b");
+	}
+
+	@Test
+	public void shouldNotOptimizeCriteriaByDefault() {
+
+		SimpleQuery query = new SimpleQuery(Criteria.where("a").is(1).or("b").is(2).or("a").is(3));
+
+		assertThat(queryParser.getQueryString(query, null)).isEqualTo("a:1 OR b:2 OR a:3");
+	}
+
+	@Test
+	public void shouldOptimizeCriteriaWhenEnabled() {
+
+		queryParser.setOptimizeCriteria(true);
+
+		SimpleQuery query = new SimpleQuery(Criteria.where("a").is(1).or("b").is(2).or("a").is(3));
+		query.setDefaultOperator(Operator.OR);
+
+		assertThat(queryParser.getQueryString(query, null)).isEqualTo("a:(1 3) OR b:2");
+	}
+
+	@Test
+	public void shouldNotMergeFieldDisjunctionsWhenDefaultOperatorIsNotSet() {
+
+		queryParser.setOptimizeCriteria(true);
+
+		SimpleQuery query = new SimpleQuery(Criteria.where("a").is(1).or("b").is(2).or("a").is(3).or("a").is(1));
+
+		assertThat(queryParser.getQueryString(query, null)).isEqualTo("a:1 OR b:2 OR a:3");
+	}
+
+	@Test
+	public void shouldNotMergeFieldDisjunctionsWhenDefaultOperatorIsAnd() {
+
+		queryParser.setOptimizeCriteria(true);
+
+		SimpleQuery query = new SimpleQuery(Criteria.where("a").is(1).or("b").is(2).or("a").is(3));
+		query.setDefaultOperator(Operator.AND);
+
+		assertThat(queryParser.getQueryString(query, null)).isEqualTo("a:1 OR b:2 OR a:3");
+	}
+
+	@Test
+	public void shouldNotMergeFieldDisjunctionsOfFilterQueriesWhenDefaultOperatorIsAnd() {
+
+		queryParser.setOptimizeCriteria(true);
+
+		SimpleQuery query = new SimpleQuery(AnyCriteria.any());
+		query.setDefaultOperator(Operator.AND);
+		query.addFilterQuery(new SimpleFilterQuery(Criteria.where("a").is(1).or("b").is(2).or("a").is(3)));
+
+		SolrQuery solrQuery = queryParser.constructSolrQuery(query, null);
+
+		assertThat(solrQuery.get("q.op")).isEqualTo("AND");
+		assertThat(solrQuery.getFilterQueries()).containsExactly("a:1 OR b:2 OR a:3");
+	}
+
+	@Test
+	public void shouldMergeFieldDisjunctionsOfFilterQueriesWhenDefaultOperatorIsOr() {
+
+		queryParser.setOptimizeCriteria(true);
+
+		SimpleQuery query = new SimpleQuery(AnyCriteria.any());
+		query.setDefaultOperator(Operator.OR);
+		query.addFilterQuery(new SimpleFilterQuery(Criteria.where("a").is(1).or("b").is(2).or("a").is(3)));
+
+		SolrQuery solrQuery = queryParser.constructSolrQuery(query, null);
+
+		assertThat(solrQuery.getFilterQueries()).containsExactly("a:(1 3) OR b:2");
+	}
+
+	@Test
+	public void shouldNotOptimizeCriteriaForNonStandardQueryParser() {
+
+		queryParser.setOptimizeCriteria(true);
+
+		SimpleQuery query = new SimpleQuery(Criteria.where("a").is(1).or("b").is(2).or("a").is(3));
+		query.setDefType("edismax");
+
+		assertThat(queryParser.getQueryString(query, null)).isEqualTo("a:1 OR b:2 OR a:3");
+	}
+
 	@Test // DATASOLR-236
 	public void testNegativeFacetLimitUsingFacetOptions_setFacetLimit() {
 
@@ -1823,6 +2179,146 @@ public class DefaultQueryParserTests {
 				.isEqualTo("{!geofilt pt=48.303056,14.290556 sfield=field_1 d=1.0 score=distance}");
 	}
 
+	@Test
+	public void shouldNotExtractFilterQueriesByDefault() {
+
+		SimpleQuery query = new SimpleQuery(Criteria.where("title").is("spring").and("tenant").is("acme"));
+
+		SolrQuery solrQuery = queryParser.constructSolrQuery(query, SampleWithFilterFields.class);
+
+		assertThat(solrQuery.getQuery()).isEqualTo("title:spring AND tenant:acme");
+		assertThat(solrQuery.getFilterQueries()).isNull();
+	}
+
+	@Test
+	public void shouldAddRouteForBoundRoutingKey() {
+
+		SimpleQuery query = new SimpleQuery(Criteria.where("title").is("spring").and("tenant").is("acme"));
+
+		SolrQuery solrQuery = queryParser.constructSolrQuery(query, SampleWithRoutingKey.class);
+
+		assertThat(solrQuery.get("_route_")).isEqualTo("acme!");
+	}
+
+	@Test
+	public void shouldAddRouteForMultipleRoutingKeys() {
+
+		SimpleQuery query = new SimpleQuery(Criteria.where("title").is("spring"));
+		query.addFilterQuery(new SimpleFilterQuery(Criteria.where("tenant").in("acme", "umbrella")));
+
+		SolrQuery solrQuery = queryParser.constructSolrQuery(query, SampleWithRoutingKey.class);
+
+		assertThat(solrQuery.get("_route_")).isEqualTo("acme!,umbrella!");
+	}
+
+	@Test
+	public void shouldNotAddRouteForDisjunctionOrNegatedRoutingKey() {
+
+		SimpleQuery disjunction = new SimpleQuery(Criteria.where("title").is("spring").or("tenant").is("acme"));
+		SimpleQuery negation = new SimpleQuery(Criteria.where("title").is("spring").and("tenant").is("acme").not());
+
+		assertThat(queryParser.constructSolrQuery(disjunction, SampleWithRoutingKey.class).get("_route_")).isNull();
+		assertThat(queryParser.constructSolrQuery(negation, SampleWithRoutingKey.class).get("_route_")).isNull();
+	}
+
+	@Test
+	public void shouldNotAddRouteForRangeOnRoutingKey() {
+
+		SimpleQuery query = new SimpleQuery(Criteria.where("tenant").startsWith("ac"));
+
+		assertThat(queryParser.constructSolrQuery(query, SampleWithRoutingKey.class).get("_route_")).isNull();
+	}
+
+	@Test
+	public void shouldNotAddRouteWithoutRoutingKeyMapping() {
+
+		SimpleQuery query = new SimpleQuery(Criteria.where("tenant").is("acme"));
+
+		assertThat(queryParser.constructSolrQuery(query, SampleWithFilterFields.class).get("_route_")).isNull();
+	}
+
+	@Test
+	public void shouldExtractConjunctiveClausesOnFilterFieldsIntoFilterQueries() {
+
+		queryParser.setExtractFilterQueries(true);
+
+		SimpleQuery query = new SimpleQuery(
+				Criteria.where("title").is("spring").and("tenant").is("acme").and("acl").in("a", "b"));
+		query.addFilterQuery(new SimpleFilterQuery(Criteria.where("title").isNotNull()));
+
+		SolrQuery solrQuery = queryParser.constructSolrQuery(query, SampleWithFilterFields.class);
+
+		assertThat(solrQuery.getQuery()).isEqualTo("title:spring");
+		assertThat(solrQuery.getFilterQueries()).containsExactly("title:[* TO *]", "tenant:acme", "acl_groups:(a b)");
+	}
+
+	@Test
+	public void shouldExtractClausesReferencingMappedFilterFieldNames() {
+
+		queryParser.setExtractFilterQueries(true);
+
+		SimpleQuery query = new SimpleQuery(Criteria.where("title").is("spring").and("acl_groups").is("public"));
+
+		SolrQuery solrQuery = queryParser.constructSolrQuery(query, SampleWithFilterFields.class);
+
+		assertThat(solrQuery.getQuery()).isEqualTo("title:spring");
+		assertThat(solrQuery.getFilterQueries()).containsExactly("acl_groups:public");
+	}
+
+	@Test
+	public void shouldExtractNestedGroupsOnFilterFieldsOnly() {
+
+		queryParser.setExtractFilterQueries(true);
+
+		SimpleQuery query = new SimpleQuery(Criteria.where("title").is("spring")
+				.and(Criteria.where("tenant").is("acme").or("acl").is("public")).and(Criteria.where("tenant").is("foo")
+						.or("title").is("bar")));
+
+		SolrQuery solrQuery = queryParser.constructSolrQuery(query, SampleWithFilterFields.class);
+
+		assertThat(solrQuery.getQuery()).isEqualTo("title:spring AND (tenant:foo OR title:bar)");
+		assertThat(solrQuery.getFilterQueries()).containsExactly("(tenant:acme OR acl_groups:public)");
+	}
+
+	@Test
+	public void shouldUseMatchAllWhenAllClausesExtracted() {
+
+		queryParser.setExtractFilterQueries(true);
+
+		SimpleQuery query = new SimpleQuery(Criteria.where("tenant").is("acme"));
+
+		SolrQuery solrQuery = queryParser.constructSolrQuery(query, SampleWithFilterFields.class);
+
+		assertThat(solrQuery.getQuery()).isEqualTo("*:*");
+		assertThat(solrQuery.getFilterQueries()).containsExactly("tenant:acme");
+	}
+
+	@Test
+	public void shouldNotExtractFilterQueriesFromDisjunctions() {
+
+		queryParser.setExtractFilterQueries(true);
+
+		SimpleQuery query = new SimpleQuery(Criteria.where("title").is("spring").or("tenant").is("acme"));
+
+		SolrQuery solrQuery = queryParser.constructSolrQuery(query, SampleWithFilterFields.class);
+
+		assertThat(solrQuery.getQuery()).isEqualTo("title:spring OR tenant:acme");
+		assertThat(solrQuery.getFilterQueries()).isNull();
+	}
+
+	@Test
+	public void shouldNotExtractBoostedClauses() {
+
+		queryParser.setExtractFilterQueries(true);
+
+		SimpleQuery query = new SimpleQuery(Criteria.where("title").is("spring").and("tenant").is("acme").boost(2f));
+
+		SolrQuery solrQuery = queryParser.constructSolrQuery(query, SampleWithFilterFields.class);
+
+		assertThat(solrQuery.getQuery()).isEqualTo("title:spring AND tenant:acme^2.0");
+		assertThat(solrQuery.getFilterQueries()).isNull();
+	}
+
 	private void assertPivotFactingPresent(SolrQuery solrQuery, String... expected) {
 		assertThat(solrQuery.getParams(FacetParams.FACET_PIVOT)).isEqualTo(expected);
 	}
@@ -1893,4 +2389,29 @@ public class DefaultQueryParserTests {
 		@Field(value = "renamed-field") //
 		String renamedField;
 	}
+
+	@SolrDocument
+	static class SampleWithRoutingKey {
+
+		@Id String id;
+		String title;
+		@RoutingKey String tenant;
+	}
+
+	@SolrDocument
+	static class SampleWithFilterFields {
+
+		@Id String id;
+		String title;
+		@Indexed(filter = true) String tenant;
+		@Indexed(name = "acl_groups", filter = true) List<String> acl;
+	}
+
+	static class DecoratedFilterQuery extends AbstractQueryDecorator implements FilterQuery {
+
+		DecoratedFilterQuery(Query query) {
+			super(query);
+		}
+	}
+
 }
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class HedgedRequestExecutorTests {
+
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@After
+	public void tearDown() {
+		release.countDown();
+	}
+
+	@Test
+	public void shouldNotHedgeFastRequests() throws Exception {
+
+		AtomicInteger invocations = new AtomicInteger();
+		HedgedRequestExecutor executor = new HedgedRequestExecutor(
+				HedgingPolicy.defaults().withBudget(1D).withInitialDelay(Duration.ofSeconds(10)));
+
+		assertThat(executor.execute(() -> invocations.incrementAndGet())).isEqualTo(1);
+		assertThat(invocations.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldUseHedgedResponseWhenPrimaryIsSlow() throws Exception {
+
+		AtomicInteger invocations = new AtomicInteger();
+		HedgedRequestExecutor executor = new HedgedRequestExecutor(
+				HedgingPolicy.defaults().withBudget(1D).withInitialDelay(Duration.ofMillis(10)));
+
+		String result = executor.execute(() -> {
+
+			if (invocations.incrementAndGet() == 1) {
+				release.await(10, TimeUnit.SECONDS);
+				return "primary";
+			}
+			return "hedge";
+		});
+
+		assertThat(result).isEqualTo("hedge");
+		assertThat(invocations.get()).isEqualTo(2);
+		assertThat(Thread.currentThread().isInterrupted()).isFalse();
+	}
+
+	@Test
+	public void shouldReturnHedgedResponseWhilePrimaryIgnoresInterrupts() throws Exception {
+
+		AtomicInteger invocations = new AtomicInteger();
+		HedgedRequestExecutor executor = new HedgedRequestExecutor(
+				HedgingPolicy.defaults().withBudget(1D).withInitialDelay(Duration.ofMillis(10)));
+
+		long start = System.nanoTime();
+		String result = executor.execute(() -> {
+
+			if (invocations.incrementAndGet() == 1) {
+				awaitUninterruptibly(release);
+				return "primary";
+			}
+			return "hedge";
+		});
+
+		assertThat(result).isEqualTo("hedge");
+		assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(5));
+		assertThat(release.getCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldRunRequestOnCallingThreadWhenLimitIsReached() throws Exception {
+
+		HedgedRequestExecutor executor = new HedgedRequestExecutor(HedgingPolicy.defaults().withMaxConcurrentRequests(1));
+		CountDownLatch started = new CountDownLatch(1);
+
+		Thread other = new Thread(() -> {
+			try {
+				executor.execute(() -> {
+
+					started.countDown();
+					awaitUninterruptibly(release);
+					return "other";
+				});
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		other.start();
+
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(executor.execute(Thread::currentThread)).isSameAs(Thread.currentThread());
+
+		release.countDown();
+		other.join(5000);
+
+		assertThat(executor.execute(Thread::currentThread)).isNotSameAs(Thread.currentThread());
+	}
+
+	@Test
+	public void shouldInterruptHedgeWhenPrimaryWins() throws Exception {
+
+		AtomicInteger invocations = new AtomicInteger();
+		CountDownLatch hedgeInterrupted = new CountDownLatch(1);
+		HedgedRequestExecutor executor = new HedgedRequestExecutor(
+				HedgingPolicy.defaults().withBudget(1D).withInitialDelay(Duration.ofMillis(10)));
+
+		String result = executor.execute(() -> {
+
+			if (invocations.incrementAndGet() == 1) {
+				Thread.sleep(100);
+				return "primary";
+			}
+			try {
+				release.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				hedgeInterrupted.countDown();
+			}
+			return "hedge";
+		});
+
+		assertThat(result).isEqualTo("primary");
+		assertThat(hedgeInterrupted.await(1, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	public void shouldUseHedgedResponseWhenPrimaryFails() throws Exception {
+
+		AtomicInteger invocations = new AtomicInteger();
+		HedgedRequestExecutor executor = new HedgedRequestExecutor(
+				HedgingPolicy.defaults().withBudget(1D).withInitialDelay(Duration.ofMillis(10)));
+
+		String result = executor.execute(() -> {
+
+			if (invocations.incrementAndGet() == 1) {
+				Thread.sleep(50);
+				throw new IOException("primary failed");
+			}
+			Thread.sleep(50);
+			return "hedge";
+		});
+
+		assertThat(result).isEqualTo("hedge");
+	}
+
+	@Test
+	public void shouldNotHedgeAfterShutdown() throws Exception {
+
+		AtomicInteger invocations = new AtomicInteger();
+		HedgedRequestExecutor executor = new HedgedRequestExecutor(
+				HedgingPolicy.defaults().withBudget(1D).withMinDelay(Duration.ZERO).withInitialDelay(Duration.ZERO));
+		executor.shutdown();
+
+		String result = executor.execute(() -> {
+
+			invocations.incrementAndGet();
+			Thread.sleep(20);
+			return "primary";
+		});
+
+		assertThat(result).isEqualTo("primary");
+		assertThat(invocations.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldNotHedgeWhenBudgetIsExhausted() throws Exception {
+
+		AtomicInteger invocations = new AtomicInteger();
+		HedgedRequestExecutor executor = new HedgedRequestExecutor(
+				HedgingPolicy.defaults().withBudget(0D).withMinDelay(Duration.ZERO).withInitialDelay(Duration.ZERO));
+
+		String result = executor.execute(() -> {
+
+			invocations.incrementAndGet();
+			Thread.sleep(20);
+			return "primary";
+		});
+
+		assertThat(result).isEqualTo("primary");
+		assertThat(invocations.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldUsePrimaryResponseWhenHedgeFails() throws Exception {
+
+		AtomicInteger invocations = new AtomicInteger();
+		HedgedRequestExecutor executor = new HedgedRequestExecutor(
+				HedgingPolicy.defaults().withBudget(1D).withInitialDelay(Duration.ofMillis(10)));
+
+		String result = executor.execute(() -> {
+
+			if (invocations.incrementAndGet() == 1) {
+				Thread.sleep(100);
+				return "primary";
+			}
+			throw new IOException("hedge failed");
+		});
+
+		assertThat(result).isEqualTo("primary");
+	}
+
+	@Test
+	public void shouldPropagateFailure() {
+
+		HedgedRequestExecutor executor = new HedgedRequestExecutor(HedgingPolicy.defaults());
+
+		assertThatExceptionOfType(IOException.class).isThrownBy(() -> executor.execute(() -> {
+			throw new IOException("failed");
+		})).withMessage("failed");
+	}
+
+	@Test
+	public void shouldPropagateFailureOfHedgedRequests() {
+
+		AtomicInteger invocations = new AtomicInteger();
+		HedgedRequestExecutor executor = new HedgedRequestExecutor(
+				HedgingPolicy.defaults().withBudget(1D).withInitialDelay(Duration.ofMillis(10)));
+
+		assertThatExceptionOfType(IOException.class).isThrownBy(() -> executor.execute(() -> {
+
+			if (invocations.incrementAndGet() == 1) {
+				Thread.sleep(50);
+				throw new IOException("primary failed");
+			}
+			throw new IOException("hedge failed");
+		})).withMessage("primary failed").satisfies(e -> assertThat(e.getSuppressed()).hasSize(1));
+	}
+
+	@Test
+	public void shouldDeriveDelayFromObservedLatencies() throws Exception {
+
+		HedgedRequestExecutor executor = new HedgedRequestExecutor(HedgingPolicy.percentile(0.5D)
+				.withInitialDelay(Duration.ofSeconds(1)).withMinDelay(Duration.ZERO));
+
+		assertThat(executor.getDelayNanos()).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+
+		for (int i = 0; i < HedgedRequestExecutor.MIN_SAMPLES; i++) {
+			executor.execute(() -> "fast");
+		}
+
+		assertThat(executor.getDelayNanos()).isLessThan(TimeUnit.SECONDS.toNanos(1));
+	}
+
+	private static void awaitUninterruptibly(CountDownLatch latch) {
+
+		boolean interrupted = false;
+		while (true) {
+			try {
+				latch.await(10, TimeUnit.SECONDS);
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
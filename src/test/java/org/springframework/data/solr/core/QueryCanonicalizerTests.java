@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Date;
+
+import org.apache.solr.client.solrj.SolrQuery;
+import org.apache.solr.common.params.CommonParams;
+import org.junit.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.solr.core.QueryCanonicalizer.DateRounding;
+import org.springframework.data.solr.core.query.Criteria;
+import org.springframework.data.solr.core.query.SimpleFilterQuery;
+import org.springframework.data.solr.core.query.SimpleQuery;
+import org.springframework.data.solr.core.query.SimpleStringCriteria;
+import org.springframework.data.solr.core.query.TermsQueryOptions;
+
+public class QueryCanonicalizerTests {
+
+	@Test
+	public void shouldSortAndDeduplicateFilterQueries() {
+
+		SolrQuery solrQuery = new SolrQuery("*:*");
+		solrQuery.addFilterQuery("type:book", "inStock:true", "type:book");
+
+		QueryCanonicalizer.defaults().canonicalize(solrQuery);
+
+		assertThat(solrQuery.getFilterQueries()).containsExactly("inStock:true", "type:book");
+	}
+
+	@Test
+	public void shouldKeepFilterQueryOrderWhenSortingDisabled() {
+
+		SolrQuery solrQuery = new SolrQuery("*:*");
+		solrQuery.addFilterQuery("type:book", "inStock:true");
+
+		QueryCanonicalizer.defaults().withSortedFilterQueries(false).canonicalize(solrQuery);
+
+		assertThat(solrQuery.getFilterQueries()).containsExactly("type:book", "inStock:true");
+	}
+
+	@Test
+	public void shouldNormalizeWhitespace() {
+
+		SolrQuery solrQuery = new SolrQuery("  title:foo   AND\t(type:book\n OR type:dvd) ");
+		solrQuery.set(CommonParams.SORT, "price asc,  name desc");
+
+		QueryCanonicalizer.defaults().canonicalize(solrQuery);
+
+		assertThat(solrQuery.getQuery()).isEqualTo("title:foo AND (type:book OR type:dvd)");
+		assertThat(solrQuery.get(CommonParams.SORT)).isEqualTo("price asc,name desc");
+	}
+
+	@Test
+	public void shouldNotNormalizeWhitespaceInPhrasesEscapedCharactersOrLocalParams() {
+
+		QueryCanonicalizer canonicalizer = QueryCanonicalizer.defaults();
+
+		assertThat(canonicalizer.canonicalizeQueryString("title:\"foo   bar\"  AND name:a\\  b"))
+				.isEqualTo("title:\"foo   bar\" AND name:a\\  b");
+		assertThat(canonicalizer.canonicalizeQueryString("{!field  f=name v='foo   bar'}"))
+				.isEqualTo("{!field f=name v='foo   bar'}");
+		assertThat(canonicalizer.canonicalizeQueryString("name:o'neil   AND type:book"))
+				.isEqualTo("name:o'neil AND type:book");
+	}
+
+	@Test
+	public void shouldNotNormalizeWhitespaceInValueOfLeadingLocalParams() {
+
+		QueryCanonicalizer canonicalizer = QueryCanonicalizer.defaults();
+
+		assertThat(canonicalizer.canonicalizeQueryString("{!terms  f=id}a  b,c ")).isEqualTo("{!terms f=id}a  b,c ");
+		assertThat(canonicalizer.canonicalizeQueryString("type:book  AND _query_:\"{!terms f=id}a  b\""))
+				.isEqualTo("type:book AND _query_:\"{!terms f=id}a  b\"");
+	}
+
+	@Test
+	public void shouldNotRoundDatesByDefault() {
+		assertThat(QueryCanonicalizer.defaults().canonicalizeQueryString("date:[NOW-1DAY TO NOW]"))
+				.isEqualTo("date:[NOW-1DAY TO NOW]");
+	}
+
+	@Test
+	public void shouldRoundNowInDateRanges() {
+
+		QueryCanonicalizer canonicalizer = QueryCanonicalizer.defaults().withDateRounding(DateRounding.MINUTE);
+
+		assertThat(canonicalizer.canonicalizeQueryString("date:[NOW-1DAY TO NOW]"))
+				.isEqualTo("date:[NOW/MINUTE-1DAY TO NOW/MINUTE+1MINUTE]");
+		assertThat(canonicalizer.canonicalizeQueryString("date:{NOW\\-7DAYS TO *}"))
+				.isEqualTo("date:{NOW/MINUTE\\-7DAYS TO *}");
+	}
+
+	@Test
+	public void shouldNotRoundNowAlreadyUsingRounding() {
+
+		QueryCanonicalizer canonicalizer = QueryCanonicalizer.defaults().withDateRounding(DateRounding.MINUTE);
+
+		assertThat(canonicalizer.canonicalizeQueryString("date:[NOW/DAY-1DAY TO NOW/DAY]"))
+				.isEqualTo("date:[NOW/DAY-1DAY TO NOW/DAY]");
+	}
+
+	@Test
+	public void shouldNotRoundOutsideOfRanges() {
+
+		QueryCanonicalizer canonicalizer = QueryCanonicalizer.defaults().withDateRounding(DateRounding.DAY);
+
+		assertThat(canonicalizer.canonicalizeQueryString("title:NOW AND date:2012\\-08\\-21T12\\:30\\:15.123Z"))
+				.isEqualTo("title:NOW AND date:2012\\-08\\-21T12\\:30\\:15.123Z");
+	}
+
+	@Test
+	public void shouldRoundAbsoluteDatesInRanges() {
+
+		String range = "date:[2012\\-08\\-21T12\\:30\\:15.123Z TO 2012-08-22T13:45:59Z+1DAY]";
+
+		assertThat(QueryCanonicalizer.defaults().withDateRounding(DateRounding.SECOND).canonicalizeQueryString(range))
+				.isEqualTo("date:[2012\\-08\\-21T12\\:30\\:15Z TO 2012-08-22T13:45:59Z+1DAY]");
+		assertThat(QueryCanonicalizer.defaults().withDateRounding(DateRounding.MINUTE).canonicalizeQueryString(range))
+				.isEqualTo("date:[2012\\-08\\-21T12\\:30\\:00Z TO 2012-08-22T13:46:00Z+1DAY]");
+		assertThat(QueryCanonicalizer.defaults().withDateRounding(DateRounding.HOUR).canonicalizeQueryString(range))
+				.isEqualTo("date:[2012\\-08\\-21T12\\:00\\:00Z TO 2012-08-22T14:00:00Z+1DAY]");
+		assertThat(QueryCanonicalizer.defaults().withDateRounding(DateRounding.DAY).canonicalizeQueryString(range))
+				.isEqualTo("date:[2012\\-08\\-21T00\\:00\\:00Z TO 2012-08-23T00:00:00Z+1DAY]");
+	}
+
+	@Test
+	public void shouldRoundUpperBoundsUp() {
+
+		QueryCanonicalizer canonicalizer = QueryCanonicalizer.defaults().withDateRounding(DateRounding.DAY);
+
+		assertThat(canonicalizer.canonicalizeQueryString("date:[* TO 2012\\-12\\-31T23\\:59\\:59.999Z]"))
+				.isEqualTo("date:[* TO 2013\\-01\\-01T00\\:00\\:00Z]");
+		assertThat(canonicalizer.canonicalizeQueryString("date:[* TO 2012-08-22T00:00:00Z]"))
+				.isEqualTo("date:[* TO 2012-08-22T00:00:00Z]");
+	}
+
+	@Test
+	public void shouldNotRoundAbsoluteDatesAlreadyUsingRounding() {
+
+		QueryCanonicalizer canonicalizer = QueryCanonicalizer.defaults().withDateRounding(DateRounding.MINUTE);
+
+		assertThat(canonicalizer.canonicalizeQueryString("date:[2012-08-21T12:30:15Z/DAY TO *]"))
+				.isEqualTo("date:[2012-08-21T12:30:15Z/DAY TO *]");
+	}
+
+	@Test
+	public void shouldNotRoundDateRangesWithinPhrases() {
+
+		QueryCanonicalizer canonicalizer = QueryCanonicalizer.defaults().withDateRounding(DateRounding.MINUTE);
+
+		assertThat(canonicalizer.canonicalizeQueryString("text:\"[NOW-1DAY TO NOW]\" AND date:[NOW-1DAY TO NOW]"))
+				.isEqualTo("text:\"[NOW-1DAY TO NOW]\" AND date:[NOW/MINUTE-1DAY TO NOW/MINUTE+1MINUTE]");
+	}
+
+	@Test
+	public void shouldNotCanonicalizeQueriesByDefault() {
+
+		DefaultQueryParser parser = new DefaultQueryParser(null);
+		SimpleQuery query = new SimpleQuery(new SimpleStringCriteria("a:1   AND b:2"));
+		query.addFilterQuery(new SimpleFilterQuery(Criteria.where("type").is("book")));
+		query.addFilterQuery(new SimpleFilterQuery(Criteria.where("inStock").is(true)));
+
+		SolrQuery solrQuery = parser.constructSolrQuery(query, null);
+
+		assertThat(solrQuery.getQuery()).isEqualTo("a:1   AND b:2");
+		assertThat(solrQuery.getFilterQueries()).containsExactly("type:book", "inStock:true");
+	}
+
+	@Test
+	public void shouldCanonicalizeConstructedQueries() {
+
+		DefaultQueryParser parser = new DefaultQueryParser(null);
+		parser.setQueryCanonicalizer(QueryCanonicalizer.defaults().withDateRounding(DateRounding.DAY));
+
+		SimpleQuery query = new SimpleQuery(new SimpleStringCriteria("a:1   AND b:2"));
+		query.addFilterQuery(new SimpleFilterQuery(Criteria.where("type").is("book")));
+		query.addFilterQuery(new SimpleFilterQuery(Criteria.where("date").between(new Date(1345552215123L), null)));
+		query.addSort(Sort.by("price"));
+
+		SolrQuery solrQuery = parser.constructSolrQuery(query, null);
+
+		assertThat(solrQuery.getQuery()).isEqualTo("a:1 AND b:2");
+		assertThat(solrQuery.getFilterQueries()).containsExactly("date:[2012\\-08\\-21T00\\:00\\:00Z TO *]",
+				"type:book");
+		assertThat(solrQuery.get(CommonParams.SORT)).isEqualTo("price asc");
+	}
+
+	@Test
+	public void shouldKeepTermsQueryValuesWhenCanonicalizing() {
+
+		DefaultQueryParser parser = new DefaultQueryParser(null);
+		parser.setQueryCanonicalizer(QueryCanonicalizer.defaults());
+		parser.setTermsQueryOptions(TermsQueryOptions.threshold(2));
+
+		SimpleQuery query = new SimpleQuery(Criteria.where("id").in("a  b", "c "));
+		query.addFilterQuery(new SimpleFilterQuery(Criteria.where("sku").in("x\ty", "z")));
+		query.addFilterQuery(new SimpleFilterQuery(
+				Criteria.where("type").is("book").and(Criteria.where("tag").in("new  release", "sale"))));
+
+		SolrQuery solrQuery = parser.constructSolrQuery(query, null);
+
+		assertThat(solrQuery.getQuery()).isEqualTo("{!terms f=id}a  b,c ");
+		assertThat(solrQuery.getFilterQueries()).containsExactly("type:book AND _query_:\"{!terms f=tag}new  release,sale\"",
+				"{!terms f=sku}x\ty,z");
+	}
+
+}
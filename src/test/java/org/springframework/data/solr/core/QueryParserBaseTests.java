@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import org.apache.solr.client.solrj.SolrQuery;
 import org.junit.Before;
@@ -247,6 +248,58 @@ public class QueryParserBaseTests {
 		assertThat(objectNames.get("nameQuery1")).isEqualTo(queriesList.get(1));
 	}
 
+	@Test
+	public void escapeCriteriaValueShouldReturnValueAsIsWhenNothingToEscape() {
+
+		String value = "value_1";
+		assertThat(QueryParserBase.escapeCriteriaValue(value)).isSameAs(value);
+	}
+
+	@Test
+	public void escapeCriteriaValueShouldEscapeAndQuote() {
+
+		assertThat(QueryParserBase.escapeCriteriaValue("a && b || c & d | e")).isEqualTo("\"a \\&\\& b \\|\\| c & d | e\"");
+		assertThat(QueryParserBase.escapeCriteriaValue("AND")).isEqualTo("\"AND\"");
+		assertThat(QueryParserBase.escapeCriteriaValue("&&&")).isEqualTo("\\&\\&&");
+	}
+
+	@Test
+	public void escapeCriteriaValueShouldMatchReplaceEachBasedEscaping() {
+
+		String[] reservedChars = { "\"", "+", "-", "&&", "||", "!", "(", ")", "{", "}", "[", "]", "^", "~", "*", "?", ":",
+				"\\" };
+		String[] replacements = { "\\\"", "\\+", "\\-", "\\&\\&", "\\|\\|", "\\!", "\\(", "\\)", "\\{", "\\}", "\\[",
+				"\\]", "\\^", "\\~", "\\*", "\\?", "\\:", "\\\\" };
+		char[] alphabet = "ab1 _.\"+-&|!(){}[]^~*?:\\".toCharArray();
+		String[] operators = { "AND", "OR", "NOT" };
+
+		Random random = new Random(42);
+		for (int i = 0; i < 50_000; i++) {
+
+			String value;
+			if (i % 100 == 0) {
+				value = operators[random.nextInt(operators.length)];
+			} else {
+				char[] chars = new char[random.nextInt(12)];
+				for (int j = 0; j < chars.length; j++) {
+					chars[j] = alphabet[random.nextInt(alphabet.length)];
+				}
+				value = new String(chars);
+			}
+
+			String expected = org.apache.commons.lang3.StringUtils.replaceEach(value, reservedChars, replacements);
+			if (expected.contains(" ") || Arrays.asList(operators).contains(expected)) {
+				expected = "\"" + expected + "\"";
+			}
+
+			assertThat(QueryParserBase.escapeCriteriaValue(value)).as("escaping [%s]", value).isEqualTo(expected);
+
+			StringBuilder target = new StringBuilder("field:");
+			QueryParserBase.appendEscapedCriteriaValue(target, value);
+			assertThat(target.toString()).isEqualTo("field:" + expected);
+		}
+	}
+
 	private void assertProcessorCanProcess(PredicateProcessor processor, OperationKey key) {
 		assertThat(processor.canProcess(new Predicate(key, SOME_VALUE))).isTrue();
 		assertProcessorCannotProcessInvalidOrNullOperationKey(processor);
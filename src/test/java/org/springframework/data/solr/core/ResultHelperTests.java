@@ -45,6 +45,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.solr.core.mapping.SimpleSolrMappingContext;
 import org.springframework.data.solr.core.query.*;
 import org.springframework.data.solr.core.query.result.FacetFieldEntry;
 import org.springframework.data.solr.core.query.result.FacetPivotFieldEntry;
@@ -291,6 +292,61 @@ public class ResultHelperTests {
 		}
 	}
 
+	@Test
+	public void testParseAndAddHighlightQueryResponseUsingMappingContextIdAccessor() {
+
+		Map<String, Map<String, List<String>>> highlightingData = new LinkedHashMap<>();
+		highlightingData.put("entity-id-1", Collections.singletonMap("field_1", Collections.singletonList("highlight 1")));
+		Mockito.when(response.getHighlighting()).thenReturn(highlightingData);
+
+		SimpleSolrMappingContext mappingContext = new SimpleSolrMappingContext();
+		mappingContext.getPersistentEntity(SolrBeanWithCustomIdFieldName.class);
+
+		SolrBeanWithCustomIdFieldName resultBean = new SolrBeanWithCustomIdFieldName("entity-id-1");
+
+		List<HighlightEntry<SolrBeanWithCustomIdFieldName>> result = ResultHelper
+				.convertAndAddHighlightQueryResponseToResultPage(response,
+						new SolrResultPage<>(Collections.singletonList(resultBean)),
+						ResultHelper.idResolver(mappingContext, SolrBeanWithCustomIdFieldName.class));
+
+		assertThat(result).hasSize(1);
+		assertThat(result.get(0).getHighlights()).hasSize(1);
+		assertThat(result.get(0).getHighlights().get(0).getField().getName()).isEqualTo("field_1");
+	}
+
+	@Test
+	public void testParseAndAddHighlightQueryResponseForMapEntriesUsesIdFieldNameOfDomainType() {
+
+		Map<String, Map<String, List<String>>> highlightingData = new LinkedHashMap<>();
+		highlightingData.put("entity-id-1", Collections.singletonMap("field_1", Collections.singletonList("highlight 1")));
+		Mockito.when(response.getHighlighting()).thenReturn(highlightingData);
+
+		Map<String, Object> resultDocument = Collections.singletonMap("custom_id", "entity-id-1");
+
+		List<HighlightEntry<Map<String, Object>>> result = ResultHelper.convertAndAddHighlightQueryResponseToResultPage(
+				response, new SolrResultPage<>(Collections.singletonList(resultDocument)),
+				ResultHelper.idResolver(new SimpleSolrMappingContext(), SolrBeanWithCustomIdFieldName.class));
+
+		assertThat(result).hasSize(1);
+		assertThat(result.get(0).getHighlights()).hasSize(1);
+	}
+
+	@Test
+	public void testParseAndAddHighlightQueryResponseFallsBackToReflectionForUnknownTypes() {
+
+		Map<String, Map<String, List<String>>> highlightingData = new LinkedHashMap<>();
+		highlightingData.put("entity-id-1", Collections.singletonMap("field_1", Collections.singletonList("highlight 1")));
+		Mockito.when(response.getHighlighting()).thenReturn(highlightingData);
+
+		List<HighlightEntry<SolrBeanWithIdNamedField>> result = ResultHelper
+				.convertAndAddHighlightQueryResponseToResultPage(response,
+						new SolrResultPage<>(Collections.singletonList(new SolrBeanWithIdNamedField("entity-id-1"))),
+						ResultHelper.idResolver(new SimpleSolrMappingContext(), null));
+
+		assertThat(result).hasSize(1);
+		assertThat(result.get(0).getHighlights()).hasSize(1);
+	}
+
 	@Test
 	public void testConvertFacetRangeQueryResponseToFacetPageMapForNullQueryResponse() {
 		Map<Field, Page<FacetFieldEntry>> result = ResultHelper
@@ -834,4 +890,14 @@ public class ResultHelperTests {
 
 	}
 
+	private static class SolrBeanWithCustomIdFieldName {
+
+		private @Id @org.apache.solr.client.solrj.beans.Field("custom_id") String identifier;
+
+		public SolrBeanWithCustomIdFieldName(String identifier) {
+			this.identifier = identifier;
+		}
+
+	}
+
 }
@@ -26,11 +26,16 @@ import static org.mockito.Mockito.nullable;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
 import org.apache.http.ParseException;
 import org.apache.solr.client.solrj.SolrClient;
@@ -44,11 +49,13 @@ import org.apache.solr.client.solrj.request.schema.SchemaRequest.SchemaVersion;
 import org.apache.solr.client.solrj.response.QueryResponse;
 import org.apache.solr.client.solrj.response.SolrPingResponse;
 import org.apache.solr.client.solrj.response.UpdateResponse;
+import org.apache.solr.common.SolrDocument;
 import org.apache.solr.common.SolrDocumentList;
 import org.apache.solr.common.SolrException;
 import org.apache.solr.common.SolrException.ErrorCode;
 import org.apache.solr.common.SolrInputDocument;
 import org.apache.solr.common.params.CommonParams;
+import org.apache.solr.common.params.ShardParams;
 import org.apache.solr.common.params.SolrParams;
 import org.apache.solr.common.util.NamedList;
 import org.junit.Before;
@@ -63,16 +70,19 @@ import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.solr.SolrRequestRejectedException;
 import org.springframework.data.solr.UncategorizedSolrException;
 import org.springframework.data.solr.core.mapping.Indexed;
 import org.springframework.data.solr.core.mapping.Score;
 import org.springframework.data.solr.core.query.Criteria;
 import org.springframework.data.solr.core.query.PartialUpdate;
 import org.springframework.data.solr.core.query.Query;
+import org.springframework.data.solr.core.query.SimpleField;
 import org.springframework.data.solr.core.query.SimpleHighlightQuery;
 import org.springframework.data.solr.core.query.SimpleQuery;
 import org.springframework.data.solr.core.query.SimpleStringCriteria;
 import org.springframework.data.solr.core.query.SolrDataQuery;
+import org.springframework.data.solr.core.query.result.ScoredPage;
 import org.springframework.data.solr.core.schema.SolrPersistentEntitySchemaCreator.Feature;
 import org.springframework.data.solr.server.SolrClientFactory;
 import org.springframework.lang.Nullable;
@@ -428,6 +438,203 @@ public class SolrTemplateTests {
 		verify(solrClientMock, times(1)).getById(eq(COLLECTION_NAME), eq(ids));
 	}
 
+	@Test
+	public void shouldUseReadClientForQueriesAndWriteClientForUpdates() throws SolrServerException, IOException {
+
+		SolrClient readClientMock = mock(SolrClient.class);
+		solrTemplate = new SolrTemplate(() -> solrClientMock, () -> readClientMock);
+		solrTemplate.afterPropertiesSet();
+
+		when(readClientMock.query(any(), any(SolrParams.class), any(SolrRequest.METHOD.class)))
+				.thenReturn(new QueryResponse());
+		when(readClientMock.getById(eq(COLLECTION_NAME), anyCollection())).thenReturn(new SolrDocumentList());
+
+		solrTemplate.querySolr(COLLECTION_NAME, new SimpleQuery("*:*"), DocumentWithIndexAnnotations.class, null);
+		solrTemplate.getById(COLLECTION_NAME, "myId", DocumentWithIndexAnnotations.class);
+		solrTemplate.saveDocument(COLLECTION_NAME, SIMPLE_DOCUMENT);
+		solrTemplate.commit(COLLECTION_NAME);
+
+		verify(readClientMock).query(eq(COLLECTION_NAME), any(SolrParams.class), any(SolrRequest.METHOD.class));
+		verify(readClientMock).getById(eq(COLLECTION_NAME), eq(Collections.singletonList("myId")));
+		verify(readClientMock, never()).add(anyString(), any(SolrInputDocument.class), anyInt());
+		verify(solrClientMock).add(eq(COLLECTION_NAME), eq(SIMPLE_DOCUMENT), eq(-1));
+		verify(solrClientMock).commit(eq(COLLECTION_NAME));
+		verify(solrClientMock, never()).query(any(), any(SolrParams.class), any(SolrRequest.METHOD.class));
+	}
+
+	@Test
+	public void shouldApplyReadShardsPreferenceToQueries() throws SolrServerException, IOException {
+
+		solrTemplate.setReadShardsPreference("replica.type:PULL,replica.type:TLOG");
+
+		when(solrClientMock.query(any(), any(SolrParams.class), any(SolrRequest.METHOD.class)))
+				.thenReturn(new QueryResponse());
+
+		solrTemplate.querySolr(COLLECTION_NAME, new SimpleQuery("*:*"), DocumentWithIndexAnnotations.class, null);
+
+		ArgumentCaptor<SolrParams> captor = ArgumentCaptor.forClass(SolrParams.class);
+		verify(solrClientMock).query(eq(COLLECTION_NAME), captor.capture(), any(SolrRequest.METHOD.class));
+
+		assertThat(captor.getValue().get(ShardParams.SHARDS_PREFERENCE)).isEqualTo("replica.type:PULL,replica.type:TLOG");
+	}
+
+	@Test
+	public void shouldApplyReadShardsPreferenceToCount() throws SolrServerException, IOException {
+
+		solrTemplate.setReadShardsPreference("replica.type:PULL");
+
+		QueryResponse response = Mockito.mock(QueryResponse.class);
+		SolrDocumentList results = new SolrDocumentList();
+		results.setNumFound(10);
+		when(response.getResults()).thenReturn(results);
+		when(solrClientMock.query(any(), any(SolrParams.class), any(SolrRequest.METHOD.class))).thenReturn(response);
+
+		assertThat(solrTemplate.count(COLLECTION_NAME, new SimpleQuery("*:*"))).isEqualTo(10L);
+
+		ArgumentCaptor<SolrParams> captor = ArgumentCaptor.forClass(SolrParams.class);
+		verify(solrClientMock).query(eq(COLLECTION_NAME), captor.capture(), any(SolrRequest.METHOD.class));
+
+		assertThat(captor.getValue().get(ShardParams.SHARDS_PREFERENCE)).isEqualTo("replica.type:PULL");
+		assertThat(captor.getValue().get(CommonParams.ROWS)).isEqualTo("0");
+	}
+
+	@Test
+	public void shouldApplyReadShardsPreferenceToGetById() throws SolrServerException, IOException {
+
+		solrTemplate.setReadShardsPreference("replica.type:PULL");
+
+		when(solrClientMock.getById(eq(COLLECTION_NAME), anyCollection(), any(SolrParams.class)))
+				.thenReturn(new SolrDocumentList());
+
+		solrTemplate.getById(COLLECTION_NAME, "myId", DocumentWithIndexAnnotations.class);
+
+		ArgumentCaptor<SolrParams> captor = ArgumentCaptor.forClass(SolrParams.class);
+		verify(solrClientMock).getById(eq(COLLECTION_NAME), eq(Collections.singletonList("myId")), captor.capture());
+
+		assertThat(captor.getValue().get(ShardParams.SHARDS_PREFERENCE)).isEqualTo("replica.type:PULL");
+	}
+
+	@Test
+	public void shouldRejectRequestsWhileCircuitIsOpen() throws SolrServerException, IOException {
+
+		solrTemplate.setResiliencePolicy(ResiliencePolicy.defaults().withWindowSize(1).withFailureRateThreshold(1D));
+
+		when(solrClientMock.query(any(), any(SolrParams.class), any(SolrRequest.METHOD.class)))
+				.thenThrow(new SolrServerException("error", new SolrException(ErrorCode.SERVER_ERROR, "error")));
+
+		assertThatExceptionOfType(DataAccessResourceFailureException.class).isThrownBy(() -> solrTemplate
+				.querySolr(COLLECTION_NAME, new SimpleQuery("*:*"), DocumentWithIndexAnnotations.class, null));
+		assertThatExceptionOfType(SolrRequestRejectedException.class).isThrownBy(() -> solrTemplate
+				.querySolr(COLLECTION_NAME, new SimpleQuery("*:*"), DocumentWithIndexAnnotations.class, null));
+
+		verify(solrClientMock, times(1)).query(eq(COLLECTION_NAME), any(SolrParams.class), any(SolrRequest.METHOD.class));
+
+		assertThatExceptionOfType(DataAccessResourceFailureException.class).isThrownBy(() -> solrTemplate
+				.querySolr("other-collection", new SimpleQuery("*:*"), DocumentWithIndexAnnotations.class, null));
+	}
+
+	@Test
+	public void shouldGuardReadsAndUpdatesSeparately() throws SolrServerException, IOException {
+
+		solrTemplate.setResiliencePolicy(ResiliencePolicy.defaults().withWindowSize(1).withFailureRateThreshold(1D));
+
+		when(solrClientMock.add(eq(COLLECTION_NAME), any(SolrInputDocument.class), eq(-1)))
+				.thenThrow(new SolrServerException("error", new SolrException(ErrorCode.SERVER_ERROR, "error")));
+		when(solrClientMock.query(any(), any(SolrParams.class), any(SolrRequest.METHOD.class)))
+				.thenReturn(new QueryResponse());
+
+		assertThatExceptionOfType(DataAccessResourceFailureException.class)
+				.isThrownBy(() -> solrTemplate.saveBean(COLLECTION_NAME, SIMPLE_OBJECT));
+		assertThatExceptionOfType(SolrRequestRejectedException.class)
+				.isThrownBy(() -> solrTemplate.saveBean(COLLECTION_NAME, SIMPLE_OBJECT));
+
+		solrTemplate.querySolr(COLLECTION_NAME, new SimpleQuery("*:*"), DocumentWithIndexAnnotations.class, null);
+
+		verify(solrClientMock).query(eq(COLLECTION_NAME), any(SolrParams.class), any(SolrRequest.METHOD.class));
+	}
+
+	@Test
+	public void shouldHedgeSlowQueries() throws SolrServerException, IOException {
+
+		solrTemplate.setHedgingPolicy(HedgingPolicy.defaults().withBudget(1D).withInitialDelay(Duration.ZERO)
+				.withMinDelay(Duration.ZERO));
+
+		AtomicInteger invocations = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+		when(solrClientMock.query(any(), any(SolrParams.class), any(SolrRequest.METHOD.class))).thenAnswer(invocation -> {
+
+			if (invocations.incrementAndGet() == 1) {
+
+				// blocking socket reads do not react to interrupts either
+				long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+				while (release.getCount() > 0 && System.nanoTime() < deadline) {
+					LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+				}
+			}
+			return new QueryResponse();
+		});
+
+		long start = System.nanoTime();
+		try {
+			solrTemplate.querySolr(COLLECTION_NAME, new SimpleQuery("*:*"), DocumentWithIndexAnnotations.class, null);
+		} finally {
+			release.countDown();
+		}
+
+		assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(5));
+		verify(solrClientMock, times(2)).query(eq(COLLECTION_NAME), any(SolrParams.class), any(SolrRequest.METHOD.class));
+		assertThat(Thread.currentThread().isInterrupted()).isFalse();
+	}
+
+	@Test
+	public void shouldNeverHedgeUpdates() throws SolrServerException, IOException {
+
+		solrTemplate.setHedgingPolicy(HedgingPolicy.defaults().withBudget(1D).withInitialDelay(Duration.ZERO)
+				.withMinDelay(Duration.ZERO));
+
+		when(solrClientMock.add(eq(COLLECTION_NAME), any(SolrInputDocument.class), eq(-1))).thenAnswer(invocation -> {
+
+			Thread.sleep(100);
+			return new UpdateResponse();
+		});
+		when(solrClientMock.add(eq(COLLECTION_NAME), anyCollection(), eq(-1))).thenAnswer(invocation -> {
+
+			Thread.sleep(100);
+			return new UpdateResponse();
+		});
+		when(solrClientMock.deleteById(eq(COLLECTION_NAME), anyList())).thenAnswer(invocation -> {
+
+			Thread.sleep(100);
+			return new UpdateResponse();
+		});
+
+		solrTemplate.saveBean(COLLECTION_NAME, SIMPLE_OBJECT);
+		solrTemplate.saveBeans(COLLECTION_NAME, Collections.singletonList(SIMPLE_OBJECT));
+		solrTemplate.deleteByIds(COLLECTION_NAME, Collections.singletonList("id-1"));
+
+		verify(solrClientMock, times(1)).add(eq(COLLECTION_NAME), any(SolrInputDocument.class), eq(-1));
+		verify(solrClientMock, times(1)).add(eq(COLLECTION_NAME), anyCollection(), eq(-1));
+		verify(solrClientMock, times(1)).deleteById(eq(COLLECTION_NAME), anyList());
+	}
+
+	@Test
+	public void shouldStopHedgingOnDestroy() throws SolrServerException, IOException {
+
+		solrTemplate.setHedgingPolicy(HedgingPolicy.defaults().withBudget(1D).withInitialDelay(Duration.ZERO)
+				.withMinDelay(Duration.ZERO));
+		solrTemplate.destroy();
+
+		when(solrClientMock.query(any(), any(SolrParams.class), any(SolrRequest.METHOD.class))).thenAnswer(invocation -> {
+
+			Thread.sleep(50);
+			return new QueryResponse();
+		});
+
+		solrTemplate.querySolr(COLLECTION_NAME, new SimpleQuery("*:*"), DocumentWithIndexAnnotations.class, null);
+
+		verify(solrClientMock, times(1)).query(eq(COLLECTION_NAME), any(SolrParams.class), any(SolrRequest.METHOD.class));
+	}
+
 	@Test // DATASOLR-160
 	public void testSaveShouldNotSaveScoreField()
 			throws IOException, SolrServerException, SecurityException, NoSuchFieldException {
@@ -494,12 +701,143 @@ public class SolrTemplateTests {
 		verify(solrClientMock, times(1)).query(any(), any(SolrParams.class), eq(SolrRequest.METHOD.PUT));
 	}
 
+	@Test
+	public void queryShouldFallBackToPostWhenParametersExceedMaxGetRequestLength()
+			throws IOException, SolrServerException {
+
+		solrTemplate.setMaxGetRequestLength(100);
+
+		when(solrClientMock.query(any(), any(SolrParams.class), any(SolrRequest.METHOD.class)))
+				.thenReturn(new QueryResponse());
+
+		solrTemplate.querySolr(COLLECTION_NAME, new SimpleQuery(new Criteria("id").in(longValueList(100))),
+				DocumentWithIndexAnnotations.class, RequestMethod.GET);
+
+		verify(solrClientMock, times(1)).query(any(), any(SolrParams.class), eq(SolrRequest.METHOD.POST));
+	}
+
+	@Test
+	public void queryShouldUseGetWhenParametersDoNotExceedMaxGetRequestLength()
+			throws IOException, SolrServerException {
+
+		when(solrClientMock.query(any(), any(SolrParams.class), any(SolrRequest.METHOD.class)))
+				.thenReturn(new QueryResponse());
+
+		solrTemplate.querySolr(COLLECTION_NAME, new SimpleQuery(new Criteria("id").in(longValueList(100))),
+				DocumentWithIndexAnnotations.class, RequestMethod.GET);
+
+		verify(solrClientMock, times(1)).query(any(), any(SolrParams.class), eq(SolrRequest.METHOD.GET));
+	}
+
+	@Test
+	public void queryShouldNotFallBackToPostWhenMaxGetRequestLengthDisabled() throws IOException, SolrServerException {
+
+		solrTemplate.setMaxGetRequestLength(0);
+
+		when(solrClientMock.query(any(), any(SolrParams.class), any(SolrRequest.METHOD.class)))
+				.thenReturn(new QueryResponse());
+
+		solrTemplate.querySolr(COLLECTION_NAME, new SimpleQuery(new Criteria("id").in(longValueList(2000))),
+				DocumentWithIndexAnnotations.class, RequestMethod.GET);
+
+		verify(solrClientMock, times(1)).query(any(), any(SolrParams.class), eq(SolrRequest.METHOD.GET));
+	}
+
+	private static List<Long> longValueList(int size) {
+
+		List<Long> values = new ArrayList<>(size);
+		for (long i = 0; i < size; i++) {
+			values.add(i);
+		}
+		return values;
+	}
+
+	@Test
+	public void queryForMapPageShouldExposeDocumentsAsReadOnlyMaps() throws IOException, SolrServerException {
+
+		SolrDocument document = new SolrDocument();
+		document.addField("id", "id-1");
+		document.addField("namedProperty", "value");
+
+		SolrDocumentList resultList = new SolrDocumentList();
+		resultList.add(document);
+		resultList.setNumFound(1);
+
+		QueryResponse responseMock = Mockito.mock(QueryResponse.class);
+		when(responseMock.getResults()).thenReturn(resultList);
+		when(solrClientMock.query(eq(COLLECTION_NAME), any(SolrQuery.class), eq(SolrRequest.METHOD.GET)))
+				.thenReturn(responseMock);
+
+		ScoredPage<Map<String, Object>> page = solrTemplate.queryForMapPage(COLLECTION_NAME,
+				new SimpleQuery(new Criteria("renamedProperty").is("value")), DocumentWithIndexAnnotations.class);
+
+		ArgumentCaptor<SolrQuery> captor = ArgumentCaptor.forClass(SolrQuery.class);
+		verify(solrClientMock).query(eq(COLLECTION_NAME), captor.capture(), eq(SolrRequest.METHOD.GET));
+
+		assertThat(captor.getValue().getQuery()).isEqualTo("namedProperty:value");
+		assertThat(page.getTotalElements()).isEqualTo(1L);
+		assertThat(page.getContent().get(0)).containsEntry("namedProperty", "value");
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> page.getContent().get(0).put("namedProperty", "changed"));
+	}
+
+	@Test
+	public void queryForPageWithResultTypeShouldMaterializeDtoUsingDomainTypeFieldNames()
+			throws IOException, SolrServerException {
+
+		SolrDocument document = new SolrDocument();
+		document.addField("namedProperty", "value");
+
+		SolrDocumentList resultList = new SolrDocumentList();
+		resultList.add(document);
+		resultList.setNumFound(1);
+
+		QueryResponse responseMock = Mockito.mock(QueryResponse.class);
+		when(responseMock.getResults()).thenReturn(resultList);
+		when(solrClientMock.query(eq(COLLECTION_NAME), any(SolrQuery.class), eq(SolrRequest.METHOD.GET)))
+				.thenReturn(responseMock);
+
+		Query query = new SimpleQuery(new Criteria("renamedProperty").is("value"));
+		query.addProjectionOnField(new SimpleField("namedProperty"));
+
+		ScoredPage<RenamedPropertyOnly> page = solrTemplate.queryForPage(COLLECTION_NAME, query,
+				DocumentWithIndexAnnotations.class, RenamedPropertyOnly.class);
+
+		ArgumentCaptor<SolrQuery> captor = ArgumentCaptor.forClass(SolrQuery.class);
+		verify(solrClientMock).query(eq(COLLECTION_NAME), captor.capture(), eq(SolrRequest.METHOD.GET));
+
+		assertThat(captor.getValue().getFields()).isEqualTo("namedProperty");
+		assertThat(page.getTotalElements()).isEqualTo(1L);
+		assertThat(page.getContent()).containsExactly(new RenamedPropertyOnly("value"));
+	}
+
+	@Test
+	public void queryForObjectWithResultTypeShouldMaterializeDto() throws IOException, SolrServerException {
+
+		SolrDocument document = new SolrDocument();
+		document.addField("namedProperty", "value");
+
+		SolrDocumentList resultList = new SolrDocumentList();
+		resultList.add(document);
+		resultList.setNumFound(1);
+
+		QueryResponse responseMock = Mockito.mock(QueryResponse.class);
+		when(responseMock.getResults()).thenReturn(resultList);
+		when(solrClientMock.query(eq(COLLECTION_NAME), any(SolrQuery.class), eq(SolrRequest.METHOD.GET)))
+				.thenReturn(responseMock);
+
+		assertThat(solrTemplate.queryForObject(COLLECTION_NAME, new SimpleQuery("*:*"),
+				DocumentWithIndexAnnotations.class, RenamedPropertyOnly.class)).contains(new RenamedPropertyOnly("value"));
+	}
+
 	static class DocumentWithIndexAnnotations {
 
 		@Id String id;
 		@Indexed(name = "namedProperty") String renamedProperty;
 	}
 
+	record RenamedPropertyOnly(String renamedProperty) {}
+
 	static class DocumentWithScoreAnnotation {
 
 		@Id String id;
@@ -17,12 +17,17 @@ package org.springframework.data.solr.core.convert;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.Instant;
 import java.util.Calendar;
+import java.util.Random;
 import java.util.TimeZone;
 
+import org.apache.solr.client.solrj.util.ClientUtils;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
 import org.joda.time.LocalDateTime;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.ISODateTimeFormat;
 import org.junit.Test;
 
 /**
@@ -93,4 +98,71 @@ public class DateTimeConvertersTests {
 				.isEqualTo("2012\\-08\\-21T06\\:35\\:00.000Z");
 	}
 
+	@Test
+	public void testJavaInstantConverter() {
+
+		Instant instant = Instant.ofEpochMilli(new DateTime(2012, 8, 21, 6, 35, 0, 123, DateTimeZone.UTC).getMillis());
+		assertThat(DateTimeConverters.JavaInstantConverter.INSTANCE.convert(instant))
+				.isEqualTo("2012\\-08\\-21T06\\:35\\:00.123Z");
+	}
+
+	@Test
+	public void testJavaLocalDateTimeConverter() {
+
+		java.time.LocalDateTime dateTime = java.time.LocalDateTime.of(2012, 8, 21, 6, 35);
+		assertThat(DateTimeConverters.JavaLocalDateTimeConverter.INSTANCE.convert(dateTime))
+				.isEqualTo("2012\\-08\\-21T06\\:35\\:00.000Z");
+	}
+
+	@Test
+	public void testStringToJodaDateTimeWithOffsetFallsBackToFormatter() {
+
+		DateTime dateTime = DateTimeConverters.StringToJodaDateTimeConverter.INSTANCE.convert("2013-06-18T07:00:00+01:00");
+		assertThat(dateTime).isEqualTo(new DateTime(2013, 6, 18, 6, 0, 0, DateTimeZone.UTC));
+	}
+
+	@Test
+	public void formatEscapedShouldMatchJodaFormatterOutput() {
+
+		DateTimeFormatter formatter = ISODateTimeFormat.dateTime().withZoneUTC();
+		Random random = new Random(42);
+
+		long[] boundaries = { 0L, -1L, 1L, 951782400000L /* 2000-02-29 */, 253402300799999L /* 9999-12-31 */,
+				-62167219200000L /* 0000-01-01 */, 253402300800000L /* 10000-01-01 */, -62167219200001L };
+
+		for (long millis : boundaries) {
+			assertThat(DateTimeConverters.formatEscaped(millis))
+					.isEqualTo(ClientUtils.escapeQueryChars(formatter.print(millis)));
+		}
+
+		for (int i = 0; i < 10_000; i++) {
+
+			long millis = (long) (random.nextDouble() * 253402300799999L * 2) - 253402300799999L / 2;
+			assertThat(DateTimeConverters.formatEscaped(millis))
+					.isEqualTo(ClientUtils.escapeQueryChars(formatter.print(millis)));
+		}
+	}
+
+	@Test
+	public void parseUtcMillisShouldMatchJavaTimeParsing() {
+
+		Random random = new Random(42);
+
+		for (int i = 0; i < 10_000; i++) {
+
+			long millis = (long) (random.nextDouble() * 253402300799999L);
+			String value = Instant.ofEpochMilli(millis).toString();
+			assertThat(DateTimeConverters.parseUtcMillis(value)).isEqualTo(millis);
+		}
+	}
+
+	@Test
+	public void parseUtcMillisShouldRejectUnsupportedFormats() {
+
+		assertThat(DateTimeConverters.parseUtcMillis("2013-06-18")).isEqualTo(Long.MIN_VALUE);
+		assertThat(DateTimeConverters.parseUtcMillis("2013-02-30T06:00:00Z")).isEqualTo(Long.MIN_VALUE);
+		assertThat(DateTimeConverters.parseUtcMillis("2013-06-18T06:00:00+01:00")).isEqualTo(Long.MIN_VALUE);
+		assertThat(DateTimeConverters.parseUtcMillis("2013-06-18T06:00:00.Z")).isEqualTo(Long.MIN_VALUE);
+	}
+
 }
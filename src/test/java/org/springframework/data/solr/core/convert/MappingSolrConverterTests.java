@@ -17,6 +17,7 @@ package org.springframework.data.solr.core.convert;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.assertj.core.data.Offset.offset;
+import static org.mockito.Mockito.*;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -30,13 +31,18 @@ import java.util.Map;
 
 import org.apache.solr.client.solrj.beans.Field;
 import org.apache.solr.common.SolrDocument;
+import org.apache.solr.common.SolrDocumentList;
 import org.apache.solr.common.SolrInputDocument;
 import org.joda.time.DateTime;
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
 import org.springframework.data.geo.Point;
+import org.springframework.data.mapping.MappingException;
 import org.springframework.data.solr.core.mapping.Dynamic;
 import org.springframework.data.solr.core.mapping.Indexed;
+import org.springframework.data.solr.core.mapping.RoutingKey;
 import org.springframework.data.solr.core.mapping.SimpleSolrMappingContext;
 import org.springframework.data.solr.core.query.PartialUpdate;
 
@@ -1030,6 +1036,191 @@ public class MappingSolrConverterTests {
 		assertThat(target.enumList).containsExactly(SomeEnum.E2, SomeEnum.E1);
 	}
 
+	@Test
+	public void readShouldPassThroughValuesAlreadyMatchingTargetType() {
+
+		String value = new String("j73x73r");
+
+		SolrDocument document = new SolrDocument();
+		document.addField("stringProperty", value);
+
+		assertThat(converter.read(BeanWithDefaultTypes.class, document).stringProperty).isSameAs(value);
+		assertThat(converter.read(BeanWithDefaultTypes.class, document).stringProperty).isSameAs(value);
+	}
+
+	@Test
+	public void changingCustomConversionsShouldResetResolvedConversions() {
+
+		SolrDocument document = new SolrDocument();
+		document.addField("stringProperty", "j73x73r");
+
+		assertThat(converter.read(BeanWithDefaultTypes.class, document).stringProperty).isEqualTo("j73x73r");
+
+		converter.setCustomConversions(
+				new SolrCustomConversions(Collections.singletonList(new UpperCaseStringReadingConverter())));
+		converter.afterPropertiesSet();
+
+		assertThat(converter.read(BeanWithDefaultTypes.class, document).stringProperty).isEqualTo("J73X73R");
+	}
+
+	@Test
+	public void shouldResolveCustomConversionLookupsOnlyOncePerTypePair() {
+
+		SolrCustomConversions customConversions = spy(new SolrCustomConversions(Collections.emptyList()));
+		converter.setCustomConversions(customConversions);
+		converter.afterPropertiesSet();
+
+		SolrDocument document = new SolrDocument();
+		document.addField("stringProperty", "j73x73r");
+
+		converter.read(BeanWithDefaultTypes.class, document);
+		converter.read(BeanWithDefaultTypes.class, document);
+
+		assertThat(converter.hasCustomReadTarget(String.class, String.class)).isFalse();
+		verify(customConversions, times(1)).hasCustomReadTarget(String.class, String.class);
+	}
+
+	@Test
+	public void setCustomConversionsShouldInvalidateResolvedLookups() {
+
+		assertThat(converter.hasCustomReadTarget(String.class, String.class)).isFalse();
+
+		SolrCustomConversions customConversions = spy(
+				new SolrCustomConversions(Collections.singletonList(new UpperCaseStringReadingConverter())));
+		converter.setCustomConversions(customConversions);
+
+		assertThat(converter.hasCustomReadTarget(String.class, String.class)).isTrue();
+		assertThat(converter.hasCustomReadTarget(String.class, String.class)).isTrue();
+		verify(customConversions, times(1)).hasCustomReadTarget(String.class, String.class);
+	}
+
+	@Test
+	public void readShouldMaterializeRecordUsingDomainTypeFieldNames() {
+
+		SolrDocument document = new SolrDocument();
+		document.addField("namedProperty", "j73x73r");
+
+		NameOnly target = converter.read(BeanWithNamedFields.class, NameOnly.class, document);
+
+		assertThat(target.name()).isEqualTo("j73x73r");
+	}
+
+	@Test
+	public void readShouldMaterializeConstructorBasedDtoFromDocumentList() {
+
+		SolrDocument document = new SolrDocument();
+		document.addField("stringProperty", "j73x73r");
+		document.addField("intProperty", 1979);
+		document.addField("listOfString", Arrays.asList("one", "two"));
+
+		SolrDocumentList documents = new SolrDocumentList();
+		documents.add(document);
+
+		List<DefaultTypesDto> target = converter.read(documents, BeanWithDefaultTypes.class, DefaultTypesDto.class);
+
+		assertThat(target).hasSize(1);
+		assertThat(target.get(0).stringProperty).isEqualTo("j73x73r");
+		assertThat(target.get(0).intProperty).isEqualTo(1979);
+		assertThat(target.get(0).listOfString).containsExactly("one", "two");
+	}
+
+	@Test
+	public void shouldPrefixIdWithRoutingKeyOnWrite() {
+
+		BeanWithRoutingKey bean = new BeanWithRoutingKey();
+		bean.id = "doc-1";
+		bean.tenant = "acme";
+
+		SolrInputDocument document = new SolrInputDocument();
+		converter.write(bean, document);
+
+		assertThat(document.getFieldValue("id")).isEqualTo("acme!doc-1");
+		assertThat(document.getFieldValue("tenant")).isEqualTo("acme");
+	}
+
+	@Test
+	public void shouldNotPrefixCompositeIdOnWrite() {
+
+		BeanWithRoutingKey bean = new BeanWithRoutingKey();
+		bean.id = "acme!doc-1";
+		bean.tenant = "acme";
+
+		SolrInputDocument document = new SolrInputDocument();
+		converter.write(bean, document);
+
+		assertThat(document.getFieldValue("id")).isEqualTo("acme!doc-1");
+	}
+
+	@Test
+	public void shouldNotPrefixIdWhenRoutingKeyNotSet() {
+
+		BeanWithRoutingKey bean = new BeanWithRoutingKey();
+		bean.id = "doc-1";
+
+		SolrInputDocument document = new SolrInputDocument();
+		converter.write(bean, document);
+
+		assertThat(document.getFieldValue("id")).isEqualTo("doc-1");
+	}
+
+	@Test
+	public void shouldRemoveRoutingKeyFromIdOnRead() {
+
+		SolrDocument document = new SolrDocument();
+		document.setField("id", "acme!doc-1");
+		document.setField("tenant", "acme");
+
+		BeanWithRoutingKey bean = converter.read(BeanWithRoutingKey.class, document);
+
+		assertThat(bean.id).isEqualTo("doc-1");
+		assertThat(bean.tenant).isEqualTo("acme");
+	}
+
+	@Test
+	public void shouldKeepIdNotPrefixedWithRoutingKeyOnRead() {
+
+		SolrDocument document = new SolrDocument();
+		document.setField("id", "umbrella!doc-1");
+		document.setField("tenant", "acme");
+
+		assertThat(converter.read(BeanWithRoutingKey.class, document).id).isEqualTo("umbrella!doc-1");
+	}
+
+	@Test(expected = MappingException.class)
+	public void shouldRejectRoutingKeyWithNonStringId() {
+		mappingContext.getRequiredPersistentEntity(BeanWithRoutingKeyAndNumericId.class);
+	}
+
+	@Test(expected = MappingException.class)
+	public void shouldRejectCollectionRoutingKey() {
+		mappingContext.getRequiredPersistentEntity(BeanWithCollectionRoutingKey.class);
+	}
+
+	record NameOnly(String name) {}
+
+	static class DefaultTypesDto {
+
+		final String stringProperty;
+		final int intProperty;
+		final List<String> listOfString;
+
+		DefaultTypesDto(String stringProperty, int intProperty, List<String> listOfString) {
+
+			this.stringProperty = stringProperty;
+			this.intProperty = intProperty;
+			this.listOfString = listOfString;
+		}
+	}
+
+	@ReadingConverter
+	static class UpperCaseStringReadingConverter implements Converter<String, String> {
+
+		@Override
+		public String convert(String source) {
+			return source.toUpperCase();
+		}
+	}
+
 	public static class BeanWithoutAnnotatedFields {
 
 		String notIndexedProperty;
@@ -1078,6 +1269,27 @@ public class MappingSolrConverterTests {
 
 	}
 
+	public static class BeanWithRoutingKey {
+
+		@Field String id;
+
+		@Field @RoutingKey String tenant;
+	}
+
+	public static class BeanWithRoutingKeyAndNumericId {
+
+		@Field Long id;
+
+		@Field @RoutingKey String tenant;
+	}
+
+	public static class BeanWithCollectionRoutingKey {
+
+		@Field String id;
+
+		@Field @RoutingKey List<String> tenants;
+	}
+
 	public static class BeanWithDefaultTypes {
 
 		@Field String stringProperty;
@@ -0,0 +1,383 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.core.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.Point;
+import org.springframework.data.solr.core.DefaultQueryParser;
+import org.springframework.data.solr.core.query.Criteria.Predicate;
+
+public class CriteriaOptimizerTests {
+
+	private static final int NUMBER_OF_FIELDS = 3;
+	private static final int NUMBER_OF_VALUES = 4;
+
+	private final DefaultQueryParser parser = new DefaultQueryParser(null);
+
+	@Test
+	public void shouldUnwrapNestedSingleClauseGroups() {
+
+		Criteria criteria = and(and(where("a", 1)));
+
+		assertThat(render(criteria)).isEqualTo("(a:1)");
+		assertThat(render(CriteriaOptimizer.optimize(criteria))).isEqualTo("a:1");
+	}
+
+	@Test
+	public void shouldFlattenNestedConjunctions() {
+
+		Criteria criteria = and(where("a", 1), and(where("b", 2), where("c", 3)));
+
+		assertThat(render(criteria)).isEqualTo("a:1 AND (b:2 AND c:3)");
+		assertThat(render(CriteriaOptimizer.optimize(criteria))).isEqualTo("a:1 AND b:2 AND c:3");
+	}
+
+	@Test
+	public void shouldFlattenNestedDisjunctions() {
+
+		Criteria criteria = or(where("a", 1), or(where("b", 2), where("c", 3)));
+
+		assertThat(render(CriteriaOptimizer.optimize(criteria))).isEqualTo("a:1 OR b:2 OR c:3");
+	}
+
+	@Test
+	public void shouldNotFlattenNestedDisjunctionsContainingNegations() {
+
+		Criteria criteria = or(where("a", 1), or(where("b", 2), where("c", 3).not()));
+
+		assertThat(render(CriteriaOptimizer.optimize(criteria))).isEqualTo("a:1 OR (b:2 OR -c:3)");
+	}
+
+	@Test
+	public void shouldNotFlattenPureNegativeNestedConjunctions() {
+
+		Criteria criteria = and(where("a", 1), and(where("b", 2).not(), where("c", 3).not()));
+
+		assertThat(render(CriteriaOptimizer.optimize(criteria))).isEqualTo("a:1 AND (-b:2 AND -c:3)");
+	}
+
+	@Test
+	public void shouldRemoveDuplicateClauses() {
+
+		Criteria criteria = and(where("a", 1), where("b", 2), where("a", 1));
+
+		assertThat(render(CriteriaOptimizer.optimize(criteria))).isEqualTo("a:1 AND b:2");
+	}
+
+	@Test
+	public void shouldRemoveMatchAllFromConjunctions() {
+
+		Criteria criteria = and(AnyCriteria.any(), where("a", 1), where("b", 2).not());
+
+		assertThat(render(CriteriaOptimizer.optimize(criteria))).isEqualTo("a:1 AND -b:2");
+	}
+
+	@Test
+	public void shouldKeepMatchAllInConjunctionsWithoutOtherPositiveClause() {
+
+		Criteria criteria = or(where("a", 1), and(AnyCriteria.any(), where("b", 2).not()));
+
+		assertThat(render(CriteriaOptimizer.optimize(criteria))).isEqualTo("a:1 OR (*:* AND -b:2)");
+	}
+
+	@Test
+	public void shouldMergeDisjunctionsOnSameField() {
+
+		Criteria criteria = or(where("a", 1), where("b", 2), where("a", 3), where("a", 1));
+
+		assertThat(render(CriteriaOptimizer.optimize(criteria, true))).isEqualTo("a:(1 3) OR b:2");
+	}
+
+	@Test
+	public void shouldNotMergeDisjunctionsOnSameFieldWhenDisabled() {
+
+		Criteria criteria = or(where("a", 1), where("b", 2), where("a", 3));
+
+		assertThat(render(CriteriaOptimizer.optimize(criteria, false))).isEqualTo("a:1 OR b:2 OR a:3");
+	}
+
+	@Test
+	public void shouldNotMergeDisjunctionsOnSameFieldByDefault() {
+
+		Criteria criteria = or(where("a", 1), where("b", 2), where("a", 3), where("a", 1));
+
+		assertThat(render(CriteriaOptimizer.optimize(criteria))).isEqualTo("a:1 OR b:2 OR a:3");
+	}
+
+	@Test
+	public void shouldNotMergeNegatedOrBoostedClauses() {
+
+		Criteria criteria = or(where("a", 1), where("a", 2).not(), where("a", 3).boost(2f));
+
+		assertThat(render(CriteriaOptimizer.optimize(criteria))).isEqualTo("a:1 OR -a:2 OR a:3^2.0");
+	}
+
+	@Test
+	public void shouldNotRewriteGroupsMixingConjunctions() {
+
+		Criteria or = where("a", 1);
+		or.setPartIsOr(true);
+		Criteria criteria = group(where("a", 1), where("b", 2), or);
+
+		assertThat(render(CriteriaOptimizer.optimize(criteria))).isEqualTo("a:1 AND b:2 OR a:1");
+	}
+
+	@Test
+	public void shouldNotRewriteGroupsContainingQueryStrings() {
+
+		Criteria criteria = and(new SimpleStringCriteria("a:1 OR b:2"), new SimpleStringCriteria("a:1 OR b:2"));
+
+		assertThat(render(CriteriaOptimizer.optimize(criteria))).isEqualTo("a:1 OR b:2 AND a:1 OR b:2");
+	}
+
+	@Test
+	public void shouldNotModifySourceCriteria() {
+
+		Criteria criteria = or(where("a", 1), or(where("a", 2), where("b", 3)), and(where("c", 4)));
+		String before = render(criteria);
+
+		CriteriaOptimizer.optimize(criteria);
+
+		assertThat(render(criteria)).isEqualTo(before);
+	}
+
+	@Test
+	public void shouldReturnSourceForWithinCriteria() {
+
+		Criteria criteria = and(where("a", 1),
+				Criteria.where("store").within(new Point(1, 2), new Distance(5)));
+
+		assertThat(CriteriaOptimizer.optimize(criteria)).isSameAs(criteria);
+	}
+
+	@Test
+	public void optimizedCriteriaShouldMatchSameDocuments() {
+
+		Random random = new Random(4711);
+		List<Map<String, Set<String>>> documents = allDocuments();
+
+		for (int i = 0; i < 200; i++) {
+
+			Criteria criteria = randomTree(random, 3);
+			String source = render(criteria);
+
+			for (boolean merge : new boolean[] { true, false }) {
+
+				Criteria optimized = CriteriaOptimizer.optimize(criteria, merge);
+				String target = render(optimized);
+
+				assertThat(target.length()).as("%s -> %s", source, target).isLessThanOrEqualTo(source.length());
+				for (Map<String, Set<String>> document : documents) {
+					assertThat(matches(optimized, document)).as("%s -> %s for %s", source, target, document)
+							.isEqualTo(matches(criteria, document));
+				}
+			}
+		}
+	}
+
+	private String render(Criteria criteria) {
+		return parser.createQueryStringFromNode(criteria, null);
+	}
+
+	private static Criteria where(String field, Object value) {
+		return Criteria.where(field).is(value);
+	}
+
+	private static Crotch and(Criteria... criteria) {
+		return group(false, criteria);
+	}
+
+	private static Crotch or(Criteria... criteria) {
+		return group(true, criteria);
+	}
+
+	private static Crotch group(Criteria... criteria) {
+
+		Crotch crotch = new Crotch();
+		for (Criteria c : criteria) {
+			crotch.add(c);
+		}
+		return crotch;
+	}
+
+	private static Crotch group(boolean or, Criteria... criteria) {
+
+		for (int i = 1; i < criteria.length; i++) {
+			criteria[i].setPartIsOr(or);
+		}
+		return group(criteria);
+	}
+
+	private static Criteria randomTree(Random random, int depth) {
+
+		if (depth == 0 || random.nextInt(3) == 0) {
+			return randomLeaf(random);
+		}
+
+		boolean mixed = random.nextInt(5) == 0;
+		boolean or = random.nextBoolean();
+
+		Crotch group = new Crotch();
+		int size = 1 + random.nextInt(4);
+		for (int i = 0; i < size; i++) {
+
+			Criteria child = randomTree(random, depth - 1);
+			child.setPartIsOr(mixed ? random.nextBoolean() : or);
+			group.add(child);
+		}
+
+		if (random.nextInt(4) == 0) {
+			group.setNegating(true);
+		}
+		return group;
+	}
+
+	private static Criteria randomLeaf(Random random) {
+
+		if (random.nextInt(10) == 0) {
+			return AnyCriteria.any();
+		}
+
+		Criteria criteria = new Criteria("f" + random.nextInt(NUMBER_OF_FIELDS));
+		int values = 1 + random.nextInt(2);
+		for (int i = 0; i < values; i++) {
+			criteria.is("v" + random.nextInt(NUMBER_OF_VALUES));
+		}
+
+		if (random.nextInt(4) == 0) {
+			criteria.not();
+		}
+		return criteria;
+	}
+
+	/**
+	 * @return every combination of values for all fields.
+	 */
+	private static List<Map<String, Set<String>>> allDocuments() {
+
+		int valueCombinations = 1 << NUMBER_OF_VALUES;
+		int documentCount = (int) Math.pow(valueCombinations, NUMBER_OF_FIELDS);
+
+		List<Map<String, Set<String>>> documents = new ArrayList<>(documentCount);
+		for (int i = 0; i < documentCount; i++) {
+
+			Map<String, Set<String>> document = new HashMap<>();
+			int remaining = i;
+			for (int field = 0; field < NUMBER_OF_FIELDS; field++) {
+
+				int mask = remaining % valueCombinations;
+				remaining /= valueCombinations;
+
+				Set<String> values = new HashSet<>();
+				for (int value = 0; value < NUMBER_OF_VALUES; value++) {
+					if ((mask & (1 << value)) != 0) {
+						values.add("v" + value);
+					}
+				}
+				document.put("f" + field, values);
+			}
+			documents.add(document);
+		}
+		return documents;
+	}
+
+	/**
+	 * Evaluate the rendered query the way the standard query parser using {@code q.op=OR} would. Pure negative top
+	 * level queries match all documents not excluded, nested ones do not match at all.
+	 */
+	private static boolean matches(Criteria root, Map<String, Set<String>> document) {
+
+		if (root instanceof Crotch && root.hasSiblings() && !root.isNegating()) {
+			return matchesClauses(root.getSiblings(), document, true);
+		}
+		return matchesClauses(Collections.singletonList(root), document, true);
+	}
+
+	private static boolean matchesClauses(Collection<Criteria> clauses, Map<String, Set<String>> document,
+			boolean topLevel) {
+
+		List<Criteria> list = new ArrayList<>(clauses);
+
+		boolean hasRequired = false;
+		boolean requiredMatch = true;
+		boolean hasOptional = false;
+		boolean optionalMatch = false;
+		boolean prohibitedMatch = false;
+
+		for (int i = 0; i < list.size(); i++) {
+
+			Criteria clause = list.get(i);
+			boolean match = matchesClause(clause, document);
+
+			if (clause.isNegating()) {
+				prohibitedMatch |= match;
+				continue;
+			}
+
+			boolean required = (i > 0 && !clause.isOr()) || (i + 1 < list.size() && !list.get(i + 1).isOr());
+			if (required) {
+				hasRequired = true;
+				requiredMatch &= match;
+			} else {
+				hasOptional = true;
+				optionalMatch |= match;
+			}
+		}
+
+		if (prohibitedMatch) {
+			return false;
+		}
+		if (hasRequired) {
+			return requiredMatch;
+		}
+		if (hasOptional) {
+			return optionalMatch;
+		}
+		return topLevel;
+	}
+
+	private static boolean matchesClause(Criteria clause, Map<String, Set<String>> document) {
+
+		if (clause instanceof AnyCriteria) {
+			return true;
+		}
+
+		if (clause instanceof Crotch) {
+			return matchesClauses(clause.getSiblings(), document, false);
+		}
+
+		Set<String> values = document.get(clause.getField().getName());
+		for (Predicate predicate : clause.getPredicates()) {
+			if (values.contains(predicate.getValue())) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -19,9 +19,19 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
 
+import org.apache.solr.client.solrj.SolrClient;
 import org.apache.solr.client.solrj.beans.Field;
 import org.apache.solr.client.solrj.impl.HttpSolrClient;
+import org.apache.solr.client.solrj.response.QueryResponse;
+import org.apache.solr.common.SolrDocument;
+import org.apache.solr.common.SolrDocumentList;
+import org.apache.solr.common.SolrInputDocument;
+import org.apache.solr.common.params.CommonParams;
+import org.apache.solr.common.params.SolrParams;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -33,6 +43,7 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.solr.ExampleSolrBean;
 import org.springframework.data.solr.core.SolrOperations;
 import org.springframework.data.solr.core.SolrTemplate;
+import org.springframework.data.solr.core.mapping.RoutingKey;
 import org.springframework.data.solr.core.query.Query;
 import org.springframework.data.solr.core.query.SolrDataQuery;
 import org.springframework.data.solr.repository.support.SimpleSolrRepository;
@@ -46,6 +57,7 @@ public class SimpleSolrRepositoryTests {
 	private SimpleSolrRepository<ExampleSolrBean, String> repository;
 
 	@Mock private SolrOperations solrOperationsMock;
+	@Mock private SolrClient solrClientMock;
 
 	@Before
 	public void setUp() {
@@ -112,6 +124,122 @@ public class SimpleSolrRepositoryTests {
 				Mockito.eq(commitWithin));
 	}
 
+	@Test
+	public void saveShouldWriteCompositeIdWithoutModifyingEntityWithRoutingKey() throws Exception {
+
+		SimpleSolrRepository<BeanWithRoutingKey, String> routedRepository = createRepositoryForBeanWithRoutingKey();
+
+		BeanWithRoutingKey bean = routedRepository.save(new BeanWithRoutingKey("doc-1", "acme"));
+
+		ArgumentCaptor<SolrInputDocument> captor = ArgumentCaptor.forClass(SolrInputDocument.class);
+		Mockito.verify(solrClientMock).add(Mockito.eq("routed"), captor.capture(), Mockito.eq(-1));
+
+		assertThat(captor.getValue().getFieldValue("id")).isEqualTo("acme!doc-1");
+		assertThat(bean.id).isEqualTo("doc-1");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void saveAllShouldWriteCompositeIdsWithoutModifyingImmutableEntitiesWithRoutingKey() throws Exception {
+
+		SolrTemplate template = new SolrTemplate(solrClientMock);
+		template.afterPropertiesSet();
+		SimpleSolrRepository<ImmutableBeanWithRoutingKey, String> routedRepository = new SimpleSolrRepository<>(template,
+				ImmutableBeanWithRoutingKey.class);
+
+		ImmutableBeanWithRoutingKey bean1 = new ImmutableBeanWithRoutingKey("doc-1", "acme");
+		ImmutableBeanWithRoutingKey bean2 = new ImmutableBeanWithRoutingKey("umbrella!doc-2", "umbrella");
+		routedRepository.saveAll(Arrays.asList(bean1, bean2));
+
+		ArgumentCaptor<Collection<SolrInputDocument>> captor = ArgumentCaptor.forClass(Collection.class);
+		Mockito.verify(solrClientMock).add(Mockito.eq("routed"), captor.capture(), Mockito.eq(-1));
+
+		assertThat(captor.getValue()).extracting(document -> document.getFieldValue("id")).containsExactly("acme!doc-1",
+				"umbrella!doc-2");
+		assertThat(bean1.id).isEqualTo("doc-1");
+		assertThat(bean2.id).isEqualTo("umbrella!doc-2");
+	}
+
+	@Test
+	public void deleteShouldUseCompositeIdOfEntityWithRoutingKey() throws Exception {
+
+		SimpleSolrRepository<BeanWithRoutingKey, String> routedRepository = createRepositoryForBeanWithRoutingKey();
+
+		BeanWithRoutingKey bean1 = new BeanWithRoutingKey("doc-1", "acme");
+		BeanWithRoutingKey bean2 = new BeanWithRoutingKey("doc-2", "umbrella");
+
+		routedRepository.delete(bean1);
+		Mockito.verify(solrClientMock).deleteById("routed", Collections.singletonList("acme!doc-1"));
+
+		bean1.tenant = "umbrella";
+		routedRepository.deleteAll(Arrays.asList(bean1, bean2));
+		Mockito.verify(solrClientMock).deleteById("routed", Arrays.asList("umbrella!doc-1", "umbrella!doc-2"));
+	}
+
+	@Test
+	public void findByIdShouldReadIdWithoutRoutingKey() throws Exception {
+
+		SimpleSolrRepository<BeanWithRoutingKey, String> routedRepository = createRepositoryForBeanWithRoutingKey();
+
+		SolrDocument document = new SolrDocument();
+		document.setField("id", "acme!doc-1");
+		document.setField("tenant", "acme");
+		SolrDocumentList documents = new SolrDocumentList();
+		documents.add(document);
+		QueryResponse response = Mockito.mock(QueryResponse.class);
+		Mockito.when(response.getResults()).thenReturn(documents);
+		Mockito.when(solrClientMock.query(Mockito.eq("routed"), Mockito.any(SolrParams.class), Mockito.any()))
+				.thenReturn(response);
+
+		Optional<BeanWithRoutingKey> result = routedRepository.findById("acme!doc-1");
+
+		ArgumentCaptor<SolrParams> captor = ArgumentCaptor.forClass(SolrParams.class);
+		Mockito.verify(solrClientMock).query(Mockito.eq("routed"), captor.capture(), Mockito.any());
+
+		assertThat(captor.getValue().get(CommonParams.Q)).isEqualTo("id:acme\\!doc\\-1");
+		assertThat(result).hasValueSatisfying(it -> {
+			assertThat(it.id).isEqualTo("doc-1");
+			assertThat(it.tenant).isEqualTo("acme");
+		});
+	}
+
+	private SimpleSolrRepository<BeanWithRoutingKey, String> createRepositoryForBeanWithRoutingKey() {
+
+		SolrTemplate template = new SolrTemplate(solrClientMock);
+		template.afterPropertiesSet();
+		return new SimpleSolrRepository<>(template, BeanWithRoutingKey.class);
+	}
+
+	@org.springframework.data.solr.core.mapping.SolrDocument(collection = "routed")
+	static class BeanWithRoutingKey {
+
+		@Id @Field String id;
+
+		@Field @RoutingKey String tenant;
+
+		BeanWithRoutingKey() {}
+
+		BeanWithRoutingKey(String id, String tenant) {
+
+			this.id = id;
+			this.tenant = tenant;
+		}
+	}
+
+	@org.springframework.data.solr.core.mapping.SolrDocument(collection = "routed")
+	static class ImmutableBeanWithRoutingKey {
+
+		private final @Id @Field String id;
+
+		private final @Field @RoutingKey String tenant;
+
+		ImmutableBeanWithRoutingKey(String id, String tenant) {
+
+			this.id = id;
+			this.tenant = tenant;
+		}
+	}
+
 	static class BeanWithLongIdType {
 
 		@Id private Long id;
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.repository.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.apache.solr.client.solrj.impl.Http2SolrClient;
+import org.apache.solr.client.solrj.impl.LBHttp2SolrClient;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.solr.server.support.Http2SolrClientFactoryBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+/**
+ * Integration test for XML namespace configuration of {@link Http2SolrClient}.
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration("namespace-http2.xml")
+public class ITestHttp2XmlNamespace {
+
+	@Autowired ApplicationContext context;
+
+	@Test
+	public void createsHttp2SolrClientsCorrectly() {
+
+		assertThat(context.getBean("http2SolrClient", Http2SolrClient.class)).isNotNull();
+		assertThat(context.getBean("lbHttp2SolrClient", LBHttp2SolrClient.class)).isNotNull();
+		assertThat(context.getBean("&http2SolrClient", Http2SolrClientFactoryBean.class)).isNotNull();
+	}
+}
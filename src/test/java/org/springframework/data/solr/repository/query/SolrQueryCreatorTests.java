@@ -46,6 +46,8 @@ import org.springframework.data.solr.core.mapping.SimpleSolrMappingContext;
 import org.springframework.data.solr.core.mapping.SolrPersistentProperty;
 import org.springframework.data.solr.core.query.Query;
 import org.springframework.data.solr.repository.ProductBean;
+import org.springframework.data.solr.repository.query.SolrQueryCreator.QueryTemplate;
+import org.springframework.lang.Nullable;
 
 /**
  * @author Christoph Strobl
@@ -389,12 +391,48 @@ public class SolrQueryCreatorTests {
 				.isEqualTo("name:mail OR description:domain AND last_modified:{2012\\-10\\-15T05\\:31\\:00.000Z TO *]");
 	}
 
+	@Test
+	public void queryTemplateShouldRenderSameQueryForEachInvocation() throws NoSuchMethodException, SecurityException {
+
+		Method method = SampleRepository.class.getMethod("findByNameOrDescriptionAndLastModifiedAfter", String.class,
+				String.class, Date.class);
+		QueryTemplate template = QueryTemplate.compile(new PartTree(method.getName(), method.getReturnType()),
+				mappingContext);
+
+		for (String value : Arrays.asList("mail", "post")) {
+
+			Object[] args = new Object[] { value, "domain", new DateTime(2012, 10, 15, 5, 31, 0, DateTimeZone.UTC) };
+
+			assertThat(queryParser.getQueryString(createQueryForMethodWithArgs(method, args, template), ProductBean.class))
+					.isEqualTo(queryParser.getQueryString(createQueryForMethodWithArgs(method, args), ProductBean.class))
+					.isEqualTo("name:" + value
+							+ " OR description:domain AND last_modified:{2012\\-10\\-15T05\\:31\\:00.000Z TO *]");
+		}
+	}
+
+	@Test
+	public void queryTemplateShouldApplySortOfMethodName() throws NoSuchMethodException, SecurityException {
+
+		Method method = SampleRepository.class.getMethod("findByPopularityOrderByTitleDesc", Integer.class);
+		QueryTemplate template = QueryTemplate.compile(new PartTree(method.getName(), method.getReturnType()),
+				mappingContext);
+
+		Query query = createQueryForMethodWithArgs(method, new Object[] { 100 }, template);
+
+		assertThat(queryParser.getQueryString(query, ProductBean.class)).isEqualTo("popularity:100");
+		assertThat(query.getSort()).isEqualTo(Sort.by(Sort.Direction.DESC, "title"));
+	}
+
 	private Query createQueryForMethodWithArgs(Method method, Object[] args) {
+		return createQueryForMethodWithArgs(method, args, null);
+	}
+
+	private Query createQueryForMethodWithArgs(Method method, Object[] args, @Nullable QueryTemplate template) {
 		PartTree partTree = new PartTree(method.getName(), method.getReturnType());
 		SolrQueryMethod queryMethod = new SolrQueryMethod(method, metadata, new SpelAwareProxyProjectionFactory(),
 				entityInformationCreatorMock);
 		SolrQueryCreator creator = new SolrQueryCreator(partTree, new SolrParametersParameterAccessor(queryMethod, args),
-				mappingContext);
+				mappingContext, template);
 
 		return creator.createQuery();
 	}
@@ -114,6 +114,24 @@ public class SolrQueryMethodTests {
 		assertThat(method.getAnnotatedQuery()).isEqualTo("name:?0");
 	}
 
+	@Test
+	public void annotationMetadataShouldBeResolvedOnceAndExposedReadOnly() throws Exception {
+
+		SolrQueryMethod method = getQueryMethodByName("findByAnnotatedQueryWithProjectionOnMultipleFields", String.class);
+
+		assertThat(method.getProjectionFields()).isSameAs(method.getProjectionFields());
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> method.getProjectionFields().add("field"));
+	}
+
+	@Test
+	public void spellcheckOptionsShouldBeResolvedOnce() throws Exception {
+
+		SolrQueryMethod method = getQueryMethodByName("findByNameWithDefaultSpellcheck", String.class);
+
+		assertThat(method.getSpellcheckOptions()).isNotNull().isSameAs(method.getSpellcheckOptions());
+	}
+
 	@Test
 	public void testWithSingleFieldFacet() throws Exception {
 		SolrQueryMethod method = getQueryMethodByName("findByNameFacetOnPopularity", String.class);
@@ -546,6 +564,31 @@ public class SolrQueryMethodTests {
 		assertThat(options.getExtendedResults()).isTrue();
 	}
 
+	@Test
+	public void shouldCacheFilterQueriesByDefault() throws Exception {
+
+		SolrQueryMethod method = getQueryMethodByName("findAllFilterAvailableTrueAndPopularityLessThan5", String.class);
+		assertThat(method.isCacheFilterQueries()).isTrue();
+		assertThat(method.getFilterQueryCost()).isNull();
+		assertThat(method.isPostFilterQueries()).isFalse();
+	}
+
+	@Test
+	public void shouldReadFilterQueryCacheOptions() throws Exception {
+
+		SolrQueryMethod method = getQueryMethodByName("findAllWithNonCachedCostlyFilter", String.class);
+		assertThat(method.isCacheFilterQueries()).isFalse();
+		assertThat(method.getFilterQueryCost()).isEqualTo(50);
+		assertThat(method.isPostFilterQueries()).isFalse();
+	}
+
+	@Test
+	public void shouldReadPostFilterOption() throws Exception {
+
+		SolrQueryMethod method = getQueryMethodByName("findAllWithPostFilter", String.class);
+		assertThat(method.isPostFilterQueries()).isTrue();
+	}
+
 	private SolrQueryMethod getQueryMethodByName(String name, Class<?>... parameters) throws Exception {
 		Method method = Repo1.class.getMethod(name, parameters);
 		return new SolrQueryMethod(method, new DefaultRepositoryMetadata(Repo1.class),
@@ -598,6 +641,12 @@ public class SolrQueryMethodTests {
 		@Query(value = "*:*", filters = { "inStock:true", "popularity:[* TO 5]" })
 		List<ProductBean> findAllFilterAvailableTrueAndPopularityLessThan5(String name);
 
+		@Query(value = "*:*", filters = "acl:?0", cacheFilters = false, filterCost = 50)
+		List<ProductBean> findAllWithNonCachedCostlyFilter(String acl);
+
+		@Query(value = "*:*", filters = "{!frange l=1}popularity", postFilter = true)
+		List<ProductBean> findAllWithPostFilter(String name);
+
 		@Query(defaultOperator = org.springframework.data.solr.core.query.Query.Operator.AND)
 		List<ProductBean> findByNameLike(String prefix);
 
@@ -54,6 +54,7 @@ import org.springframework.data.solr.core.query.SimpleField;
 import org.springframework.data.solr.core.query.SimpleQuery;
 import org.springframework.data.solr.core.query.SimpleStringCriteria;
 import org.springframework.data.solr.core.query.StatsOptions;
+import org.springframework.data.solr.core.query.result.SolrResultPage;
 import org.springframework.data.solr.repository.Facet;
 import org.springframework.data.solr.repository.Highlight;
 import org.springframework.data.solr.repository.ProductBean;
@@ -262,6 +263,26 @@ public class SolrQueryTests {
 		assertThat(selectiveFacetsField.containsAll(selectiveFacetsFields)).isTrue();
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void shouldNotShareStatsOptionsBetweenExecutions() {
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+
+		RepositoryQuery solrQuery = createQueryForMethod("findAndApplyStats", Pageable.class);
+		solrQuery.execute(new Object[] { PageRequest.of(0, 10) });
+		solrQuery.execute(new Object[] { PageRequest.of(0, 10) });
+
+		Mockito.verify(solrOperationsMock, Mockito.times(2)).queryForPage(Mockito.eq("collection-1"), captor.capture(),
+				(Class<ProductBean>) Mockito.any());
+
+		StatsOptions first = captor.getAllValues().get(0).getStatsOptions();
+		StatsOptions second = captor.getAllValues().get(1).getStatsOptions();
+		first.addField("mutated");
+
+		assertThat(second).isNotSameAs(first);
+		assertThat(second.getFields()).hasSize(2);
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test // DATASOLR-160
 	public void testQueryWithStatsNonSelective() {
@@ -313,6 +334,42 @@ public class SolrQueryTests {
 		Mockito.verify(solrOperationsMock).queryForObject(Mockito.eq("collection-1"), Mockito.any(), Mockito.any());
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void dtoCollectionQueryShouldRestrictFieldsToDtoProperties() {
+
+		Mockito.when(solrOperationsMock.queryForPage(Mockito.anyString(), Mockito.any(Query.class), Mockito.any(),
+				Mockito.any(Class.class))).thenReturn(new SolrResultPage<>(Collections.emptyList()));
+
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+
+		createQueryForMethod("findAndProjectOnDto", Pageable.class).execute(new Object[] { PageRequest.of(0, 10) });
+
+		Mockito.verify(solrOperationsMock).queryForPage(Mockito.eq("collection-1"), captor.capture(),
+				Mockito.eq(ProductBean.class), Mockito.eq(ProductNameAndLocation.class));
+
+		assertThat(captor.getValue().getProjectionOnFields()).containsExactlyInAnyOrder(new SimpleField("name"),
+				new SimpleField("store"));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void dtoPageQueryShouldRestrictFieldsToDtoProperties() {
+
+		Mockito.when(solrOperationsMock.queryForPage(Mockito.anyString(), Mockito.any(Query.class), Mockito.any(),
+				Mockito.any(Class.class))).thenReturn(new SolrResultPage<>(Collections.emptyList()));
+
+		ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+
+		createQueryForMethod("findAndProjectOnDtoPage", Pageable.class).execute(new Object[] { PageRequest.of(0, 10) });
+
+		Mockito.verify(solrOperationsMock).queryForPage(Mockito.eq("collection-1"), captor.capture(),
+				Mockito.eq(ProductBean.class), Mockito.eq(ProductNameAndLocation.class));
+
+		assertThat(captor.getValue().getProjectionOnFields()).containsExactlyInAnyOrder(new SimpleField("name"),
+				new SimpleField("store"));
+	}
+
 	private RepositoryQuery createQueryForMethod(String methodName, Class<?>... paramTypes) {
 		try {
 			return this.createQueryForMethod(Repo1.class.getMethod(methodName, paramTypes));
@@ -363,8 +420,14 @@ public class SolrQueryTests {
 		Page<ProductBean> findAndApplyStatsNoFacets(Pageable page);
 
 		ProductBean findAndReturnNotOptional();
+
+		List<ProductNameAndLocation> findAndProjectOnDto(Pageable page);
+
+		Page<ProductNameAndLocation> findAndProjectOnDtoPage(Pageable page);
 	}
 
+	record ProductNameAndLocation(String name, String location) {}
+
 	private class SolrEntityInformationCreatorImpl implements SolrEntityInformationCreator {
 
 		@SuppressWarnings("unchecked")
@@ -204,6 +204,17 @@ public class StringBasedSolrQueryTests {
 		assertThat(query.getSort()).isEqualTo(sort);
 	}
 
+	@Test
+	public void shouldOnlyCacheTemplatesKnownOnCreation() throws NoSuchMethodException, SecurityException {
+		Method method = SampleRepository.class.getMethod("findByText", String.class);
+		SolrQueryMethod queryMethod = new SolrQueryMethod(method, metadata, factory, entityInformationCreatorMock);
+
+		StringBasedSolrQuery solrQuery = new StringBasedSolrQuery(queryMethod, solrOperationsMock);
+
+		assertThat(solrQuery.getQueryTemplate("textGeneral:?0")).isSameAs(solrQuery.getQueryTemplate("textGeneral:?0"));
+		assertThat(solrQuery.getQueryTemplate("name:?0")).isNotSameAs(solrQuery.getQueryTemplate("name:?0"));
+	}
+
 	private interface SampleRepository extends Repository<ProductBean, String> {
 
 		@Query("textGeneral:?0")
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Test;
+
+public class StringQueryTemplateTests {
+
+	@Test
+	public void bindShouldReturnSourceWhenNoPlaceholdersPresent() {
+
+		StringQueryTemplate template = StringQueryTemplate.parse("name:*");
+
+		assertThat(template.hasPlaceholders()).isFalse();
+		assertThat(template.bind(index -> "should-not-be-used")).isEqualTo("name:*");
+	}
+
+	@Test
+	public void bindShouldReplacePlaceholdersInOrder() {
+
+		StringQueryTemplate template = StringQueryTemplate.parse("name:?0 AND popularity:[?1 TO ?2]");
+
+		assertThat(template.bind(index -> "v" + index)).isEqualTo("name:v0 AND popularity:[v1 TO v2]");
+	}
+
+	@Test
+	public void bindShouldReplaceRepeatedPlaceholders() {
+
+		StringQueryTemplate template = StringQueryTemplate.parse("name:?0 OR title:?0");
+
+		assertThat(template.bind(index -> "v" + index)).isEqualTo("name:v0 OR title:v0");
+	}
+
+	@Test
+	public void bindShouldDistinguishMultiDigitIndexes() {
+
+		StringQueryTemplate template = StringQueryTemplate.parse("a:?1 AND b:?10");
+
+		assertThat(template.bind(index -> "v" + index)).isEqualTo("a:v1 AND b:v10");
+	}
+
+	@Test
+	public void bindShouldNotExpandPlaceholdersContainedInValues() {
+
+		StringQueryTemplate template = StringQueryTemplate.parse("a:?0 AND b:?1");
+
+		assertThat(template.bind(index -> index == 0 ? "?1" : "v1")).isEqualTo("a:?1 AND b:v1");
+	}
+
+	@Test
+	public void bindShouldHandlePlaceholdersAtStartAndEnd() {
+
+		StringQueryTemplate template = StringQueryTemplate.parse("?0");
+
+		assertThat(template.bind(index -> "name:value")).isEqualTo("name:value");
+	}
+}
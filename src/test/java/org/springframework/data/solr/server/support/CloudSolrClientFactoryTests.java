@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.server.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.solr.client.solrj.impl.CloudHttp2SolrClient;
+import org.apache.solr.client.solrj.impl.CloudSolrClient;
+import org.junit.Test;
+
+public class CloudSolrClientFactoryTests {
+
+	private static final String SOLR_URL = "http://localhost:8983/solr";
+
+	@Test
+	public void shouldApplyDefaultsToBuilder() {
+
+		CloudHttp2SolrClient.Builder builder = CloudSolrClientFactory.fromSolrUrls(Collections.singletonList(SOLR_URL))
+				.createSolrClientBuilder();
+
+		assertThat(builder).hasFieldOrPropertyWithValue("solrUrls", Collections.singletonList(SOLR_URL))
+				.hasFieldOrPropertyWithValue("shardLeadersOnly", true)
+				.hasFieldOrPropertyWithValue("directUpdatesToLeadersOnly", true)
+				.hasFieldOrPropertyWithValue("parallelUpdates", true);
+	}
+
+	@Test
+	public void shouldApplyZkHostsToBuilder() {
+
+		CloudHttp2SolrClient.Builder builder = CloudSolrClientFactory
+				.fromZkHosts(Arrays.asList("zk-1:2181", "zk-2:2181"), "/solr").createSolrClientBuilder();
+
+		assertThat(builder).hasFieldOrPropertyWithValue("zkHosts", Arrays.asList("zk-1:2181", "zk-2:2181"))
+				.hasFieldOrPropertyWithValue("zkChroot", "/solr");
+	}
+
+	@Test
+	public void shouldApplyOptionsToBuilder() {
+
+		CloudSolrClientFactory factory = CloudSolrClientFactory.fromSolrUrls(Collections.singletonList(SOLR_URL));
+		factory.setUpdatesToLeadersOnly(false);
+		factory.setParallelUpdates(false);
+		factory.setCollectionCacheTtl(Duration.ofMinutes(5));
+		factory.setParallelCacheRefreshes(7);
+
+		CloudHttp2SolrClient.Builder builder = factory.createSolrClientBuilder();
+
+		assertThat(builder).hasFieldOrPropertyWithValue("shardLeadersOnly", false)
+				.hasFieldOrPropertyWithValue("directUpdatesToLeadersOnly", false)
+				.hasFieldOrPropertyWithValue("parallelUpdates", false)
+				.hasFieldOrPropertyWithValue("parallelCacheRefreshesLocks", 7);
+		assertThat(builder).extracting("timeToLiveSeconds").hasToString("300");
+	}
+
+	@Test
+	public void shouldRoundSubSecondCollectionCacheTtlUp() {
+
+		CloudSolrClientFactory factory = CloudSolrClientFactory.fromSolrUrls(Collections.singletonList(SOLR_URL));
+
+		factory.setCollectionCacheTtl(Duration.ofMillis(500));
+		assertThat(factory.createSolrClientBuilder()).extracting("timeToLiveSeconds").hasToString("1");
+
+		factory.setCollectionCacheTtl(Duration.ofMillis(2001));
+		assertThat(factory.createSolrClientBuilder()).extracting("timeToLiveSeconds").hasToString("3");
+	}
+
+	@Test
+	public void shouldRejectNegativeCollectionCacheTtl() {
+
+		CloudSolrClientFactory factory = CloudSolrClientFactory.fromSolrUrls(Collections.singletonList(SOLR_URL));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> factory.setCollectionCacheTtl(Duration.ofSeconds(-1)));
+	}
+
+	@Test
+	public void shouldRejectEmptyHosts() {
+		assertThatIllegalArgumentException().isThrownBy(() -> CloudSolrClientFactory.fromSolrUrls(Collections.emptyList()));
+	}
+
+	@Test
+	public void shouldCreateClientLazilyAndOnlyOnce() {
+
+		CountingCloudSolrClientFactory factory = new CountingCloudSolrClientFactory();
+		assertThat(factory.created).hasValue(0);
+
+		CloudSolrClient client = (CloudSolrClient) factory.getSolrClient();
+
+		assertThat(factory.getSolrClient()).isSameAs(client);
+		assertThat(factory.created).hasValue(1);
+	}
+
+	@Test
+	public void shouldCloseClientOnDestroy() throws Exception {
+
+		CountingCloudSolrClientFactory factory = new CountingCloudSolrClientFactory();
+		CloudSolrClient client = (CloudSolrClient) factory.getSolrClient();
+
+		factory.destroy();
+
+		verify(client).close();
+	}
+
+	@Test
+	public void shouldNotCreateClientOnDestroy() {
+
+		CountingCloudSolrClientFactory factory = new CountingCloudSolrClientFactory();
+
+		factory.destroy();
+
+		assertThat(factory.created).hasValue(0);
+	}
+
+	static class CountingCloudSolrClientFactory extends CloudSolrClientFactory {
+
+		final AtomicInteger created = new AtomicInteger();
+
+		CountingCloudSolrClientFactory() {
+			super(Collections.singletonList(SOLR_URL), false, null);
+		}
+
+		@Override
+		protected CloudSolrClient createSolrClient() {
+
+			created.incrementAndGet();
+			return mock(CloudSolrClient.class);
+		}
+	}
+
+}
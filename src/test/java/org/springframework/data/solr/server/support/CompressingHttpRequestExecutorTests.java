@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.server.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.http.Header;
+import org.apache.http.HttpException;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.message.BasicHttpEntityEnclosingRequest;
+import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.protocol.HttpProcessorBuilder;
+import org.apache.http.util.EntityUtils;
+import org.apache.solr.client.solrj.request.UpdateRequest;
+import org.apache.solr.common.SolrInputDocument;
+import org.junit.Test;
+import org.springframework.util.StreamUtils;
+
+import com.sun.net.httpserver.HttpServer;
+
+public class CompressingHttpRequestExecutorTests {
+
+	private static final String BODY = String.join("", Collections.nCopies(200, "<doc><field name=\"id\">1</field></doc>"));
+
+	private static final String XML_RESPONSE = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><response>"
+			+ "<lst name=\"responseHeader\"><int name=\"status\">0</int><int name=\"QTime\">1</int></lst></response>";
+
+	private final RequestCompressionMetrics metrics = new RequestCompressionMetrics();
+
+	@Test
+	public void shouldCompressBodiesExceedingThreshold() throws IOException, HttpException {
+
+		BasicHttpEntityEnclosingRequest request = updateRequest();
+
+		new CompressingHttpRequestExecutor(1024, Deflater.BEST_SPEED, Collections.singletonList(metrics))
+				.preProcess(request, HttpProcessorBuilder.create().build(), new BasicHttpContext());
+
+		assertThat(request.getEntity().getContentEncoding().getValue()).isEqualTo("gzip");
+		assertThat(request.getEntity().getContentType().getValue()).startsWith("application/xml");
+
+		byte[] compressed = EntityUtils.toByteArray(request.getEntity());
+		assertThat(gunzip(compressed)).isEqualTo(BODY);
+
+		assertThat(metrics.getCompressedRequests()).isEqualTo(1);
+		assertThat(metrics.getUncompressedBytes()).isEqualTo(BODY.length());
+		assertThat(metrics.getCompressedBytes()).isEqualTo(compressed.length);
+		assertThat(metrics.getCompressionRatio()).isLessThan(1D);
+	}
+
+	@Test
+	public void shouldNotCompressBodiesBelowThreshold() throws IOException, HttpException {
+
+		BasicHttpEntityEnclosingRequest request = updateRequest();
+
+		new CompressingHttpRequestExecutor(BODY.length() + 1, Deflater.DEFAULT_COMPRESSION,
+				Collections.singletonList(metrics))
+						.preProcess(request, HttpProcessorBuilder.create().build(), new BasicHttpContext());
+
+		assertThat(request.getEntity().getContentEncoding()).isNull();
+		assertThat(metrics.getCompressedRequests()).isZero();
+		assertThat(metrics.getCompressionRatio()).isEqualTo(1D);
+	}
+
+	@Test
+	public void shouldCompressStreamingBodiesWhileWriting() throws IOException, HttpException {
+
+		BasicHttpEntityEnclosingRequest request = streamingUpdateRequest();
+
+		new CompressingHttpRequestExecutor(1024, Deflater.BEST_SPEED, Collections.singletonList(metrics))
+				.preProcess(request, HttpProcessorBuilder.create().build(), new BasicHttpContext());
+
+		assertThat(request.getEntity().getContentEncoding().getValue()).isEqualTo("gzip");
+		assertThat(request.getEntity().isChunked()).isTrue();
+		assertThat(request.getEntity().getContentLength()).isEqualTo(-1);
+
+		byte[] compressed = writeEntity(request);
+		assertThat(gunzip(compressed)).isEqualTo(BODY);
+
+		assertThat(metrics.getCompressedRequests()).isEqualTo(1);
+		assertThat(metrics.getUncompressedBytes()).isEqualTo(BODY.length());
+		assertThat(metrics.getCompressedBytes()).isEqualTo(compressed.length);
+	}
+
+	@Test
+	public void shouldNotCompressStreamingBodiesBelowThreshold() throws IOException, HttpException {
+
+		BasicHttpEntityEnclosingRequest request = streamingUpdateRequest();
+
+		new CompressingHttpRequestExecutor(BODY.length() + 1, Deflater.BEST_SPEED, Collections.singletonList(metrics))
+				.preProcess(request, HttpProcessorBuilder.create().build(), new BasicHttpContext());
+
+		byte[] stored = writeEntity(request);
+
+		assertThat(gunzip(stored)).isEqualTo(BODY);
+		assertThat(stored.length).isGreaterThan(BODY.length());
+		assertThat(metrics.getCompressedRequests()).isZero();
+	}
+
+	@Test
+	public void shouldCompressUpdateRequestsSentByHttpSolrClient() throws Exception {
+
+		List<Header> headers = new CopyOnWriteArrayList<>();
+		List<byte[]> bodies = new CopyOnWriteArrayList<>();
+
+		HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/solr", exchange -> {
+
+			exchange.getRequestHeaders().forEach((name, values) -> headers.add(new BasicHeader(name, values.get(0))));
+			bodies.add(StreamUtils.copyToByteArray(exchange.getRequestBody()));
+
+			byte[] response = XML_RESPONSE.getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().set("Content-Type", "application/xml; charset=UTF-8");
+			exchange.sendResponseHeaders(200, response.length);
+			exchange.getResponseBody().write(response);
+			exchange.close();
+		});
+		server.start();
+
+		HttpSolrClientFactoryBean factoryBean = new HttpSolrClientFactoryBean();
+		factoryBean.setUrl("http://localhost:" + server.getAddress().getPort() + "/solr");
+		factoryBean.setUpdateFormat(WireFormat.XML);
+		factoryBean.setResponseFormat(WireFormat.XML);
+		factoryBean.setRequestCompressionThreshold(1024);
+
+		try {
+
+			factoryBean.afterPropertiesSet();
+
+			UpdateRequest update = new UpdateRequest();
+			for (int i = 0; i < 100; i++) {
+
+				SolrInputDocument document = new SolrInputDocument();
+				document.addField("id", "doc-" + i);
+				update.add(document);
+			}
+			update.process(factoryBean.getSolrClient(), "collection1");
+		} finally {
+
+			factoryBean.destroy();
+			server.stop(0);
+		}
+
+		assertThat(headers).extracting(header -> header.getName().toLowerCase() + ": " + header.getValue())
+				.contains("content-encoding: gzip", "transfer-encoding: chunked");
+		assertThat(gunzip(bodies.get(0))).contains("<field name=\"id\">doc-0</field>",
+				"<field name=\"id\">doc-99</field>");
+
+		RequestCompressionMetrics clientMetrics = factoryBean.getRequestCompressionMetrics();
+		assertThat(clientMetrics.getCompressedRequests()).isEqualTo(1);
+		assertThat(clientMetrics.getCompressedBytes()).isLessThan(clientMetrics.getUncompressedBytes());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectInvalidCompressionLevel() {
+		new CompressingHttpRequestExecutor(0, 10, Collections.emptyList());
+	}
+
+	private static BasicHttpEntityEnclosingRequest updateRequest() {
+
+		BasicHttpEntityEnclosingRequest request = new BasicHttpEntityEnclosingRequest("POST", "/solr/collection1/update");
+		request.setEntity(new StringEntity(BODY, ContentType.APPLICATION_XML));
+		return request;
+	}
+
+	private static BasicHttpEntityEnclosingRequest streamingUpdateRequest() {
+
+		BasicHttpEntityEnclosingRequest request = new BasicHttpEntityEnclosingRequest("POST", "/solr/collection1/update");
+		BasicHttpEntity entity = new BasicHttpEntity() {
+
+			@Override
+			public boolean isStreaming() {
+				return true;
+			}
+
+			@Override
+			public void writeTo(OutputStream outstream) throws IOException {
+				outstream.write(BODY.getBytes(StandardCharsets.UTF_8));
+			}
+		};
+		request.setEntity(entity);
+		return request;
+	}
+
+	private static byte[] writeEntity(BasicHttpEntityEnclosingRequest request) throws IOException {
+
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		request.getEntity().writeTo(os);
+		return os.toByteArray();
+	}
+
+	private static String gunzip(byte[] compressed) throws IOException {
+
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+			return StreamUtils.copyToString(in, StandardCharsets.UTF_8);
+		}
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.server.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.solr.server.support.ConnectionPoolMetrics.PoolStatistics;
+
+public class ConnectionPoolMetricsTests {
+
+	private static final HttpRoute SOLR_1 = new HttpRoute(new HttpHost("solr-1", 8983, "http"));
+	private static final HttpRoute SOLR_2 = new HttpRoute(new HttpHost("solr-2", 8983, "http"));
+
+	private InstrumentedConnectionManager connectionManager;
+	private ConnectionPoolMetrics metrics;
+
+	@Before
+	public void setUp() {
+
+		connectionManager = new InstrumentedConnectionManager(RegistryBuilder.<ConnectionSocketFactory> create()
+				.register("http", PlainConnectionSocketFactory.getSocketFactory()).build(), -1);
+		connectionManager.setMaxTotal(10);
+		connectionManager.setDefaultMaxPerRoute(2);
+
+		metrics = new ConnectionPoolMetrics(connectionManager);
+	}
+
+	@After
+	public void tearDown() {
+		connectionManager.shutdown();
+	}
+
+	@Test
+	public void shouldReportLeasedConnectionsPerHost() throws Exception {
+
+		lease(SOLR_1);
+		lease(SOLR_1);
+		lease(SOLR_2);
+
+		assertThat(metrics.getHostStatistics()).containsOnlyKeys("http://solr-1:8983", "http://solr-2:8983");
+
+		PoolStatistics solr1 = metrics.getHostStatistics().get("http://solr-1:8983");
+		assertThat(solr1.getLeased()).isEqualTo(2);
+		assertThat(solr1.getAvailable()).isZero();
+		assertThat(solr1.getPending()).isZero();
+		assertThat(solr1.getMax()).isEqualTo(2);
+		assertThat(solr1.getLeaseRequests()).isEqualTo(2);
+
+		PoolStatistics solr2 = metrics.getHostStatistics().get("http://solr-2:8983");
+		assertThat(solr2.getLeased()).isEqualTo(1);
+		assertThat(solr2.getLeaseRequests()).isEqualTo(1);
+
+		PoolStatistics total = metrics.getTotalStatistics();
+		assertThat(total.getLeased()).isEqualTo(3);
+		assertThat(total.getAvailable()).isZero();
+		assertThat(total.getMax()).isEqualTo(10);
+		assertThat(total.getLeaseRequests()).isEqualTo(3);
+	}
+
+	@Test
+	public void shouldRecordWaitTimeWhenPoolIsExhausted() throws Exception {
+
+		connectionManager.setMaxPerRoute(SOLR_1, 1);
+		lease(SOLR_1);
+
+		assertThatThrownBy(() -> connectionManager.requestConnection(SOLR_1, null).get(50, TimeUnit.MILLISECONDS))
+				.isInstanceOf(ConnectionPoolTimeoutException.class);
+
+		PoolStatistics solr1 = metrics.getHostStatistics().get("http://solr-1:8983");
+		assertThat(solr1.getLeaseRequests()).isEqualTo(2);
+		assertThat(solr1.getMaxWaitTime()).isGreaterThan(Duration.ZERO);
+		assertThat(solr1.getAverageWaitTime()).isLessThanOrEqualTo(solr1.getMaxWaitTime());
+	}
+
+	@Test
+	public void shouldReportZeroWaitTimeWithoutRequests() {
+
+		PoolStatistics total = metrics.getTotalStatistics();
+
+		assertThat(total.getLeaseRequests()).isZero();
+		assertThat(total.getAverageWaitTime()).isEqualTo(Duration.ZERO);
+		assertThat(metrics.getHostStatistics()).isEmpty();
+	}
+
+	private HttpClientConnection lease(HttpRoute route) throws Exception {
+		return connectionManager.requestConnection(route, null).get(1, TimeUnit.SECONDS);
+	}
+
+}
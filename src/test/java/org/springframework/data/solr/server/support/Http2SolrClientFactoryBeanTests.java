@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.server.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.impl.Http2SolrClient;
+import org.apache.solr.client.solrj.impl.LBHttp2SolrClient;
+import org.apache.solr.client.solrj.impl.LBSolrClient.Req;
+import org.apache.solr.client.solrj.impl.LBSolrClient.Rsp;
+import org.apache.solr.client.solrj.request.QueryRequest;
+import org.apache.solr.client.solrj.util.AsyncListener;
+import org.apache.solr.client.solrj.util.Cancellable;
+import org.apache.solr.common.params.ModifiableSolrParams;
+import org.apache.solr.common.util.NamedList;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class Http2SolrClientFactoryBeanTests {
+
+	@Mock Http2SolrClient http2SolrClient;
+	@Mock LBHttp2SolrClient lbHttp2SolrClient;
+	@Mock Cancellable cancellable;
+
+	private Http2SolrClientFactoryBean factoryBean;
+	private QueryRequest request;
+
+	@Before
+	public void setUp() {
+
+		factoryBean = new Http2SolrClientFactoryBean();
+		request = new QueryRequest(new ModifiableSolrParams().set("q", "*:*"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldCompleteFutureWithResponse() throws Exception {
+
+		factoryBean.setUrl("http://solr-1:8983/solr");
+		factoryBean.setSolrClient(http2SolrClient);
+		ArgumentCaptor<AsyncListener<NamedList<Object>>> listener = ArgumentCaptor.forClass(AsyncListener.class);
+		when(http2SolrClient.asyncRequest(eq(request), eq("collection1"), listener.capture())).thenReturn(cancellable);
+
+		CompletableFuture<NamedList<Object>> future = factoryBean.requestAsync(request, "collection1");
+		assertThat(future).isNotDone();
+
+		NamedList<Object> response = new NamedList<>();
+		listener.getValue().onSuccess(response);
+
+		assertThat(future.get()).isSameAs(response);
+		verify(cancellable, never()).cancel();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldCompleteFutureExceptionallyOnFailure() {
+
+		factoryBean.setUrl("http://solr-1:8983/solr");
+		factoryBean.setSolrClient(http2SolrClient);
+		ArgumentCaptor<AsyncListener<NamedList<Object>>> listener = ArgumentCaptor.forClass(AsyncListener.class);
+		when(http2SolrClient.asyncRequest(eq(request), isNull(), listener.capture())).thenReturn(cancellable);
+
+		CompletableFuture<NamedList<Object>> future = factoryBean.requestAsync(request, null);
+		listener.getValue().onFailure(new IOException("connection reset"));
+
+		assertThatExceptionOfType(ExecutionException.class).isThrownBy(future::get)
+				.withCauseInstanceOf(IOException.class);
+		verify(cancellable, never()).cancel();
+	}
+
+	@Test
+	public void shouldAbortRequestWhenFutureIsCancelled() {
+
+		factoryBean.setUrl("http://solr-1:8983/solr");
+		factoryBean.setSolrClient(http2SolrClient);
+		when(http2SolrClient.asyncRequest(eq(request), eq("collection1"), any())).thenReturn(cancellable);
+
+		CompletableFuture<NamedList<Object>> future = factoryBean.requestAsync(request, "collection1");
+		future.cancel(true);
+
+		assertThat(future).isCancelled();
+		verify(cancellable).cancel();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldDistributeAsyncRequestsAcrossConfiguredUrls() throws Exception {
+
+		factoryBean.setUrl("http://solr-1:8983/solr/, http://solr-2:8983/solr");
+		factoryBean.setSolrClient(lbHttp2SolrClient);
+		ArgumentCaptor<Req> req = ArgumentCaptor.forClass(Req.class);
+		ArgumentCaptor<AsyncListener<Rsp>> listener = ArgumentCaptor.forClass(AsyncListener.class);
+		when(lbHttp2SolrClient.asyncReq(req.capture(), listener.capture())).thenReturn(cancellable);
+
+		CompletableFuture<NamedList<Object>> future = factoryBean.requestAsync(request, "collection1");
+
+		assertThat(req.getValue().getRequest()).isSameAs(request);
+		assertThat(req.getValue().getServers()).containsExactly("http://solr-1:8983/solr/collection1",
+				"http://solr-2:8983/solr/collection1");
+
+		NamedList<Object> response = new NamedList<>();
+		Rsp rsp = mock(Rsp.class);
+		when(rsp.getResponse()).thenReturn(response);
+		listener.getValue().onSuccess(rsp);
+
+		assertThat(future.get()).isSameAs(response);
+	}
+
+	@Test
+	public void shouldAbortLoadBalancedRequestWhenFutureIsCancelled() {
+
+		factoryBean.setUrl("http://solr-1:8983/solr,http://solr-2:8983/solr");
+		factoryBean.setSolrClient(lbHttp2SolrClient);
+		when(lbHttp2SolrClient.asyncReq(any(), any())).thenReturn(cancellable);
+
+		factoryBean.requestAsync(request, null).cancel(true);
+
+		verify(cancellable).cancel();
+	}
+
+	@Test
+	public void shouldRejectAsyncRequestsForOtherClients() {
+
+		factoryBean.setSolrClient(mock(SolrClient.class));
+
+		assertThatIllegalStateException().isThrownBy(() -> factoryBean.requestAsync(request, null));
+	}
+
+}
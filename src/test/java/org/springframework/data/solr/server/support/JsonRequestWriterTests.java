@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.solr.server.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+
+import org.apache.solr.client.solrj.request.RequestWriter;
+import org.apache.solr.client.solrj.request.RequestWriter.ContentWriter;
+import org.apache.solr.client.solrj.request.UpdateRequest;
+import org.apache.solr.common.SolrInputDocument;
+import org.junit.Test;
+
+public class JsonRequestWriterTests {
+
+	private final JsonRequestWriter writer = new JsonRequestWriter();
+
+	@Test
+	public void shouldWriteDocumentsAsAddCommands() throws IOException {
+
+		SolrInputDocument document = new SolrInputDocument();
+		document.addField("id", "1");
+		document.addField("tags", Arrays.asList("a", "b"));
+		document.addField("price", 9.99F);
+		document.addField("released", new Date(1345552215123L));
+
+		UpdateRequest request = new UpdateRequest();
+		request.add(document);
+		request.setCommitWithin(1000);
+
+		assertThat(write(writer, request)).isEqualTo("{\"add\":{\"commitWithin\":1000,\"doc\":{\"id\":\"1\","
+				+ "\"tags\":[\"a\",\"b\"],\"price\":9.99,\"released\":\"2012-08-21T12:30:15.123Z\"}}}");
+	}
+
+	@Test
+	public void shouldWriteAtomicUpdatesAndChildDocuments() throws IOException {
+
+		SolrInputDocument child = new SolrInputDocument();
+		child.addField("id", "1-1");
+
+		SolrInputDocument document = new SolrInputDocument();
+		document.addField("id", "1");
+		document.addField("name", Collections.singletonMap("set", "spring"));
+		document.addChildDocument(child);
+
+		UpdateRequest request = new UpdateRequest();
+		request.add(document);
+
+		assertThat(write(writer, request)).isEqualTo(
+				"{\"add\":{\"doc\":{\"id\":\"1\",\"name\":{\"set\":\"spring\"},\"_childDocuments_\":[{\"id\":\"1-1\"}]}}}");
+	}
+
+	@Test
+	public void shouldWriteDeletes() throws IOException {
+
+		UpdateRequest request = new UpdateRequest();
+		request.deleteById("1");
+		request.deleteByQuery("type:book");
+
+		assertThat(write(writer, request))
+				.isEqualTo("{\"delete\":{\"id\":\"1\"},\"delete\":{\"query\":\"type:book\"}}");
+	}
+
+	@Test
+	public void shouldWritePerDocumentOptions() throws IOException {
+
+		SolrInputDocument first = new SolrInputDocument();
+		first.addField("id", "1");
+		SolrInputDocument second = new SolrInputDocument();
+		second.addField("id", "2");
+
+		UpdateRequest request = new UpdateRequest();
+		request.setCommitWithin(1000);
+		request.add(first, 500, false);
+		request.add(second);
+
+		assertThat(write(writer, request))
+				.isEqualTo("{\"add\":{\"commitWithin\":500,\"overwrite\":false,\"doc\":{\"id\":\"1\"}},"
+						+ "\"add\":{\"commitWithin\":1000,\"doc\":{\"id\":\"2\"}}}");
+	}
+
+	@Test
+	public void shouldWriteRouteAndVersionOfDeletes() throws IOException {
+
+		UpdateRequest request = new UpdateRequest();
+		request.deleteById("1", "shard-a", 42L);
+		request.deleteById("2", "shard-b");
+		request.deleteById("3", 7L);
+
+		assertThat(write(writer, request))
+				.isEqualTo("{\"delete\":{\"id\":\"1\",\"_route_\":\"shard-a\",\"_version_\":42},"
+						+ "\"delete\":{\"id\":\"2\",\"_route_\":\"shard-b\"},\"delete\":{\"id\":\"3\",\"_version_\":7}}");
+	}
+
+	@Test
+	public void shouldNotCreateJsonResponseParser() {
+
+		assertThat(WireFormat.JSON.supportsResponses()).isFalse();
+		assertThatIllegalStateException().isThrownBy(WireFormat.JSON::createResponseParser);
+	}
+
+	@Test
+	public void shouldUseJsonContentType() {
+
+		UpdateRequest request = new UpdateRequest();
+		request.deleteById("1");
+
+		assertThat(writer.getContentWriter(request).getContentType()).startsWith("application/json");
+		assertThat(writer.getUpdateContentType()).startsWith("application/json");
+	}
+
+	@Test
+	public void javabinShouldProduceSmallestPayload() throws IOException {
+
+		UpdateRequest request = new UpdateRequest();
+		for (int i = 0; i < 100; i++) {
+
+			SolrInputDocument document = new SolrInputDocument();
+			document.addField("id", "id-" + i);
+			document.addField("name", "name of document " + i);
+			document.addField("popularity", i);
+			document.addField("price", i * 1.5D);
+			document.addField("tags", Arrays.asList("spring", "data", "solr"));
+			document.addField("lastModified", new Date(1345552215123L + i));
+			request.add(document);
+		}
+
+		int javabin = write(WireFormat.JAVABIN.createRequestWriter(), request).length();
+		int json = write(WireFormat.JSON.createRequestWriter(), request).length();
+		int xml = write(WireFormat.XML.createRequestWriter(), request).length();
+
+		assertThat(javabin).isLessThan(json);
+		assertThat(json).isLessThan(xml);
+	}
+
+	private static String write(RequestWriter writer, UpdateRequest request) throws IOException {
+
+		ContentWriter contentWriter = writer.getContentWriter(request);
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		contentWriter.write(os);
+		return new String(os.toByteArray(), StandardCharsets.ISO_8859_1);
+	}
+
+}